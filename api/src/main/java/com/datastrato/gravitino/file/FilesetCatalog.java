@@ -25,6 +25,8 @@ import com.datastrato.gravitino.exceptions.FilesetAlreadyExistsException;
 import com.datastrato.gravitino.exceptions.NoSuchFilesetException;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
 import com.datastrato.gravitino.file.FilesetChange.RenameFileset;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -43,6 +45,29 @@ public interface FilesetCatalog {
    */
   NameIdentifier[] listFilesets(Namespace namespace) throws NoSuchSchemaException;
 
+  /**
+   * List the filesets with their metadata in a schema namespace from the catalog.
+   *
+   * <p>The default implementation loads the listed filesets one by one, catalogs which can fetch
+   * them together should override it.
+   *
+   * @param namespace A schema namespace.
+   * @return An array of filesets in the namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default Fileset[] listFilesetsInfo(Namespace namespace) throws NoSuchSchemaException {
+    NameIdentifier[] idents = listFilesets(namespace);
+    List<Fileset> filesets = new ArrayList<>(idents.length);
+    for (NameIdentifier ident : idents) {
+      try {
+        filesets.add(loadFileset(ident));
+      } catch (NoSuchFilesetException e) {
+        // The fileset is dropped after listing.
+      }
+    }
+    return filesets.toArray(new Fileset[0]);
+  }
+
   /**
    * Load fileset metadata by {@link NameIdentifier} from the catalog.
    *
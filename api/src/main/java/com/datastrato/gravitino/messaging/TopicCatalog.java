@@ -24,6 +24,8 @@ import com.datastrato.gravitino.annotation.Evolving;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
 import com.datastrato.gravitino.exceptions.NoSuchTopicException;
 import com.datastrato.gravitino.exceptions.TopicAlreadyExistsException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -51,6 +53,32 @@ public interface TopicCatalog {
    */
   Topic loadTopic(NameIdentifier ident) throws NoSuchTopicException;
 
+  /**
+   * Load the metadata of many topics in a schema namespace from the catalog, for example to load
+   * all the topics listed by {@link #listTopics(Namespace)}. The topics which don't exist are
+   * skipped.
+   *
+   * <p>The default implementation loads the topics one by one, catalogs which can fetch them
+   * together should override it.
+   *
+   * @param namespace A schema namespace.
+   * @param topicNames The names of the topics to load.
+   * @return The metadata of the existing topics, in the order of the names.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default Topic[] loadTopics(Namespace namespace, String... topicNames)
+      throws NoSuchSchemaException {
+    List<Topic> topics = new ArrayList<>(topicNames.length);
+    for (String topicName : topicNames) {
+      try {
+        topics.add(loadTopic(NameIdentifier.of(namespace, topicName)));
+      } catch (NoSuchTopicException e) {
+        // The topic is dropped after listing.
+      }
+    }
+    return topics.toArray(new Topic[0]);
+  }
+
   /**
    * Check if a topic exists using an {@link NameIdentifier} from the catalog.
    *
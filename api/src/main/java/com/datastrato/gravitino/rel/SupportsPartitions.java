@@ -22,6 +22,8 @@ import com.datastrato.gravitino.annotation.Evolving;
 import com.datastrato.gravitino.exceptions.NoSuchPartitionException;
 import com.datastrato.gravitino.exceptions.PartitionAlreadyExistsException;
 import com.datastrato.gravitino.rel.partitions.Partition;
+import java.util.Arrays;
+import java.util.Comparator;
 
 /** Interface for tables that support partitions. */
 @Evolving
@@ -41,6 +43,36 @@ public interface SupportsPartitions {
    */
   Partition[] listPartitions();
 
+  /**
+   * List the partitions which match a filter, in the order of their names and a page at a time.
+   * The filter is pushed down to the underlying catalog, so its syntax is catalog specific, for
+   * example, {@code dt >= "2024-01-01" and hour = "00"} for a Hive table.
+   *
+   * <p>To list the next page, pass the name of the last partition of the previous page as {@code
+   * startAfter}. A page with fewer partitions than the limit is the last one.
+   *
+   * <p>The default implementation doesn't support filters, and pages over all the partitions.
+   *
+   * @param filter The filter on the partitions, or null to list all the partitions.
+   * @param startAfter The name of the last partition of the previous page, or null to list from the
+   *     first partition.
+   * @param limit The maximum number of partitions to list, zero or negative for no limit.
+   * @return The list of partitions sorted by name.
+   * @throws IllegalArgumentException If the filter is invalid.
+   * @throws UnsupportedOperationException If the table doesn't support filtering partitions.
+   */
+  default Partition[] listPartitions(String filter, String startAfter, int limit)
+      throws IllegalArgumentException, UnsupportedOperationException {
+    if (filter != null) {
+      throw new UnsupportedOperationException("Partition filtering is not supported");
+    }
+    return Arrays.stream(listPartitions())
+        .filter(p -> startAfter == null || p.name().compareTo(startAfter) > 0)
+        .sorted(Comparator.comparing(Partition::name))
+        .limit(limit > 0 ? limit : Long.MAX_VALUE)
+        .toArray(Partition[]::new);
+  }
+
   /**
    * Get a partition by partition name, you may get one of the following types of partitions:
    *
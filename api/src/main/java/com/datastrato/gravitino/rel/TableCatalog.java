@@ -34,6 +34,8 @@ import com.datastrato.gravitino.rel.expressions.sorts.SortOrder;
 import com.datastrato.gravitino.rel.expressions.transforms.Transform;
 import com.datastrato.gravitino.rel.indexes.Index;
 import com.datastrato.gravitino.rel.indexes.Indexes;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -61,6 +63,32 @@ public interface TableCatalog {
    */
   Table loadTable(NameIdentifier ident) throws NoSuchTableException;
 
+  /**
+   * Load the metadata of many tables in a schema namespace from the catalog, for example to load
+   * all the tables listed by {@link #listTables(Namespace)}. The tables which don't exist are
+   * skipped.
+   *
+   * <p>The default implementation loads the tables one by one, catalogs which can fetch them
+   * together should override it.
+   *
+   * @param namespace A schema namespace.
+   * @param tableNames The names of the tables to load.
+   * @return The metadata of the existing tables, in the order of the names.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default Table[] loadTables(Namespace namespace, String... tableNames)
+      throws NoSuchSchemaException {
+    List<Table> tables = new ArrayList<>(tableNames.length);
+    for (String tableName : tableNames) {
+      try {
+        tables.add(loadTable(NameIdentifier.of(namespace, tableName)));
+      } catch (NoSuchTableException e) {
+        // The table is dropped after listing.
+      }
+    }
+    return tables.toArray(new Table[0]);
+  }
+
   /**
    * Check if a table exists using an {@link NameIdentifier} from the catalog.
    *
@@ -18,6 +18,7 @@
  */
 package com.datastrato.gravitino.catalog.hadoop;
 
+import com.datastrato.gravitino.catalog.hadoop.authentication.AuthenticationConfig;
 import com.datastrato.gravitino.catalog.hadoop.authentication.kerberos.KerberosConfig;
 import com.datastrato.gravitino.connector.BaseCatalog;
 import com.datastrato.gravitino.connector.CatalogOperations;
@@ -68,6 +69,15 @@ public class HadoopCatalog extends BaseCatalog<HadoopCatalog> {
     return Optional.of(new HadoopProxyPlugin());
   }
 
+  /**
+   * The Kerberos login of a catalog is static in the class loader, so only the catalogs without
+   * Kerberos share it.
+   */
+  @Override
+  public boolean supportsSharedClassLoader(Map<String, String> config) {
+    return !"kerberos".equalsIgnoreCase(config.get(AuthenticationConfig.AUTH_TYPE_KEY));
+  }
+
   @Override
   public PropertiesMetadata catalogPropertiesMetadata() throws UnsupportedOperationException {
     return CATALOG_PROPERTIES_META;
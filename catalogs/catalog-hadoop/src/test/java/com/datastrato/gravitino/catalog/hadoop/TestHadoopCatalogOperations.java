@@ -117,7 +117,7 @@ public class TestHadoopCatalogOperations {
 
   @BeforeAll
   public static void setUp() {
-    Config config = Mockito.mock(Config.class);
+    Config config = Mockito.spy(Config.class);
     Mockito.when(config.get(ENTITY_STORE)).thenReturn("kv");
     Mockito.when(config.get(ENTITY_KV_STORE)).thenReturn(DEFAULT_ENTITY_KV_STORE);
     Mockito.when(config.get(Configs.ENTITY_SERDE)).thenReturn("proto");
@@ -27,9 +27,16 @@ import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
 import org.apache.hadoop.conf.Configuration;
@@ -54,11 +61,23 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
 
   private final Configuration conf;
   private final int clientPoolSize;
+  private final int batchSize;
   private final ScheduledThreadPoolExecutor scheduler;
+  // Runs the batches of a request concurrently, null if the pool only has one client.
+  @Nullable private final ThreadPoolExecutor batchExecutor;
 
   CachedClientPool(int clientPoolSize, Configuration conf, long evictionInterval) {
+    this(
+        clientPoolSize,
+        conf,
+        evictionInterval,
+        HiveCatalogPropertiesMeta.DEFAULT_CLIENT_BATCH_SIZE);
+  }
+
+  CachedClientPool(int clientPoolSize, Configuration conf, long evictionInterval, int batchSize) {
     this.conf = conf;
     this.clientPoolSize = clientPoolSize;
+    this.batchSize = batchSize;
     // Since Caffeine does not ensure that removalListener will be involved after expiration
     // We use a scheduler with one thread to clean up expired clients.
     scheduler = new ScheduledThreadPoolExecutor(1, newDaemonThreadFactory());
@@ -68,6 +87,20 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
             .removalListener((ignored, value, cause) -> ((HiveClientPool) value).close())
             .scheduler(Scheduler.forScheduledExecutorService(scheduler))
             .build();
+
+    if (clientPoolSize > 1) {
+      this.batchExecutor =
+          new ThreadPoolExecutor(
+              clientPoolSize,
+              clientPoolSize,
+              60L,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              newDaemonThreadFactory("hive-metastore-batch"));
+      batchExecutor.allowCoreThreadTimeOut(true);
+    } else {
+      this.batchExecutor = null;
+    }
   }
 
   @VisibleForTesting
@@ -93,6 +126,69 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
     return clientPool().run(action, retry);
   }
 
+  /**
+   * Run an action on the items in batches of at most the batch size, so that no single request to
+   * the Hive metastore carries all the items. The batches are run concurrently by as many clients
+   * as the pool has, on behalf of the current user.
+   *
+   * @param items The items to run the action on.
+   * @param action The action to run on a batch of the items.
+   * @return The results of all the batches, in the order of the batches.
+   * @param <T> The type of the items.
+   * @param <R> The type of the results.
+   * @throws TException If the action fails.
+   * @throws InterruptedException If interrupted while waiting for a client or a batch.
+   */
+  <T, R> List<R> runInBatches(List<T> items, BatchAction<T, R> action)
+      throws TException, InterruptedException {
+    List<List<T>> batches = Lists.partition(items, batchSize);
+    List<R> results = new ArrayList<>(items.size());
+    if (batchExecutor == null || batches.size() <= 1) {
+      for (List<T> batch : batches) {
+        results.addAll(run(client -> action.run(client, batch)));
+      }
+      return results;
+    }
+
+    UserGroupInformation user;
+    try {
+      user = UserGroupInformation.getCurrentUser();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    List<Future<List<R>>> futures = new ArrayList<>(batches.size());
+    for (List<T> batch : batches) {
+      futures.add(
+          batchExecutor.submit(
+              () ->
+                  user.doAs(
+                      (PrivilegedExceptionAction<List<R>>)
+                          () -> run(client -> action.run(client, batch)))));
+    }
+
+    try {
+      for (Future<List<R>> future : futures) {
+        results.addAll(future.get());
+      }
+      return results;
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof UndeclaredThrowableException) {
+        cause = cause.getCause();
+      }
+      if (cause instanceof TException) {
+        throw (TException) cause;
+      } else if (cause instanceof InterruptedException) {
+        throw (InterruptedException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new RuntimeException(cause);
+    } finally {
+      futures.forEach(future -> future.cancel(true));
+    }
+  }
+
   @VisibleForTesting
   static Key extractKey() {
     List<Object> elements = Lists.newArrayList();
@@ -127,11 +223,23 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
     }
   }
 
+  /**
+   * An action run by a Hive metastore client on a batch of items.
+   *
+   * @param <T> The type of the items.
+   * @param <R> The type of the results.
+   */
+  @FunctionalInterface
+  interface BatchAction<T, R> {
+    List<R> run(IMetaStoreClient client, List<T> batch) throws TException;
+  }
+
   private static ThreadFactory newDaemonThreadFactory() {
-    return new ThreadFactoryBuilder()
-        .setDaemon(true)
-        .setNameFormat("hive-metastore-cleaner" + "-%d")
-        .build();
+    return newDaemonThreadFactory("hive-metastore-cleaner");
+  }
+
+  private static ThreadFactory newDaemonThreadFactory(String prefix) {
+    return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(prefix + "-%d").build();
   }
 
   public void close() {
@@ -144,5 +252,8 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
     clientPoolCache.asMap().forEach((key, value) -> value.close());
     clientPoolCache.invalidateAll();
     scheduler.shutdownNow();
+    if (batchExecutor != null) {
+      batchExecutor.shutdownNow();
+    }
   }
 }
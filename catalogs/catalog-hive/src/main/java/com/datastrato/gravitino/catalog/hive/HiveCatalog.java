@@ -18,6 +18,8 @@
  */
 package com.datastrato.gravitino.catalog.hive;
 
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.HADOOP_SECURITY_AUTHENTICATION;
+
 import com.datastrato.gravitino.connector.BaseCatalog;
 import com.datastrato.gravitino.connector.CatalogOperations;
 import com.datastrato.gravitino.connector.PropertiesMetadata;
@@ -77,6 +79,16 @@ public class HiveCatalog extends BaseCatalog<HiveCatalog> {
     return Optional.of(new HiveProxyPlugin());
   }
 
+  /**
+   * The Kerberos login of a catalog is static in the class loader, so only the catalogs without
+   * Kerberos share it.
+   */
+  @Override
+  public boolean supportsSharedClassLoader(Map<String, String> config) {
+    return !"kerberos"
+        .equalsIgnoreCase(config.get(CATALOG_BYPASS_PREFIX + HADOOP_SECURITY_AUTHENTICATION));
+  }
+
   @Override
   public PropertiesMetadata catalogPropertiesMetadata() throws UnsupportedOperationException {
     return CATALOG_PROPERTIES_METADATA;
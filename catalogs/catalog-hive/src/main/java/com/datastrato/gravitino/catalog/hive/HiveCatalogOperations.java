@@ -18,6 +18,7 @@
  */
 package com.datastrato.gravitino.catalog.hive;
 
+import static com.datastrato.gravitino.catalog.hive.HiveCatalogPropertiesMeta.CLIENT_BATCH_SIZE;
 import static com.datastrato.gravitino.catalog.hive.HiveCatalogPropertiesMeta.CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS;
 import static com.datastrato.gravitino.catalog.hive.HiveCatalogPropertiesMeta.CLIENT_POOL_SIZE;
 import static com.datastrato.gravitino.catalog.hive.HiveCatalogPropertiesMeta.LIST_ALL_TABLES;
@@ -167,7 +168,11 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     initKerberosIfNecessary(conf, hadoopConf);
 
     this.clientPool =
-        new CachedClientPool(getClientPoolSize(conf), hiveConf, getCacheEvictionInterval(conf));
+        new CachedClientPool(
+            getClientPoolSize(conf),
+            hiveConf,
+            getCacheEvictionInterval(conf),
+            getClientBatchSize(conf));
 
     this.listAllTables = enableListAllTables(conf);
   }
@@ -288,6 +293,11 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
         propertiesMetadata.catalogPropertiesMetadata().getOrDefault(conf, CLIENT_POOL_SIZE);
   }
 
+  int getClientBatchSize(Map<String, String> conf) {
+    return (int)
+        propertiesMetadata.catalogPropertiesMetadata().getOrDefault(conf, CLIENT_BATCH_SIZE);
+  }
+
   long getCacheEvictionInterval(Map<String, String> conf) {
     return (long)
         propertiesMetadata
@@ -554,24 +564,27 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
       // first time is to retrieve all types of table names (including the missing type tables), and
       // then based on
       // those names we can obtain metadata for each individual table and get the type we needed.
+      // The metadata is fetched in batches, so that databases with many tables don't need a huge
+      // request.
       List<String> allTables = clientPool.run(c -> c.getAllTables(schemaIdent.name()));
-      return clientPool.run(
-          c ->
-              c.getTableObjectsByName(schemaIdent.name(), allTables).stream()
-                  .filter(
-                      tb -> {
-                        boolean isSupportTable = SUPPORT_TABLE_TYPES.contains(tb.getTableType());
-                        if (!isSupportTable) {
-                          return false;
-                        }
-                        if (!listAllTables) {
-                          Map<String, String> parameters = tb.getParameters();
-                          return isHiveTable(parameters);
-                        }
-                        return true;
-                      })
-                  .map(tb -> NameIdentifier.of(namespace, tb.getTableName()))
-                  .toArray(NameIdentifier[]::new));
+      return clientPool
+          .runInBatches(
+              allTables, (c, names) -> c.getTableObjectsByName(schemaIdent.name(), names))
+          .stream()
+          .filter(
+              tb -> {
+                boolean isSupportTable = SUPPORT_TABLE_TYPES.contains(tb.getTableType());
+                if (!isSupportTable) {
+                  return false;
+                }
+                if (!listAllTables) {
+                  Map<String, String> parameters = tb.getParameters();
+                  return isHiveTable(parameters);
+                }
+                return true;
+              })
+          .map(tb -> NameIdentifier.of(namespace, tb.getTableName()))
+          .toArray(NameIdentifier[]::new);
     } catch (UnknownDBException e) {
       throw new NoSuchSchemaException(
           "Schema (database) does not exist %s in Hive Metastore", namespace);
@@ -30,6 +30,9 @@ public class HiveCatalogPropertiesMeta extends BaseCatalogPropertiesMetadata {
   public static final String CLIENT_POOL_SIZE = "client.pool-size";
   public static final int DEFAULT_CLIENT_POOL_SIZE = 1;
 
+  public static final String CLIENT_BATCH_SIZE = "client.batch-size";
+  public static final int DEFAULT_CLIENT_BATCH_SIZE = 300;
+
   public static final String METASTORE_URIS = "metastore.uris";
 
   public static final String CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS =
@@ -68,6 +71,15 @@ public class HiveCatalogPropertiesMeta extends BaseCatalogPropertiesMetadata {
                   true,
                   DEFAULT_CLIENT_POOL_SIZE,
                   false))
+          .put(
+              CLIENT_BATCH_SIZE,
+              PropertyEntry.integerOptionalPropertyEntry(
+                  CLIENT_BATCH_SIZE,
+                  "The maximum number of tables or partitions fetched from the Hive metastore in"
+                      + " one request",
+                  true,
+                  DEFAULT_CLIENT_BATCH_SIZE,
+                  false))
           .put(
               CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS,
               PropertyEntry.longOptionalPropertyEntry(
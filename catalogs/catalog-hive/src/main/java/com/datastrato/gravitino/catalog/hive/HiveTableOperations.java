@@ -33,6 +33,7 @@ import com.datastrato.gravitino.rel.partitions.Partitions;
 import com.google.common.base.Preconditions;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -40,6 +41,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.hadoop.hive.common.FileUtils;
 import org.apache.hadoop.hive.metastore.api.FieldSchema;
+import org.apache.hadoop.hive.metastore.api.MetaException;
 import org.apache.hadoop.hive.metastore.api.NoSuchObjectException;
 import org.apache.hadoop.hive.metastore.api.SerDeInfo;
 import org.apache.hadoop.hive.metastore.api.StorageDescriptor;
@@ -80,24 +82,78 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
 
   @Override
   public Partition[] listPartitions() {
-    List<org.apache.hadoop.hive.metastore.api.Partition> partitions;
+    return listPartitions(null, null, 0);
+  }
+
+  /**
+   * List the partitions which match a filter in the Hive metastore filter syntax, for example
+   * {@code dt >= "2024-01-01" and hour = "00"}, in the order of their names and a page at a time.
+   *
+   * <p>Without a filter, only the partition names are listed as a whole, and the partitions of
+   * the page are fetched by names in batches. With a filter, the filter is pushed down to the Hive
+   * metastore, and the matched partitions are paged.
+   */
+  @Override
+  public Partition[] listPartitions(String filter, String startAfter, int limit) {
+    List<String> partCols =
+        table.buildPartitionKeys().stream().map(FieldSchema::getName).collect(Collectors.toList());
+    long maxPartitions = limit > 0 ? limit : Long.MAX_VALUE;
     try {
-      partitions =
-          table
-              .clientPool()
-              .run(c -> c.listPartitions(table.schemaName(), table.name(), (short) -1));
+      if (filter == null) {
+        List<String> partitionNames =
+            table
+                .clientPool()
+                .run(c -> c.listPartitionNames(table.schemaName(), table.name(), (short) -1))
+                .stream()
+                .filter(name -> startAfter == null || name.compareTo(startAfter) > 0)
+                .sorted()
+                .limit(maxPartitions)
+                .collect(Collectors.toList());
+        return table
+            .clientPool()
+            .runInBatches(
+                partitionNames,
+                (c, names) -> c.getPartitionsByNames(table.schemaName(), table.name(), names))
+            .stream()
+            .map(
+                partition ->
+                    fromHivePartition(
+                        FileUtils.makePartName(partCols, partition.getValues()), partition))
+            .sorted(Comparator.comparing(Partition::name))
+            .toArray(Partition[]::new);
+      }
+
+      return table
+          .clientPool()
+          .run(c -> c.listPartitionsByFilter(table.schemaName(), table.name(), filter, (short) -1))
+          .stream()
+          .map(
+              partition ->
+                  fromHivePartition(
+                      FileUtils.makePartName(partCols, partition.getValues()), partition))
+          .filter(partition -> startAfter == null || partition.name().compareTo(startAfter) > 0)
+          .sorted(Comparator.comparing(Partition::name))
+          .limit(maxPartitions)
+          .toArray(Partition[]::new);
+
+    } catch (UnknownTableException e) {
+      throw new NoSuchTableException(
+          e, "Hive table %s does not exist in Hive Metastore", table.name());
+
+    } catch (MetaException e) {
+      // The Hive metastore reports the filters which can't be parsed or applied by MetaException.
+      if (filter != null) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Failed to list partitions of table %s with filter %s: %s",
+                table.name(), filter, e.getMessage()),
+            e);
+      }
+      throw new RuntimeException(e);
+
     } catch (TException | InterruptedException e) {
       throw new RuntimeException(e);
     }
-    List<String> partCols =
-        table.buildPartitionKeys().stream().map(FieldSchema::getName).collect(Collectors.toList());
-
-    return partitions.stream()
-        .map(
-            partition ->
-                fromHivePartition(
-                    FileUtils.makePartName(partCols, partition.getValues()), partition))
-        .toArray(Partition[]::new);
   }
 
   @Override
@@ -110,6 +110,32 @@ public class TestHiveTableOperations extends MiniHiveMetastoreService {
         partitions.length > 0 && Arrays.asList(partitions).contains(existingPartition));
   }
 
+  @Test
+  public void testListPartitionsWithFilterAndPaging() {
+    SupportsPartitions supportPartitions = hiveTable.supportPartitions();
+    Partition[] allPartitions = supportPartitions.listPartitions();
+
+    // Pages are listed in the order of the partition names.
+    Partition[] firstPage = supportPartitions.listPartitions(null, null, 1);
+    Assertions.assertEquals(1, firstPage.length);
+    Assertions.assertEquals(
+        Arrays.stream(allPartitions).map(Partition::name).sorted().findFirst().get(),
+        firstPage[0].name());
+    Partition[] remaining = supportPartitions.listPartitions(null, firstPage[0].name(), 0);
+    Assertions.assertEquals(allPartitions.length - 1, remaining.length);
+    Assertions.assertTrue(
+        Arrays.stream(remaining).allMatch(p -> p.name().compareTo(firstPage[0].name()) > 0));
+
+    // The filter is pushed down to the Hive metastore.
+    Partition[] filtered = supportPartitions.listPartitions("dt = \"2020-01-01\"", null, 0);
+    Assertions.assertTrue(Arrays.asList(filtered).contains(existingPartition));
+    Assertions.assertEquals(
+        0, supportPartitions.listPartitions("dt = \"1970-01-01\"", null, 0).length);
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> supportPartitions.listPartitions("dt =", null, 0));
+  }
+
   @Test
   public void testGetPartition() {
     SupportsPartitions partitions = hiveTable.supportPartitions();
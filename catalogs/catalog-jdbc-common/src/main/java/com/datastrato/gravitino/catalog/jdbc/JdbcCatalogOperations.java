@@ -290,6 +290,27 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
     String tableName = tableIdent.name();
     JdbcTable load = tableOperation.load(databaseName, tableName);
+    return toGravitinoTable(tableName, load);
+  }
+
+  /**
+   * Loads many tables of a database from the Jdbc, with a few metadata queries for all of them.
+   *
+   * @param namespace The namespace of the tables.
+   * @param tableNames The names of the tables to load.
+   * @return The loaded JdbcTable instances of the existing tables.
+   * @throws NoSuchSchemaException If the schema with the provided namespace does not exist.
+   */
+  @Override
+  public Table[] loadTables(Namespace namespace, String... tableNames)
+      throws NoSuchSchemaException {
+    String databaseName = NameIdentifier.of(namespace.levels()).name();
+    return tableOperation.loadTables(databaseName, Arrays.asList(tableNames)).stream()
+        .map(load -> toGravitinoTable(load.name(), load))
+        .toArray(Table[]::new);
+  }
+
+  private Table toGravitinoTable(String tableName, JdbcTable load) {
     Map<String, String> properties =
         load.properties() == null
             ? Maps.newHashMap()
@@ -61,6 +61,10 @@ public class JdbcTable extends BaseTable {
       return jdbcTable;
     }
 
+    public String name() {
+      return name;
+    }
+
     public String comment() {
       return comment;
     }
@@ -46,6 +46,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -211,6 +213,148 @@ public abstract class JdbcTableOperations implements TableOperation {
     }
   }
 
+  /**
+   * Load many tables of a database with a few metadata queries, instead of the separate queries of
+   * each table made by {@link #load(String, String)}. The tables and columns of the whole database
+   * are fetched once, the indexes and properties are fetched by {@link #getTablesIndexes} and
+   * {@link #getTablesProperties}, which fetch them for all tables at once when the dialect can.
+   */
+  @Override
+  public List<JdbcTable> loadTables(String databaseName, List<String> tableNames)
+      throws NoSuchSchemaException {
+    Set<String> requestedNames = new HashSet<>(tableNames);
+    try (Connection connection = getConnection(databaseName)) {
+      // 1.Get table information of the database, only the exact names are kept because the
+      // results may contain tables in other cases.
+      Map<String, JdbcTable.Builder> tableBuilders = new HashMap<>();
+      try (ResultSet tables = getTable(connection, databaseName, null)) {
+        while (tables.next()) {
+          String tableName = tables.getString("TABLE_NAME");
+          if (requestedNames.contains(tableName) && isInDatabase(tables, databaseName)) {
+            tableBuilders.put(tableName, getBasicJdbcTableInfo(tables));
+          }
+        }
+      }
+      if (tableBuilders.isEmpty()) {
+        return Collections.emptyList();
+      }
+
+      // 2.Get column information of the database
+      Map<String, List<JdbcColumn>> tableColumns = new HashMap<>();
+      try (ResultSet columns = getColumns(connection, databaseName, null)) {
+        while (columns.next()) {
+          String tableName = columns.getString("TABLE_NAME");
+          if (tableBuilders.containsKey(tableName) && isInDatabase(columns, databaseName)) {
+            JdbcColumn.Builder columnBuilder = getBasicJdbcColumnInfo(columns);
+            columnBuilder.withAutoIncrement(getAutoIncrementInfo(columns));
+            tableColumns
+                .computeIfAbsent(tableName, k -> new ArrayList<>())
+                .add(columnBuilder.build());
+          }
+        }
+      }
+
+      // 3.Get index information and table properties
+      Map<String, List<Index>> tableIndexes =
+          getTablesIndexes(connection, databaseName, tableBuilders.keySet());
+      Map<String, Map<String, String>> tableProperties =
+          getTablesProperties(connection, databaseName, tableBuilders.keySet());
+
+      List<JdbcTable.Builder> builders = new ArrayList<>();
+      for (String tableName : tableNames) {
+        JdbcTable.Builder builder = tableBuilders.get(tableName);
+        // The table is dropped while loading.
+        if (builder == null || !tableProperties.containsKey(tableName)) {
+          continue;
+        }
+        List<JdbcColumn> columns = tableColumns.getOrDefault(tableName, Collections.emptyList());
+        List<Index> indexes = tableIndexes.getOrDefault(tableName, Collections.emptyList());
+        builder
+            .withColumns(columns.toArray(new JdbcColumn[0]))
+            .withIndexes(indexes.toArray(new Index[0]))
+            .withProperties(tableProperties.get(tableName));
+        builders.add(builder);
+      }
+
+      // 4.Leave the information to the bottom layer to append the tables
+      correctJdbcTablesFields(connection, databaseName, builders);
+      return builders.stream().map(JdbcTable.Builder::build).collect(Collectors.toList());
+    } catch (SQLException e) {
+      throw exceptionMapper.toGravitinoException(e);
+    }
+  }
+
+  /**
+   * Check whether a row of the table or column metadata belongs to the database, for the dialects
+   * whose database name is matched as a pattern by the JDBC driver.
+   *
+   * @param resultSet The result set of the tables or columns
+   * @param databaseName database name
+   * @return true if the row belongs to the database
+   * @throws SQLException
+   */
+  protected boolean isInDatabase(ResultSet resultSet, String databaseName) throws SQLException {
+    return true;
+  }
+
+  /**
+   * Get the indexes of many tables, the default implementation gets them table by table.
+   *
+   * @param connection jdbc connection
+   * @param databaseName database name
+   * @param tableNames the names of the tables
+   * @return the indexes of the tables by table name
+   * @throws SQLException
+   */
+  protected Map<String, List<Index>> getTablesIndexes(
+      Connection connection, String databaseName, Set<String> tableNames) throws SQLException {
+    Map<String, List<Index>> tableIndexes = new HashMap<>();
+    for (String tableName : tableNames) {
+      tableIndexes.put(tableName, getIndexes(connection, databaseName, tableName));
+    }
+    return tableIndexes;
+  }
+
+  /**
+   * Get the properties of many tables, the default implementation gets them table by table. The
+   * tables which don't exist anymore are absent from the result.
+   *
+   * @param connection jdbc connection
+   * @param databaseName database name
+   * @param tableNames the names of the tables
+   * @return the properties of the tables by table name
+   * @throws SQLException
+   */
+  protected Map<String, Map<String, String>> getTablesProperties(
+      Connection connection, String databaseName, Set<String> tableNames) throws SQLException {
+    Map<String, Map<String, String>> tablesProperties = new HashMap<>();
+    for (String tableName : tableNames) {
+      try {
+        tablesProperties.put(tableName, getTableProperties(connection, tableName));
+      } catch (NoSuchTableException e) {
+        // The table is dropped while loading.
+      }
+    }
+    return tablesProperties;
+  }
+
+  /**
+   * Correct the information of many tables, the default implementation corrects them table by
+   * table with {@link #correctJdbcTableFields}.
+   *
+   * @param connection jdbc connection
+   * @param databaseName database name
+   * @param tableBuilders The builders of the tables to be returned
+   * @throws SQLException
+   */
+  protected void correctJdbcTablesFields(
+      Connection connection, String databaseName, List<JdbcTable.Builder> tableBuilders)
+      throws SQLException {
+    for (JdbcTable.Builder tableBuilder : tableBuilders) {
+      correctJdbcTableFields(connection, databaseName, tableBuilder.name(), tableBuilder);
+    }
+  }
+
   /**
    * Get all properties values of the table, including properties outside Gravitino management. The
    * JdbcCatalogOperations#loadTable method will filter out unnecessary properties.
@@ -325,7 +469,6 @@ public abstract class JdbcTableOperations implements TableOperation {
   protected List<Index> getIndexes(Connection connection, String databaseName, String tableName)
       throws SQLException {
     DatabaseMetaData metaData = connection.getMetaData();
-    List<Index> indexes = new ArrayList<>();
 
     // Get primary key information
     ResultSet primaryKeys = getPrimaryKeys(databaseName, tableName, metaData);
@@ -357,7 +500,17 @@ public abstract class JdbcTableOperations implements TableOperation {
       }
     }
 
-    // Assemble into Index
+    return assembleIndexes(jdbcIndexBeans);
+  }
+
+  /**
+   * Assemble the index columns of a table into indexes.
+   *
+   * @param jdbcIndexBeans The index columns of the table.
+   * @return The indexes of the table.
+   */
+  protected List<Index> assembleIndexes(List<JdbcIndexBean> jdbcIndexBeans) {
+    List<Index> indexes = new ArrayList<>();
     Map<Index.IndexType, List<JdbcIndexBean>> indexBeanGroupByIndexType =
         jdbcIndexBeans.stream().collect(Collectors.groupingBy(JdbcIndexBean::getIndexType));
 
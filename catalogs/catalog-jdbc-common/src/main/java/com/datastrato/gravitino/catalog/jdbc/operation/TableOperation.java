@@ -31,6 +31,7 @@ import com.datastrato.gravitino.rel.TableChange;
 import com.datastrato.gravitino.rel.expressions.distributions.Distribution;
 import com.datastrato.gravitino.rel.expressions.transforms.Transform;
 import com.datastrato.gravitino.rel.indexes.Index;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import javax.sql.DataSource;
@@ -93,6 +94,28 @@ public interface TableOperation {
    */
   JdbcTable load(String databaseName, String tableName) throws NoSuchTableException;
 
+  /**
+   * Load the tables with the given names in a database, the tables which don't exist are skipped.
+   * The default implementation loads the tables one by one.
+   *
+   * @param databaseName The name of the database.
+   * @param tableNames The names of the tables.
+   * @return information objects of the existing JDBC tables, in the order of the given names.
+   * @throws NoSuchSchemaException
+   */
+  default List<JdbcTable> loadTables(String databaseName, List<String> tableNames)
+      throws NoSuchSchemaException {
+    List<JdbcTable> tables = new ArrayList<>(tableNames.size());
+    for (String tableName : tableNames) {
+      try {
+        tables.add(load(databaseName, tableName));
+      } catch (NoSuchTableException e) {
+        // The table is dropped after listing.
+      }
+    }
+    return tables;
+  }
+
   /**
    * @param databaseName The name of the database.
    * @param oldTableName The name of the table to rename.
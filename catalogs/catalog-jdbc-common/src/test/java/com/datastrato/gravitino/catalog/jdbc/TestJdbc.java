@@ -140,6 +140,30 @@ public abstract class TestJdbc {
     }
   }
 
+  /**
+   * Assert a table loaded in a batch by {@link JdbcTableOperations#loadTables} is the same as the
+   * table loaded alone.
+   */
+  protected static void assertTableEquals(JdbcTable expected, JdbcTable actual) {
+    Assertions.assertEquals(expected.name(), actual.name());
+    Assertions.assertEquals(expected.comment(), actual.comment());
+    Assertions.assertEquals(expected.properties(), actual.properties());
+    Assertions.assertEquals(expected.columns().length, actual.columns().length);
+    for (int i = 0; i < expected.columns().length; i++) {
+      assertColumn(expected.columns()[i], actual.columns()[i]);
+    }
+
+    Map<String, Index> expectedIndexes =
+        Arrays.stream(expected.index()).collect(Collectors.toMap(Index::name, index -> index));
+    Assertions.assertEquals(expectedIndexes.size(), actual.index().length);
+    for (Index index : actual.index()) {
+      Assertions.assertTrue(expectedIndexes.containsKey(index.name()));
+      Assertions.assertEquals(expectedIndexes.get(index.name()).type(), index.type());
+      Assertions.assertArrayEquals(
+          expectedIndexes.get(index.name()).fieldNames(), index.fieldNames());
+    }
+  }
+
   public static void assertColumn(Column expected, Column actual) {
     if (!(actual instanceof ColumnDTO)) {
       actual = toDTO(actual);
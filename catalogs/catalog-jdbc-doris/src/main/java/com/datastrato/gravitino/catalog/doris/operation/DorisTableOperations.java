@@ -337,6 +337,37 @@ public class DorisTableOperations extends JdbcTableOperations {
     getTableStatus(connection, databaseName, tableName);
   }
 
+  @Override
+  protected void correctJdbcTablesFields(
+      Connection connection, String databaseName, List<JdbcTable.Builder> tableBuilders)
+      throws SQLException {
+    Map<String, JdbcTable.Builder> buildersWithoutComment =
+        tableBuilders.stream()
+            .filter(builder -> StringUtils.isEmpty(builder.comment()))
+            .collect(Collectors.toMap(JdbcTable.Builder::name, builder -> builder));
+    if (buildersWithoutComment.isEmpty()) {
+      return;
+    }
+
+    // Get the comments of all tables in the database by one query, the schema change status
+    // logged by loading a single table is skipped.
+    String sql =
+        "SELECT TABLE_NAME, TABLE_COMMENT FROM information_schema.TABLES WHERE TABLE_SCHEMA = ?";
+    try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+      preparedStatement.setString(1, databaseName);
+      try (ResultSet resultSet = preparedStatement.executeQuery()) {
+        while (resultSet.next()) {
+          JdbcTable.Builder builder = buildersWithoutComment.get(resultSet.getString("TABLE_NAME"));
+          if (builder != null) {
+            builder.withComment(StringUtils.defaultString(resultSet.getString("TABLE_COMMENT")));
+          }
+        }
+      }
+    } catch (SQLException e) {
+      throw exceptionMapper.toGravitinoException(e);
+    }
+  }
+
   protected void getTableStatus(Connection connection, String databaseName, String tableName) {
     // sql is `SHOW ALTER TABLE COLUMN WHERE TableName = 'test_table'`
     // database name must be specified in connection, so the SQL do not need to specify database
@@ -494,4 +494,46 @@ public class TestDorisTableOperations extends TestDoris {
         null,
         listPartitionTable);
   }
+
+  @Test
+  public void testLoadTables() {
+    String tableName = GravitinoITUtils.genRandomName("doris_load_tables");
+    String tableWithoutComment = GravitinoITUtils.genRandomName("doris_load_tables");
+    List<JdbcColumn> columns = new ArrayList<>();
+    columns.add(JdbcColumn.builder().withName("col_1").withType(INT).withComment("id").build());
+    columns.add(
+        JdbcColumn.builder().withName("col_2").withType(VARCHAR_255).withComment("col_2").build());
+    Distribution distribution =
+        Distributions.hash(DEFAULT_BUCKET_SIZE, NamedReference.field("col_1"));
+    for (String name : Arrays.asList(tableName, tableWithoutComment)) {
+      TABLE_OPERATIONS.create(
+          databaseName,
+          name,
+          columns.toArray(new JdbcColumn[0]),
+          name.equals(tableName) ? "test_comment" : null,
+          createProperties(),
+          null,
+          distribution,
+          Indexes.EMPTY_INDEXES);
+    }
+
+    // The comments missing from the JDBC metadata are read for all tables by one query.
+    List<JdbcTable> tables =
+        TABLE_OPERATIONS.loadTables(
+            databaseName, Arrays.asList(tableName, "no_exist_table", tableWithoutComment));
+    Assertions.assertEquals(2, tables.size());
+    Assertions.assertEquals("test_comment", tables.get(0).comment());
+    for (JdbcTable table : tables) {
+      JdbcTable expected = TABLE_OPERATIONS.load(databaseName, table.name());
+      Assertions.assertEquals(expected.name(), table.name());
+      Assertions.assertEquals(expected.comment(), table.comment());
+      Assertions.assertEquals(expected.columns().length, table.columns().length);
+      for (int i = 0; i < expected.columns().length; i++) {
+        assertColumn(expected.columns()[i], table.columns()[i]);
+      }
+    }
+
+    TABLE_OPERATIONS.drop(databaseName, tableName);
+    TABLE_OPERATIONS.drop(databaseName, tableWithoutComment);
+  }
 }
@@ -25,6 +25,7 @@ import static com.datastrato.gravitino.rel.Column.DEFAULT_VALUE_NOT_SET;
 import com.datastrato.gravitino.StringIdentifier;
 import com.datastrato.gravitino.catalog.jdbc.JdbcColumn;
 import com.datastrato.gravitino.catalog.jdbc.JdbcTable;
+import com.datastrato.gravitino.catalog.jdbc.bean.JdbcIndexBean;
 import com.datastrato.gravitino.catalog.jdbc.operation.JdbcTableOperations;
 import com.datastrato.gravitino.exceptions.NoSuchColumnException;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
@@ -44,6 +45,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -52,6 +54,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -64,6 +67,7 @@ public class MysqlTableOperations extends JdbcTableOperations {
 
   public static final String BACK_QUOTE = "`";
   public static final String MYSQL_AUTO_INCREMENT = "AUTO_INCREMENT";
+  private static final String MYSQL_PRIMARY_KEY_NAME = "PRIMARY";
   private static final String MYSQL_NOT_SUPPORT_NESTED_COLUMN_MSG =
       "Mysql does not support nested column names.";
 
@@ -244,17 +248,7 @@ public class MysqlTableOperations extends JdbcTableOperations {
         while (resultSet.next()) {
           String name = resultSet.getString("NAME");
           if (Objects.equals(name, tableName)) {
-            return Collections.unmodifiableMap(
-                new HashMap<String, String>() {
-                  {
-                    put(COMMENT, resultSet.getString(COMMENT));
-                    put(MYSQL_ENGINE_KEY, resultSet.getString(MYSQL_ENGINE_KEY));
-                    String autoIncrement = resultSet.getString(MYSQL_AUTO_INCREMENT_OFFSET_KEY);
-                    if (StringUtils.isNotEmpty(autoIncrement)) {
-                      put(MYSQL_AUTO_INCREMENT_OFFSET_KEY, autoIncrement);
-                    }
-                  }
-                });
+            return getTableStatusProperties(resultSet);
           }
         }
 
@@ -264,6 +258,72 @@ public class MysqlTableOperations extends JdbcTableOperations {
     }
   }
 
+  @Override
+  protected Map<String, Map<String, String>> getTablesProperties(
+      Connection connection, String databaseName, Set<String> tableNames) throws SQLException {
+    // The status of all tables in the database is fetched by one statement.
+    Map<String, Map<String, String>> tablesProperties = new HashMap<>();
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("SHOW TABLE STATUS")) {
+      while (resultSet.next()) {
+        String name = resultSet.getString("NAME");
+        if (tableNames.contains(name)) {
+          tablesProperties.put(name, getTableStatusProperties(resultSet));
+        }
+      }
+    }
+    return tablesProperties;
+  }
+
+  private static Map<String, String> getTableStatusProperties(ResultSet resultSet)
+      throws SQLException {
+    Map<String, String> properties = new HashMap<>();
+    properties.put(COMMENT, resultSet.getString(COMMENT));
+    properties.put(MYSQL_ENGINE_KEY, resultSet.getString(MYSQL_ENGINE_KEY));
+    String autoIncrement = resultSet.getString(MYSQL_AUTO_INCREMENT_OFFSET_KEY);
+    if (StringUtils.isNotEmpty(autoIncrement)) {
+      properties.put(MYSQL_AUTO_INCREMENT_OFFSET_KEY, autoIncrement);
+    }
+    return Collections.unmodifiableMap(properties);
+  }
+
+  @Override
+  protected Map<String, List<Index>> getTablesIndexes(
+      Connection connection, String databaseName, Set<String> tableNames) throws SQLException {
+    // The primary and unique keys of all tables in the database are fetched by one query, the
+    // primary key is the unique index named PRIMARY.
+    String sql =
+        "SELECT TABLE_NAME, INDEX_NAME, COLUMN_NAME, SEQ_IN_INDEX"
+            + " FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = ? AND NON_UNIQUE = 0";
+    Map<String, List<JdbcIndexBean>> tableIndexBeans = new HashMap<>();
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, databaseName);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          String tableName = resultSet.getString("TABLE_NAME");
+          if (tableNames.contains(tableName)) {
+            String indexName = resultSet.getString("INDEX_NAME");
+            tableIndexBeans
+                .computeIfAbsent(tableName, k -> new ArrayList<>())
+                .add(
+                    new JdbcIndexBean(
+                        MYSQL_PRIMARY_KEY_NAME.equals(indexName)
+                            ? Index.IndexType.PRIMARY_KEY
+                            : Index.IndexType.UNIQUE_KEY,
+                        resultSet.getString("COLUMN_NAME"),
+                        indexName,
+                        resultSet.getInt("SEQ_IN_INDEX")));
+          }
+        }
+      }
+    }
+
+    Map<String, List<Index>> tableIndexes = new HashMap<>();
+    tableIndexBeans.forEach(
+        (tableName, indexBeans) -> tableIndexes.put(tableName, assembleIndexes(indexBeans)));
+    return tableIndexes;
+  }
+
   @Override
   protected void correctJdbcTableFields(
       Connection connection, String databaseName, String tableName, JdbcTable.Builder tableBuilder)
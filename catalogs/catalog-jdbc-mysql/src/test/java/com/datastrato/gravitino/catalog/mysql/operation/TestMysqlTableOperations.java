@@ -1034,4 +1034,97 @@ public class TestMysqlTableOperations extends TestMysql {
     sql = MysqlTableOperations.deleteIndexDefinition(null, deleteIndex);
     Assertions.assertEquals("DROP INDEX `uk_1`", sql);
   }
+
+  @Test
+  public void testLoadTables() {
+    String tableName = RandomNameUtils.genRandomName("load_tables_");
+    String tableWithoutIndex = RandomNameUtils.genRandomName("load_tables_");
+    JdbcColumn[] columns = {
+      JdbcColumn.builder()
+          .withName("col_1")
+          .withType(Types.LongType.get())
+          .withComment("id")
+          .withAutoIncrement(true)
+          .withNullable(false)
+          .build(),
+      JdbcColumn.builder()
+          .withName("col_2")
+          .withType(VARCHAR)
+          .withComment("city")
+          .withNullable(false)
+          .build(),
+      JdbcColumn.builder()
+          .withName("col_3")
+          .withType(VARCHAR)
+          .withComment("name")
+          .withNullable(true)
+          .build()
+    };
+    // The keys are read from information_schema.STATISTICS, the primary key is named PRIMARY.
+    Index[] indexes =
+        new Index[] {
+          Indexes.createMysqlPrimaryKey(new String[][] {{"col_1"}}),
+          Indexes.unique("uk_1", new String[][] {{"col_3"}, {"col_2"}})
+        };
+    Map<String, String> properties = new HashMap<>();
+    properties.put(MYSQL_AUTO_INCREMENT_OFFSET_KEY, "10");
+    properties.put(MYSQL_ENGINE_KEY, "InnoDB");
+    TABLE_OPERATIONS.create(
+        TEST_DB_NAME.toString(),
+        tableName,
+        columns,
+        "test_comment",
+        properties,
+        null,
+        Distributions.NONE,
+        indexes);
+    TABLE_OPERATIONS.create(
+        TEST_DB_NAME.toString(),
+        tableWithoutIndex,
+        new JdbcColumn[] {
+          JdbcColumn.builder().withName("col_1").withType(INT).withNullable(true).build()
+        },
+        null,
+        Collections.emptyMap(),
+        null,
+        Distributions.NONE,
+        Indexes.EMPTY_INDEXES);
+
+    // A table of the same name in another database isn't mixed into the tables of this one.
+    String otherDb = RandomNameUtils.genRandomName("load_tables_db_");
+    DATABASE_OPERATIONS.create(otherDb, null, null);
+    TABLE_OPERATIONS.create(
+        otherDb,
+        tableName,
+        new JdbcColumn[] {
+          JdbcColumn.builder().withName("col_4").withType(INT).withNullable(true).build()
+        },
+        "other_comment",
+        Collections.emptyMap(),
+        null,
+        Distributions.NONE,
+        Indexes.EMPTY_INDEXES);
+
+    // The table status comes from SHOW TABLE STATUS, the missing tables are skipped.
+    List<JdbcTable> tables =
+        TABLE_OPERATIONS.loadTables(
+            TEST_DB_NAME.toString(), Arrays.asList(tableName, "no_exist_table", tableWithoutIndex));
+    Assertions.assertEquals(2, tables.size());
+    assertTableEquals(TABLE_OPERATIONS.load(TEST_DB_NAME.toString(), tableName), tables.get(0));
+    assertTableEquals(
+        TABLE_OPERATIONS.load(TEST_DB_NAME.toString(), tableWithoutIndex), tables.get(1));
+    assertionsTableInfo(
+        tableName, "test_comment", Arrays.asList(columns), properties, indexes, tables.get(0));
+    Assertions.assertEquals(0, tables.get(1).index().length);
+
+    TABLE_OPERATIONS.drop(TEST_DB_NAME.toString(), tableWithoutIndex);
+    tables =
+        TABLE_OPERATIONS.loadTables(
+            TEST_DB_NAME.toString(), Arrays.asList(tableName, tableWithoutIndex));
+    Assertions.assertEquals(1, tables.size());
+    Assertions.assertEquals(tableName, tables.get(0).name());
+
+    DATABASE_OPERATIONS.delete(otherDb, true);
+    TABLE_OPERATIONS.drop(TEST_DB_NAME.toString(), tableName);
+  }
 }
@@ -23,6 +23,7 @@ import static com.datastrato.gravitino.rel.Column.DEFAULT_VALUE_NOT_SET;
 import com.datastrato.gravitino.StringIdentifier;
 import com.datastrato.gravitino.catalog.jdbc.JdbcColumn;
 import com.datastrato.gravitino.catalog.jdbc.JdbcTable;
+import com.datastrato.gravitino.catalog.jdbc.bean.JdbcIndexBean;
 import com.datastrato.gravitino.catalog.jdbc.config.JdbcConfig;
 import com.datastrato.gravitino.catalog.jdbc.converter.JdbcColumnDefaultValueConverter;
 import com.datastrato.gravitino.catalog.jdbc.converter.JdbcExceptionConverter;
@@ -41,13 +42,16 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.apache.commons.collections4.MapUtils;
@@ -674,6 +678,56 @@ public class PostgreSqlTableOperations extends JdbcTableOperations {
         + "';";
   }
 
+  @Override
+  protected boolean isInDatabase(ResultSet resultSet, String schemaName) throws SQLException {
+    // The schema name is matched as a pattern, so '_' in it may match other schemas.
+    return Objects.equals(resultSet.getString("TABLE_SCHEM"), schemaName);
+  }
+
+  @Override
+  protected Map<String, List<Index>> getTablesIndexes(
+      Connection connection, String schemaName, Set<String> tableNames) throws SQLException {
+    // The primary keys and unique indexes of all tables in the schema are fetched by one query.
+    // They are read from pg_catalog like the JDBC driver does, because information_schema doesn't
+    // contain the unique indexes created without constraints.
+    String sql =
+        "SELECT t.relname AS table_name, i.relname AS index_name, ix.indisprimary AS is_primary,"
+            + " a.attname AS column_name, k.ord AS ordinal_position"
+            + " FROM pg_catalog.pg_index ix"
+            + " JOIN pg_catalog.pg_class t ON t.oid = ix.indrelid"
+            + " JOIN pg_catalog.pg_class i ON i.oid = ix.indexrelid"
+            + " JOIN pg_catalog.pg_namespace n ON n.oid = t.relnamespace"
+            + " CROSS JOIN LATERAL unnest(ix.indkey) WITH ORDINALITY AS k(attnum, ord)"
+            + " JOIN pg_catalog.pg_attribute a ON a.attrelid = t.oid AND a.attnum = k.attnum"
+            + " WHERE n.nspname = ? AND ix.indisunique";
+    Map<String, List<JdbcIndexBean>> tableIndexBeans = new HashMap<>();
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, schemaName);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          String tableName = resultSet.getString("table_name");
+          if (tableNames.contains(tableName)) {
+            tableIndexBeans
+                .computeIfAbsent(tableName, k -> new ArrayList<>())
+                .add(
+                    new JdbcIndexBean(
+                        resultSet.getBoolean("is_primary")
+                            ? Index.IndexType.PRIMARY_KEY
+                            : Index.IndexType.UNIQUE_KEY,
+                        resultSet.getString("column_name"),
+                        resultSet.getString("index_name"),
+                        resultSet.getInt("ordinal_position")));
+          }
+        }
+      }
+    }
+
+    Map<String, List<Index>> tableIndexes = new HashMap<>();
+    tableIndexBeans.forEach(
+        (tableName, indexBeans) -> tableIndexes.put(tableName, assembleIndexes(indexBeans)));
+    return tableIndexes;
+  }
+
   @Override
   protected ResultSet getIndexInfo(String schemaName, String tableName, DatabaseMetaData metaData)
       throws SQLException {
@@ -38,6 +38,7 @@ import com.datastrato.gravitino.utils.RandomNameUtils;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -737,4 +738,98 @@ public class TestPostgreSqlTableOperations extends TestPostgreSql {
     Assertions.assertEquals(
         "ALTER TABLE \"table_test\" ALTER COLUMN  \"col_2\" DROP IDENTITY;", sql);
   }
+
+  @Test
+  public void testLoadTables() throws SQLException {
+    // '_' in the schema name is matched as a pattern by the JDBC driver, so the tables of the
+    // similar schema are returned by the driver too and must be filtered out.
+    String prefix = RandomNameUtils.genRandomName("load_tables");
+    String schemaName = prefix + "_s";
+    String similarSchemaName = prefix + "xs";
+    DATABASE_OPERATIONS.create(schemaName, null, null);
+    DATABASE_OPERATIONS.create(similarSchemaName, null, null);
+
+    String tableName = "load_table";
+    List<JdbcColumn> columns = new ArrayList<>();
+    columns.add(
+        JdbcColumn.builder()
+            .withName("col_1")
+            .withType(Types.LongType.get())
+            .withComment("increment key")
+            .withNullable(false)
+            .withAutoIncrement(true)
+            .build());
+    columns.add(
+        JdbcColumn.builder()
+            .withName("col_2")
+            .withType(INT)
+            .withNullable(false)
+            .withComment("id-1")
+            .build());
+    columns.add(
+        JdbcColumn.builder()
+            .withName("col_3")
+            .withType(VARCHAR)
+            .withNullable(false)
+            .withComment("name")
+            .build());
+    TABLE_OPERATIONS.create(
+        schemaName,
+        tableName,
+        columns.toArray(new JdbcColumn[0]),
+        "test_comment",
+        Collections.emptyMap(),
+        null,
+        Distributions.NONE,
+        new Index[] {
+          Indexes.primary("load_pk", new String[][] {{"col_1"}}),
+          Indexes.unique("u1_key", new String[][] {{"col_2"}, {"col_3"}})
+        });
+    TABLE_OPERATIONS.create(
+        similarSchemaName,
+        tableName,
+        new JdbcColumn[] {
+          JdbcColumn.builder().withName("col_4").withType(VARCHAR).withNullable(true).build()
+        },
+        "other_comment",
+        Collections.emptyMap(),
+        null,
+        Distributions.NONE,
+        new Index[] {Indexes.unique("u3_key", new String[][] {{"col_4"}})});
+
+    // A unique index created without a constraint isn't in information_schema, the keys are read
+    // from pg_catalog.
+    try (Connection connection = DATA_SOURCE.getConnection()) {
+      JdbcConnectorUtils.executeUpdate(
+          connection,
+          String.format(
+              "CREATE UNIQUE INDEX u2_key ON %s.%s (col_3, col_2)", schemaName, tableName));
+    }
+
+    List<JdbcTable> tables =
+        TABLE_OPERATIONS.loadTables(schemaName, Arrays.asList(tableName, "no_exist_table"));
+    Assertions.assertEquals(1, tables.size());
+    JdbcTable table = tables.get(0);
+    assertTableEquals(TABLE_OPERATIONS.load(schemaName, tableName), table);
+    assertionsTableInfo(
+        tableName,
+        "test_comment",
+        columns,
+        Collections.emptyMap(),
+        new Index[] {
+          Indexes.primary("load_pk", new String[][] {{"col_1"}}),
+          Indexes.unique("u1_key", new String[][] {{"col_2"}, {"col_3"}}),
+          Indexes.unique("u2_key", new String[][] {{"col_3"}, {"col_2"}})
+        },
+        table);
+
+    tables = TABLE_OPERATIONS.loadTables(similarSchemaName, Collections.singletonList(tableName));
+    Assertions.assertEquals(1, tables.size());
+    Assertions.assertEquals("other_comment", tables.get(0).comment());
+    Assertions.assertEquals(1, tables.get(0).columns().length);
+    Assertions.assertEquals(1, tables.get(0).index().length);
+
+    DATABASE_OPERATIONS.delete(schemaName, true);
+    DATABASE_OPERATIONS.delete(similarSchemaName, true);
+  }
 }
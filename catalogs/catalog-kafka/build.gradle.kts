@@ -34,6 +34,7 @@ dependencies {
   testImplementation(project(":server"))
   testImplementation(project(":server-common"))
 
+  implementation(libs.caffeine)
   implementation(libs.guava)
   implementation(libs.kafka.clients)
   implementation(libs.slf4j.api)
@@ -53,6 +53,11 @@ public class KafkaCatalog extends BaseCatalog<KafkaCatalog> {
     return new KafkaCatalogCapability();
   }
 
+  @Override
+  public boolean supportsSharedClassLoader(Map<String, String> config) {
+    return true;
+  }
+
   @Override
   public PropertiesMetadata catalogPropertiesMetadata() throws UnsupportedOperationException {
     return CATALOG_PROPERTIES_METADATA;
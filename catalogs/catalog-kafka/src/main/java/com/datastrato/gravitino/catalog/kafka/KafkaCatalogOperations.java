@@ -21,6 +21,7 @@ package com.datastrato.gravitino.catalog.kafka;
 import static com.datastrato.gravitino.StringIdentifier.ID_KEY;
 import static com.datastrato.gravitino.StringIdentifier.newPropertiesWithId;
 import static com.datastrato.gravitino.catalog.kafka.KafkaCatalogPropertiesMetadata.BOOTSTRAP_SERVERS;
+import static com.datastrato.gravitino.catalog.kafka.KafkaCatalogPropertiesMetadata.TOPIC_CACHE_TTL_MS;
 import static com.datastrato.gravitino.catalog.kafka.KafkaTopicPropertiesMetadata.PARTITION_COUNT;
 import static com.datastrato.gravitino.catalog.kafka.KafkaTopicPropertiesMetadata.REPLICATION_FACTOR;
 import static com.datastrato.gravitino.connector.BaseCatalog.CATALOG_BYPASS_PREFIX;
@@ -54,6 +55,8 @@ import com.datastrato.gravitino.meta.SchemaEntity;
 import com.datastrato.gravitino.storage.IdGenerator;
 import com.datastrato.gravitino.utils.NamespaceUtil;
 import com.datastrato.gravitino.utils.PrincipalUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
@@ -61,13 +64,19 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.AdminClientConfig;
@@ -75,13 +84,12 @@ import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.CreateTopicsResult;
-import org.apache.kafka.clients.admin.DescribeConfigsResult;
-import org.apache.kafka.clients.admin.DescribeTopicsResult;
 import org.apache.kafka.clients.admin.ListTopicsResult;
 import org.apache.kafka.clients.admin.NewPartitions;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Uuid;
 import org.apache.kafka.common.config.ConfigException;
 import org.apache.kafka.common.config.ConfigResource;
@@ -105,6 +113,8 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
   private CatalogInfo info;
   private AdminClient adminClient;
   private HasPropertyMetadata propertiesMetadata;
+  // The metadata of the topics described from Kafka, null if the cache is disabled.
+  private Cache<String, TopicMetadata> topicCache;
 
   @VisibleForTesting
   KafkaCatalogOperations(EntityStore store, IdGenerator idGenerator) {
@@ -156,6 +166,17 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
       }
       throw new RuntimeException("Failed to create Kafka AdminClient", e);
     }
+
+    long topicCacheTtlMs =
+        (long)
+            propertiesMetadata.catalogPropertiesMetadata().getOrDefault(config, TOPIC_CACHE_TTL_MS);
+    Preconditions.checkArgument(
+        topicCacheTtlMs >= 0, "%s must not be negative", TOPIC_CACHE_TTL_MS);
+    if (topicCacheTtlMs > 0) {
+      topicCache =
+          Caffeine.newBuilder().expireAfterWrite(topicCacheTtlMs, TimeUnit.MILLISECONDS).build();
+    }
+
     createDefaultSchemaIfNecessary();
   }
 
@@ -167,6 +188,9 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     try {
       ListTopicsResult result = adminClient.listTopics();
       Set<String> topicNames = result.names().get();
+      if (topicCache != null) {
+        topicCache.asMap().keySet().retainAll(topicNames);
+      }
       return topicNames.stream()
           .map(name -> NameIdentifier.of(namespace, name))
           .toArray(NameIdentifier[]::new);
@@ -186,48 +210,28 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
     checkSchemaExists(schemaIdent);
 
-    DescribeTopicsResult result = adminClient.describeTopics(Collections.singleton(ident.name()));
-    ConfigResource configResource = new ConfigResource(ConfigResource.Type.TOPIC, ident.name());
-    DescribeConfigsResult configsResult =
-        adminClient.describeConfigs(Collections.singleton(configResource));
-
-    int partitions;
-    int replicationFactor;
-    Uuid topicId;
-    Map<String, String> properties = Maps.newHashMap();
-    try {
-      TopicDescription topicDescription = result.topicNameValues().get(ident.name()).get();
-      partitions = topicDescription.partitions().size();
-      replicationFactor = topicDescription.partitions().get(0).replicas().size();
-      topicId = topicDescription.topicId();
-
-      Config topicConfigs = configsResult.all().get().get(configResource);
-      topicConfigs.entries().forEach(e -> properties.put(e.name(), e.value()));
-      properties.put(PARTITION_COUNT, String.valueOf(partitions));
-      properties.put(REPLICATION_FACTOR, String.valueOf(replicationFactor));
-    } catch (ExecutionException e) {
-      if (e.getCause() instanceof UnknownTopicOrPartitionException) {
-        throw new NoSuchTopicException(e, "Topic %s does not exist", ident);
-      } else {
-        throw new RuntimeException("Failed to load topic " + ident.name() + " from Kafka", e);
-      }
-    } catch (InterruptedException e) {
-      throw new RuntimeException("Failed to load topic " + ident.name() + " from Kafka", e);
+    TopicMetadata metadata = describeTopics(Collections.singleton(ident.name())).get(ident.name());
+    if (metadata == null) {
+      throw new NoSuchTopicException("Topic %s does not exist", ident);
     }
 
     LOG.info("Loaded topic {} from Kafka", ident);
+    return toKafkaTopic(ident.name(), metadata);
+  }
 
-    return KafkaTopic.builder()
-        .withName(ident.name())
-        // Because there is no way to store the Gravitino ID in Kafka, therefor we use the topic ID
-        // as the Gravitino ID
-        .withProperties(newPropertiesWithId(convertToGravitinoId(topicId), properties))
-        .withAuditInfo(
-            AuditInfo.builder()
-                .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
-                .withCreateTime(Instant.now())
-                .build())
-        .build();
+  @Override
+  public Topic[] loadTopics(Namespace namespace, String... topicNames)
+      throws NoSuchSchemaException {
+    NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+    checkSchemaExists(schemaIdent);
+
+    Map<String, TopicMetadata> metadata = describeTopics(Arrays.asList(topicNames));
+    LOG.info("Loaded {} topics under the schema {} from Kafka", metadata.size(), namespace);
+    return Arrays.stream(topicNames)
+        .distinct()
+        .filter(metadata::containsKey)
+        .map(name -> toKafkaTopic(name, metadata.get(name)))
+        .toArray(Topic[]::new);
   }
 
   @Override
@@ -237,6 +241,7 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
     checkSchemaExists(schemaIdent);
 
+    invalidateTopicCache(ident.name());
     try {
       CreateTopicsResult createTopicsResult =
           adminClient.createTopics(Collections.singleton(buildNewTopic(ident, properties)));
@@ -286,6 +291,8 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
     checkSchemaExists(schemaIdent);
 
+    // Alter the topic based on its latest metadata rather than the cached one.
+    invalidateTopicCache(ident.name());
     KafkaTopic topic = (KafkaTopic) loadTopic(ident);
     String newComment = topic.comment();
     int oldPartitionCount = Integer.parseInt(topic.properties().get(PARTITION_COUNT));
@@ -321,6 +328,7 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     if (!alterConfigOps.isEmpty()) {
       doAlterTopicConfig(ident.name(), alterConfigOps);
     }
+    invalidateTopicCache(ident.name());
 
     return KafkaTopic.builder()
         .withName(ident.name())
@@ -341,6 +349,7 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
     checkSchemaExists(schemaIdent);
 
+    invalidateTopicCache(ident.name());
     try {
       adminClient.deleteTopics(Collections.singleton(ident.name())).all().get();
       return true;
@@ -419,6 +428,9 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
 
   @Override
   public void close() throws IOException {
+    if (topicCache != null) {
+      topicCache.invalidateAll();
+    }
     if (adminClient != null) {
       adminClient.close();
       adminClient = null;
@@ -517,6 +529,137 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     }
   }
 
+  /**
+   * Describe the topics and their configs from Kafka. The topics cached are not described again,
+   * the others are described together with one request for the descriptions and one for the
+   * configs.
+   *
+   * @param topicNames The names of the topics to describe.
+   * @return The metadata of the existing topics, keyed by the topic name.
+   */
+  private Map<String, TopicMetadata> describeTopics(Collection<String> topicNames) {
+    Map<String, TopicMetadata> described = Maps.newHashMap();
+    List<String> uncachedNames = Lists.newArrayList();
+    for (String topicName : new LinkedHashSet<>(topicNames)) {
+      TopicMetadata cached = topicCache == null ? null : topicCache.getIfPresent(topicName);
+      if (cached != null) {
+        described.put(topicName, cached);
+      } else {
+        uncachedNames.add(topicName);
+      }
+    }
+    if (uncachedNames.isEmpty()) {
+      return described;
+    }
+
+    try {
+      Map<String, TopicMetadata> loaded = describeTopicsAsync(uncachedNames).get();
+      if (topicCache != null) {
+        topicCache.putAll(loaded);
+      }
+      described.putAll(loaded);
+      return described;
+    } catch (ExecutionException e) {
+      throw new RuntimeException(
+          "Failed to load " + uncachedNames.size() + " topics from Kafka", e.getCause());
+    } catch (InterruptedException e) {
+      throw new RuntimeException(
+          "Failed to load " + uncachedNames.size() + " topics from Kafka", e);
+    }
+  }
+
+  /**
+   * Describe the topics and their configs from Kafka without blocking, the topics which don't
+   * exist are absent from the result.
+   */
+  private CompletableFuture<Map<String, TopicMetadata>> describeTopicsAsync(
+      List<String> topicNames) {
+    Map<String, KafkaFuture<TopicDescription>> descriptions =
+        adminClient.describeTopics(topicNames).topicNameValues();
+    List<ConfigResource> configResources =
+        topicNames.stream().map(KafkaCatalogOperations::topicResource).collect(Collectors.toList());
+    Map<ConfigResource, KafkaFuture<Config>> configs =
+        adminClient.describeConfigs(configResources).values();
+
+    Map<String, CompletableFuture<TopicMetadata>> futures = Maps.newHashMap();
+    for (String topicName : topicNames) {
+      CompletableFuture<TopicMetadata> future =
+          toCompletableFuture(descriptions.get(topicName))
+              .thenCombine(
+                  toCompletableFuture(configs.get(topicResource(topicName))), TopicMetadata::new)
+              .exceptionally(
+                  e -> {
+                    Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                    if (cause instanceof UnknownTopicOrPartitionException) {
+                      return null;
+                    }
+                    throw new CompletionException(cause);
+                  });
+      futures.put(topicName, future);
+    }
+
+    return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+        .thenApply(
+            ignored -> {
+              Map<String, TopicMetadata> result = Maps.newHashMap();
+              futures.forEach(
+                  (topicName, future) -> {
+                    TopicMetadata metadata = future.join();
+                    if (metadata != null) {
+                      result.put(topicName, metadata);
+                    }
+                  });
+              return result;
+            });
+  }
+
+  private KafkaTopic toKafkaTopic(String topicName, TopicMetadata metadata) {
+    TopicDescription topicDescription = metadata.description;
+    int partitions = topicDescription.partitions().size();
+    int replicationFactor = topicDescription.partitions().get(0).replicas().size();
+
+    Map<String, String> properties = Maps.newHashMap();
+    metadata.config.entries().forEach(e -> properties.put(e.name(), e.value()));
+    properties.put(PARTITION_COUNT, String.valueOf(partitions));
+    properties.put(REPLICATION_FACTOR, String.valueOf(replicationFactor));
+
+    return KafkaTopic.builder()
+        .withName(topicName)
+        // Because there is no way to store the Gravitino ID in Kafka, therefor we use the topic ID
+        // as the Gravitino ID
+        .withProperties(
+            newPropertiesWithId(convertToGravitinoId(topicDescription.topicId()), properties))
+        .withAuditInfo(
+            AuditInfo.builder()
+                .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
+                .withCreateTime(Instant.now())
+                .build())
+        .build();
+  }
+
+  private void invalidateTopicCache(String topicName) {
+    if (topicCache != null) {
+      topicCache.invalidate(topicName);
+    }
+  }
+
+  private static ConfigResource topicResource(String topicName) {
+    return new ConfigResource(ConfigResource.Type.TOPIC, topicName);
+  }
+
+  private static <T> CompletableFuture<T> toCompletableFuture(KafkaFuture<T> kafkaFuture) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    kafkaFuture.whenComplete(
+        (value, error) -> {
+          if (error != null) {
+            future.completeExceptionally(error);
+          } else {
+            future.complete(value);
+          }
+        });
+    return future;
+  }
+
   private StringIdentifier convertToGravitinoId(Uuid topicId) {
     return StringIdentifier.fromId(topicId.getLeastSignificantBits() & MAX_ID);
   }
@@ -583,4 +726,15 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
       throw new RuntimeException("Failed to create default schema for Kafka catalog", ioe);
     }
   }
+
+  /** The description and the configs of a topic described from Kafka. */
+  private static class TopicMetadata {
+    private final TopicDescription description;
+    private final Config config;
+
+    private TopicMetadata(TopicDescription description, Config config) {
+      this.description = description;
+      this.config = config;
+    }
+  }
 }
@@ -20,7 +20,7 @@ package com.datastrato.gravitino.catalog.kafka;
 
 import com.datastrato.gravitino.connector.BaseCatalogPropertiesMetadata;
 import com.datastrato.gravitino.connector.PropertyEntry;
-import java.util.Collections;
+import com.google.common.collect.ImmutableMap;
 import java.util.Map;
 
 public class KafkaCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata {
@@ -29,14 +29,29 @@ public class KafkaCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadat
   // multiple brokers by comma-separating them.
   public static final String BOOTSTRAP_SERVERS = "bootstrap.servers";
 
+  // The "topic-cache.ttl-ms" property specifies how long the metadata of a topic described from
+  // Kafka is reused, 0 disables the cache.
+  public static final String TOPIC_CACHE_TTL_MS = "topic-cache.ttl-ms";
+  public static final long DEFAULT_TOPIC_CACHE_TTL_MS = 0L;
+
   private static final Map<String, PropertyEntry<?>> KAFKA_CATALOG_PROPERTY_ENTRIES =
-      Collections.singletonMap(
-          BOOTSTRAP_SERVERS,
-          PropertyEntry.stringRequiredPropertyEntry(
+      ImmutableMap.<String, PropertyEntry<?>>builder()
+          .put(
               BOOTSTRAP_SERVERS,
-              "The Kafka broker(s) to connect to, allowing for multiple brokers by comma-separating them",
-              true /* immutable */,
-              false /* hidden */));
+              PropertyEntry.stringRequiredPropertyEntry(
+                  BOOTSTRAP_SERVERS,
+                  "The Kafka broker(s) to connect to, allowing for multiple brokers by comma-separating them",
+                  true /* immutable */,
+                  false /* hidden */))
+          .put(
+              TOPIC_CACHE_TTL_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  TOPIC_CACHE_TTL_MS,
+                  "The time in milliseconds the metadata of a topic is cached, 0 disables the cache",
+                  false /* immutable */,
+                  DEFAULT_TOPIC_CACHE_TTL_MS,
+                  false /* hidden */))
+          .build();
 
   @Override
   protected Map<String, PropertyEntry<?>> specificPropertyEntries() {
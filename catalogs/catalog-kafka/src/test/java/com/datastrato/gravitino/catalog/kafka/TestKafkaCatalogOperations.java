@@ -31,6 +31,7 @@ import static com.datastrato.gravitino.catalog.kafka.KafkaCatalog.SCHEMA_PROPERT
 import static com.datastrato.gravitino.catalog.kafka.KafkaCatalog.TOPIC_PROPERTIES_METADATA;
 import static com.datastrato.gravitino.catalog.kafka.KafkaCatalogOperations.CLIENT_ID_TEMPLATE;
 import static com.datastrato.gravitino.catalog.kafka.KafkaCatalogPropertiesMetadata.BOOTSTRAP_SERVERS;
+import static com.datastrato.gravitino.catalog.kafka.KafkaCatalogPropertiesMetadata.TOPIC_CACHE_TTL_MS;
 import static com.datastrato.gravitino.catalog.kafka.KafkaTopicPropertiesMetadata.PARTITION_COUNT;
 import static com.datastrato.gravitino.catalog.kafka.KafkaTopicPropertiesMetadata.REPLICATION_FACTOR;
 
@@ -110,7 +111,7 @@ public class TestKafkaCatalogOperations extends KafkaClusterEmbedded {
 
   @BeforeAll
   public static void setUp() {
-    Config config = Mockito.mock(Config.class);
+    Config config = Mockito.spy(Config.class);
     Mockito.when(config.get(ENTITY_STORE)).thenReturn("kv");
     Mockito.when(config.get(ENTITY_KV_STORE)).thenReturn(DEFAULT_ENTITY_KV_STORE);
     Mockito.when(config.get(Configs.ENTITY_SERDE)).thenReturn("proto");
@@ -379,6 +380,69 @@ public class TestKafkaCatalogOperations extends KafkaClusterEmbedded {
         exception.getMessage());
   }
 
+  @Test
+  public void testLoadTopics() {
+    Namespace namespace = Namespace.of(METALAKE_NAME, CATALOG_NAME, DEFAULT_SCHEMA_NAME);
+    Topic[] topics =
+        kafkaCatalogOperations.loadTopics(namespace, TOPIC_2, "error_topic", TOPIC_1, TOPIC_2);
+    Assertions.assertEquals(2, topics.length);
+    Assertions.assertEquals(TOPIC_2, topics[0].name());
+    Assertions.assertEquals(TOPIC_1, topics[1].name());
+    for (Topic topic : topics) {
+      Assertions.assertEquals("1", topic.properties().get(PARTITION_COUNT));
+      Assertions.assertEquals("1", topic.properties().get(REPLICATION_FACTOR));
+      Assertions.assertNotNull(topic.properties().get(ID_KEY));
+    }
+
+    Assertions.assertEquals(0, kafkaCatalogOperations.loadTopics(namespace).length);
+    Assertions.assertThrows(
+        NoSuchSchemaException.class,
+        () ->
+            kafkaCatalogOperations.loadTopics(
+                Namespace.of(METALAKE_NAME, CATALOG_NAME, "error_schema"), TOPIC_1));
+  }
+
+  @Test
+  public void testTopicCache() throws IOException {
+    CatalogEntity catalogEntity =
+        CatalogEntity.builder()
+            .withId(3L)
+            .withName("test_kafka_catalog_topic_cache")
+            .withNamespace(Namespace.of(METALAKE_NAME))
+            .withType(MESSAGING)
+            .withProvider("kafka")
+            .withAuditInfo(
+                AuditInfo.builder()
+                    .withCreator("testKafkaUser")
+                    .withCreateTime(Instant.now())
+                    .build())
+            .build();
+    Map<String, String> catalogProperties =
+        ImmutableMap.<String, String>builder()
+            .putAll(MOCK_CATALOG_PROPERTIES)
+            .put(TOPIC_CACHE_TTL_MS, "60000")
+            .build();
+    KafkaCatalogOperations ops = new KafkaCatalogOperations(store, idGenerator);
+    ops.initialize(catalogProperties, catalogEntity.toCatalogInfo(), KAFKA_PROPERTIES_METADATA);
+
+    NameIdentifier ident =
+        NameIdentifier.of(
+            METALAKE_NAME, catalogEntity.name(), DEFAULT_SCHEMA_NAME, "test_topic_cache");
+    ops.createTopic(
+        ident, null, null, ImmutableMap.of(PARTITION_COUNT, "1", REPLICATION_FACTOR, "1"));
+    Assertions.assertEquals("1", ops.loadTopic(ident).properties().get(PARTITION_COUNT));
+
+    // The cached metadata is refreshed after the topic is altered through the catalog.
+    ops.alterTopic(ident, TopicChange.setProperty(PARTITION_COUNT, "2"));
+    Assertions.assertEquals("2", ops.loadTopic(ident).properties().get(PARTITION_COUNT));
+    Topic[] topics = ops.loadTopics(ident.namespace(), ident.name());
+    Assertions.assertEquals("2", topics[0].properties().get(PARTITION_COUNT));
+
+    Assertions.assertTrue(ops.dropTopic(ident));
+    Assertions.assertThrows(NoSuchTopicException.class, () -> ops.loadTopic(ident));
+    ops.close();
+  }
+
   @Test
   public void testListTopics() {
     NameIdentifier[] topics =
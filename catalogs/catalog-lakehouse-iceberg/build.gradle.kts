@@ -42,6 +42,7 @@ dependencies {
   implementation(libs.caffeine)
   implementation(libs.cglib)
   implementation(libs.commons.collections4)
+  implementation(libs.commons.dbcp2)
   implementation(libs.commons.io)
   implementation(libs.commons.lang3)
   implementation(libs.guava)
@@ -104,6 +105,7 @@ dependencies {
   }
 
   testImplementation(libs.bundles.log4j)
+  testImplementation(libs.h2db)
   testImplementation(libs.jersey.test.framework.core) {
     exclude(group = "org.junit.jupiter")
   }
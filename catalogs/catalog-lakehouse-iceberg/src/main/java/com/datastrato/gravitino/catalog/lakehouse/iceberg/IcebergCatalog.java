@@ -18,6 +18,7 @@
  */
 package com.datastrato.gravitino.catalog.lakehouse.iceberg;
 
+import com.datastrato.gravitino.catalog.lakehouse.iceberg.authentication.AuthenticationConfig;
 import com.datastrato.gravitino.connector.BaseCatalog;
 import com.datastrato.gravitino.connector.CatalogOperations;
 import com.datastrato.gravitino.connector.PropertiesMetadata;
@@ -59,6 +60,18 @@ public class IcebergCatalog extends BaseCatalog<IcebergCatalog> {
     return new IcebergCatalogCapability();
   }
 
+  /**
+   * The JDBC drivers registered by the JDBC backend and the Kerberos login are static in the class
+   * loader, they are released when the catalog is closed, so these catalogs don't share it.
+   */
+  @Override
+  public boolean supportsSharedClassLoader(Map<String, String> config) {
+    return !IcebergCatalogBackend.JDBC
+            .name()
+            .equalsIgnoreCase(config.get(IcebergCatalogPropertiesMetadata.CATALOG_BACKEND))
+        && !"kerberos".equalsIgnoreCase(config.get(AuthenticationConfig.AUTH_TYPE_KEY));
+  }
+
   @Override
   public PropertiesMetadata tablePropertiesMetadata() throws UnsupportedOperationException {
     return TABLE_PROPERTIES_META;
@@ -27,6 +27,7 @@ import static com.datastrato.gravitino.catalog.lakehouse.iceberg.IcebergCatalogP
 import static com.datastrato.gravitino.catalog.lakehouse.iceberg.IcebergCatalogPropertiesMetadata.WAREHOUSE;
 
 import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.catalog.lakehouse.iceberg.ops.IcebergTableOps;
 import com.datastrato.gravitino.catalog.lakehouse.iceberg.web.metrics.IcebergMetricsManager;
 import com.datastrato.gravitino.config.ConfigBuilder;
 import com.datastrato.gravitino.config.ConfigConstants;
@@ -117,6 +118,22 @@ public class IcebergConfig extends Config implements OverwriteDefaultConfig {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(1000);
 
+  public static final ConfigEntry<Integer> ICEBERG_METRICS_WRITER_THREADS =
+      new ConfigBuilder(IcebergMetricsManager.ICEBERG_METRICS_WRITER_THREADS)
+          .doc("The number of threads writing Iceberg metrics to the metrics store")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1);
+
+  public static final ConfigEntry<Integer> ICEBERG_METRICS_WRITE_BATCH_SIZE =
+      new ConfigBuilder(IcebergMetricsManager.ICEBERG_METRICS_WRITE_BATCH_SIZE)
+          .doc("The max number of Iceberg metrics written to the metrics store in one batch")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
   public static final ConfigEntry<String> CATALOG_BACKEND_NAME =
       new ConfigBuilder(IcebergCatalogPropertiesMetadata.CATALOG_BACKEND_NAME)
           .doc("The catalog name for Iceberg catalog backend")
@@ -124,6 +141,16 @@ public class IcebergConfig extends Config implements OverwriteDefaultConfig {
           .stringConf()
           .create();
 
+  public static final ConfigEntry<Integer> ICEBERG_TABLE_CACHE_CAPACITY =
+      new ConfigBuilder(IcebergTableOps.ICEBERG_TABLE_CACHE_CAPACITY)
+          .doc(
+              "The max number of loaded tables to keep, so that the table metadata is parsed again "
+                  + "only if the metadata location changed, 0 means disabled")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000);
+
   public String getJdbcDriver() {
     return get(JDBC_DRIVER);
   }
@@ -23,12 +23,20 @@ import com.datastrato.gravitino.catalog.lakehouse.iceberg.IcebergConfig;
 import com.datastrato.gravitino.catalog.lakehouse.iceberg.ops.IcebergTableOpsHelper.IcebergTableChange;
 import com.datastrato.gravitino.catalog.lakehouse.iceberg.utils.IcebergCatalogUtil;
 import com.datastrato.gravitino.utils.IsolatedClassLoader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Preconditions;
 import java.sql.Driver;
 import java.sql.DriverManager;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.ws.rs.NotSupportedException;
+import org.apache.iceberg.BaseTable;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableOperations;
 import org.apache.iceberg.Transaction;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.catalog.Namespace;
@@ -52,11 +60,19 @@ import org.slf4j.LoggerFactory;
 public class IcebergTableOps implements AutoCloseable {
   public static final Logger LOG = LoggerFactory.getLogger(IcebergTableOps.class);
 
+  public static final String ICEBERG_TABLE_CACHE_CAPACITY = "tableCacheCapacity";
+
+  private static final long TABLE_CACHE_EXPIRE_MINUTES = 60;
+
   protected Catalog catalog;
   private SupportsNamespaces asNamespaceCatalog;
   private final String catalogType;
   private String catalogUri = null;
 
+  // The loaded tables are kept to refresh them in place, the table operations of the backends only
+  // read and parse the metadata file again if the metadata location changed. Null if disabled.
+  private final Cache<TableIdentifier, Table> tableCache;
+
   public IcebergTableOps(IcebergConfig icebergConfig) {
     this.catalogType = icebergConfig.get(IcebergConfig.CATALOG_BACKEND);
     if (!IcebergCatalogBackend.MEMORY.name().equalsIgnoreCase(catalogType)) {
@@ -67,6 +83,15 @@ public class IcebergTableOps implements AutoCloseable {
     if (catalog instanceof SupportsNamespaces) {
       asNamespaceCatalog = (SupportsNamespaces) catalog;
     }
+
+    int tableCacheCapacity = icebergConfig.get(IcebergConfig.ICEBERG_TABLE_CACHE_CAPACITY);
+    this.tableCache =
+        tableCacheCapacity > 0
+            ? Caffeine.newBuilder()
+                .maximumSize(tableCacheCapacity)
+                .expireAfterAccess(TABLE_CACHE_EXPIRE_MINUTES, TimeUnit.MINUTES)
+                .build()
+            : null;
   }
 
   public IcebergTableOps() {
@@ -123,15 +148,57 @@ public class IcebergTableOps implements AutoCloseable {
   }
 
   public void dropTable(TableIdentifier tableIdentifier) {
-    CatalogHandlers.dropTable(catalog, tableIdentifier);
+    try {
+      CatalogHandlers.dropTable(catalog, tableIdentifier);
+    } finally {
+      invalidateTable(tableIdentifier);
+    }
   }
 
   public void purgeTable(TableIdentifier tableIdentifier) {
-    CatalogHandlers.purgeTable(catalog, tableIdentifier);
+    try {
+      CatalogHandlers.purgeTable(catalog, tableIdentifier);
+    } finally {
+      invalidateTable(tableIdentifier);
+    }
   }
 
   public LoadTableResponse loadTable(TableIdentifier tableIdentifier) {
-    return CatalogHandlers.loadTable(catalog, tableIdentifier);
+    if (tableCache == null) {
+      return CatalogHandlers.loadTable(catalog, tableIdentifier);
+    }
+
+    AtomicBoolean loaded = new AtomicBoolean(false);
+    Table table =
+        tableCache.get(
+            tableIdentifier,
+            ident -> {
+              loaded.set(true);
+              return catalog.loadTable(ident);
+            });
+    if (!(table instanceof BaseTable)) {
+      // Metadata tables are handled by CatalogHandlers.
+      tableCache.invalidate(tableIdentifier);
+      return CatalogHandlers.loadTable(catalog, tableIdentifier);
+    }
+
+    TableOperations ops = ((BaseTable) table).operations();
+    TableMetadata metadata = ops.current();
+    if (!loaded.get()) {
+      try {
+        // Concurrent loads of the same table wait for one refresh instead of parsing the new
+        // metadata file several times.
+        synchronized (ops) {
+          metadata = ops.refresh();
+        }
+      } catch (RuntimeException e) {
+        // The table may have been dropped or renamed.
+        tableCache.invalidate(tableIdentifier);
+        throw e;
+      }
+    }
+
+    return LoadTableResponse.builder().withTableMetadata(metadata).build();
   }
 
   public boolean tableExists(TableIdentifier tableIdentifier) {
@@ -143,7 +210,18 @@ public class IcebergTableOps implements AutoCloseable {
   }
 
   public void renameTable(RenameTableRequest renameTableRequest) {
-    CatalogHandlers.renameTable(catalog, renameTableRequest);
+    try {
+      CatalogHandlers.renameTable(catalog, renameTableRequest);
+    } finally {
+      invalidateTable(renameTableRequest.source());
+      invalidateTable(renameTableRequest.destination());
+    }
+  }
+
+  private void invalidateTable(TableIdentifier tableIdentifier) {
+    if (tableCache != null) {
+      tableCache.invalidate(tableIdentifier);
+    }
   }
 
   public LoadTableResponse updateTable(
@@ -159,6 +237,10 @@ public class IcebergTableOps implements AutoCloseable {
 
   @Override
   public void close() throws Exception {
+    if (tableCache != null) {
+      tableCache.invalidateAll();
+    }
+
     if (catalog instanceof AutoCloseable) {
       // JdbcCatalog need close.
       ((AutoCloseable) catalog).close();
@@ -21,6 +21,7 @@ package com.datastrato.gravitino.catalog.lakehouse.iceberg.web;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -34,6 +35,18 @@ public class IcebergRestUtils {
     return Response.status(Response.Status.OK).entity(t).type(MediaType.APPLICATION_JSON).build();
   }
 
+  public static <T> Response ok(T t, EntityTag etag) {
+    return Response.status(Response.Status.OK)
+        .entity(t)
+        .type(MediaType.APPLICATION_JSON)
+        .tag(etag)
+        .build();
+  }
+
+  public static Response notModified(EntityTag etag) {
+    return Response.notModified(etag).build();
+  }
+
   public static Response okWithoutContent() {
     return Response.status(Response.Status.OK).build();
   }
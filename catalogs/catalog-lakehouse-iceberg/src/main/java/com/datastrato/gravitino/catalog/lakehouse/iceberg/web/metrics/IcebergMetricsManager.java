@@ -27,6 +27,8 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -42,6 +44,8 @@ public class IcebergMetricsManager {
   public static final String ICEBERG_METRICS_STORE = "metricsStore";
   public static final String ICEBERG_METRICS_STORE_RETAIN_DAYS = "metricsStoreRetainDays";
   public static final String ICEBERG_METRICS_QUEUE_CAPACITY = "metricsQueueCapacity";
+  public static final String ICEBERG_METRICS_WRITER_THREADS = "metricsWriterThreads";
+  public static final String ICEBERG_METRICS_WRITE_BATCH_SIZE = "metricsWriteBatchSize";
 
   // Register IcebergMetricsStore's short name to its full qualified class name in the map. So
   // that user doesn't need to specify the full qualified class name when creating an
@@ -49,14 +53,17 @@ public class IcebergMetricsManager {
   private static final ImmutableMap<String, String> ICEBERG_METRICS_STORE_NAMES =
       ImmutableMap.of(
           DummyMetricsStore.ICEBERG_METRICS_STORE_DUMMY_NAME,
-          DummyMetricsStore.class.getCanonicalName());
+          DummyMetricsStore.class.getCanonicalName(),
+          JdbcMetricsStore.ICEBERG_METRICS_STORE_JDBC_NAME,
+          JdbcMetricsStore.class.getCanonicalName());
 
   private final IcebergMetricsFormatter icebergMetricsFormatter;
   private final IcebergMetricsStore icebergMetricsStore;
   private final int retainDays;
+  private final int writeBatchSize;
 
   private BlockingQueue<MetricsReport> queue;
-  private Thread metricsWriterThread;
+  private final List<Thread> metricsWriterThreads = new ArrayList<>();
   private volatile boolean isClosed = false;
   private Optional<ScheduledExecutorService> metricsCleanerExecutor = Optional.empty();
 
@@ -87,13 +94,18 @@ public class IcebergMetricsManager {
 
     int queueCapacity = icebergConfig.get(IcebergConfig.ICEBERG_METRICS_QUEUE_CAPACITY);
     queue = new LinkedBlockingQueue(queueCapacity);
-    metricsWriterThread = new Thread(() -> writeMetrics());
-    metricsWriterThread.setName("Iceberg-metrics-writer");
-    metricsWriterThread.setDaemon(true);
+    writeBatchSize = icebergConfig.get(IcebergConfig.ICEBERG_METRICS_WRITE_BATCH_SIZE);
+    int writerThreads = icebergConfig.get(IcebergConfig.ICEBERG_METRICS_WRITER_THREADS);
+    for (int i = 0; i < writerThreads; i++) {
+      Thread metricsWriterThread = new Thread(() -> writeMetrics());
+      metricsWriterThread.setName("Iceberg-metrics-writer-" + i);
+      metricsWriterThread.setDaemon(true);
+      metricsWriterThreads.add(metricsWriterThread);
+    }
   }
 
   public void start() {
-    metricsWriterThread.start();
+    metricsWriterThreads.forEach(Thread::start);
     metricsCleanerExecutor.ifPresent(
         executorService ->
             executorService.scheduleAtFixedRate(
@@ -127,20 +139,23 @@ public class IcebergMetricsManager {
     isClosed = true;
     metricsCleanerExecutor.ifPresent(executorService -> executorService.shutdownNow());
 
-    if (icebergMetricsStore != null) {
+    // Stop the writers before closing the store, so no batch is written to a closed store.
+    metricsWriterThreads.forEach(Thread::interrupt);
+    for (Thread metricsWriterThread : metricsWriterThreads) {
       try {
-        icebergMetricsStore.close();
-      } catch (IOException e) {
-        LOG.warn("Close Iceberg metrics store failed.", e);
+        metricsWriterThread.join();
+      } catch (InterruptedException e) {
+        LOG.warn("Iceberg metrics manager is interrupted while join metrics writer thread.");
+        Thread.currentThread().interrupt();
+        break;
       }
     }
 
-    if (metricsWriterThread != null) {
-      metricsWriterThread.interrupt();
+    if (icebergMetricsStore != null) {
       try {
-        metricsWriterThread.join();
-      } catch (InterruptedException e) {
-        LOG.warn("Iceberg metrics manager is interrupted while join metrics writer thread.");
+        icebergMetricsStore.close();
+      } catch (IOException e) {
+        LOG.warn("Close Iceberg metrics store failed.", e);
       }
     }
   }
@@ -151,6 +166,7 @@ public class IcebergMetricsManager {
   }
 
   private void writeMetrics() {
+    List<MetricsReport> metricsReports = new ArrayList<>(writeBatchSize);
     while (Thread.currentThread().isInterrupted() == false) {
       MetricsReport metricsReport;
       try {
@@ -159,9 +175,12 @@ public class IcebergMetricsManager {
         LOG.warn("Iceberg Metrics writer thread is interrupted.");
         break;
       }
-      if (metricsReport != null) {
-        doRecordMetric(metricsReport);
-      }
+      // Take the reports already queued together with the first one, so a busy queue is written
+      // in batches instead of one report per store call.
+      metricsReports.add(metricsReport);
+      queue.drainTo(metricsReports, writeBatchSize - 1);
+      doRecordMetrics(metricsReports);
+      metricsReports.clear();
     }
 
     MetricsReport metricsReport = queue.poll();
@@ -192,11 +211,15 @@ public class IcebergMetricsManager {
     LOG.info("{} {}.", message, icebergMetricsFormatter.toPrintableString(metricsReport));
   }
 
-  private void doRecordMetric(MetricsReport metricsReport) {
+  private void doRecordMetrics(List<MetricsReport> metricsReports) {
     try {
-      icebergMetricsStore.recordMetric(metricsReport);
+      if (metricsReports.size() == 1) {
+        icebergMetricsStore.recordMetric(metricsReports.get(0));
+      } else {
+        icebergMetricsStore.recordMetrics(metricsReports);
+      }
     } catch (Exception e) {
-      LOG.warn("Write Iceberg metrics failed.", e);
+      LOG.warn("Write {} Iceberg metrics failed.", metricsReports.size(), e);
     }
   }
 }
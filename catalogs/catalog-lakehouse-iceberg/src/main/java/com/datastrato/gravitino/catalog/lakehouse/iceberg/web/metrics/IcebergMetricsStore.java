@@ -21,6 +21,7 @@ package com.datastrato.gravitino.catalog.lakehouse.iceberg.web.metrics;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import org.apache.iceberg.metrics.MetricsReport;
 
@@ -43,6 +44,19 @@ public interface IcebergMetricsStore {
    */
   void recordMetric(MetricsReport metricsReport) throws IOException;
 
+  /**
+   * Record a batch of metrics reports, stores could override it to save the reports in one round
+   * trip.
+   *
+   * @param metricsReports the metrics to be saved
+   * @throws IOException if IO error happens
+   */
+  default void recordMetrics(List<MetricsReport> metricsReports) throws IOException {
+    for (MetricsReport metricsReport : metricsReports) {
+      recordMetric(metricsReport);
+    }
+  }
+
   /**
    * Clean the expired Iceberg metrics
    *
@@ -0,0 +1,306 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.datastrato.gravitino.catalog.lakehouse.iceberg.web.metrics;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.iceberg.metrics.CommitReport;
+import org.apache.iceberg.metrics.MetricsReport;
+import org.apache.iceberg.metrics.ScanReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Store Iceberg metrics in a relational database through JDBC.
+ *
+ * <p>Reports are inserted in JDBC batches. Each row carries the day it was recorded in, an indexed
+ * column used as a time partition by {@link #clean(Instant)}, which drops the expired days one by
+ * one in separate transactions instead of deleting all expired rows in a single statement.
+ */
+public class JdbcMetricsStore implements IcebergMetricsStore {
+  private static final Logger LOG = LoggerFactory.getLogger(JdbcMetricsStore.class);
+
+  public static final String ICEBERG_METRICS_STORE_JDBC_NAME = "jdbc";
+
+  public static final String JDBC_URL = "metricsStore.jdbc.url";
+  public static final String JDBC_DRIVER = "metricsStore.jdbc.driver";
+  public static final String JDBC_USER = "metricsStore.jdbc.user";
+  public static final String JDBC_PASSWORD = "metricsStore.jdbc.password";
+  public static final String JDBC_TABLE = "metricsStore.jdbc.table";
+  public static final String JDBC_MAX_CONNECTIONS = "metricsStore.jdbc.maxConnections";
+
+  @VisibleForTesting static final String DEFAULT_TABLE = "iceberg_metrics_report";
+  private static final int DEFAULT_MAX_CONNECTIONS = 4;
+
+  private final IcebergMetricsFormatter icebergMetricsFormatter = new IcebergMetricsFormatter();
+
+  private BasicDataSource dataSource;
+  private String table;
+  private String insertSql;
+
+  @Override
+  @SuppressWarnings("deprecation")
+  public void init(Map<String, String> properties) throws IOException {
+    String url = properties.get(JDBC_URL);
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(url), "%s is required for JDBC metrics store", JDBC_URL);
+    this.table = properties.getOrDefault(JDBC_TABLE, DEFAULT_TABLE);
+    Preconditions.checkArgument(
+        table.matches("[A-Za-z_][A-Za-z0-9_]*"), "Invalid JDBC metrics table name: %s", table);
+    int maxConnections =
+        Integer.parseInt(
+            properties.getOrDefault(
+                JDBC_MAX_CONNECTIONS, String.valueOf(DEFAULT_MAX_CONNECTIONS)));
+    Preconditions.checkArgument(maxConnections > 0, "%s must be positive", JDBC_MAX_CONNECTIONS);
+
+    dataSource = new BasicDataSource();
+    dataSource.setUrl(url);
+    if (properties.containsKey(JDBC_DRIVER)) {
+      dataSource.setDriverClassName(properties.get(JDBC_DRIVER));
+    }
+    dataSource.setUsername(properties.get(JDBC_USER));
+    dataSource.setPassword(properties.get(JDBC_PASSWORD));
+    dataSource.setDefaultAutoCommit(false);
+    dataSource.setMaxWaitMillis(TimeUnit.SECONDS.toMillis(10));
+    dataSource.setMaxTotal(maxConnections);
+    dataSource.setMaxIdle(maxConnections);
+    dataSource.setMinIdle(0);
+
+    this.insertSql =
+        String.format(
+            "INSERT INTO %s (report_day, report_time, table_name, report_type, report) "
+                + "VALUES (?, ?, ?, ?, ?)",
+            table);
+    try {
+      createTableIfNotExists();
+    } catch (SQLException e) {
+      throw new IOException("Failed to create Iceberg metrics table " + table, e);
+    }
+  }
+
+  @Override
+  public void recordMetric(MetricsReport metricsReport) throws IOException {
+    recordMetrics(Collections.singletonList(metricsReport));
+  }
+
+  @Override
+  public void recordMetrics(List<MetricsReport> metricsReports) throws IOException {
+    recordMetrics(metricsReports, Instant.now());
+  }
+
+  @VisibleForTesting
+  void recordMetrics(List<MetricsReport> metricsReports, Instant recordTime) throws IOException {
+    long recordMillis = recordTime.toEpochMilli();
+    long recordDay = TimeUnit.MILLISECONDS.toDays(recordMillis);
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(insertSql)) {
+      try {
+        for (MetricsReport metricsReport : metricsReports) {
+          statement.setLong(1, recordDay);
+          statement.setLong(2, recordMillis);
+          statement.setString(3, tableName(metricsReport));
+          statement.setString(4, reportType(metricsReport));
+          statement.setString(5, icebergMetricsFormatter.toJson(metricsReport));
+          statement.addBatch();
+        }
+        statement.executeBatch();
+        connection.commit();
+      } catch (SQLException | IOException | RuntimeException e) {
+        connection.rollback();
+        throw e;
+      }
+    } catch (SQLException e) {
+      throw new IOException("Failed to write " + metricsReports.size() + " Iceberg metrics", e);
+    }
+  }
+
+  @Override
+  public void clean(Instant expireTime) throws IOException {
+    long expireMillis = expireTime.toEpochMilli();
+    long expireDay = TimeUnit.MILLISECONDS.toDays(expireMillis);
+    try (Connection connection = dataSource.getConnection()) {
+      try {
+        Long oldestDay = oldestDay(connection);
+        if (oldestDay == null) {
+          return;
+        }
+
+        // Whole days before the expired day are dropped one day per transaction.
+        String deleteDaySql = String.format("DELETE FROM %s WHERE report_day = ?", table);
+        try (PreparedStatement statement = connection.prepareStatement(deleteDaySql)) {
+          for (long day = oldestDay; day < expireDay; day++) {
+            statement.setLong(1, day);
+            int deleted = statement.executeUpdate();
+            connection.commit();
+            LOG.debug("Cleaned {} Iceberg metrics of day {}.", deleted, day);
+          }
+        }
+
+        String deleteExpiredSql =
+            String.format("DELETE FROM %s WHERE report_day = ? AND report_time < ?", table);
+        try (PreparedStatement statement = connection.prepareStatement(deleteExpiredSql)) {
+          statement.setLong(1, expireDay);
+          statement.setLong(2, expireMillis);
+          statement.executeUpdate();
+          connection.commit();
+        }
+      } catch (SQLException e) {
+        connection.rollback();
+        throw e;
+      }
+    } catch (SQLException e) {
+      throw new IOException("Failed to clean Iceberg metrics before " + expireTime, e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (dataSource != null) {
+      try {
+        dataSource.close();
+      } catch (SQLException e) {
+        throw new IOException("Failed to close JDBC metrics store", e);
+      }
+    }
+  }
+
+  @VisibleForTesting
+  BasicDataSource getDataSource() {
+    return dataSource;
+  }
+
+  @VisibleForTesting
+  String getTable() {
+    return table;
+  }
+
+  private Long oldestDay(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet =
+            statement.executeQuery(String.format("SELECT MIN(report_day) FROM %s", table))) {
+      if (resultSet.next()) {
+        long day = resultSet.getLong(1);
+        return resultSet.wasNull() ? null : day;
+      }
+      return null;
+    }
+  }
+
+  private void createTableIfNotExists() throws SQLException {
+    try (Connection connection = dataSource.getConnection()) {
+      if (tableExists(connection)) {
+        return;
+      }
+
+      String columnType = reportColumnType(connection.getMetaData().getDatabaseProductName());
+      try (Statement statement = connection.createStatement()) {
+        statement.execute(
+            String.format(
+                "CREATE TABLE %s ("
+                    + "report_day BIGINT NOT NULL, "
+                    + "report_time BIGINT NOT NULL, "
+                    + "table_name VARCHAR(1024) NOT NULL, "
+                    + "report_type VARCHAR(32) NOT NULL, "
+                    + "report %s NOT NULL)",
+                table,
+                columnType));
+        statement.execute(
+            String.format("CREATE INDEX %s_day_idx ON %s (report_day)", table, table));
+        connection.commit();
+        LOG.info("Created Iceberg metrics table {}.", table);
+      } catch (SQLException e) {
+        connection.rollback();
+        // Another server may create the table at the same time.
+        if (!tableExists(connection)) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the column type to store a JSON report in the given database. A report of a table with
+   * many columns or partitions may be larger than the 64KB of a MySQL TEXT column.
+   *
+   * @param databaseProductName The product name reported by the JDBC driver.
+   * @return The column type of the report.
+   */
+  @VisibleForTesting
+  static String reportColumnType(String databaseProductName) {
+    String product = StringUtils.defaultString(databaseProductName).toLowerCase(Locale.ROOT);
+    if (product.contains("mysql") || product.contains("mariadb")) {
+      return "MEDIUMTEXT";
+    } else if (product.contains("postgresql")) {
+      // PostgreSQL TEXT has no length limit.
+      return "TEXT";
+    } else if (product.contains("microsoft sql server")) {
+      return "NVARCHAR(MAX)";
+    }
+    // The SQL standard type of large strings, supported by H2, Derby, Oracle and DB2.
+    return "CLOB";
+  }
+
+  private boolean tableExists(Connection connection) throws SQLException {
+    DatabaseMetaData metaData = connection.getMetaData();
+    // Databases store unquoted identifiers in different cases.
+    for (String name :
+        new String[] {table, table.toUpperCase(Locale.ROOT), table.toLowerCase(Locale.ROOT)}) {
+      try (ResultSet resultSet = metaData.getTables(null, null, name, new String[] {"TABLE"})) {
+        if (resultSet.next()) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static String tableName(MetricsReport metricsReport) {
+    if (metricsReport instanceof ScanReport) {
+      return ((ScanReport) metricsReport).tableName();
+    } else if (metricsReport instanceof CommitReport) {
+      return ((CommitReport) metricsReport).tableName();
+    }
+    return "";
+  }
+
+  private static String reportType(MetricsReport metricsReport) {
+    if (metricsReport instanceof ScanReport) {
+      return "scan";
+    } else if (metricsReport instanceof CommitReport) {
+      return "commit";
+    }
+    return metricsReport.getClass().getSimpleName();
+  }
+}
@@ -27,6 +27,9 @@ import com.datastrato.gravitino.catalog.lakehouse.iceberg.web.metrics.IcebergMet
 import com.datastrato.gravitino.metrics.MetricNames;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Preconditions;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.Consumes;
@@ -34,19 +37,24 @@ import javax.ws.rs.DELETE;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.HEAD;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.rest.RESTUtil;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
 import org.apache.iceberg.rest.requests.ReportMetricsRequest;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.rest.responses.LoadTableResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,6 +65,9 @@ public class IcebergTableOperations {
 
   private static final Logger LOG = LoggerFactory.getLogger(IcebergTableOperations.class);
 
+  private static final String SNAPSHOTS_ALL = "all";
+  private static final String SNAPSHOTS_REFS = "refs";
+
   private IcebergTableOps icebergTableOps;
   private IcebergMetricsManager icebergMetricsManager;
 
@@ -149,11 +160,29 @@ public class IcebergTableOperations {
   public Response loadTable(
       @PathParam("namespace") String namespace,
       @PathParam("table") String table,
-      @DefaultValue("all") @QueryParam("snapshots") String snapshots) {
-    // todo support snapshots
+      @DefaultValue(SNAPSHOTS_ALL) @QueryParam("snapshots") String snapshots,
+      @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
+    Preconditions.checkArgument(
+        SNAPSHOTS_ALL.equals(snapshots) || SNAPSHOTS_REFS.equals(snapshots),
+        "Invalid snapshots mode: %s, should be %s or %s",
+        snapshots,
+        SNAPSHOTS_ALL,
+        SNAPSHOTS_REFS);
     TableIdentifier tableIdentifier =
         TableIdentifier.of(RESTUtil.decodeNamespace(namespace), table);
-    return IcebergRestUtils.ok(icebergTableOps.loadTable(tableIdentifier));
+    LoadTableResponse loadTableResponse = icebergTableOps.loadTable(tableIdentifier);
+
+    // A new metadata location is written for every change of the table, so the location and the
+    // snapshots mode identify the response.
+    String metadataLocation = loadTableResponse.metadataLocation();
+    if (metadataLocation == null) {
+      return IcebergRestUtils.ok(filterSnapshots(loadTableResponse, snapshots));
+    }
+    EntityTag etag = generateETag(metadataLocation, snapshots);
+    if (ifNoneMatch != null && matchesETag(ifNoneMatch, etag)) {
+      return IcebergRestUtils.notModified(etag);
+    }
+    return IcebergRestUtils.ok(filterSnapshots(loadTableResponse, snapshots), etag);
   }
 
   @HEAD
@@ -185,6 +214,52 @@ public class IcebergTableOperations {
     return IcebergRestUtils.noContent();
   }
 
+  private static LoadTableResponse filterSnapshots(
+      LoadTableResponse loadTableResponse, String snapshots) {
+    if (!SNAPSHOTS_REFS.equals(snapshots)) {
+      return loadTableResponse;
+    }
+
+    // Only keep the snapshots referenced by branches and tags, the clients load the others
+    // lazily with snapshots=all when they need them.
+    TableMetadata metadata = loadTableResponse.tableMetadata();
+    TableMetadata refsMetadata =
+        TableMetadata.buildFrom(metadata)
+            .withMetadataLocation(metadata.metadataFileLocation())
+            .suppressHistoricalSnapshots()
+            .discardChanges()
+            .build();
+    return LoadTableResponse.builder()
+        .withTableMetadata(refsMetadata)
+        .addAllConfig(loadTableResponse.config())
+        .build();
+  }
+
+  private static EntityTag generateETag(String metadataLocation, String snapshots) {
+    String hash =
+        Hashing.sha256()
+            .hashString(metadataLocation + "#" + snapshots, StandardCharsets.UTF_8)
+            .toString();
+    return new EntityTag(hash);
+  }
+
+  private static boolean matchesETag(String ifNoneMatch, EntityTag etag) {
+    for (String value : ifNoneMatch.split(",")) {
+      String tag = value.trim();
+      if (tag.equals("*")) {
+        return true;
+      }
+      // Weak comparison, as required for If-None-Match.
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+      if (tag.equals("\"" + etag.getValue() + "\"")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private String SerializeUpdateTableRequest(UpdateTableRequest updateTableRequest) {
     try {
       return icebergObjectMapper.writeValueAsString(updateTableRequest);
@@ -21,6 +21,7 @@ package com.datastrato.gravitino.catalog.lakehouse.iceberg.web.metrics;
 
 import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.iceberg.metrics.MetricsReport;
 
 /** Store Iceberg metrics in memory, used for test */
@@ -28,6 +29,7 @@ public class MemoryMetricsStore implements IcebergMetricsStore {
   private MetricsReport metricsReport;
   private Instant recordTime = Instant.now();
   private Map<String, String> properties;
+  private final AtomicInteger recordCount = new AtomicInteger();
 
   @Override
   public void init(Map<String, String> properties) {
@@ -35,22 +37,27 @@ public class MemoryMetricsStore implements IcebergMetricsStore {
   }
 
   @Override
-  public void recordMetric(MetricsReport metricsReport) {
+  public synchronized void recordMetric(MetricsReport metricsReport) {
     this.metricsReport = metricsReport;
     this.recordTime = Instant.now();
+    recordCount.incrementAndGet();
   }
 
   @Override
   public void close() {}
 
   @Override
-  public void clean(Instant expireTime) {
+  public synchronized void clean(Instant expireTime) {
     if (expireTime.isBefore(recordTime)) {
       metricsReport = null;
     }
   }
 
-  MetricsReport getMetricsReport() {
+  int getRecordCount() {
+    return recordCount.get();
+  }
+
+  synchronized MetricsReport getMetricsReport() {
     return metricsReport;
   }
 
@@ -102,4 +102,32 @@ public class TestIcebergMetricsManager {
 
     icebergMetricsManager.close();
   }
+
+  @Test
+  void testIcebergMetricsManagerWithMultipleWriters() {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            IcebergMetricsManager.ICEBERG_METRICS_STORE,
+            "com.datastrato.gravitino.catalog.lakehouse.iceberg.web.metrics.MemoryMetricsStore",
+            IcebergMetricsManager.ICEBERG_METRICS_WRITER_THREADS,
+            "3",
+            IcebergMetricsManager.ICEBERG_METRICS_WRITE_BATCH_SIZE,
+            "10");
+    IcebergConfig icebergConfig = new IcebergConfig(properties);
+
+    IcebergMetricsManager icebergMetricsManager = new IcebergMetricsManager(icebergConfig);
+    icebergMetricsManager.start();
+
+    for (int i = 0; i < 100; i++) {
+      icebergMetricsManager.recordMetric(createMetricsReport());
+    }
+    MemoryMetricsStore memoryMetricsStore =
+        (MemoryMetricsStore) icebergMetricsManager.getIcebergMetricsStore();
+    await()
+        .atMost(20, TimeUnit.SECONDS)
+        .pollInterval(100, TimeUnit.MILLISECONDS)
+        .untilAsserted(() -> Assertions.assertEquals(100, memoryMetricsStore.getRecordCount()));
+
+    icebergMetricsManager.close();
+  }
 }
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.datastrato.gravitino.catalog.lakehouse.iceberg.web.metrics;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.iceberg.metrics.ImmutableCommitMetricsResult;
+import org.apache.iceberg.metrics.ImmutableCommitReport;
+import org.apache.iceberg.metrics.MetricsReport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestJdbcMetricsStore {
+
+  private JdbcMetricsStore jdbcMetricsStore;
+
+  @BeforeEach
+  void init() throws Exception {
+    jdbcMetricsStore = new JdbcMetricsStore();
+    jdbcMetricsStore.init(createProperties());
+  }
+
+  @AfterEach
+  void close() throws Exception {
+    jdbcMetricsStore.close();
+  }
+
+  private Map<String, String> createProperties() {
+    return ImmutableMap.of(
+        JdbcMetricsStore.JDBC_URL,
+        "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+        JdbcMetricsStore.JDBC_DRIVER,
+        "org.h2.Driver",
+        JdbcMetricsStore.JDBC_USER,
+        "sa",
+        JdbcMetricsStore.JDBC_PASSWORD,
+        "");
+  }
+
+  private MetricsReport createMetricsReport(String tableName) {
+    return ImmutableCommitReport.builder()
+        .tableName(tableName)
+        .snapshotId(1)
+        .sequenceNumber(1)
+        .operation("append")
+        .commitMetrics(ImmutableCommitMetricsResult.builder().build())
+        .build();
+  }
+
+  private long countReports() throws SQLException {
+    try (Connection connection = jdbcMetricsStore.getDataSource().getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet resultSet =
+            statement.executeQuery("SELECT COUNT(*) FROM " + jdbcMetricsStore.getTable())) {
+      resultSet.next();
+      return resultSet.getLong(1);
+    }
+  }
+
+  @Test
+  void testRecordMetrics() throws Exception {
+    jdbcMetricsStore.recordMetric(createMetricsReport("a"));
+    Assertions.assertEquals(1, countReports());
+
+    List<MetricsReport> metricsReports = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      metricsReports.add(createMetricsReport("t" + i));
+    }
+    jdbcMetricsStore.recordMetrics(metricsReports);
+    Assertions.assertEquals(11, countReports());
+
+    try (Connection connection = jdbcMetricsStore.getDataSource().getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet resultSet =
+            statement.executeQuery(
+                "SELECT report_type, report FROM "
+                    + jdbcMetricsStore.getTable()
+                    + " WHERE table_name = 't3'")) {
+      Assertions.assertTrue(resultSet.next());
+      Assertions.assertEquals("commit", resultSet.getString(1));
+      Assertions.assertTrue(resultSet.getString(2).contains("t3"));
+      Assertions.assertFalse(resultSet.next());
+    }
+  }
+
+  @Test
+  void testInitWithExistingTable() throws Exception {
+    jdbcMetricsStore.recordMetric(createMetricsReport("a"));
+
+    // Another store on the same database reuses the table created by the first one.
+    JdbcMetricsStore anotherStore = new JdbcMetricsStore();
+    Map<String, String> properties =
+        ImmutableMap.of(
+            JdbcMetricsStore.JDBC_URL, jdbcMetricsStore.getDataSource().getUrl(),
+            JdbcMetricsStore.JDBC_USER, "sa",
+            JdbcMetricsStore.JDBC_PASSWORD, "");
+    Assertions.assertDoesNotThrow(() -> anotherStore.init(properties));
+    anotherStore.recordMetric(createMetricsReport("b"));
+    anotherStore.close();
+    Assertions.assertEquals(2, countReports());
+  }
+
+  @Test
+  void testClean() throws Exception {
+    Instant now = Instant.now();
+    jdbcMetricsStore.recordMetrics(
+        ImmutableList.of(createMetricsReport("a"), createMetricsReport("b")),
+        now.minus(Duration.ofDays(10)));
+    jdbcMetricsStore.recordMetrics(
+        ImmutableList.of(createMetricsReport("c")), now.minus(Duration.ofDays(3)));
+    jdbcMetricsStore.recordMetrics(
+        ImmutableList.of(createMetricsReport("d")), now.minus(Duration.ofMinutes(2)));
+    jdbcMetricsStore.recordMetrics(ImmutableList.of(createMetricsReport("e")), now);
+    Assertions.assertEquals(5, countReports());
+
+    jdbcMetricsStore.clean(now.minus(Duration.ofDays(5)));
+    Assertions.assertEquals(3, countReports());
+
+    jdbcMetricsStore.clean(now.minus(Duration.ofMinutes(1)));
+    Assertions.assertEquals(1, countReports());
+
+    jdbcMetricsStore.clean(now.plus(Duration.ofMinutes(1)));
+    Assertions.assertEquals(0, countReports());
+
+    // Cleaning an empty table is a no-op.
+    Assertions.assertDoesNotThrow(() -> jdbcMetricsStore.clean(now));
+  }
+
+  @Test
+  void testReportColumnType() throws Exception {
+    Assertions.assertEquals("MEDIUMTEXT", JdbcMetricsStore.reportColumnType("MySQL"));
+    Assertions.assertEquals("MEDIUMTEXT", JdbcMetricsStore.reportColumnType("MariaDB"));
+    Assertions.assertEquals("TEXT", JdbcMetricsStore.reportColumnType("PostgreSQL"));
+    Assertions.assertEquals(
+        "NVARCHAR(MAX)", JdbcMetricsStore.reportColumnType("Microsoft SQL Server"));
+    Assertions.assertEquals("CLOB", JdbcMetricsStore.reportColumnType("Oracle"));
+    Assertions.assertEquals("CLOB", JdbcMetricsStore.reportColumnType("H2"));
+    Assertions.assertEquals("CLOB", JdbcMetricsStore.reportColumnType(null));
+
+    // The report column of the H2 table is a CLOB, which reads back as a string.
+    String table = jdbcMetricsStore.getTable().toUpperCase(Locale.ROOT);
+    try (Connection connection = jdbcMetricsStore.getDataSource().getConnection();
+        ResultSet resultSet = connection.getMetaData().getColumns(null, null, table, "REPORT")) {
+      Assertions.assertTrue(resultSet.next());
+      Assertions.assertEquals(Types.CLOB, resultSet.getInt("DATA_TYPE"));
+    }
+  }
+
+  @Test
+  void testInitWithoutUrl() {
+    JdbcMetricsStore store = new JdbcMetricsStore();
+    Assertions.assertThrowsExactly(
+        IllegalArgumentException.class, () -> store.init(ImmutableMap.of()));
+  }
+}
@@ -19,12 +19,16 @@
 
 package com.datastrato.gravitino.catalog.lakehouse.iceberg.web.rest;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.Invocation;
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -281,6 +285,54 @@ public class TestIcebergTableOperations extends TestIcebergNamespaceOperations {
     verifyLoadTableSucc("exists_foo1");
   }
 
+  private Response doLoadTable(String name, String snapshots, String ifNoneMatch) {
+    Invocation.Builder builder =
+        getIcebergClientBuilder(
+            IcebergRestTestUtil.TABLE_PATH + "/" + name,
+            Optional.of(ImmutableMap.of("snapshots", snapshots)));
+    if (ifNoneMatch != null) {
+      builder = builder.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+    }
+    return builder.get();
+  }
+
+  @Test
+  void testLoadTableWithETag() {
+    verifyCreateNamespaceSucc(IcebergRestTestUtil.TEST_NAMESPACE_NAME);
+    verifyCreateTableSucc("etag_foo1");
+
+    Response response = doLoadTable("etag_foo1", "all", null);
+    Assertions.assertEquals(Status.OK.getStatusCode(), response.getStatus());
+    EntityTag etag = response.getEntityTag();
+    Assertions.assertNotNull(etag);
+    LoadTableResponse loadTableResponse = response.readEntity(LoadTableResponse.class);
+
+    // The table is not changed.
+    response = doLoadTable("etag_foo1", "all", "\"" + etag.getValue() + "\"");
+    Assertions.assertEquals(Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+    Assertions.assertEquals(etag, response.getEntityTag());
+
+    // The response of another snapshots mode has another ETag.
+    response = doLoadTable("etag_foo1", "refs", "\"" + etag.getValue() + "\"");
+    Assertions.assertEquals(Status.OK.getStatusCode(), response.getStatus());
+    Assertions.assertNotEquals(etag, response.getEntityTag());
+    Assertions.assertEquals(
+        tableSchema.columns(),
+        response.readEntity(LoadTableResponse.class).tableMetadata().schema().columns());
+
+    // The table is changed.
+    verifyUpdateSucc("etag_foo1", loadTableResponse.tableMetadata());
+    response = doLoadTable("etag_foo1", "all", "\"" + etag.getValue() + "\"");
+    Assertions.assertEquals(Status.OK.getStatusCode(), response.getStatus());
+    Assertions.assertNotEquals(etag, response.getEntityTag());
+    Assertions.assertEquals(
+        newTableSchema.columns(),
+        response.readEntity(LoadTableResponse.class).tableMetadata().schema().columns());
+
+    response = doLoadTable("etag_foo1", "invalid", null);
+    Assertions.assertEquals(Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   void testRenameTable(boolean withPrefix) {
@@ -28,6 +28,7 @@ import com.datastrato.gravitino.dto.requests.FilesetUpdateRequest;
 import com.datastrato.gravitino.dto.requests.FilesetUpdatesRequest;
 import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
+import com.datastrato.gravitino.dto.responses.FilesetListResponse;
 import com.datastrato.gravitino.dto.responses.FilesetResponse;
 import com.datastrato.gravitino.exceptions.FilesetAlreadyExistsException;
 import com.datastrato.gravitino.exceptions.NoSuchFilesetException;
@@ -37,6 +38,7 @@ import com.datastrato.gravitino.file.FilesetChange;
 import com.datastrato.gravitino.rest.RESTUtils;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -96,6 +98,31 @@ public class FilesetCatalog extends BaseSchemaCatalog
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * List the filesets with their metadata in a schema namespace from the catalog with one request.
+   *
+   * @param namespace A schema namespace. This namespace should have 1 level, which is the schema
+   *     name;
+   * @return An array of filesets under the given namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  @Override
+  public Fileset[] listFilesetsInfo(Namespace namespace) throws NoSuchSchemaException {
+    checkFilesetNamespace(namespace);
+
+    Namespace fullNamespace = getFilesetFullNamespace(namespace);
+    FilesetListResponse resp =
+        restClient.get(
+            formatFilesetRequestPath(fullNamespace),
+            ImmutableMap.of("details", "true"),
+            FilesetListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.filesetErrorHandler());
+    resp.validate();
+
+    return resp.getFilesets();
+  }
+
   /**
    * Load fileset metadata by {@link NameIdentifier} from the catalog, which should be a
    * "schema.fileset" style.
@@ -27,6 +27,7 @@ import com.datastrato.gravitino.dto.MetalakeDTO;
 import com.datastrato.gravitino.dto.requests.CatalogCreateRequest;
 import com.datastrato.gravitino.dto.requests.CatalogUpdateRequest;
 import com.datastrato.gravitino.dto.requests.CatalogUpdatesRequest;
+import com.datastrato.gravitino.dto.responses.CatalogChangesResponse;
 import com.datastrato.gravitino.dto.responses.CatalogListResponse;
 import com.datastrato.gravitino.dto.responses.CatalogResponse;
 import com.datastrato.gravitino.dto.responses.DropResponse;
@@ -216,6 +217,36 @@ public class GravitinoMetalake extends MetalakeDTO implements SupportsCatalogs {
     return resp.dropped();
   }
 
+  /**
+   * List the catalogs of this metalake created, altered or dropped after the given version. The
+   * server waits up to the given time for a change if there is none yet, so the caller can poll
+   * this method in a loop and only load the changed catalogs.
+   *
+   * @param epoch The epoch of the previous response, or -1 if there is no previous response.
+   * @param sinceVersion The version of the previous response, or 0 if there is no previous
+   *     response.
+   * @param timeoutMs The maximum time in milliseconds the server waits for a change.
+   * @return The catalog changes, the caller must list and load all the catalogs if a full sync is
+   *     requested.
+   * @throws NoSuchMetalakeException If the metalake does not exist.
+   */
+  public CatalogChangesResponse listCatalogChanges(long epoch, long sinceVersion, long timeoutMs)
+      throws NoSuchMetalakeException {
+    Map<String, String> params = new HashMap<>();
+    params.put("epoch", String.valueOf(epoch));
+    params.put("sinceVersion", String.valueOf(sinceVersion));
+    params.put("timeoutMs", String.valueOf(timeoutMs));
+    CatalogChangesResponse resp =
+        restClient.get(
+            String.format("api/metalakes/%s/catalog-changes", this.name()),
+            params,
+            CatalogChangesResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.catalogErrorHandler());
+    resp.validate();
+    return resp;
+  }
+
   static class Builder extends MetalakeDTO.Builder<Builder> {
     private RESTClient restClient;
 
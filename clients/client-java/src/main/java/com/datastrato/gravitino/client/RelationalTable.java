@@ -181,6 +181,39 @@ public class RelationalTable implements Table, SupportsPartitions {
     return resp.getPartitions();
   }
 
+  /**
+   * Lists a page of the partitions which match the filter, the filter and the page are pushed down
+   * to the catalog by the server.
+   *
+   * @param filter The catalog specific partition filter, or null to list all partitions.
+   * @param startAfter The name of the last partition of the previous page, or null to start from
+   *     the first partition.
+   * @param limit The maximum number of partitions to list, non-positive for no limit.
+   * @return The partitions of the table in the order of their names.
+   */
+  @Override
+  public Partition[] listPartitions(String filter, String startAfter, int limit) {
+    Map<String, String> params = new HashMap<>();
+    params.put("details", "true");
+    if (filter != null) {
+      params.put("filter", filter);
+    }
+    if (startAfter != null) {
+      params.put("pageToken", startAfter);
+    }
+    if (limit > 0) {
+      params.put("pageSize", String.valueOf(limit));
+    }
+    PartitionListResponse resp =
+        restClient.get(
+            getPartitionRequestPath(),
+            params,
+            PartitionListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    return resp.getPartitions();
+  }
+
   /**
    * Returns the partition with the given name.
    *
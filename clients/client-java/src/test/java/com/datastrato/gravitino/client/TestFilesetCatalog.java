@@ -37,6 +37,7 @@ import com.datastrato.gravitino.dto.responses.CatalogResponse;
 import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
 import com.datastrato.gravitino.dto.responses.ErrorResponse;
+import com.datastrato.gravitino.dto.responses.FilesetListResponse;
 import com.datastrato.gravitino.dto.responses.FilesetResponse;
 import com.datastrato.gravitino.exceptions.AlreadyExistsException;
 import com.datastrato.gravitino.exceptions.FilesetAlreadyExistsException;
@@ -49,6 +50,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.nio.file.NoSuchFileException;
 import java.time.Instant;
+import java.util.Collections;
 import java.util.Map;
 import org.apache.hc.core5.http.Method;
 import org.junit.jupiter.api.Assertions;
@@ -150,6 +152,40 @@ public class TestFilesetCatalog extends TestBase {
         "internal error");
   }
 
+  @Test
+  public void testListFilesetsInfo() throws JsonProcessingException {
+    Namespace namespace = Namespace.of("schema1");
+    String filesetPath =
+        withSlash(
+            FilesetCatalog.formatFilesetRequestPath(
+                Namespace.of(metalakeName, catalogName, "schema1")));
+    Map<String, String> params = Collections.singletonMap("details", "true");
+
+    FilesetDTO mockFileset1 =
+        mockFilesetDTO(
+            "fileset1", Fileset.Type.MANAGED, "comment1", "location1", ImmutableMap.of("k1", "v1"));
+    FilesetDTO mockFileset2 =
+        mockFilesetDTO(
+            "fileset2", Fileset.Type.EXTERNAL, "comment2", "location2", ImmutableMap.of());
+    FilesetListResponse resp =
+        new FilesetListResponse(new FilesetDTO[] {mockFileset1, mockFileset2});
+    buildMockResource(Method.GET, filesetPath, params, null, resp, SC_OK);
+
+    Fileset[] filesets = catalog.asFilesetCatalog().listFilesetsInfo(namespace);
+    Assertions.assertEquals(2, filesets.length);
+    assertFileset(mockFileset1, filesets[0]);
+    assertFileset(mockFileset2, filesets[1]);
+
+    // Throw schema not found exception
+    ErrorResponse errResp =
+        ErrorResponse.notFound(NoSuchSchemaException.class.getSimpleName(), "schema not found");
+    buildMockResource(Method.GET, filesetPath, params, null, errResp, SC_NOT_FOUND);
+    Assertions.assertThrows(
+        NoSuchSchemaException.class,
+        () -> catalog.asFilesetCatalog().listFilesetsInfo(namespace),
+        "schema not found");
+  }
+
   @Test
   public void testLoadFileset() throws JsonProcessingException {
     NameIdentifier fileset = NameIdentifier.of("schema1", "fileset1");
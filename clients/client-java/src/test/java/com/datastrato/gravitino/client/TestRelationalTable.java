@@ -60,6 +60,7 @@ import com.datastrato.gravitino.rel.partitions.Partitions;
 import com.datastrato.gravitino.rel.partitions.RangePartition;
 import com.datastrato.gravitino.rel.types.Types;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import java.util.Collections;
 import org.apache.hc.core5.http.Method;
@@ -201,6 +202,34 @@ public class TestRelationalTable extends TestRelationalCatalog {
     Assertions.assertEquals("table does not support partition operations", exception.getMessage());
   }
 
+  @Test
+  public void testListPartitionsWithFilter() throws JsonProcessingException {
+    RangePartitionDTO partition =
+        RangePartitionDTO.builder()
+            .withName("p2")
+            .withLower(
+                LiteralDTO.builder().withDataType(Types.IntegerType.get()).withValue("10").build())
+            .withUpper(
+                LiteralDTO.builder().withDataType(Types.IntegerType.get()).withValue("20").build())
+            .build();
+    String partitionPath =
+        withSlash(((RelationalTable) partitionedTable).getPartitionRequestPath());
+    PartitionListResponse resp = new PartitionListResponse(new PartitionDTO[] {partition}, "p2");
+    buildMockResource(
+        Method.GET,
+        partitionPath,
+        ImmutableMap.of(
+            "details", "true", "filter", "col1 > 5", "pageToken", "p1", "pageSize", "1"),
+        null,
+        resp,
+        SC_OK);
+
+    Partition[] partitions =
+        partitionedTable.supportPartitions().listPartitions("col1 > 5", "p1", 1);
+    Assertions.assertEquals(1, partitions.length);
+    Assertions.assertEquals(partition, partitions[0]);
+  }
+
   @Test
   public void testGetPartition() throws JsonProcessingException {
     String partitionName = "p1";
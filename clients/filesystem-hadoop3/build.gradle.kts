@@ -21,6 +21,7 @@ plugins {
   `maven-publish`
   id("java")
   id("idea")
+  alias(libs.plugins.jmh)
 }
 
 dependencies {
@@ -28,6 +29,8 @@ dependencies {
   implementation(project(":clients:client-java-runtime", configuration = "shadow"))
   implementation(libs.caffeine)
 
+  jmh(libs.hadoop3.common)
+
   testImplementation(project(":core"))
   testImplementation(project(":server-common"))
   testImplementation(libs.awaitility)
@@ -43,6 +46,10 @@ dependencies {
   testRuntimeOnly(libs.junit.jupiter.engine)
 }
 
+jmh {
+  jmhVersion.set(libs.versions.jmh.get())
+}
+
 tasks.build {
   dependsOn("javadoc")
 }
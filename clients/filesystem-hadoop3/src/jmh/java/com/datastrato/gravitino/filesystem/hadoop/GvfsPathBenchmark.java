@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.filesystem.hadoop;
+
+import com.datastrato.gravitino.Audit;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.file.Fileset;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of the path translation of {@link GravitinoVirtualFileSystem}: resolving the virtual
+ * paths of a fileset to the actual paths, and converting the paths of the listed file statuses back
+ * to the virtual paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class GvfsPathBenchmark {
+
+  private static final NameIdentifier FILESET_IDENT =
+      NameIdentifier.of("metalake", "catalog", "schema", "fileset");
+
+  @Param({"1000"})
+  private int pathCount;
+
+  private FileSystem fileSystem;
+  private java.nio.file.Path storageDir;
+  private FilesetCacheEntry entry;
+  private Path[] virtualPaths;
+  private FileStatus[] actualStatuses;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    fileSystem = FileSystem.getLocal(new Configuration());
+    storageDir = Files.createTempDirectory("gvfs-benchmark");
+    String storageLocation = new Path(storageDir.toUri()).toString();
+    entry = new FilesetCacheEntry(FILESET_IDENT, newFileset(storageLocation), fileSystem);
+
+    virtualPaths = new Path[pathCount];
+    actualStatuses = new FileStatus[pathCount];
+    for (int i = 0; i < pathCount; i++) {
+      String subPath = String.format("/date=2024-06-%02d/part-%05d.parquet", i % 30 + 1, i);
+      virtualPaths[i] = new Path(entry.getVirtualLocation(true) + subPath);
+      actualStatuses[i] =
+          new FileStatus(
+              1024L, false, 3, 128L * 1024 * 1024, 0L, new Path(storageLocation + subPath));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    fileSystem.delete(new Path(storageDir.toUri()), true);
+  }
+
+  @Benchmark
+  public void resolvePath(Blackhole blackhole) {
+    for (Path virtualPath : virtualPaths) {
+      blackhole.consume(
+          GravitinoVirtualFileSystem.extractIdentifier(
+              FILESET_IDENT.namespace().level(0), virtualPath.toUri()));
+      blackhole.consume(GravitinoVirtualFileSystem.getActualPath(entry, virtualPath));
+    }
+  }
+
+  @Benchmark
+  public void convertListStatus(Blackhole blackhole) throws IOException {
+    String actualPrefix = entry.getActualLocation();
+    String virtualPrefix = entry.getVirtualLocation(true);
+    for (FileStatus actualStatus : actualStatuses) {
+      // The conversion updates the status in place, so it converts a copy of the listed status.
+      blackhole.consume(
+          GravitinoVirtualFileSystem.convertFileStatusPathPrefix(
+              new FileStatus(actualStatus), actualPrefix, virtualPrefix));
+    }
+  }
+
+  private static Fileset newFileset(String storageLocation) {
+    return new Fileset() {
+      @Override
+      public String name() {
+        return FILESET_IDENT.name();
+      }
+
+      @Override
+      public Type type() {
+        return Type.EXTERNAL;
+      }
+
+      @Override
+      public String storageLocation() {
+        return storageLocation;
+      }
+
+      @Override
+      public Audit auditInfo() {
+        return null;
+      }
+    };
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.filesystem.hadoop;
+
+import com.datastrato.gravitino.shaded.com.google.common.annotations.VisibleForTesting;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.security.UserGroupInformation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The pool of the file systems of fileset storage locations in a {@link
+ * GravitinoVirtualFileSystem}. The filesets on the same storage accessed by the same user share one
+ * file system instance, which is counted by reference and closed when the last fileset using it
+ * releases it.
+ *
+ * <p>The instances are created by {@link FileSystem#newInstance(URI, Configuration)} instead of
+ * being taken from the global file system cache, so users cannot bypass the gvfs to obtain them.
+ */
+class FileSystemPool implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(FileSystemPool.class);
+
+  private final Configuration configuration;
+  private final Map<Key, PooledFileSystem> fileSystems = new HashMap<>();
+  private final Map<FileSystem, PooledFileSystem> instances = new IdentityHashMap<>();
+
+  FileSystemPool(Configuration configuration) {
+    this.configuration = configuration;
+  }
+
+  /**
+   * Acquire the file system of a storage location for the current user, creating it if no fileset
+   * of the same storage uses one yet.
+   *
+   * @param uri The storage location.
+   * @return The shared file system instance.
+   * @throws IOException If the file system cannot be created.
+   */
+  synchronized FileSystem acquire(URI uri) throws IOException {
+    Key key = new Key(uri, UserGroupInformation.getCurrentUser());
+    PooledFileSystem pooled = fileSystems.get(key);
+    if (pooled == null) {
+      FileSystem fileSystem = FileSystem.newInstance(uri, configuration);
+      pooled = new PooledFileSystem(key, fileSystem);
+      fileSystems.put(key, pooled);
+      instances.put(fileSystem, pooled);
+    }
+    pooled.references++;
+    return pooled.fileSystem;
+  }
+
+  /**
+   * Release a file system acquired from the pool, it is closed if no fileset uses it any more.
+   * Releasing a file system which is not in the pool, for example after the pool is closed, is a
+   * no-op.
+   *
+   * @param fileSystem The file system to release.
+   * @throws IOException If the file system cannot be closed.
+   */
+  void release(FileSystem fileSystem) throws IOException {
+    synchronized (this) {
+      PooledFileSystem pooled = instances.get(fileSystem);
+      if (pooled == null || --pooled.references > 0) {
+        return;
+      }
+      instances.remove(fileSystem);
+      fileSystems.remove(pooled.key);
+    }
+    fileSystem.close();
+  }
+
+  @VisibleForTesting
+  synchronized int size() {
+    return fileSystems.size();
+  }
+
+  @Override
+  public void close() {
+    List<FileSystem> toClose;
+    synchronized (this) {
+      toClose = new ArrayList<>(instances.keySet());
+      instances.clear();
+      fileSystems.clear();
+    }
+    for (FileSystem fileSystem : toClose) {
+      try {
+        fileSystem.close();
+      } catch (IOException e) {
+        LOG.warn("Cannot close the file system: {}", fileSystem.getUri(), e);
+      }
+    }
+  }
+
+  private static class PooledFileSystem {
+    private final Key key;
+    private final FileSystem fileSystem;
+    private int references;
+
+    private PooledFileSystem(Key key, FileSystem fileSystem) {
+      this.key = key;
+      this.fileSystem = fileSystem;
+    }
+  }
+
+  // Same as the key of the Hadoop file system cache: scheme, authority and user.
+  private static class Key {
+    private final String scheme;
+    private final String authority;
+    private final UserGroupInformation ugi;
+
+    private Key(URI uri, UserGroupInformation ugi) {
+      this.scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+      this.authority =
+          uri.getAuthority() == null ? "" : uri.getAuthority().toLowerCase(Locale.ROOT);
+      this.ugi = ugi;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return scheme.equals(that.scheme)
+          && authority.equals(that.authority)
+          && ugi.equals(that.ugi);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(scheme, authority, ugi);
+    }
+  }
+}
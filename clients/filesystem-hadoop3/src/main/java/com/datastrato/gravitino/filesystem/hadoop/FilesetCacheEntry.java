@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.filesystem.hadoop;
+
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.file.Fileset;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+/**
+ * The cached information of a fileset used in the {@link GravitinoVirtualFileSystem}, including
+ * the file system of its storage location and the prefixes to translate paths between the virtual
+ * location and the storage location.
+ */
+class FilesetCacheEntry {
+  private final Fileset fileset;
+  private final FileSystem fileSystem;
+  private final String virtualLocation;
+  private final String virtualLocationWithScheme;
+  private final String actualLocation;
+
+  // Whether the fileset mounts a single file, null until the storage location exists.
+  private volatile Boolean mountsSingleFile;
+
+  FilesetCacheEntry(NameIdentifier identifier, Fileset fileset, FileSystem fileSystem) {
+    this.fileset = fileset;
+    this.fileSystem = fileSystem;
+    this.virtualLocation =
+        String.format(
+            "/%s/%s/%s",
+            identifier.namespace().level(1), identifier.namespace().level(2), identifier.name());
+    this.virtualLocationWithScheme =
+        GravitinoVirtualFileSystemConfiguration.GVFS_FILESET_PREFIX + virtualLocation;
+    this.actualLocation = new Path(fileset.storageLocation()).toString();
+  }
+
+  public Fileset getFileset() {
+    return fileset;
+  }
+
+  public FileSystem getFileSystem() {
+    return fileSystem;
+  }
+
+  /**
+   * Get the virtual location of the fileset, like `gvfs://fileset/catalog/schema/fileset` with
+   * the scheme or `/catalog/schema/fileset` without it.
+   *
+   * @param withScheme Whether the location starts with the gvfs scheme and authority.
+   * @return The virtual location of the fileset.
+   */
+  public String getVirtualLocation(boolean withScheme) {
+    return withScheme ? virtualLocationWithScheme : virtualLocation;
+  }
+
+  /**
+   * Get the storage location of the fileset in the form of the paths returned by its file system.
+   *
+   * @return The normalized storage location.
+   */
+  public String getActualLocation() {
+    return actualLocation;
+  }
+
+  /**
+   * Check whether the fileset mounts a single file. The result is cached once the storage
+   * location exists, so the storage is only asked again while the location doesn't exist.
+   *
+   * @return True if the storage location of the fileset is a file.
+   */
+  public boolean mountsSingleFile() {
+    Boolean singleFile = mountsSingleFile;
+    if (singleFile != null) {
+      return singleFile;
+    }
+
+    try {
+      singleFile = fileSystem.getFileStatus(new Path(fileset.storageLocation())).isFile();
+      mountsSingleFile = singleFile;
+      return singleFile;
+    } catch (FileNotFoundException e) {
+      // We should always return false here, same with the logic in `FileSystem.isFile(Path f)`.
+      return false;
+    } catch (IOException e) {
+      throw new RuntimeException(
+          String.format(
+              "Cannot check whether the fileset: %s mounts a single file, exception: %s",
+              fileset.name(), e.getMessage()),
+          e);
+    }
+  }
+}
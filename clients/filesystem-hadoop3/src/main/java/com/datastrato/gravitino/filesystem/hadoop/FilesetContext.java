@@ -34,6 +34,7 @@ class FilesetContext {
   private Fileset fileset;
   private FileSystem fileSystem;
   private Path actualPath;
+  private FilesetCacheEntry cacheEntry;
 
   private FilesetContext() {}
 
@@ -53,6 +54,10 @@ class FilesetContext {
     return actualPath;
   }
 
+  public FilesetCacheEntry getCacheEntry() {
+    return cacheEntry;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -102,11 +107,17 @@ class FilesetContext {
       return this;
     }
 
+    public Builder withCacheEntry(FilesetCacheEntry cacheEntry) {
+      context.cacheEntry = cacheEntry;
+      return this;
+    }
+
     public FilesetContext build() {
       Preconditions.checkArgument(context.identifier != null, "Identifier is required");
       Preconditions.checkArgument(context.fileset != null, "Fileset is required");
       Preconditions.checkArgument(context.fileSystem != null, "FileSystem is required");
       Preconditions.checkArgument(context.actualPath != null, "ActualPath is required");
+      Preconditions.checkArgument(context.cacheEntry != null, "CacheEntry is required");
       return context;
     }
   }
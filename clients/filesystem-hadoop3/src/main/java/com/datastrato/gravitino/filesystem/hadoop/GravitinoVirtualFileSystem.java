@@ -18,30 +18,30 @@
  */
 package com.datastrato.gravitino.filesystem.hadoop;
 
-import com.datastrato.gravitino.Catalog;
 import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.client.DefaultOAuth2TokenProvider;
 import com.datastrato.gravitino.client.GravitinoClient;
 import com.datastrato.gravitino.client.KerberosTokenProvider;
+import com.datastrato.gravitino.exceptions.NoSuchCatalogException;
 import com.datastrato.gravitino.file.Fileset;
+import com.datastrato.gravitino.file.FilesetCatalog;
 import com.datastrato.gravitino.shaded.com.google.common.annotations.VisibleForTesting;
 import com.datastrato.gravitino.shaded.com.google.common.base.Preconditions;
 import com.datastrato.gravitino.shaded.com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.datastrato.gravitino.shaded.org.apache.commons.lang3.StringUtils;
-import com.datastrato.gravitino.shaded.org.apache.commons.lang3.tuple.Pair;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Scheduler;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URI;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
@@ -65,16 +65,13 @@ public class GravitinoVirtualFileSystem extends FileSystem {
   private URI uri;
   private GravitinoClient client;
   private String metalakeName;
-  private Cache<NameIdentifier, Pair<Fileset, FileSystem>> filesetCache;
+  private Cache<NameIdentifier, FilesetCacheEntry> filesetCache;
+  private Cache<String, FilesetCatalog> catalogCache;
+  // The filesets of the prefetched schemas, present only if schema prefetching is enabled.
+  private Cache<Namespace, Map<String, Fileset>> schemaFilesetsCache;
+  private FileSystemPool fileSystemPool;
   private ScheduledThreadPoolExecutor scheduler;
 
-  // The pattern is used to match gvfs path. The scheme prefix (gvfs://fileset) is optional.
-  // The following path can be match:
-  //     gvfs://fileset/fileset_catalog/fileset_schema/fileset1/file.txt
-  //     /fileset_catalog/fileset_schema/fileset1/sub_dir/
-  private static final Pattern IDENTIFIER_PATTERN =
-      Pattern.compile("^(?:gvfs://fileset)?/([^/]+)/([^/]+)/([^/]+)(?>/[^/]+)*/?$");
-
   @Override
   public void initialize(URI name, Configuration configuration) throws IOException {
     if (!name.toString().startsWith(GravitinoVirtualFileSystemConfiguration.GVFS_FILESET_PREFIX)) {
@@ -106,7 +103,14 @@ public class GravitinoVirtualFileSystem extends FileSystem {
         GravitinoVirtualFileSystemConfiguration
             .FS_GRAVITINO_FILESET_CACHE_EVICTION_MILLS_AFTER_ACCESS_KEY);
 
-    initializeCache(maxCapacity, evictionMillsAfterAccess);
+    boolean prefetchSchema =
+        configuration.getBoolean(
+            GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_CACHE_PREFETCH_SCHEMA_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_CACHE_PREFETCH_SCHEMA_DEFAULT);
+
+    this.fileSystemPool = new FileSystemPool(configuration);
+    initializeCache(maxCapacity, evictionMillsAfterAccess, prefetchSchema);
 
     this.metalakeName =
         configuration.get(GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_CLIENT_METALAKE_KEY);
@@ -125,11 +129,16 @@ public class GravitinoVirtualFileSystem extends FileSystem {
   }
 
   @VisibleForTesting
-  Cache<NameIdentifier, Pair<Fileset, FileSystem>> getFilesetCache() {
+  Cache<NameIdentifier, FilesetCacheEntry> getFilesetCache() {
     return filesetCache;
   }
 
-  private void initializeCache(int maxCapacity, long expireAfterAccess) {
+  @VisibleForTesting
+  FileSystemPool getFileSystemPool() {
+    return fileSystemPool;
+  }
+
+  private void initializeCache(int maxCapacity, long expireAfterAccess, boolean prefetchSchema) {
     // Since Caffeine does not ensure that removalListener will be involved after expiration
     // We use a scheduler with one thread to clean up expired clients.
     this.scheduler = new ScheduledThreadPoolExecutor(1, newDaemonThreadFactory());
@@ -142,13 +151,31 @@ public class GravitinoVirtualFileSystem extends FileSystem {
             .removalListener(
                 (key, value, cause) -> {
                   try {
-                    Pair<Fileset, FileSystem> pair = (Pair<Fileset, FileSystem>) value;
-                    if (pair != null && pair.getRight() != null) pair.getRight().close();
+                    FilesetCacheEntry entry = (FilesetCacheEntry) value;
+                    if (entry != null && entry.getFileSystem() != null) {
+                      fileSystemPool.release(entry.getFileSystem());
+                    }
                   } catch (IOException e) {
                     Logger.error("Cannot close the file system for fileset: {}", key, e);
                   }
                 })
             .build();
+
+    this.catalogCache =
+        Caffeine.newBuilder()
+            .expireAfterAccess(expireAfterAccess, TimeUnit.MILLISECONDS)
+            .scheduler(Scheduler.forScheduledExecutorService(scheduler))
+            .build();
+
+    if (prefetchSchema) {
+      // The prefetched filesets are only used to create the missing fileset cache entries, they
+      // are refreshed as often as the entries expire.
+      this.schemaFilesetsCache =
+          Caffeine.newBuilder()
+              .expireAfterWrite(expireAfterAccess, TimeUnit.MILLISECONDS)
+              .scheduler(Scheduler.forScheduledExecutorService(scheduler))
+              .build();
+    }
   }
 
   private ThreadFactory newDaemonThreadFactory() {
@@ -268,59 +295,33 @@ public class GravitinoVirtualFileSystem extends FileSystem {
         authType);
   }
 
-  private String getVirtualLocation(NameIdentifier identifier, boolean withScheme) {
-    return String.format(
-        "%s/%s/%s/%s",
-        withScheme ? GravitinoVirtualFileSystemConfiguration.GVFS_FILESET_PREFIX : "",
-        identifier.namespace().level(1),
-        identifier.namespace().level(2),
-        identifier.name());
-  }
-
-  private Path getActualPathByIdentifier(
-      NameIdentifier identifier, Pair<Fileset, FileSystem> filesetPair, Path path) {
+  @VisibleForTesting
+  static Path getActualPath(FilesetCacheEntry entry, Path path) {
     String virtualPath = path.toString();
     boolean withScheme =
         virtualPath.startsWith(GravitinoVirtualFileSystemConfiguration.GVFS_FILESET_PREFIX);
-    String virtualLocation = getVirtualLocation(identifier, withScheme);
-    String storageLocation = filesetPair.getLeft().storageLocation();
+    String virtualLocation = entry.getVirtualLocation(withScheme);
+    String storageLocation = entry.getFileset().storageLocation();
     try {
-      if (checkMountsSingleFile(filesetPair)) {
-        Preconditions.checkArgument(
-            virtualPath.equals(virtualLocation),
-            "Path: %s should be same with the virtual prefix: %s, because the fileset only mounts a single file.",
-            virtualPath,
-            virtualLocation);
-
+      // The fileset itself is its storage location, whether it mounts a single file or not.
+      if (virtualPath.equals(virtualLocation)) {
         return new Path(storageLocation);
-      } else {
-        return new Path(virtualPath.replaceFirst(virtualLocation, storageLocation));
       }
+
+      Preconditions.checkArgument(
+          !entry.mountsSingleFile(),
+          "Path: %s should be same with the virtual prefix: %s, because the fileset only mounts a single file.",
+          virtualPath,
+          virtualLocation);
+      return new Path(storageLocation + virtualPath.substring(virtualLocation.length()));
     } catch (Exception e) {
       throw new RuntimeException(
           String.format("Cannot resolve path: %s to actual storage path, exception:", path), e);
     }
   }
 
-  private boolean checkMountsSingleFile(Pair<Fileset, FileSystem> filesetPair) {
-    try {
-      return filesetPair
-          .getRight()
-          .getFileStatus(new Path(filesetPair.getLeft().storageLocation()))
-          .isFile();
-    } catch (FileNotFoundException e) {
-      // We should always return false here, same with the logic in `FileSystem.isFile(Path f)`.
-      return false;
-    } catch (IOException e) {
-      throw new RuntimeException(
-          String.format(
-              "Cannot check whether the fileset: %s mounts a single file, exception: %s",
-              filesetPair.getLeft().name(), e.getMessage()),
-          e);
-    }
-  }
-
-  private FileStatus convertFileStatusPathPrefix(
+  @VisibleForTesting
+  static FileStatus convertFileStatusPathPrefix(
       FileStatus fileStatus, String actualPrefix, String virtualPrefix) {
     String filePath = fileStatus.getPath().toString();
     Preconditions.checkArgument(
@@ -328,54 +329,86 @@ public class GravitinoVirtualFileSystem extends FileSystem {
         "Path %s doesn't start with prefix \"%s\".",
         filePath,
         actualPrefix);
-    Path path = new Path(filePath.replaceFirst(actualPrefix, virtualPrefix));
-    fileStatus.setPath(path);
+    fileStatus.setPath(new Path(virtualPrefix + filePath.substring(actualPrefix.length())));
 
     return fileStatus;
   }
 
   @VisibleForTesting
   NameIdentifier extractIdentifier(URI virtualUri) {
+    return extractIdentifier(metalakeName, virtualUri);
+  }
+
+  /**
+   * Extract the fileset identifier from a gvfs path. The scheme prefix (gvfs://fileset) is
+   * optional, the following paths can be matched:
+   *
+   * <pre>
+   *     gvfs://fileset/fileset_catalog/fileset_schema/fileset1/file.txt
+   *     /fileset_catalog/fileset_schema/fileset1/sub_dir/
+   * </pre>
+   */
+  @VisibleForTesting
+  static NameIdentifier extractIdentifier(String metalakeName, URI virtualUri) {
     String virtualPath = virtualUri.toString();
     Preconditions.checkArgument(
         StringUtils.isNotBlank(virtualPath),
         "Uri which need be extracted cannot be null or empty.");
 
-    Matcher matcher = IDENTIFIER_PATTERN.matcher(virtualPath);
+    String[] names = new String[3];
+    int level = 0;
+    int length = virtualPath.length();
+    int pos =
+        virtualPath.startsWith(GravitinoVirtualFileSystemConfiguration.GVFS_FILESET_PREFIX)
+            ? GravitinoVirtualFileSystemConfiguration.GVFS_FILESET_PREFIX.length()
+            : 0;
+    boolean valid = pos < length;
+    while (valid && pos < length) {
+      int next = virtualPath.indexOf('/', pos + 1);
+      next = next < 0 ? length : next;
+      if (virtualPath.charAt(pos) != '/') {
+        valid = false;
+      } else if (next == pos + 1) {
+        // Only the trailing slash is allowed to be followed by an empty name.
+        valid = next == length;
+      } else if (level < names.length) {
+        names[level++] = virtualPath.substring(pos + 1, next);
+      }
+      pos = next;
+    }
     Preconditions.checkArgument(
-        matcher.matches() && matcher.groupCount() == 3,
-        "URI %s doesn't contains valid identifier",
-        virtualPath);
+        valid && level == names.length, "URI %s doesn't contains valid identifier", virtualPath);
 
-    return NameIdentifier.of(metalakeName, matcher.group(1), matcher.group(2), matcher.group(3));
+    return NameIdentifier.of(metalakeName, names[0], names[1], names[2]);
   }
 
   private FilesetContext getFilesetContext(Path virtualPath) {
     NameIdentifier identifier = extractIdentifier(virtualPath.toUri());
-    Pair<Fileset, FileSystem> pair = filesetCache.get(identifier, this::constructNewFilesetPair);
+    FilesetCacheEntry entry = filesetCache.get(identifier, this::constructNewFilesetEntry);
     Preconditions.checkState(
-        pair != null,
+        entry != null,
         "Cannot get the pair of fileset instance and actual file system for %s",
         identifier);
-    Path actualPath = getActualPathByIdentifier(identifier, pair, virtualPath);
+    Path actualPath = getActualPath(entry, virtualPath);
     return FilesetContext.builder()
         .withIdentifier(identifier)
-        .withFileset(pair.getLeft())
-        .withFileSystem(pair.getRight())
+        .withFileset(entry.getFileset())
+        .withFileSystem(entry.getFileSystem())
         .withActualPath(actualPath)
+        .withCacheEntry(entry)
         .build();
   }
 
-  private Pair<Fileset, FileSystem> constructNewFilesetPair(NameIdentifier identifier) {
-    // Always create a new file system instance for the fileset.
-    // Therefore, users cannot bypass gvfs and use `FileSystem.get()` to directly obtain the
-    // FileSystem
+  private FilesetCacheEntry constructNewFilesetEntry(NameIdentifier identifier) {
+    // The file systems are shared by the filesets on the same storage, but they are not the
+    // instances of the global cache. Therefore, users cannot bypass gvfs and use
+    // `FileSystem.get()` to directly obtain the FileSystem
     try {
       Fileset fileset = loadFileset(identifier);
       URI storageUri = URI.create(fileset.storageLocation());
-      FileSystem actualFileSystem = FileSystem.newInstance(storageUri, getConf());
+      FileSystem actualFileSystem = fileSystemPool.acquire(storageUri);
       Preconditions.checkState(actualFileSystem != null, "Cannot get the actual file system");
-      return Pair.of(fileset, actualFileSystem);
+      return new FilesetCacheEntry(identifier, fileset, actualFileSystem);
     } catch (IOException e) {
       throw new RuntimeException(
           String.format(
@@ -391,10 +424,47 @@ public class GravitinoVirtualFileSystem extends FileSystem {
   }
 
   private Fileset loadFileset(NameIdentifier identifier) {
-    Catalog catalog = client.loadCatalog(identifier.namespace().level(1));
-    return catalog
-        .asFilesetCatalog()
-        .loadFileset(NameIdentifier.of(identifier.namespace().level(2), identifier.name()));
+    if (schemaFilesetsCache != null) {
+      Fileset fileset =
+          schemaFilesetsCache
+              .get(identifier.namespace(), this::listSchemaFilesets)
+              .get(identifier.name());
+      if (fileset != null) {
+        return fileset;
+      }
+    }
+
+    String catalogName = identifier.namespace().level(1);
+    try {
+      return loadFilesetCatalog(catalogName)
+          .loadFileset(NameIdentifier.of(identifier.namespace().level(2), identifier.name()));
+    } catch (NoSuchCatalogException e) {
+      catalogCache.invalidate(catalogName);
+      throw e;
+    }
+  }
+
+  private Map<String, Fileset> listSchemaFilesets(Namespace schemaNamespace) {
+    String catalogName = schemaNamespace.level(1);
+    try {
+      Fileset[] filesets =
+          loadFilesetCatalog(catalogName)
+              .listFilesetsInfo(Namespace.of(schemaNamespace.level(2)));
+      Map<String, Fileset> filesetsByName = new HashMap<>(filesets.length);
+      for (Fileset fileset : filesets) {
+        filesetsByName.put(fileset.name(), fileset);
+      }
+      return filesetsByName;
+    } catch (RuntimeException e) {
+      // Fall back to load the filesets one by one, for example if the server doesn't support it.
+      Logger.warn("Cannot prefetch the filesets of schema: {}", schemaNamespace, e);
+      return Collections.emptyMap();
+    }
+  }
+
+  private FilesetCatalog loadFilesetCatalog(String catalogName) {
+    // The catalog is only used to send the fileset requests, it doesn't need to be reloaded.
+    return catalogCache.get(catalogName, name -> client.loadCatalog(name).asFilesetCatalog());
   }
 
   @Override
@@ -466,8 +536,7 @@ public class GravitinoVirtualFileSystem extends FileSystem {
         dstIdentifier);
 
     FilesetContext srcFileContext = getFilesetContext(src);
-    if (checkMountsSingleFile(
-        Pair.of(srcFileContext.getFileset(), srcFileContext.getFileSystem()))) {
+    if (srcFileContext.getCacheEntry().mountsSingleFile()) {
       throw new UnsupportedOperationException(
           String.format(
               "Cannot rename the fileset: %s which only mounts to a single file.", srcIdentifier));
@@ -491,22 +560,20 @@ public class GravitinoVirtualFileSystem extends FileSystem {
     FileStatus fileStatus = context.getFileSystem().getFileStatus(context.getActualPath());
     return convertFileStatusPathPrefix(
         fileStatus,
-        context.getFileset().storageLocation(),
-        getVirtualLocation(context.getIdentifier(), true));
+        context.getCacheEntry().getActualLocation(),
+        context.getCacheEntry().getVirtualLocation(true));
   }
 
   @Override
   public FileStatus[] listStatus(Path path) throws IOException {
     FilesetContext context = getFilesetContext(path);
     FileStatus[] fileStatusResults = context.getFileSystem().listStatus(context.getActualPath());
-    return Arrays.stream(fileStatusResults)
-        .map(
-            fileStatus ->
-                convertFileStatusPathPrefix(
-                    fileStatus,
-                    new Path(context.getFileset().storageLocation()).toString(),
-                    getVirtualLocation(context.getIdentifier(), true)))
-        .toArray(FileStatus[]::new);
+    String actualPrefix = context.getCacheEntry().getActualLocation();
+    String virtualPrefix = context.getCacheEntry().getVirtualLocation(true);
+    for (FileStatus fileStatus : fileStatusResults) {
+      convertFileStatusPathPrefix(fileStatus, actualPrefix, virtualPrefix);
+    }
+    return fileStatusResults;
   }
 
   @Override
@@ -518,14 +585,12 @@ public class GravitinoVirtualFileSystem extends FileSystem {
   @Override
   public synchronized void close() throws IOException {
     // close all actual FileSystems
-    for (Pair<Fileset, FileSystem> filesetPair : filesetCache.asMap().values()) {
-      try {
-        filesetPair.getRight().close();
-      } catch (IOException e) {
-        // ignore
-      }
-    }
+    fileSystemPool.close();
     filesetCache.invalidateAll();
+    catalogCache.invalidateAll();
+    if (schemaFilesetsCache != null) {
+      schemaFilesetsCache.invalidateAll();
+    }
     // close the client
     try {
       if (client != null) {
@@ -76,5 +76,14 @@ class GravitinoVirtualFileSystemConfiguration {
   public static final long FS_GRAVITINO_FILESET_CACHE_EVICTION_MILLS_AFTER_ACCESS_DEFAULT =
       1000L * 60 * 60;
 
+  /**
+   * The configuration key for whether to load all the filesets of a schema with one request when a
+   * fileset of the schema is not in the Gravitino fileset cache.
+   */
+  public static final String FS_GRAVITINO_FILESET_CACHE_PREFETCH_SCHEMA_KEY =
+      "fs.gravitino.fileset.cache.prefetchSchema";
+
+  public static final boolean FS_GRAVITINO_FILESET_CACHE_PREFETCH_SCHEMA_DEFAULT = false;
+
   private GravitinoVirtualFileSystemConfiguration() {}
 }
@@ -22,15 +22,21 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.dto.AuditDTO;
+import com.datastrato.gravitino.dto.file.FilesetDTO;
+import com.datastrato.gravitino.dto.responses.FilesetListResponse;
 import com.datastrato.gravitino.file.Fileset;
+import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -41,6 +47,8 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.Method;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -50,6 +58,7 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
 
 public class TestGvfsBase extends GravitinoMockServerBase {
   protected static final String GVFS_IMPL_CLASS = GravitinoVirtualFileSystem.class.getName();
@@ -160,7 +169,7 @@ public class TestGvfsBase extends GravitinoMockServerBase {
                       .getIfPresent(
                           NameIdentifier.of(
                               metalakeName, catalogName, schemaName, managedFilesetName)))
-              .getRight();
+              .getFileSystem();
 
       String anotherFilesetName = "test_new_fs";
       Path diffLocalPath =
@@ -238,6 +247,85 @@ public class TestGvfsBase extends GravitinoMockServerBase {
     }
   }
 
+  @Test
+  public void testSharedFileSystem() throws IOException {
+    NameIdentifier managedFileset =
+        NameIdentifier.of(metalakeName, catalogName, schemaName, managedFilesetName);
+    NameIdentifier externalFileset =
+        NameIdentifier.of(metalakeName, catalogName, schemaName, externalFilesetName);
+    try (GravitinoVirtualFileSystem fs =
+        (GravitinoVirtualFileSystem) managedFilesetPath.getFileSystem(conf)) {
+      FileSystemTestUtils.mkdirs(managedFilesetPath, fs);
+      FileSystemTestUtils.create(externalFilesetPath, fs);
+
+      // The filesets on the same storage share the file system.
+      FileSystem managedFs =
+          Objects.requireNonNull(fs.getFilesetCache().getIfPresent(managedFileset))
+              .getFileSystem();
+      FileSystem externalFs =
+          Objects.requireNonNull(fs.getFilesetCache().getIfPresent(externalFileset))
+              .getFileSystem();
+      assertSame(managedFs, externalFs);
+      assertEquals(1, fs.getFileSystemPool().size());
+
+      // The file system is closed after all the filesets using it are evicted.
+      fs.getFilesetCache().invalidate(managedFileset);
+      Awaitility.await()
+          .during(500, TimeUnit.MILLISECONDS)
+          .atMost(5, TimeUnit.SECONDS)
+          .untilAsserted(() -> assertEquals(1, fs.getFileSystemPool().size()));
+      fs.getFilesetCache().invalidate(externalFileset);
+      Awaitility.await()
+          .atMost(5, TimeUnit.SECONDS)
+          .pollInterval(100, TimeUnit.MILLISECONDS)
+          .untilAsserted(() -> assertEquals(0, fs.getFileSystemPool().size()));
+
+      assertTrue(fs.exists(managedFilesetPath));
+      assertEquals(1, fs.getFileSystemPool().size());
+    }
+  }
+
+  @Test
+  public void testPrefetchSchema() throws IOException {
+    Configuration configuration = new Configuration(conf);
+    configuration.setBoolean(
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_CACHE_PREFETCH_SCHEMA_KEY,
+        true);
+
+    // Only the prefetched fileset can be loaded, it is not mocked to be loaded by its own.
+    String prefetchedFilesetName = "prefetched_fileset";
+    Path localPath =
+        FileSystemTestUtils.createLocalDirPrefix(catalogName, schemaName, prefetchedFilesetName);
+    FilesetDTO prefetchedFileset =
+        FilesetDTO.builder()
+            .name(prefetchedFilesetName)
+            .type(Fileset.Type.MANAGED)
+            .storageLocation(localPath.toString())
+            .audit(AuditDTO.builder().withCreator("creator").withCreateTime(Instant.now()).build())
+            .build();
+    buildMockResource(
+        Method.GET,
+        String.format(
+            "/api/metalakes/%s/catalogs/%s/schemas/%s/filesets",
+            metalakeName, catalogName, schemaName),
+        ImmutableMap.of("details", "true"),
+        null,
+        new FilesetListResponse(new FilesetDTO[] {prefetchedFileset}),
+        HttpStatus.SC_OK);
+
+    Path filesetPath =
+        FileSystemTestUtils.createFilesetPath(catalogName, schemaName, prefetchedFilesetName, true);
+    try (FileSystem fs = filesetPath.getFileSystem(configuration);
+        FileSystem localFileSystem = localPath.getFileSystem(conf)) {
+      FileSystemTestUtils.mkdirs(filesetPath, fs);
+      assertTrue(localFileSystem.exists(localPath));
+
+      // The filesets missing in the prefetched schema are loaded by their own.
+      FileSystemTestUtils.mkdirs(managedFilesetPath, fs);
+      assertTrue(localFileSystem.exists(localDirPath));
+    }
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   public void testCreate(boolean withScheme) throws IOException {
@@ -512,6 +600,51 @@ public class TestGvfsBase extends GravitinoMockServerBase {
     }
   }
 
+  @Test
+  public void testPathTranslation() throws IOException {
+    // The names contain regex special characters, the paths are translated literally.
+    NameIdentifier identifier =
+        NameIdentifier.of(metalakeName, catalogName, schemaName, "fileset.v1");
+    Path storagePath = new Path(localDirPath, "fileset$1");
+    Fileset fileset = Mockito.mock(Fileset.class);
+    Mockito.when(fileset.name()).thenReturn("fileset.v1");
+    Mockito.when(fileset.storageLocation()).thenReturn(storagePath.toString());
+
+    try (FileSystem localFileSystem = storagePath.getFileSystem(conf)) {
+      FilesetCacheEntry entry = new FilesetCacheEntry(identifier, fileset, localFileSystem);
+      Path virtualPath = new Path(entry.getVirtualLocation(true) + "/dir/file.txt");
+      Path actualPath = new Path(storagePath, "dir/file.txt");
+      assertEquals(actualPath, GravitinoVirtualFileSystem.getActualPath(entry, virtualPath));
+      assertEquals(
+          actualPath,
+          GravitinoVirtualFileSystem.getActualPath(
+              entry, new Path(entry.getVirtualLocation(false) + "/dir/file.txt")));
+
+      FileStatus fileStatus = new FileStatus(0L, false, 1, 1L, 0L, actualPath);
+      assertEquals(
+          virtualPath,
+          GravitinoVirtualFileSystem.convertFileStatusPathPrefix(
+                  fileStatus, entry.getActualLocation(), entry.getVirtualLocation(true))
+              .getPath());
+
+      // The storage location doesn't exist yet, so it's not known to be a single file.
+      assertFalse(entry.mountsSingleFile());
+      localFileSystem.create(storagePath).close();
+      assertTrue(entry.mountsSingleFile());
+      assertEquals(
+          storagePath,
+          GravitinoVirtualFileSystem.getActualPath(
+              entry, new Path(entry.getVirtualLocation(true))));
+      assertThrows(
+          RuntimeException.class,
+          () -> GravitinoVirtualFileSystem.getActualPath(entry, virtualPath));
+
+      // The single file nature is cached with the fileset.
+      localFileSystem.delete(storagePath, true);
+      assertTrue(entry.mountsSingleFile());
+    }
+  }
+
   @Test
   public void testExtractIdentifier() throws IOException, URISyntaxException {
     try (GravitinoVirtualFileSystem fs =
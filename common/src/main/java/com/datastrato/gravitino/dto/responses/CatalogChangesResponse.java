@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/** Represents a response containing the catalogs of a metalake changed after a version. */
+@EqualsAndHashCode(callSuper = true)
+@ToString
+public class CatalogChangesResponse extends BaseResponse {
+
+  @JsonProperty("epoch")
+  private final long epoch;
+
+  @JsonProperty("version")
+  private final long version;
+
+  @JsonProperty("fullSync")
+  private final boolean fullSync;
+
+  @JsonProperty("changedCatalogs")
+  private final String[] changedCatalogs;
+
+  @JsonProperty("droppedCatalogs")
+  private final String[] droppedCatalogs;
+
+  /**
+   * Constructor for CatalogChangesResponse.
+   *
+   * @param epoch The epoch of the server side change tracker.
+   * @param version The latest version of the metalake.
+   * @param fullSync Whether the client must list and load all the catalogs of the metalake.
+   * @param changedCatalogs The names of the catalogs created or altered after the version.
+   * @param droppedCatalogs The names of the catalogs dropped or renamed after the version.
+   */
+  public CatalogChangesResponse(
+      long epoch,
+      long version,
+      boolean fullSync,
+      String[] changedCatalogs,
+      String[] droppedCatalogs) {
+    super(0);
+    this.epoch = epoch;
+    this.version = version;
+    this.fullSync = fullSync;
+    this.changedCatalogs = changedCatalogs;
+    this.droppedCatalogs = droppedCatalogs;
+  }
+
+  /** Default constructor for CatalogChangesResponse. (Used for Jackson deserialization.) */
+  public CatalogChangesResponse() {
+    super();
+    this.epoch = 0;
+    this.version = 0;
+    this.fullSync = false;
+    this.changedCatalogs = null;
+    this.droppedCatalogs = null;
+  }
+
+  /** @return The epoch of the server side change tracker. */
+  public long epoch() {
+    return epoch;
+  }
+
+  /** @return The latest version of the metalake, passed back in the next request. */
+  public long version() {
+    return version;
+  }
+
+  /** @return True if the client must list and load all the catalogs of the metalake. */
+  public boolean fullSync() {
+    return fullSync;
+  }
+
+  /** @return The names of the catalogs created or altered after the requested version. */
+  public String[] changedCatalogs() {
+    return changedCatalogs;
+  }
+
+  /** @return The names of the catalogs dropped or renamed after the requested version. */
+  public String[] droppedCatalogs() {
+    return droppedCatalogs;
+  }
+
+  /**
+   * Validates the response data.
+   *
+   * @throws IllegalArgumentException if the changed or dropped catalogs are not set.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+    if (changedCatalogs == null || droppedCatalogs == null) {
+      throw new IllegalArgumentException("changed and dropped catalogs must not be null");
+    }
+  }
+}
@@ -20,6 +20,7 @@ package com.datastrato.gravitino.dto.responses;
 
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.json.JsonUtils;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
@@ -37,20 +38,36 @@ public class EntityListResponse extends BaseResponse {
   @JsonProperty("identifiers")
   private final NameIdentifier[] idents;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty("nextPageToken")
+  private final String nextPageToken;
+
   /**
    * Constructor for EntityListResponse.
    *
    * @param idents The array of entity identifiers.
    */
   public EntityListResponse(NameIdentifier[] idents) {
+    this(idents, null);
+  }
+
+  /**
+   * Constructor for EntityListResponse of a paginated list.
+   *
+   * @param idents The array of entity identifiers in the page.
+   * @param nextPageToken The token to fetch the next page, or null if this is the last page.
+   */
+  public EntityListResponse(NameIdentifier[] idents, String nextPageToken) {
     super(0);
     this.idents = idents;
+    this.nextPageToken = nextPageToken;
   }
 
   /** Default constructor for EntityListResponse. (Used for Jackson deserialization.) */
   public EntityListResponse() {
     super();
     this.idents = null;
+    this.nextPageToken = null;
   }
 
   /**
@@ -62,6 +79,15 @@ public class EntityListResponse extends BaseResponse {
     return idents;
   }
 
+  /**
+   * Returns the token to fetch the next page of a paginated list.
+   *
+   * @return The token to fetch the next page, or null if there are no more pages.
+   */
+  public String nextPageToken() {
+    return nextPageToken;
+  }
+
   /**
    * Validates the response data.
    *
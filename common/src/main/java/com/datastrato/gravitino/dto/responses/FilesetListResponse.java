@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.dto.responses;
+
+import com.datastrato.gravitino.dto.file.FilesetDTO;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+
+/** Represents a response for a list of filesets with their metadata. */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class FilesetListResponse extends BaseResponse {
+
+  @JsonProperty("filesets")
+  private final FilesetDTO[] filesets;
+
+  /**
+   * Creates a new FilesetListResponse.
+   *
+   * @param filesets The list of filesets.
+   */
+  public FilesetListResponse(FilesetDTO[] filesets) {
+    super(0);
+    this.filesets = filesets;
+  }
+
+  /**
+   * This is the constructor that is used by Jackson deserializer to create an instance of
+   * FilesetListResponse.
+   */
+  public FilesetListResponse() {
+    super();
+    this.filesets = null;
+  }
+
+  /**
+   * Validates the response.
+   *
+   * @throws IllegalArgumentException if the response is invalid.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+    Preconditions.checkArgument(filesets != null, "filesets must not be null");
+    for (FilesetDTO fileset : filesets) {
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(fileset.name()), "fileset 'name' must not be null and empty");
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(fileset.storageLocation()),
+          "fileset 'storageLocation' must not be null and empty");
+      Preconditions.checkNotNull(fileset.type(), "fileset 'type' must not be null and empty");
+    }
+  }
+}
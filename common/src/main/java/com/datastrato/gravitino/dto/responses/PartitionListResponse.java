@@ -19,6 +19,7 @@
 package com.datastrato.gravitino.dto.responses;
 
 import com.datastrato.gravitino.dto.rel.partitions.PartitionDTO;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -33,14 +34,29 @@ public class PartitionListResponse extends BaseResponse {
   @JsonProperty("partitions")
   private final PartitionDTO[] partitions;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty("nextPageToken")
+  private final String nextPageToken;
+
   /**
    * Creates a new PartitionListResponse.
    *
    * @param partitions The list of partitions.
    */
   public PartitionListResponse(PartitionDTO[] partitions) {
+    this(partitions, null);
+  }
+
+  /**
+   * Creates a new PartitionListResponse of a paginated list.
+   *
+   * @param partitions The list of partitions in the page.
+   * @param nextPageToken The token to fetch the next page, or null if this is the last page.
+   */
+  public PartitionListResponse(PartitionDTO[] partitions, String nextPageToken) {
     super(0);
     this.partitions = partitions;
+    this.nextPageToken = nextPageToken;
   }
 
   /**
@@ -50,5 +66,6 @@ public class PartitionListResponse extends BaseResponse {
   public PartitionListResponse() {
     super();
     this.partitions = null;
+    this.nextPageToken = null;
   }
 }
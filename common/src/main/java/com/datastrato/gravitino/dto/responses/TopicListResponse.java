@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.dto.responses;
+
+import com.datastrato.gravitino.dto.messaging.TopicDTO;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+
+/** Represents a response for a list of topics with their metadata. */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class TopicListResponse extends BaseResponse {
+
+  @JsonProperty("topics")
+  private final TopicDTO[] topics;
+
+  /**
+   * Creates a new TopicListResponse.
+   *
+   * @param topics The list of topics.
+   */
+  public TopicListResponse(TopicDTO[] topics) {
+    super(0);
+    this.topics = topics;
+  }
+
+  /**
+   * This is the constructor that is used by Jackson deserializer to create an instance of
+   * TopicListResponse.
+   */
+  public TopicListResponse() {
+    super();
+    this.topics = null;
+  }
+
+  /**
+   * Validates the response.
+   *
+   * @throws IllegalArgumentException if the response is invalid.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+    Preconditions.checkArgument(topics != null, "topics must not be null");
+    for (TopicDTO topic : topics) {
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(topic.name()), "topic 'name' must not be null and empty");
+    }
+  }
+}
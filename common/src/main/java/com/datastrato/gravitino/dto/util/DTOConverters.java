@@ -628,6 +628,45 @@ public class DTOConverters {
     return Arrays.stream(catalogs).map(DTOConverters::toDTO).toArray(CatalogDTO[]::new);
   }
 
+  /**
+   * Converts an array of Filesets to an array of FilesetDTOs.
+   *
+   * @param filesets The filesets to be converted.
+   * @return The array of FilesetDTOs.
+   */
+  public static FilesetDTO[] toDTOs(Fileset[] filesets) {
+    if (ArrayUtils.isEmpty(filesets)) {
+      return new FilesetDTO[0];
+    }
+    return Arrays.stream(filesets).map(DTOConverters::toDTO).toArray(FilesetDTO[]::new);
+  }
+
+  /**
+   * Converts an array of Tables to an array of TableDTOs.
+   *
+   * @param tables The tables to be converted.
+   * @return The array of TableDTOs.
+   */
+  public static TableDTO[] toDTOs(Table[] tables) {
+    if (ArrayUtils.isEmpty(tables)) {
+      return new TableDTO[0];
+    }
+    return Arrays.stream(tables).map(DTOConverters::toDTO).toArray(TableDTO[]::new);
+  }
+
+  /**
+   * Converts an array of Topics to an array of TopicDTOs.
+   *
+   * @param topics The topics to be converted.
+   * @return The array of TopicDTOs.
+   */
+  public static TopicDTO[] toDTOs(Topic[] topics) {
+    if (ArrayUtils.isEmpty(topics)) {
+      return new TopicDTO[0];
+    }
+    return Arrays.stream(topics).map(DTOConverters::toDTO).toArray(TopicDTO[]::new);
+  }
+
   /**
    * Converts a DistributionDTO to a Distribution.
    *
@@ -36,10 +36,13 @@ import com.datastrato.gravitino.dto.authorization.GroupDTO;
 import com.datastrato.gravitino.dto.authorization.RoleDTO;
 import com.datastrato.gravitino.dto.authorization.SecurableObjectDTO;
 import com.datastrato.gravitino.dto.authorization.UserDTO;
+import com.datastrato.gravitino.dto.file.FilesetDTO;
+import com.datastrato.gravitino.dto.messaging.TopicDTO;
 import com.datastrato.gravitino.dto.rel.ColumnDTO;
 import com.datastrato.gravitino.dto.rel.TableDTO;
 import com.datastrato.gravitino.dto.rel.partitioning.Partitioning;
 import com.datastrato.gravitino.dto.util.DTOConverters;
+import com.datastrato.gravitino.file.Fileset;
 import com.datastrato.gravitino.rel.types.Types;
 import com.google.common.collect.Lists;
 import java.time.Instant;
@@ -146,6 +149,31 @@ public class TestResponses {
     assertThrows(IllegalArgumentException.class, () -> catalog.validate());
   }
 
+  @Test
+  void testFilesetListResponse() throws IllegalArgumentException {
+    AuditDTO audit =
+        AuditDTO.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    FilesetDTO fileset =
+        FilesetDTO.builder()
+            .name("fileset1")
+            .type(Fileset.Type.MANAGED)
+            .storageLocation("hdfs://host/fileset1")
+            .audit(audit)
+            .build();
+    FilesetListResponse response = new FilesetListResponse(new FilesetDTO[] {fileset});
+    response.validate(); // No exception thrown
+
+    FilesetListResponse emptyResponse = new FilesetListResponse(new FilesetDTO[0]);
+    emptyResponse.validate(); // No exception thrown
+
+    FilesetDTO invalidFileset =
+        FilesetDTO.builder().name("fileset2").type(Fileset.Type.MANAGED).audit(audit).build();
+    FilesetListResponse invalidResponse =
+        new FilesetListResponse(new FilesetDTO[] {fileset, invalidFileset});
+    assertThrows(IllegalArgumentException.class, invalidResponse::validate);
+    assertThrows(IllegalArgumentException.class, () -> new FilesetListResponse().validate());
+  }
+
   @Test
   void testSchemaResponse() throws IllegalArgumentException {
     AuditDTO audit =
@@ -180,6 +208,42 @@ public class TestResponses {
     tableResponse.validate(); // No exception thrown
   }
 
+  @Test
+  void testTableListResponse() throws IllegalArgumentException {
+    AuditDTO audit =
+        AuditDTO.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    ColumnDTO column =
+        ColumnDTO.builder().withName("ColumnA").withDataType(Types.ByteType.get()).build();
+    TableDTO table =
+        TableDTO.builder()
+            .withName("TableA")
+            .withColumns(new ColumnDTO[] {column})
+            .withAudit(audit)
+            .withPartitioning(Partitioning.EMPTY_PARTITIONING)
+            .build();
+    TableListResponse response = new TableListResponse(new TableDTO[] {table}, "TableA");
+    response.validate(); // No exception thrown
+    new TableListResponse(new TableDTO[0]).validate(); // No exception thrown
+
+    assertThrows(IllegalArgumentException.class, () -> new TableListResponse().validate());
+  }
+
+  @Test
+  void testTopicListResponse() throws IllegalArgumentException {
+    AuditDTO audit =
+        AuditDTO.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    TopicDTO topic = TopicDTO.builder().withName("TopicA").withAudit(audit).build();
+    TopicListResponse response = new TopicListResponse(new TopicDTO[] {topic});
+    response.validate(); // No exception thrown
+    new TopicListResponse(new TopicDTO[0]).validate(); // No exception thrown
+
+    assertThrows(IllegalArgumentException.class, () -> new TopicListResponse().validate());
+    TopicDTO invalidTopic = TopicDTO.builder().withAudit(audit).build();
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new TopicListResponse(new TopicDTO[] {invalidTopic}).validate());
+  }
+
   @Test
   void testTableException() throws IllegalArgumentException {
     TableResponse table = new TableResponse();
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.lock;
+
+import static com.datastrato.gravitino.Configs.LOCK_MODE;
+
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.NameIdentifier;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Contention benchmark of the tree and striped modes of {@link LockManager}. The threads lock
+ * tables randomly chosen from a large number of distinct tables, and optionally lock their schemas
+ * for write.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class LockManagerBenchmark {
+
+  private static final int CATALOG_COUNT = 10;
+  private static final int SCHEMA_COUNT = 100;
+
+  @Param({"tree", "striped"})
+  private String lockMode;
+
+  @Param({"50000"})
+  private int tableCount;
+
+  // The percentage of operations that lock the schema of the table for write.
+  @Param({"0", "10"})
+  private int writePercentage;
+
+  private LockManager lockManager;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Config config = new Config(false) {};
+    config.set(LOCK_MODE, lockMode);
+    lockManager = new LockManager(config);
+  }
+
+  @Benchmark
+  public void lockTable() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int table = random.nextInt(tableCount);
+    String catalog = "catalog_" + table % CATALOG_COUNT;
+    String schema = "schema_" + table % SCHEMA_COUNT;
+
+    TreeLock lock;
+    LockType lockType;
+    if (random.nextInt(100) < writePercentage) {
+      lock = lockManager.createTreeLock(NameIdentifier.of("metalake", catalog, schema));
+      lockType = LockType.WRITE;
+    } else {
+      lock =
+          lockManager.createTreeLock(
+              NameIdentifier.of("metalake", catalog, schema, "table_" + table));
+      lockType = LockType.READ;
+    }
+
+    lock.lock(lockType);
+    try {
+      // Simulate a short critical section.
+      Blackhole.consumeCPU(100);
+    } finally {
+      lock.unlock();
+    }
+  }
+}
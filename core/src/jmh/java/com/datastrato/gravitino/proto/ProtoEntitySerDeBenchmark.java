@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.proto;
+
+import com.datastrato.gravitino.Namespace;
+import com.datastrato.gravitino.meta.AuditInfo;
+import com.datastrato.gravitino.meta.TableEntity;
+import com.datastrato.gravitino.storage.StorageLayoutVersion;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link ProtoEntitySerDe} with the legacy {@code Any} encoding of the storage layout
+ * V1 and the compact encoding of V2. {@link #deserializeList()} deserializes the values of a list
+ * like {@code KvEntityStore#list} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ProtoEntitySerDeBenchmark {
+
+  @Param({"V1", "V2"})
+  private StorageLayoutVersion layoutVersion;
+
+  @Param({"1000"})
+  private int entityCount;
+
+  private final Namespace namespace = Namespace.of("metalake", "catalog", "schema");
+  private ProtoEntitySerDe serDe;
+  private TableEntity table;
+  private List<byte[]> values;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    serDe = new ProtoEntitySerDe();
+    serDe.setStorageLayoutVersion(layoutVersion);
+
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    values = new ArrayList<>(entityCount);
+    for (int i = 0; i < entityCount; i++) {
+      TableEntity entity =
+          TableEntity.builder()
+              .withId((long) i)
+              .withName("table_" + i)
+              .withNamespace(namespace)
+              .withAuditInfo(auditInfo)
+              .build();
+      values.add(serDe.serialize(entity));
+      table = entity;
+    }
+  }
+
+  @Benchmark
+  public byte[] serialize() throws IOException {
+    return serDe.serialize(table);
+  }
+
+  @Benchmark
+  public List<TableEntity> deserializeList() throws IOException {
+    List<TableEntity> entities = new ArrayList<>(values.size());
+    for (byte[] value : values) {
+      entities.add(serDe.deserialize(value, TableEntity.class, namespace));
+    }
+    return entities;
+  }
+}
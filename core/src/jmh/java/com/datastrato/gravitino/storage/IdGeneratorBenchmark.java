@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.storage;
+
+import static com.datastrato.gravitino.Configs.ENTITY_KV_ROCKSDB_BACKEND_PATH;
+
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Configs;
+import com.datastrato.gravitino.storage.kv.KvBackend;
+import com.datastrato.gravitino.storage.kv.RocksDBKvBackend;
+import com.datastrato.gravitino.utils.ByteUtils;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the {@link RandomIdGenerator} and the {@link SnowflakeIdGenerator} under concurrent
+ * id generation, and of inserting the generated ids as keys into RocksDB and into a B-tree primary
+ * key of an H2 table. The stores keep growing across the iterations, the random ids are inserted
+ * all over the key space while the time ordered ids are appended to its end, so the gap of the
+ * insert throughput shows the difference of index locality.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+public class IdGeneratorBenchmark {
+
+  private static final byte[] VALUE = "value".getBytes(StandardCharsets.UTF_8);
+
+  @Param({Configs.RANDOM_ID_GENERATOR, Configs.SNOWFLAKE_ID_GENERATOR})
+  private String generator;
+
+  private IdGenerator idGenerator;
+  private File dataDir;
+  private KvBackend kvBackend;
+  private String jdbcUrl;
+  private Connection keepAliveConnection;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException, SQLException {
+    idGenerator =
+        Configs.SNOWFLAKE_ID_GENERATOR.equals(generator)
+            ? new SnowflakeIdGenerator(1)
+            : new RandomIdGenerator();
+
+    dataDir = Files.createTempDirectory("id-generator-benchmark").toFile();
+    Config config = new Config(false) {};
+    config.set(ENTITY_KV_ROCKSDB_BACKEND_PATH, dataDir.getAbsolutePath());
+    kvBackend = new RocksDBKvBackend();
+    kvBackend.initialize(config);
+
+    // The in-memory database lives as long as a connection to it is open.
+    jdbcUrl = "jdbc:h2:mem:" + UUID.randomUUID();
+    keepAliveConnection = DriverManager.getConnection(jdbcUrl);
+    try (Statement statement = keepAliveConnection.createStatement()) {
+      statement.execute("CREATE TABLE entity (id BIGINT PRIMARY KEY, name VARCHAR(64))");
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException, SQLException {
+    keepAliveConnection.close();
+    kvBackend.close();
+    FileUtils.deleteDirectory(dataDir);
+  }
+
+  /** The JDBC connection of a benchmark thread. */
+  @State(Scope.Thread)
+  public static class JdbcState {
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setup(IdGeneratorBenchmark benchmark) throws SQLException {
+      connection = DriverManager.getConnection(benchmark.jdbcUrl);
+      insert = connection.prepareStatement("INSERT INTO entity (id, name) VALUES (?, ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+      insert.close();
+      connection.close();
+    }
+  }
+
+  @Benchmark
+  public long nextId() {
+    return idGenerator.nextId();
+  }
+
+  @Benchmark
+  public void insertKv() throws IOException {
+    kvBackend.put(ByteUtils.longToByte(idGenerator.nextId()), VALUE, true);
+  }
+
+  @Benchmark
+  public int insertRelational(JdbcState state) throws SQLException {
+    state.insert.setLong(1, idGenerator.nextId());
+    state.insert.setString(2, "entity");
+    return state.insert.executeUpdate();
+  }
+}
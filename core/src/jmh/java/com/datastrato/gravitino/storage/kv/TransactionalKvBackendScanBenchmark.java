@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.storage.kv;
+
+import static com.datastrato.gravitino.Configs.ENTITY_KV_COMMITTED_TRANSACTION_CACHE_SIZE;
+import static com.datastrato.gravitino.Configs.ENTITY_KV_ROCKSDB_BACKEND_PATH;
+
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.storage.TransactionIdGenerator;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link TransactionalKvBackendImpl#scan(KvRange)}. A committed transaction cache
+ * size of 0 reads the commit mark of every version, which is the behavior without the cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class TransactionalKvBackendScanBenchmark {
+
+  @Param({"0", "100000"})
+  private int committedTransactionCacheSize;
+
+  @Param({"1000"})
+  private int keyCount;
+
+  @Param({"1", "5"})
+  private int versionCount;
+
+  private File dataDir;
+  private KvBackend kvBackend;
+  private TransactionIdGenerator transactionIdGenerator;
+  private TransactionalKvBackendImpl transactionalKvBackend;
+  private KvRange scanRange;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    dataDir = Files.createTempDirectory("scan-benchmark").toFile();
+    Config config = new Config(false) {};
+    config.set(ENTITY_KV_ROCKSDB_BACKEND_PATH, dataDir.getAbsolutePath());
+    config.set(ENTITY_KV_COMMITTED_TRANSACTION_CACHE_SIZE, committedTransactionCacheSize);
+
+    kvBackend = new RocksDBKvBackend();
+    kvBackend.initialize(config);
+    transactionIdGenerator = new TransactionIdGeneratorImpl(kvBackend, config);
+    transactionalKvBackend = new TransactionalKvBackendImpl(kvBackend, transactionIdGenerator);
+    transactionalKvBackend.initialize(config);
+
+    // Each version of the keys is written by a separate transaction.
+    for (int version = 0; version < versionCount; version++) {
+      transactionalKvBackend.begin();
+      for (int i = 0; i < keyCount; i++) {
+        transactionalKvBackend.put(key(i), value(i, version), true);
+      }
+      transactionalKvBackend.commit();
+    }
+
+    scanRange =
+        new KvRange.KvRangeBuilder()
+            .start(key(0))
+            .end(key(keyCount))
+            .startInclusive(true)
+            .endInclusive(false)
+            .build();
+    transactionalKvBackend.begin();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    transactionalKvBackend.closeTransaction();
+    transactionIdGenerator.close();
+    kvBackend.close();
+    FileUtils.deleteDirectory(dataDir);
+  }
+
+  @Benchmark
+  public List<Pair<byte[], byte[]>> scan() throws IOException {
+    return transactionalKvBackend.scan(scanRange);
+  }
+
+  private static byte[] key(int i) {
+    return String.format("key-%08d", i).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] value(int i, int version) {
+    return String.format("value-%08d-%d", i, version).getBytes(StandardCharsets.UTF_8);
+  }
+}
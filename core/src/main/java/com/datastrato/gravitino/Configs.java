@@ -24,6 +24,7 @@ import com.datastrato.gravitino.config.ConfigEntry;
 import com.google.common.collect.Lists;
 import java.io.File;
 import java.util.List;
+import java.util.Optional;
 import org.apache.commons.lang3.StringUtils;
 
 public class Configs {
@@ -94,13 +95,41 @@ public class Configs {
 
   public static final String DEFAULT_RELATIONAL_JDBC_BACKEND_PASSWORD = "gravitino";
 
+  public static final int DEFAULT_KV_COMMITTED_TRANSACTION_CACHE_SIZE = 100000;
+
+  public static final long DEFAULT_RELATIONAL_ENTITY_ID_CACHE_SIZE = 10000L;
+  public static final long DEFAULT_RELATIONAL_ENTITY_ID_CACHE_EXPIRE_MS = 60 * 1000L;
+
+  public static final long DEFAULT_KV_ROCKSDB_BLOCK_CACHE_SIZE = 64 * 1024 * 1024L;
+
+  public static final int DEFAULT_KV_ROCKSDB_BLOOM_FILTER_BITS_PER_KEY = 10;
+
+  // The entity type short name, the namespace separator and the 8-byte id of the first namespace
+  // level, e.g. "sc/" + metalake id, so the entities under a metalake share the same prefix.
+  public static final int DEFAULT_KV_ROCKSDB_PREFIX_LENGTH = 11;
+
+  public static final List<String> DEFAULT_KV_ROCKSDB_COMPRESSION_PER_LEVEL =
+      Lists.newArrayList("none", "none", "lz4", "lz4", "lz4", "zstd");
+
   public static final int GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT = 100;
+
+  public static final int DEFAULT_KV_GC_THREADS = 2;
   public static final long MAX_NODE_IN_MEMORY = 100000L;
 
   public static final long MIN_NODE_IN_MEMORY = 1000L;
 
   public static final long CLEAN_INTERVAL_IN_SECS = 60L;
 
+  public static final String TREE_LOCK_MODE = "tree";
+
+  public static final String STRIPED_LOCK_MODE = "striped";
+
+  public static final int DEFAULT_LOCK_STRIPES = 1024;
+
+  public static final String RANDOM_ID_GENERATOR = "random";
+
+  public static final String SNOWFLAKE_ID_GENERATOR = "snowflake";
+
   public static final ConfigEntry<String> ENTITY_STORE =
       new ConfigBuilder(ENTITY_STORE_KEY)
           .doc("Which storage implementation to use")
@@ -165,6 +194,26 @@ public class Configs {
           .stringConf()
           .createWithDefault(DEFAULT_RELATIONAL_JDBC_BACKEND_PATH);
 
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_ENTITY_ID_CACHE_SIZE =
+      new ConfigBuilder("gravitino.entity.store.relational.entityIdCacheSize")
+          .doc(
+              "The max number of the ids of metalakes, catalogs and schemas the relational "
+                  + "storage caches by name, 0 to disable the cache")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_RELATIONAL_ENTITY_ID_CACHE_SIZE);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_ENTITY_ID_CACHE_EXPIRE_MS =
+      new ConfigBuilder("gravitino.entity.store.relational.entityIdCacheExpireMs")
+          .doc(
+              "The time in milliseconds a cached entity id expires after it's cached. It bounds "
+                  + "how long a change made by another server sharing the database is not seen")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_RELATIONAL_ENTITY_ID_CACHE_EXPIRE_MS);
+
   public static final ConfigEntry<String> ENTITY_KV_ROCKSDB_BACKEND_PATH =
       new ConfigBuilder(ENTITY_KV_ROCKSDB_BACKEND_PATH_KEY)
           .doc(
@@ -190,6 +239,33 @@ public class Configs {
           .longConf()
           .createWithDefault(60 * 60 * 1000L);
 
+  public static final ConfigEntry<Long> CATALOG_CACHE_REFRESH_INTERVAL_MS =
+      new ConfigBuilder("gravitino.catalog.cache.refreshIntervalMs")
+          .doc(
+              "The interval in milliseconds after which an accessed catalog is reloaded in the "
+                  + "background while the loaded one keeps serving, 0 to disable the refresh")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  public static final ConfigEntry<Boolean> CATALOG_WARM_UP_ENABLED =
+      new ConfigBuilder("gravitino.catalog.warmUp.enable")
+          .doc("Whether to load all the catalogs in the background when the server starts")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Integer> CATALOG_LOAD_THREADS =
+      new ConfigBuilder("gravitino.catalog.loadThreads")
+          .doc(
+              "The number of threads to warm up the catalogs in the background, the refreshes "
+                  + "of the catalogs use as many threads")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(4);
+
   public static final ConfigEntry<Boolean> CATALOG_LOAD_ISOLATED =
       new ConfigBuilder("gravitino.catalog.classloader.isolated")
           .doc("Whether to load the catalog in an isolated classloader")
@@ -197,6 +273,43 @@ public class Configs {
           .booleanConf()
           .createWithDefault(true);
 
+  public static final ConfigEntry<Boolean> CATALOG_CLASSLOADER_SHARED =
+      new ConfigBuilder("gravitino.catalog.classloader.shared")
+          .doc(
+              "Whether the catalogs of the same provider and package share one classloader, "
+                  + "instead of a classloader for each catalog")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Boolean> CATALOG_METADATA_CACHE_ENABLED =
+      new ConfigBuilder("gravitino.catalog.metadataCache.enable")
+          .doc(
+              "Whether to cache the schema and table metadata loaded from the underlying "
+                  + "catalogs. Changes made outside of Gravitino are only visible after the "
+                  + "cached entry expires")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> CATALOG_METADATA_CACHE_TTL_MS =
+      new ConfigBuilder("gravitino.catalog.metadataCache.ttlMs")
+          .doc("The time in milliseconds after which a cached schema or table metadata expires")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60 * 1000L);
+
+  public static final ConfigEntry<Long> CATALOG_METADATA_CACHE_MAX_WEIGHT =
+      new ConfigBuilder("gravitino.catalog.metadataCache.maxWeight")
+          .doc(
+              "The maximum weight of the metadata cache, a schema weighs 1 and a table weighs 1 "
+                  + "plus the number of its columns")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100000L);
+
   public static final ConfigEntry<String> AUTHENTICATOR =
       new ConfigBuilder("gravitino.authenticator")
           .doc("The authenticator which Gravitino uses")
@@ -211,6 +324,108 @@ public class Configs {
           .longConf()
           .createWithDefault(2000L);
 
+  public static final ConfigEntry<Integer> ENTITY_KV_COMMITTED_TRANSACTION_CACHE_SIZE =
+      new ConfigBuilder("gravitino.entity.store.kv.committedTransactionCacheSize")
+          .doc(
+              "The max number of the latest committed transaction ids kept in memory to resolve "
+                  + "the visibility of the data without reading the commit marks, 0 to disable it")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_COMMITTED_TRANSACTION_CACHE_SIZE);
+
+  public static final ConfigEntry<Long> ENTITY_KV_ROCKSDB_BLOCK_CACHE_SIZE =
+      new ConfigBuilder("gravitino.entity.store.kv.rocksdb.blockCacheSizeBytes")
+          .doc("The size in bytes of the LRU cache of uncompressed data blocks of RocksDB")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_ROCKSDB_BLOCK_CACHE_SIZE);
+
+  public static final ConfigEntry<Integer> ENTITY_KV_ROCKSDB_BLOOM_FILTER_BITS_PER_KEY =
+      new ConfigBuilder("gravitino.entity.store.kv.rocksdb.bloomFilterBitsPerKey")
+          .doc(
+              "The bits per key of the bloom filters of RocksDB, which filter both the whole keys "
+                  + "and the key prefixes, 0 to disable them")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_ROCKSDB_BLOOM_FILTER_BITS_PER_KEY);
+
+  public static final ConfigEntry<Integer> ENTITY_KV_ROCKSDB_PREFIX_LENGTH =
+      new ConfigBuilder("gravitino.entity.store.kv.rocksdb.prefixLength")
+          .doc(
+              "The length of the key prefix RocksDB builds prefix bloom filters on. The default "
+                  + "covers the entity type, the separator and the id of the first namespace "
+                  + "level of the entity keys, 0 to disable the prefix extractor")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_ROCKSDB_PREFIX_LENGTH);
+
+  public static final ConfigEntry<List<String>> ENTITY_KV_ROCKSDB_COMPRESSION_PER_LEVEL =
+      new ConfigBuilder("gravitino.entity.store.kv.rocksdb.compressionPerLevel")
+          .doc(
+              "The comma separated compression types of the RocksDB levels from level 0, the "
+                  + "last one applies to the deeper levels. The supported types are `none`, "
+                  + "`snappy`, `zlib`, `bzlib`, `lz4`, `lz4hc` and `zstd`")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .stringConf()
+          .toSequence()
+          .checkValue(
+              valueList ->
+                  valueList != null
+                      && !valueList.isEmpty()
+                      && valueList.stream().allMatch(StringUtils::isNotBlank),
+              ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_ROCKSDB_COMPRESSION_PER_LEVEL);
+
+  public static final ConfigEntry<Long> ENTITY_KV_ROCKSDB_RATE_LIMIT =
+      new ConfigBuilder("gravitino.entity.store.kv.rocksdb.rateLimitBytesPerSec")
+          .doc(
+              "The maximum bytes per second RocksDB flushes and compactions write, 0 means "
+                  + "unlimited")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  public static final ConfigEntry<Boolean> ENTITY_KV_ROCKSDB_STATISTICS_ENABLED =
+      new ConfigBuilder("gravitino.entity.store.kv.rocksdb.statistics.enable")
+          .doc("Whether to collect the statistics of RocksDB and expose them as metrics")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .booleanConf()
+          .createWithDefault(true);
+
+  public static final ConfigEntry<Integer> ENTITY_KV_GC_THREADS =
+      new ConfigBuilder("gravitino.entity.store.kv.gc.threads")
+          .doc(
+              "The number of threads the garbage collector of the KV store uses to collect the "
+                  + "old versions of the data, each thread collects a range of the keys")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_GC_THREADS);
+
+  public static final ConfigEntry<Boolean> ENTITY_KV_GC_COMPACT_AFTER_COLLECT =
+      new ConfigBuilder("gravitino.entity.store.kv.gc.compactAfterCollect")
+          .doc(
+              "Whether the garbage collector of the KV store compacts the collected key ranges "
+                  + "after removing data, to reclaim the disk space right away")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Boolean> ENTITY_KV_UPGRADE_LAYOUT_VERSION =
+      new ConfigBuilder("gravitino.entity.store.kv.upgradeLayoutVersion")
+          .doc(
+              "Whether to upgrade the storage layout of an existing KV store to the latest "
+                  + "version when the server starts, the servers of the older versions can't "
+                  + "open the store after the upgrade")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .booleanConf()
+          .createWithDefault(false);
+
   public static final ConfigEntry<Long> KV_DELETE_AFTER_TIME =
       new ConfigBuilder(KV_DELETE_AFTER_TIME_KEY)
           .doc(
@@ -289,6 +504,28 @@ public class Configs {
           .longConf()
           .createWithDefault(CLEAN_INTERVAL_IN_SECS);
 
+  public static final ConfigEntry<String> LOCK_MODE =
+      new ConfigBuilder("gravitino.lock.mode")
+          .doc(
+              "The mode of the lock manager, `tree` to create a lock node for each resource path, "
+                  + "`striped` to hash the resource paths of each level to a fixed number of locks")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .stringConf()
+          .checkValue(
+              value ->
+                  TREE_LOCK_MODE.equalsIgnoreCase(value)
+                      || STRIPED_LOCK_MODE.equalsIgnoreCase(value),
+              "The value must be `tree` or `striped`")
+          .createWithDefault(TREE_LOCK_MODE);
+
+  public static final ConfigEntry<Integer> LOCK_STRIPES =
+      new ConfigBuilder("gravitino.lock.stripes")
+          .doc("The number of locks of each level of the resource path in the `striped` lock mode")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_LOCK_STRIPES);
+
   public static final ConfigEntry<Boolean> ENABLE_AUTHORIZATION =
       new ConfigBuilder("gravitino.authorization.enable")
           .doc("Enable the authorization")
@@ -322,4 +559,28 @@ public class Configs {
           .version(ConfigConstants.VERSION_0_5_1)
           .intConf()
           .createWithDefault(DEFAULT_METRICS_TIME_SLIDING_WINDOW_SECONDS);
+
+  public static final ConfigEntry<String> ID_GENERATOR =
+      new ConfigBuilder("gravitino.idGenerator")
+          .doc(
+              "The generator of the entity ids, `random` to generate random ids, `snowflake` to "
+                  + "generate time ordered ids from the timestamp, the node id and a sequence")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .stringConf()
+          .checkValue(
+              value ->
+                  RANDOM_ID_GENERATOR.equalsIgnoreCase(value)
+                      || SNOWFLAKE_ID_GENERATOR.equalsIgnoreCase(value),
+              "The value must be `random` or `snowflake`")
+          .createWithDefault(RANDOM_ID_GENERATOR);
+
+  public static final ConfigEntry<Optional<Integer>> ID_GENERATOR_NODE_ID =
+      new ConfigBuilder("gravitino.idGenerator.nodeId")
+          .doc(
+              "The node id of the `snowflake` id generator from 0 to 1023, it must be unique "
+                  + "among the Gravitino servers sharing the same entity store")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value >= 0 && value <= 1023, "The value must be from 0 to 1023")
+          .createWithOptional();
 }
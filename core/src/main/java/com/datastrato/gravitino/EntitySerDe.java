@@ -18,11 +18,20 @@
  */
 package com.datastrato.gravitino;
 
+import com.datastrato.gravitino.storage.StorageLayoutVersion;
 import java.io.IOException;
 import java.util.Optional;
 
 public interface EntitySerDe {
 
+  /**
+   * Sets the storage layout version of the entity store, the serialized entities must be readable
+   * by the servers supporting this version. It does nothing by default.
+   *
+   * @param version the storage layout version of the entity store
+   */
+  default void setStorageLayoutVersion(StorageLayoutVersion version) {}
+
   /**
    * Serializes the entity to a byte array.
    *
@@ -64,6 +64,29 @@ public interface EntityStore extends Closeable {
   <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, EntityType entityType) throws IOException;
 
+  /**
+   * List one page of the entities with the specified {@link Namespace}, and deserialize them into
+   * the specified {@link Entity} object. Unlike {@link #list(Namespace, Class, EntityType)}, only
+   * the entities of the requested page are loaded into memory.
+   *
+   * <p>Note. The default implementation lists all the entities and paginates them in memory, the
+   * implementations which can paginate in the underlying storage should override it.
+   *
+   * @param namespace the namespace of the entities
+   * @param type the detailed type of the entity
+   * @param entityType the general type of the entity
+   * @param pageToken the token returned by the previous page, or null to list the first page
+   * @param pageSize the maximum number of entities in the page
+   * @param <E> class of the entity
+   * @throws IOException if the list operation fails
+   * @return the page of entities
+   */
+  default <E extends Entity & HasIdentifier> ListPage<E> list(
+      Namespace namespace, Class<E> type, EntityType entityType, String pageToken, int pageSize)
+      throws IOException {
+    return ListPage.paginateByName(list(namespace, type, entityType), pageToken, pageSize);
+  }
+
   /**
    * Check if the entity with the specified {@link NameIdentifier} exists.
    *
@@ -20,6 +20,7 @@ package com.datastrato.gravitino;
 
 import com.datastrato.gravitino.authorization.AccessControlManager;
 import com.datastrato.gravitino.auxiliary.AuxiliaryServiceManager;
+import com.datastrato.gravitino.catalog.CatalogChangeTracker;
 import com.datastrato.gravitino.catalog.CatalogDispatcher;
 import com.datastrato.gravitino.catalog.CatalogManager;
 import com.datastrato.gravitino.catalog.CatalogNormalizeDispatcher;
@@ -54,6 +55,7 @@ import com.datastrato.gravitino.metrics.MetricsSystem;
 import com.datastrato.gravitino.metrics.source.JVMMetricsSource;
 import com.datastrato.gravitino.storage.IdGenerator;
 import com.datastrato.gravitino.storage.RandomIdGenerator;
+import com.datastrato.gravitino.storage.SnowflakeIdGenerator;
 import com.datastrato.gravitino.tag.TagManager;
 import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
@@ -131,26 +133,41 @@ public class GravitinoEnv {
     this.entityStore = EntityStoreFactory.createEntityStore(config);
     entityStore.initialize(config);
 
-    // create and initialize a random id generator
-    this.idGenerator = new RandomIdGenerator();
+    // create and initialize the id generator
+    if (Configs.SNOWFLAKE_ID_GENERATOR.equalsIgnoreCase(config.get(Configs.ID_GENERATOR))) {
+      // The node id can't be derived safely, colliding node ids generate duplicated ids.
+      int nodeId =
+          config
+              .get(Configs.ID_GENERATOR_NODE_ID)
+              .orElseThrow(
+                  () ->
+                      new IllegalArgumentException(
+                          Configs.ID_GENERATOR_NODE_ID.getKey()
+                              + " is required by the snowflake id generator"));
+      this.idGenerator = new SnowflakeIdGenerator(nodeId);
+    } else {
+      this.idGenerator = new RandomIdGenerator();
+    }
 
     this.eventListenerManager = new EventListenerManager();
     eventListenerManager.init(
         config.getConfigsWithPrefix(EventListenerManager.GRAVITINO_EVENT_LISTENER_PREFIX));
     EventBus eventBus = eventListenerManager.createEventBus();
 
-    // Create and initialize metalake related modules
-    MetalakeManager metalakeManager = new MetalakeManager(entityStore, idGenerator);
-    MetalakeNormalizeDispatcher metalakeNormalizeDispatcher =
-        new MetalakeNormalizeDispatcher(metalakeManager);
-    this.metalakeDispatcher = new MetalakeEventDispatcher(eventBus, metalakeNormalizeDispatcher);
-
     // Create and initialize Catalog related modules
-    this.catalogManager = new CatalogManager(config, entityStore, idGenerator);
+    this.catalogManager = new CatalogManager(config, entityStore, idGenerator, metricsSystem);
     CatalogNormalizeDispatcher catalogNormalizeDispatcher =
         new CatalogNormalizeDispatcher(catalogManager);
     this.catalogDispatcher = new CatalogEventDispatcher(eventBus, catalogNormalizeDispatcher);
 
+    // Create and initialize metalake related modules, dropped metalakes are recorded to the
+    // catalog change tracker.
+    MetalakeManager metalakeManager =
+        new MetalakeManager(entityStore, idGenerator, catalogManager.changeTracker());
+    MetalakeNormalizeDispatcher metalakeNormalizeDispatcher =
+        new MetalakeNormalizeDispatcher(metalakeManager);
+    this.metalakeDispatcher = new MetalakeEventDispatcher(eventBus, metalakeNormalizeDispatcher);
+
     SchemaOperationDispatcher schemaOperationDispatcher =
         new SchemaOperationDispatcher(catalogManager, entityStore, idGenerator);
     SchemaNormalizeDispatcher schemaNormalizeDispatcher =
@@ -229,6 +246,15 @@ public class GravitinoEnv {
     return catalogDispatcher;
   }
 
+  /**
+   * Get the CatalogChangeTracker associated with the Gravitino environment.
+   *
+   * @return The CatalogChangeTracker instance.
+   */
+  public CatalogChangeTracker catalogChangeTracker() {
+    return catalogManager.changeTracker();
+  }
+
   /**
    * Get the SchemaDispatcher associated with the Gravitino environment.
    *
@@ -322,6 +348,7 @@ public class GravitinoEnv {
     auxServiceManager.serviceStart();
     metricsSystem.start();
     eventListenerManager.start();
+    catalogManager.warmUpCatalogs();
   }
 
   /** Shutdown the Gravitino environment. */
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A page of the results returned by a paginated list operation. The {@link #nextPageToken()} is an
+ * opaque token to pass to the next list call to fetch the following page, it's null if this is the
+ * last page.
+ *
+ * @param <T> The type of the listed items.
+ */
+public class ListPage<T> {
+
+  private final List<T> items;
+
+  private final String nextPageToken;
+
+  private ListPage(List<T> items, String nextPageToken) {
+    this.items = ImmutableList.copyOf(items);
+    this.nextPageToken = nextPageToken;
+  }
+
+  /**
+   * Creates a page of the specified items.
+   *
+   * @param items The items of the page.
+   * @param nextPageToken The token to fetch the next page, or null if this is the last page.
+   * @return The page.
+   * @param <T> The type of the listed items.
+   */
+  public static <T> ListPage<T> of(List<T> items, String nextPageToken) {
+    return new ListPage<>(items, nextPageToken);
+  }
+
+  /**
+   * Paginates the fully materialized list of entities by name. It is used by the stores which
+   * cannot paginate natively, the page token is the name of the last entity in the previous page.
+   *
+   * @param entities The entities to paginate.
+   * @param pageToken The token returned by the previous page, or null to fetch the first page.
+   * @param pageSize The maximum number of entities in the page.
+   * @return The page of the entities.
+   * @param <E> The type of the entities.
+   */
+  public static <E extends HasIdentifier> ListPage<E> paginateByName(
+      List<E> entities, String pageToken, int pageSize) {
+    return paginate(entities, HasIdentifier::name, pageToken, pageSize);
+  }
+
+  /**
+   * Paginates the fully materialized list of items by the sort key of the items, the page token is
+   * the sort key of the last item in the previous page.
+   *
+   * @param items The items to paginate.
+   * @param sortKey The function to get the unique sort key of an item.
+   * @param pageToken The token returned by the previous page, or null to fetch the first page.
+   * @param pageSize The maximum number of items in the page.
+   * @return The page of the items.
+   * @param <T> The type of the items.
+   */
+  public static <T> ListPage<T> paginate(
+      List<T> items, Function<T, String> sortKey, String pageToken, int pageSize) {
+    Preconditions.checkArgument(pageSize > 0, "The page size must be positive");
+    List<T> remaining =
+        items.stream()
+            .filter(i -> pageToken == null || sortKey.apply(i).compareTo(pageToken) > 0)
+            .sorted(Comparator.comparing(sortKey))
+            .collect(Collectors.toList());
+    if (remaining.size() <= pageSize) {
+      return of(remaining, null);
+    }
+
+    List<T> page = remaining.subList(0, pageSize);
+    return of(page, sortKey.apply(page.get(pageSize - 1)));
+  }
+
+  /**
+   * Returns the items of the page.
+   *
+   * @return The items of the page.
+   */
+  public List<T> items() {
+    return items;
+  }
+
+  /**
+   * Returns the token to fetch the next page.
+   *
+   * @return The token to fetch the next page, or null if this is the last page.
+   */
+  public String nextPageToken() {
+    return nextPageToken;
+  }
+
+  /**
+   * Returns whether there are more pages after this one.
+   *
+   * @return True if there are more pages.
+   */
+  public boolean hasNextPage() {
+    return nextPageToken != null;
+  }
+}
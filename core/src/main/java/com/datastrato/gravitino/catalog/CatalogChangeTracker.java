@@ -0,0 +1,314 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.catalog;
+
+import com.datastrato.gravitino.NameIdentifier;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the versions of the catalogs created, altered and dropped through this server, so that
+ * clients like the Trino connector can fetch only the catalogs changed since their last sync
+ * instead of listing and loading every catalog of a metalake periodically.
+ *
+ * <p>Versions are counted per metalake and only live in memory, the epoch identifies the lifetime
+ * of the tracker. A client holding an epoch of another lifetime, or a version older than the
+ * oldest retained drop, is asked to do a full sync. Changes made through other Gravitino servers
+ * sharing the same entity store are not tracked here, so clients should still fall back to a full
+ * sync from time to time.
+ *
+ * <p>A waiting client holds a server thread, so at most {@link #DEFAULT_MAX_WAITERS} clients wait
+ * for changes at the same time, the others get the current changes without waiting.
+ */
+public class CatalogChangeTracker {
+
+  @VisibleForTesting static final int MAX_DROPPED_CATALOGS = 1000;
+
+  @VisibleForTesting static final int DEFAULT_MAX_WAITERS = 64;
+
+  private final long epoch;
+
+  private final Semaphore waiters;
+
+  private final ConcurrentMap<String, MetalakeChanges> metalakeChanges = new ConcurrentHashMap<>();
+
+  /** Creates a new CatalogChangeTracker instance, whose epoch is the current time. */
+  public CatalogChangeTracker() {
+    this(System.currentTimeMillis(), DEFAULT_MAX_WAITERS);
+  }
+
+  @VisibleForTesting
+  CatalogChangeTracker(long epoch) {
+    this(epoch, DEFAULT_MAX_WAITERS);
+  }
+
+  @VisibleForTesting
+  CatalogChangeTracker(long epoch, int maxWaiters) {
+    this.epoch = epoch;
+    this.waiters = new Semaphore(maxWaiters);
+  }
+
+  /** @return The epoch of this tracker. */
+  public long epoch() {
+    return epoch;
+  }
+
+  /**
+   * Records that the catalog has been created or altered.
+   *
+   * @param catalogIdent The identifier of the catalog.
+   */
+  public void recordChanged(NameIdentifier catalogIdent) {
+    record(catalogIdent, false /* dropped */);
+  }
+
+  /**
+   * Records that the catalog has been dropped, or renamed to another name.
+   *
+   * @param catalogIdent The identifier of the catalog.
+   */
+  public void recordDropped(NameIdentifier catalogIdent) {
+    record(catalogIdent, true /* dropped */);
+  }
+
+  /**
+   * Records that the metalake has been dropped, or renamed to another name, along with all its
+   * catalogs. Clients synced before are asked to do a full sync, even if a metalake of the same
+   * name is created again.
+   *
+   * @param metalakeIdent The identifier of the metalake.
+   */
+  public void recordMetalakeDropped(NameIdentifier metalakeIdent) {
+    MetalakeChanges changes = metalakeChanges.get(metalakeIdent.name());
+    if (changes == null) {
+      return;
+    }
+
+    synchronized (changes) {
+      changes.reset();
+      changes.notifyAll();
+    }
+  }
+
+  /**
+   * Returns the catalogs of the metalake changed after the given version.
+   *
+   * @param metalake The name of the metalake.
+   * @param clientEpoch The epoch the client got with its last changes, or a negative value if the
+   *     client has never synced.
+   * @param sinceVersion The version the client got with its last changes.
+   * @return The changes after the given version, or a full sync request if the changes can't be
+   *     computed from the retained versions.
+   */
+  public Changes changesSince(String metalake, long clientEpoch, long sinceVersion) {
+    MetalakeChanges changes = metalakeChanges(metalake);
+    synchronized (changes) {
+      return changes.since(clientEpoch, sinceVersion);
+    }
+  }
+
+  /**
+   * Returns the catalogs of the metalake changed after the given version, waits up to the given
+   * time for a change if there is none yet. If too many clients are waiting already, returns the
+   * current changes without waiting.
+   *
+   * @param metalake The name of the metalake.
+   * @param clientEpoch The epoch the client got with its last changes.
+   * @param sinceVersion The version the client got with its last changes.
+   * @param timeoutMs The maximum time to wait for a change in milliseconds.
+   * @return The changes after the given version, empty if no change happened before the timeout.
+   * @throws InterruptedException If the current thread is interrupted while waiting.
+   */
+  public Changes waitForChanges(
+      String metalake, long clientEpoch, long sinceVersion, long timeoutMs)
+      throws InterruptedException {
+    if (timeoutMs <= 0 || !waiters.tryAcquire()) {
+      return changesSince(metalake, clientEpoch, sinceVersion);
+    }
+
+    try {
+      MetalakeChanges changes = metalakeChanges(metalake);
+      long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+      synchronized (changes) {
+        Changes result = changes.since(clientEpoch, sinceVersion);
+        long remainingNs = deadline - System.nanoTime();
+        while (result.isEmpty() && remainingNs > 0) {
+          TimeUnit.NANOSECONDS.timedWait(changes, remainingNs);
+          result = changes.since(clientEpoch, sinceVersion);
+          remainingNs = deadline - System.nanoTime();
+        }
+        return result;
+      }
+    } finally {
+      waiters.release();
+    }
+  }
+
+  @VisibleForTesting
+  int availableWaiters() {
+    return waiters.availablePermits();
+  }
+
+  private void record(NameIdentifier catalogIdent, boolean dropped) {
+    Preconditions.checkArgument(
+        catalogIdent.namespace().levels().length == 1,
+        "Catalog identifier %s must have one namespace level",
+        catalogIdent);
+    MetalakeChanges changes = metalakeChanges(catalogIdent.namespace().level(0));
+    synchronized (changes) {
+      changes.record(catalogIdent.name(), dropped);
+      changes.notifyAll();
+    }
+  }
+
+  private MetalakeChanges metalakeChanges(String metalake) {
+    return metalakeChanges.computeIfAbsent(metalake, k -> new MetalakeChanges());
+  }
+
+  /** The catalog versions of one metalake, guarded by the instance itself. */
+  private class MetalakeChanges {
+
+    private long version = 0;
+
+    // Clients synced before this version can't tell which catalogs were dropped since then.
+    private long minVersion = 0;
+
+    private final Map<String, Long> changedCatalogs = new HashMap<>();
+
+    // In the order of the versions, so the oldest drops are evicted first.
+    private final LinkedHashMap<String, Long> droppedCatalogs = new LinkedHashMap<>();
+
+    private void record(String catalog, boolean dropped) {
+      version++;
+      if (dropped) {
+        changedCatalogs.remove(catalog);
+        droppedCatalogs.remove(catalog);
+        droppedCatalogs.put(catalog, version);
+
+        if (droppedCatalogs.size() > MAX_DROPPED_CATALOGS) {
+          Iterator<Map.Entry<String, Long>> it = droppedCatalogs.entrySet().iterator();
+          minVersion = it.next().getValue();
+          it.remove();
+        }
+      } else {
+        droppedCatalogs.remove(catalog);
+        changedCatalogs.put(catalog, version);
+      }
+    }
+
+    private void reset() {
+      // Keep the version increasing, so no client version of the dropped metalake is valid.
+      version++;
+      minVersion = version;
+      changedCatalogs.clear();
+      droppedCatalogs.clear();
+    }
+
+    private Changes since(long clientEpoch, long sinceVersion) {
+      if (clientEpoch != epoch || sinceVersion > version || sinceVersion < minVersion) {
+        return new Changes(epoch, version, true, Collections.emptyList(), Collections.emptyList());
+      }
+
+      return new Changes(
+          epoch,
+          version,
+          false,
+          namesAfter(changedCatalogs, sinceVersion),
+          namesAfter(droppedCatalogs, sinceVersion));
+    }
+
+    private List<String> namesAfter(Map<String, Long> catalogs, long sinceVersion) {
+      List<String> names = new ArrayList<>();
+      catalogs.forEach(
+          (name, v) -> {
+            if (v > sinceVersion) {
+              names.add(name);
+            }
+          });
+      return names;
+    }
+  }
+
+  /** The catalogs of a metalake changed after a version. */
+  public static class Changes {
+
+    private final long epoch;
+
+    private final long version;
+
+    private final boolean fullSync;
+
+    private final List<String> changedCatalogs;
+
+    private final List<String> droppedCatalogs;
+
+    private Changes(
+        long epoch,
+        long version,
+        boolean fullSync,
+        List<String> changedCatalogs,
+        List<String> droppedCatalogs) {
+      this.epoch = epoch;
+      this.version = version;
+      this.fullSync = fullSync;
+      this.changedCatalogs = changedCatalogs;
+      this.droppedCatalogs = droppedCatalogs;
+    }
+
+    /** @return The epoch of the tracker. */
+    public long epoch() {
+      return epoch;
+    }
+
+    /** @return The latest version of the metalake, the client passes it in the next request. */
+    public long version() {
+      return version;
+    }
+
+    /** @return True if the client must list and load all the catalogs of the metalake. */
+    public boolean fullSync() {
+      return fullSync;
+    }
+
+    /** @return The names of the catalogs created or altered after the requested version. */
+    public List<String> changedCatalogs() {
+      return changedCatalogs;
+    }
+
+    /** @return The names of the catalogs dropped or renamed after the requested version. */
+    public List<String> droppedCatalogs() {
+      return droppedCatalogs;
+    }
+
+    private boolean isEmpty() {
+      return !fullSync && changedCatalogs.isEmpty() && droppedCatalogs.isEmpty();
+    }
+  }
+}
@@ -22,6 +22,8 @@ import static com.datastrato.gravitino.StringIdentifier.ID_KEY;
 import static com.datastrato.gravitino.catalog.PropertiesMetadataHelpers.validatePropertyForAlter;
 import static com.datastrato.gravitino.catalog.PropertiesMetadataHelpers.validatePropertyForCreate;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
 import com.datastrato.gravitino.Catalog;
 import com.datastrato.gravitino.CatalogChange;
 import com.datastrato.gravitino.CatalogChange.RemoveProperty;
@@ -38,7 +40,6 @@ import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.StringIdentifier;
 import com.datastrato.gravitino.connector.BaseCatalog;
 import com.datastrato.gravitino.connector.HasPropertyMetadata;
-import com.datastrato.gravitino.connector.PropertyEntry;
 import com.datastrato.gravitino.connector.SupportsSchemas;
 import com.datastrato.gravitino.connector.capability.Capability;
 import com.datastrato.gravitino.exceptions.CatalogAlreadyExistsException;
@@ -47,7 +48,11 @@ import com.datastrato.gravitino.exceptions.NoSuchEntityException;
 import com.datastrato.gravitino.exceptions.NoSuchMetalakeException;
 import com.datastrato.gravitino.file.FilesetCatalog;
 import com.datastrato.gravitino.messaging.TopicCatalog;
+import com.datastrato.gravitino.metrics.MetricNames;
+import com.datastrato.gravitino.metrics.MetricsSystem;
+import com.datastrato.gravitino.metrics.source.MetricsSource;
 import com.datastrato.gravitino.meta.AuditInfo;
+import com.datastrato.gravitino.meta.BaseMetalake;
 import com.datastrato.gravitino.meta.CatalogEntity;
 import com.datastrato.gravitino.meta.SchemaEntity;
 import com.datastrato.gravitino.rel.SupportsPartitions;
@@ -57,15 +62,16 @@ import com.datastrato.gravitino.storage.IdGenerator;
 import com.datastrato.gravitino.utils.IsolatedClassLoader;
 import com.datastrato.gravitino.utils.PrincipalUtils;
 import com.datastrato.gravitino.utils.ThrowableFunction;
-import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.Scheduler;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Multimaps;
 import com.google.common.collect.Streams;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.Closeable;
@@ -81,9 +87,14 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.ServiceLoader;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -102,14 +113,32 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
   public static class CatalogWrapper {
     private BaseCatalog catalog;
     private IsolatedClassLoader classLoader;
+    private final Runnable classLoaderReleaser;
+    // The reference of the cache and one for each operation in flight, the catalog is closed after
+    // all of them are released.
+    private final AtomicInteger references = new AtomicInteger(1);
+    private final AtomicBoolean closed = new AtomicBoolean();
 
     public CatalogWrapper(BaseCatalog catalog, IsolatedClassLoader classLoader) {
+      this(catalog, classLoader, classLoader::close);
+    }
+
+    /**
+     * Creates a wrapper of a catalog whose class loader may be shared with other catalogs.
+     *
+     * @param catalog The catalog instance.
+     * @param classLoader The class loader of the catalog.
+     * @param classLoaderReleaser Releases the class loader when the catalog is closed.
+     */
+    public CatalogWrapper(
+        BaseCatalog catalog, IsolatedClassLoader classLoader, Runnable classLoaderReleaser) {
       this.catalog = catalog;
       this.classLoader = classLoader;
+      this.classLoaderReleaser = classLoaderReleaser;
     }
 
     public <R> R doWithSchemaOps(ThrowableFunction<SupportsSchemas, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withCatalog(
           cl -> {
             if (asSchemas() == null) {
               throw new UnsupportedOperationException("Catalog does not support schema operations");
@@ -119,7 +148,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithTableOps(ThrowableFunction<TableCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withCatalog(
           cl -> {
             if (asTables() == null) {
               throw new UnsupportedOperationException("Catalog does not support table operations");
@@ -129,7 +158,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithFilesetOps(ThrowableFunction<FilesetCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withCatalog(
           cl -> {
             if (asFilesets() == null) {
               throw new UnsupportedOperationException(
@@ -140,7 +169,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithTopicOps(ThrowableFunction<TopicCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withCatalog(
           cl -> {
             if (asTopics() == null) {
               throw new UnsupportedOperationException("Catalog does not support topic operations");
@@ -151,7 +180,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
     public <R> R doWithPartitionOps(
         NameIdentifier tableIdent, ThrowableFunction<SupportsPartitions, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withCatalog(
           cl -> {
             Preconditions.checkArgument(
                 asTables() != null, "Catalog does not support table operations");
@@ -164,14 +193,64 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
     public <R> R doWithPropertiesMeta(ThrowableFunction<HasPropertyMetadata, R> fn)
         throws Exception {
-      return classLoader.withClassLoader(cl -> fn.apply(catalog));
+      return withCatalog(cl -> fn.apply(catalog));
     }
 
     public Capability capabilities() throws Exception {
-      return classLoader.withClassLoader(cl -> catalog.capability());
+      return withCatalog(cl -> catalog.capability());
+    }
+
+    @VisibleForTesting
+    IsolatedClassLoader classLoader() {
+      return classLoader;
     }
 
+    /**
+     * Releases the reference of the cache to the catalog, the catalog is closed after the
+     * operations in flight complete.
+     */
     public void close() {
+      if (closed.compareAndSet(false, true)) {
+        release();
+      }
+    }
+
+    private <R> R withCatalog(ThrowableFunction<ClassLoader, R> fn) throws Exception {
+      retain();
+      try {
+        return classLoader.withClassLoader(fn);
+      } finally {
+        release();
+      }
+    }
+
+    private void retain() {
+      Preconditions.checkState(tryRetain(), "Catalog is closed");
+    }
+
+    /**
+     * Takes a reference to the catalog, so that it isn't closed before {@link #release()}.
+     *
+     * @return false if the catalog is already closed.
+     */
+    boolean tryRetain() {
+      int count;
+      do {
+        count = references.get();
+        if (count <= 0) {
+          return false;
+        }
+      } while (!references.compareAndSet(count, count + 1));
+      return true;
+    }
+
+    void release() {
+      if (references.decrementAndGet() == 0) {
+        closeCatalog();
+      }
+    }
+
+    private void closeCatalog() {
       try {
         classLoader.withClassLoader(
             cl -> {
@@ -185,7 +264,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
         LOG.warn("Failed to close catalog", e);
       }
 
-      classLoader.close();
+      classLoaderReleaser.run();
     }
 
     private SupportsSchemas asSchemas() {
@@ -207,42 +286,105 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
   private final Config config;
 
-  @VisibleForTesting final Cache<NameIdentifier, CatalogWrapper> catalogCache;
+  @VisibleForTesting final LoadingCache<NameIdentifier, CatalogWrapper> catalogCache;
+
+  private final ScheduledThreadPoolExecutor catalogCleaner;
+
+  private final ExecutorService catalogLoader;
+
+  private final MetricsSystem metricsSystem;
+
+  private final MetricsSource metricsSource;
+
+  private final Timer catalogLoadTimer;
+
+  private final Counter catalogLoadFailures;
+
+  private final CatalogMetadataCache metadataCache;
+
+  private final CatalogChangeTracker changeTracker;
+
+  private final CatalogProviderRegistry providerRegistry;
 
   private final EntityStore store;
 
   private final IdGenerator idGenerator;
 
   /**
-   * Constructs a CatalogManager instance.
+   * Constructs a CatalogManager instance without registering its metrics.
    *
    * @param config The configuration for the manager.
    * @param store The entity store to use.
    * @param idGenerator The id generator to use.
    */
   public CatalogManager(Config config, EntityStore store, IdGenerator idGenerator) {
+    this(config, store, idGenerator, null);
+  }
+
+  /**
+   * Constructs a CatalogManager instance.
+   *
+   * @param config The configuration for the manager.
+   * @param store The entity store to use.
+   * @param idGenerator The id generator to use.
+   * @param metricsSystem The metrics system to register the catalog metrics to, or null.
+   */
+  public CatalogManager(
+      Config config, EntityStore store, IdGenerator idGenerator, MetricsSystem metricsSystem) {
     this.config = config;
     this.store = store;
     this.idGenerator = idGenerator;
+    this.metadataCache = new CatalogMetadataCache(config);
+    this.changeTracker = new CatalogChangeTracker();
+    this.providerRegistry =
+        new CatalogProviderRegistry(this::providerPackagePath, this::loadProviderInfo);
+
+    this.metricsSource = new MetricsSource(MetricsSource.CATALOG_METRIC_NAME) {};
+    this.catalogLoadTimer = metricsSource.getTimer(MetricNames.CATALOG_LOAD_DURATION);
+    this.catalogLoadFailures = metricsSource.getCounter(MetricNames.CATALOG_LOAD_FAILURE_COUNT);
+    this.metricsSystem = metricsSystem;
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+
+    this.catalogCleaner =
+        new ScheduledThreadPoolExecutor(
+            1,
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("catalog-cleaner-%d").build());
+    this.catalogLoader =
+        Executors.newFixedThreadPool(
+            config.get(Configs.CATALOG_LOAD_THREADS),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("catalog-loader-%d").build());
 
     long cacheEvictionIntervalInMs = config.get(Configs.CATALOG_CACHE_EVICTION_INTERVAL_MS);
-    this.catalogCache =
+    Caffeine<Object, Object> cacheBuilder =
         Caffeine.newBuilder()
             .expireAfterAccess(cacheEvictionIntervalInMs, TimeUnit.MILLISECONDS)
+            // The catalogs are closed by the thread removing them, the refreshes are loaded by the
+            // catalog loader.
+            .executor(Runnable::run)
+            .scheduler(Scheduler.forScheduledExecutorService(catalogCleaner));
+    long cacheRefreshIntervalInMs = config.get(Configs.CATALOG_CACHE_REFRESH_INTERVAL_MS);
+    if (cacheRefreshIntervalInMs > 0) {
+      // The refreshed catalog is loaded in the background, requests are served by the loaded one
+      // until the refresh completes.
+      cacheBuilder.refreshAfterWrite(cacheRefreshIntervalInMs, TimeUnit.MILLISECONDS);
+    }
+    this.catalogCache =
+        cacheBuilder
             .removalListener(
-                (k, v, c) -> {
-                  LOG.info("Closing catalog {}.", k);
-                  ((CatalogWrapper) v).close();
+                (NameIdentifier k, CatalogWrapper v, RemovalCause c) -> {
+                  // The cached metadata may hold resources of the closed catalog.
+                  metadataCache.invalidateWithChildren(k);
+                  // The operations in flight keep using the removed catalog until they complete.
+                  if (c == RemovalCause.REPLACED) {
+                    LOG.info("Catalog {} is refreshed, closing the replaced one.", k);
+                  } else {
+                    LOG.info("Closing catalog {}.", k);
+                  }
+                  v.close();
                 })
-            .scheduler(
-                Scheduler.forScheduledExecutorService(
-                    new ScheduledThreadPoolExecutor(
-                        1,
-                        new ThreadFactoryBuilder()
-                            .setDaemon(true)
-                            .setNameFormat("catalog-cleaner-%d")
-                            .build())))
-            .build();
+            .build(new CatalogCacheLoader());
   }
 
   /**
@@ -252,6 +394,57 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
   @Override
   public void close() {
     catalogCache.invalidateAll();
+    catalogLoader.shutdownNow();
+    catalogCleaner.shutdownNow();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+    metadataCache.close();
+    providerRegistry.close();
+  }
+
+  /**
+   * Loads all the catalogs of all the metalakes in the background if the warm-up is enabled, so the
+   * first requests to the catalogs don't pay for the cold load. The catalogs are loaded by at most
+   * {@link Configs#CATALOG_LOAD_THREADS} threads.
+   */
+  public void warmUpCatalogs() {
+    if (!config.get(Configs.CATALOG_WARM_UP_ENABLED)) {
+      return;
+    }
+
+    List<NameIdentifier> catalogIdents = Lists.newArrayList();
+    try {
+      for (BaseMetalake metalake :
+          store.list(Namespace.empty(), BaseMetalake.class, EntityType.METALAKE)) {
+        Namespace namespace = Namespace.of(metalake.name());
+        store.list(namespace, CatalogEntity.class, EntityType.CATALOG).stream()
+            .map(entity -> NameIdentifier.of(namespace, entity.name()))
+            .forEach(catalogIdents::add);
+      }
+    } catch (IOException ioe) {
+      LOG.warn("Failed to list the catalogs to warm up", ioe);
+      return;
+    }
+
+    LOG.info("Warming up {} catalogs.", catalogIdents.size());
+    // The warm-up has its own threads, so it doesn't hold back the refreshes of the catalogs.
+    ExecutorService warmUpExecutor =
+        Executors.newFixedThreadPool(
+            config.get(Configs.CATALOG_LOAD_THREADS),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("catalog-warm-up-%d").build());
+    for (NameIdentifier ident : catalogIdents) {
+      warmUpExecutor.execute(
+          () -> {
+            try {
+              loadCatalogAndWrap(ident);
+            } catch (Exception e) {
+              LOG.warn("Failed to warm up catalog {}", ident, e);
+            }
+          });
+    }
+    // The threads exit after the submitted catalogs are loaded.
+    warmUpExecutor.shutdown();
   }
 
   /**
@@ -286,14 +479,12 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
       List<CatalogEntity> catalogEntities =
           store.list(namespace, CatalogEntity.class, EntityType.CATALOG);
 
-      // Using provider as key to avoid loading the same type catalog instance multiple times
-      Map<String, Set<String>> hiddenProps = new HashMap<>();
-      Multimaps.index(catalogEntities, CatalogEntity::getProvider)
-          .asMap()
-          .forEach((p, e) -> hiddenProps.put(p, getHiddenPropertyNames(e.iterator().next())));
-
+      // The hidden properties of a provider are loaded once and shared by the following requests.
       return catalogEntities.stream()
-          .map(e -> e.toCatalogInfoWithoutHiddenProps(hiddenProps.get(e.getProvider())))
+          .map(
+              e ->
+                  e.toCatalogInfoWithoutHiddenProps(
+                      providerRegistry.providerInfo(e).hiddenPropertyNames()))
           .toArray(Catalog[]::new);
     } catch (IOException ioe) {
       LOG.error("Failed to list catalogs in metalake {}", metalakeIdent, ioe);
@@ -310,7 +501,12 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
    */
   @Override
   public Catalog loadCatalog(NameIdentifier ident) throws NoSuchCatalogException {
-    return loadCatalogAndWrap(ident).catalog;
+    CatalogWrapper wrapper = loadCatalogAndRetain(ident);
+    try {
+      return wrapper.catalog;
+    } finally {
+      wrapper.release();
+    }
   }
 
   /**
@@ -371,6 +567,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
       store.put(e, false /* overwrite */);
       CatalogWrapper wrapper = catalogCache.get(ident, id -> createCatalogWrapper(e));
       createSuccess = true;
+      changeTracker.recordChanged(ident);
       return wrapper.catalog;
     } catch (EntityAlreadyExistsException e1) {
       LOG.warn("Catalog {} already exists", ident, e1);
@@ -430,11 +627,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     // There could be a race issue that someone is using the catalog from cache while we are
     // updating it.
 
-    CatalogWrapper catalogWrapper = loadCatalogAndWrap(ident);
-    if (catalogWrapper == null) {
-      throw new NoSuchCatalogException(CATALOG_DOES_NOT_EXIST_MSG, ident);
-    }
-
+    CatalogWrapper catalogWrapper = loadCatalogAndRetain(ident);
     try {
       catalogWrapper.doWithPropertiesMeta(
           f -> {
@@ -449,9 +642,12 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     } catch (Exception e) {
       LOG.error("Failed to alter catalog {}", ident, e);
       throw new RuntimeException(e);
+    } finally {
+      catalogWrapper.release();
     }
 
     catalogCache.invalidate(ident);
+    metadataCache.invalidateWithChildren(ident);
     try {
       CatalogEntity updatedCatalog =
           store.update(
@@ -485,6 +681,12 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
                 return newCatalogBuilder.build();
               });
+
+      NameIdentifier updatedIdent = updatedCatalog.nameIdentifier();
+      if (!updatedIdent.equals(ident)) {
+        changeTracker.recordDropped(ident);
+      }
+      changeTracker.recordChanged(updatedIdent);
       return catalogCache.get(
               updatedCatalog.nameIdentifier(), id -> createCatalogWrapper(updatedCatalog))
           .catalog;
@@ -513,6 +715,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
   public boolean dropCatalog(NameIdentifier ident) {
     // There could be a race issue that someone is using the catalog while we are dropping it.
     catalogCache.invalidate(ident);
+    metadataCache.invalidateWithChildren(ident);
 
     try {
       CatalogEntity catalogEntity = store.get(ident, EntityType.CATALOG, CatalogEntity.class);
@@ -526,10 +729,10 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
         // If there is only one schema, it must be the default schema, because we don't allow to
         // drop the default schema.
         if (schemas.size() == 1) {
-          return store.delete(ident, EntityType.CATALOG, true);
+          return recordDropped(ident, store.delete(ident, EntityType.CATALOG, true));
         }
       }
-      return store.delete(ident, EntityType.CATALOG);
+      return recordDropped(ident, store.delete(ident, EntityType.CATALOG));
     } catch (NoSuchEntityException e) {
       return false;
     } catch (IOException ioe) {
@@ -547,7 +750,75 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
    * @throws NoSuchCatalogException If the specified catalog does not exist.
    */
   public CatalogWrapper loadCatalogAndWrap(NameIdentifier ident) throws NoSuchCatalogException {
-    return catalogCache.get(ident, this::loadCatalogInternal);
+    return catalogCache.get(ident);
+  }
+
+  /**
+   * Loads the catalog like {@link #loadCatalogAndWrap(NameIdentifier)} and takes a reference to it,
+   * so that the catalog isn't closed by a refresh or an alteration until {@link
+   * CatalogWrapper#release()} is called.
+   *
+   * @param ident The identifier of the catalog to load.
+   * @return The wrapped CatalogWrapper containing the loaded catalog.
+   * @throws NoSuchCatalogException If the specified catalog does not exist.
+   */
+  CatalogWrapper loadCatalogAndRetain(NameIdentifier ident) throws NoSuchCatalogException {
+    while (true) {
+      CatalogWrapper wrapper = loadCatalogAndWrap(ident);
+      if (wrapper.tryRetain()) {
+        return wrapper;
+      }
+      // The wrapper was replaced in the cache and closed after it was got, get the new one.
+    }
+  }
+
+  /**
+   * Returns the cache of the schema and table metadata loaded from the managed catalogs.
+   *
+   * @return The metadata cache.
+   */
+  CatalogMetadataCache metadataCache() {
+    return metadataCache;
+  }
+
+  /**
+   * Returns the tracker of the catalogs created, altered and dropped through this manager.
+   *
+   * @return The catalog change tracker.
+   */
+  public CatalogChangeTracker changeTracker() {
+    return changeTracker;
+  }
+
+  private class CatalogCacheLoader implements CacheLoader<NameIdentifier, CatalogWrapper> {
+    @Override
+    public CatalogWrapper load(NameIdentifier ident) {
+      return loadCatalogInternal(ident);
+    }
+
+    @Override
+    public CompletableFuture<CatalogWrapper> asyncReload(
+        NameIdentifier ident, CatalogWrapper oldValue, Executor executor) {
+      // The cache runs its tasks in the calling thread, the refreshes are loaded in the background.
+      return CompletableFuture.supplyAsync(() -> reload(ident, oldValue), catalogLoader);
+    }
+
+    @Override
+    public CatalogWrapper reload(NameIdentifier ident, CatalogWrapper oldValue) {
+      try {
+        return loadCatalogInternal(ident);
+      } catch (NoSuchCatalogException e) {
+        // The catalog is dropped by another server, remove it from the cache.
+        return null;
+      }
+    }
+  }
+
+  private boolean recordDropped(NameIdentifier ident, boolean dropped) {
+    if (dropped) {
+      changeTracker.recordDropped(ident);
+    }
+    return dropped;
   }
 
   private void checkMetalakeExists(NameIdentifier ident) throws NoSuchMetalakeException {
@@ -577,47 +848,100 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
   }
 
   private CatalogWrapper createCatalogWrapper(CatalogEntity entity) {
+    Timer.Context loadTimer = catalogLoadTimer.time();
+    try {
+      CatalogWrapper wrapper = createCatalogWrapperInternal(entity);
+      long loadTimeNs = loadTimer.stop();
+      LOG.info(
+          "Loaded catalog {} in {} ms.",
+          entity.nameIdentifier(),
+          TimeUnit.NANOSECONDS.toMillis(loadTimeNs));
+      return wrapper;
+    } catch (RuntimeException e) {
+      catalogLoadFailures.inc();
+      throw e;
+    }
+  }
+
+  private CatalogWrapper createCatalogWrapperInternal(CatalogEntity entity) {
     Map<String, String> conf = entity.getProperties();
     String provider = entity.getProvider();
 
-    IsolatedClassLoader classLoader = createClassLoader(provider, conf);
-    BaseCatalog<?> catalog = createBaseCatalog(classLoader, entity);
+    IsolatedClassLoader classLoader = null;
+    Runnable classLoaderReleaser = null;
+    if (config.get(Configs.CATALOG_CLASSLOADER_SHARED)) {
+      // Only the classes are shared, each catalog still has its own instance and configuration.
+      // The catalogs changing the static state of the class loader, like the Kerberos login or
+      // the JDBC drivers, use their own class loaders, so closing them doesn't affect the others.
+      CatalogProviderRegistry.ProviderInfo providerInfo =
+          providerRegistry.retainProviderInfo(entity);
+      try {
+        if (providerInfo.supportsSharedClassLoader(conf)) {
+          classLoader = providerInfo.classLoader();
+          classLoaderReleaser = providerInfo::release;
+        }
+      } finally {
+        if (classLoader == null) {
+          providerInfo.release();
+        }
+      }
+    }
+    if (classLoader == null) {
+      classLoader = createClassLoader(provider, conf);
+      classLoaderReleaser = classLoader::close;
+    }
 
-    CatalogWrapper wrapper = new CatalogWrapper(catalog, classLoader);
-    // Validate catalog properties and initialize the config
-    classLoader.withClassLoader(
-        cl -> {
-          Map<String, String> configWithoutId = Maps.newHashMap(conf);
-          configWithoutId.remove(ID_KEY);
-          validatePropertyForCreate(catalog.catalogPropertiesMetadata(), configWithoutId);
+    try {
+      BaseCatalog<?> catalog = createBaseCatalog(classLoader, entity);
 
-          // Call wrapper.catalog.properties() to make BaseCatalog#properties in IsolatedClassLoader
-          // not null. Why we do this? Because wrapper.catalog.properties() need to be called in the
-          // IsolatedClassLoader, it needs to load the specific catalog class such as HiveCatalog or
-          // so. For simply, We will preload the value of properties and thus AppClassLoader can get
-          // the value of properties.
-          wrapper.catalog.properties();
-          wrapper.catalog.capability();
-          return null;
-        },
-        IllegalArgumentException.class);
+      CatalogWrapper wrapper = new CatalogWrapper(catalog, classLoader, classLoaderReleaser);
+      // Validate catalog properties and initialize the config
+      classLoader.withClassLoader(
+          cl -> {
+            Map<String, String> configWithoutId = Maps.newHashMap(conf);
+            configWithoutId.remove(ID_KEY);
+            validatePropertyForCreate(catalog.catalogPropertiesMetadata(), configWithoutId);
+
+            // Call wrapper.catalog.properties() to make BaseCatalog#properties in
+            // IsolatedClassLoader not null. Why we do this? Because wrapper.catalog.properties()
+            // need to be called in the IsolatedClassLoader, it needs to load the specific catalog
+            // class such as HiveCatalog or so. For simply, We will preload the value of properties
+            // and thus AppClassLoader can get the value of properties.
+            wrapper.catalog.properties();
+            wrapper.catalog.capability();
+            return null;
+          },
+          IllegalArgumentException.class);
 
-    return wrapper;
+      return wrapper;
+    } catch (RuntimeException e) {
+      classLoaderReleaser.run();
+      throw e;
+    }
   }
 
-  private Set<String> getHiddenPropertyNames(CatalogEntity entity) {
-    Map<String, String> conf = entity.getProperties();
-    String provider = entity.getProvider();
+  private String providerPackagePath(CatalogEntity entity) {
+    return config.get(Configs.CATALOG_LOAD_ISOLATED)
+        ? buildPkgPath(entity.getProperties(), entity.getProvider())
+        : null;
+  }
 
-    try (IsolatedClassLoader classLoader = createClassLoader(provider, conf)) {
+  private CatalogProviderRegistry.ProviderInfo loadProviderInfo(CatalogEntity entity) {
+    IsolatedClassLoader classLoader =
+        createClassLoader(entity.getProvider(), entity.getProperties());
+    try {
       BaseCatalog<?> catalog = createBaseCatalog(classLoader, entity);
       return classLoader.withClassLoader(
           cl ->
-              catalog.catalogPropertiesMetadata().propertyEntries().values().stream()
-                  .filter(PropertyEntry::isHidden)
-                  .map(PropertyEntry::getName)
-                  .collect(Collectors.toSet()),
+              new CatalogProviderRegistry.ProviderInfo(
+                  classLoader,
+                  catalog.catalogPropertiesMetadata(),
+                  catalog.capability(),
+                  catalog::supportsSharedClassLoader),
           RuntimeException.class);
+    } catch (RuntimeException e) {
+      classLoader.close();
+      throw e;
     }
   }
 
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.catalog;
+
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Configs;
+import com.datastrato.gravitino.GravitinoEnv;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.metrics.MetricsSystem;
+import com.datastrato.gravitino.metrics.source.CacheMetricsSource;
+import com.datastrato.gravitino.metrics.source.MetricsSource;
+import com.datastrato.gravitino.rel.Table;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded cache of the schema and table metadata loaded from the underlying catalogs, it sits
+ * between the operation dispatchers and {@link CatalogManager.CatalogWrapper}, so that repeated
+ * loads of the same object don't hit the external system (Hive metastore, JDBC, Iceberg) every
+ * time.
+ *
+ * <p>Entries are keyed by the identifier of the object, so the entries of one catalog can be
+ * dropped together when the catalog is altered, dropped or evicted from the catalog cache. The
+ * dispatchers invalidate the entries when the objects are altered, dropped or renamed through
+ * Gravitino, changes made directly to the external system are only visible after the entry expires.
+ */
+public class CatalogMetadataCache implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CatalogMetadataCache.class);
+
+  // Null if the metadata cache is disabled.
+  private final Cache<NameIdentifier, Object> cache;
+
+  private final MetricsSource metricsSource;
+
+  /**
+   * Creates a new CatalogMetadataCache instance.
+   *
+   * @param config The configuration to build the cache with.
+   */
+  public CatalogMetadataCache(Config config) {
+    if (!config.get(Configs.CATALOG_METADATA_CACHE_ENABLED)) {
+      this.cache = null;
+      this.metricsSource = null;
+      return;
+    }
+
+    this.cache =
+        Caffeine.newBuilder()
+            .expireAfterWrite(
+                config.get(Configs.CATALOG_METADATA_CACHE_TTL_MS), TimeUnit.MILLISECONDS)
+            .maximumWeight(config.get(Configs.CATALOG_METADATA_CACHE_MAX_WEIGHT))
+            .weigher((NameIdentifier k, Object v) -> weigh(v))
+            .recordStats()
+            .build();
+
+    this.metricsSource =
+        new CacheMetricsSource(MetricsSource.CATALOG_METADATA_CACHE_METRIC_NAME, cache);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // MetricsSystem is null in some unit tests.
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+  }
+
+  /**
+   * Returns whether the metadata cache is enabled.
+   *
+   * @return {@code true} if the metadata cache is enabled.
+   */
+  public boolean enabled() {
+    return cache != null;
+  }
+
+  /**
+   * Gets the cached metadata of the specified object.
+   *
+   * @param ident The identifier of the object.
+   * @param clz The class of the cached metadata.
+   * @return The cached metadata, or {@code null} if it's not cached.
+   * @param <T> The type of the cached metadata.
+   */
+  public <T> T get(NameIdentifier ident, Class<T> clz) {
+    if (cache == null) {
+      return null;
+    }
+
+    Object value = cache.getIfPresent(ident);
+    return clz.isInstance(value) ? clz.cast(value) : null;
+  }
+
+  /**
+   * Caches the metadata of the specified object.
+   *
+   * @param ident The identifier of the object.
+   * @param value The metadata to cache.
+   */
+  public void put(NameIdentifier ident, Object value) {
+    if (cache != null) {
+      cache.put(ident, value);
+    }
+  }
+
+  /**
+   * Invalidates the cached metadata of the specified object.
+   *
+   * @param ident The identifier of the object.
+   */
+  public void invalidate(NameIdentifier ident) {
+    if (cache != null) {
+      cache.invalidate(ident);
+    }
+  }
+
+  /**
+   * Invalidates the cached metadata of the specified object and all the objects under it, for
+   * example, all the schemas and tables of a catalog.
+   *
+   * @param ident The identifier of the parent object.
+   */
+  public void invalidateWithChildren(NameIdentifier ident) {
+    if (cache == null) {
+      return;
+    }
+
+    cache.invalidate(ident);
+    cache.asMap().keySet().removeIf(k -> isChildOf(k, ident));
+    LOG.debug("Invalidated the cached metadata under {}", ident);
+  }
+
+  /** Invalidates the cached metadata and unregisters the cache metrics. */
+  @Override
+  public void close() {
+    if (cache == null) {
+      return;
+    }
+
+    cache.invalidateAll();
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
+
+  @VisibleForTesting
+  static boolean isChildOf(NameIdentifier ident, NameIdentifier parent) {
+    String[] levels = ident.namespace().levels();
+    String[] parentLevels = parent.namespace().levels();
+    if (levels.length <= parentLevels.length) {
+      return false;
+    }
+
+    return Arrays.equals(levels, 0, parentLevels.length, parentLevels, 0, parentLevels.length)
+        && levels[parentLevels.length].equals(parent.name());
+  }
+
+  private static int weigh(Object value) {
+    if (value instanceof Table && ((Table) value).columns() != null) {
+      return 1 + ((Table) value).columns().length;
+    }
+    return 1;
+  }
+}
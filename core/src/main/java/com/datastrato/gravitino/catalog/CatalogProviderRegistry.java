@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.catalog;
+
+import com.datastrato.gravitino.connector.PropertiesMetadata;
+import com.datastrato.gravitino.connector.PropertyEntry;
+import com.datastrato.gravitino.connector.capability.Capability;
+import com.datastrato.gravitino.meta.CatalogEntity;
+import com.datastrato.gravitino.utils.IsolatedClassLoader;
+import com.google.common.annotations.VisibleForTesting;
+import java.io.Closeable;
+import java.io.File;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A registry of the metadata shared by all the catalogs of a provider, such as the catalog property
+ * metadata and the capabilities.
+ *
+ * <p>The metadata of a provider is loaded with its own class loader once and shared by the
+ * following requests, instead of building a class loader from the provider's package for every
+ * request. It's loaded again only when the jars in the package directory change, which is checked
+ * at most once per {@link #PACKAGE_CHECK_INTERVAL_MS} for a provider, so listing many catalogs
+ * doesn't scan the package directory for each of them.
+ *
+ * <p>When the class loader is shared by the catalogs of the provider, each catalog retains the
+ * provider metadata, and the class loader is closed after the registry and all the catalogs
+ * released it.
+ */
+class CatalogProviderRegistry implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CatalogProviderRegistry.class);
+
+  @VisibleForTesting static final long PACKAGE_CHECK_INTERVAL_MS = 10 * 1000L;
+
+  /** The metadata of a catalog provider, and the class loader it's loaded with. */
+  static class ProviderInfo implements Closeable {
+    private final IsolatedClassLoader classLoader;
+    private final PropertiesMetadata catalogPropertiesMetadata;
+    private final Capability capability;
+    private final Set<String> hiddenPropertyNames;
+    private final Predicate<Map<String, String>> classLoaderSharable;
+    // The registry holds a reference until the provider is reloaded or the registry is closed.
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    /**
+     * Creates the provider metadata, it must be called within the context of the class loader.
+     *
+     * @param classLoader The class loader the metadata is loaded with.
+     * @param catalogPropertiesMetadata The catalog property metadata of the provider.
+     * @param capability The capabilities of the provider.
+     * @param classLoaderSharable Tests whether a catalog of the provider with the configuration
+     *     can share the class loader.
+     */
+    ProviderInfo(
+        IsolatedClassLoader classLoader,
+        PropertiesMetadata catalogPropertiesMetadata,
+        Capability capability,
+        Predicate<Map<String, String>> classLoaderSharable) {
+      this.classLoader = classLoader;
+      this.catalogPropertiesMetadata = catalogPropertiesMetadata;
+      this.capability = capability;
+      this.classLoaderSharable = classLoaderSharable;
+      this.hiddenPropertyNames =
+          catalogPropertiesMetadata.propertyEntries().values().stream()
+              .filter(PropertyEntry::isHidden)
+              .map(PropertyEntry::getName)
+              .collect(Collectors.toSet());
+    }
+
+    IsolatedClassLoader classLoader() {
+      return classLoader;
+    }
+
+    PropertiesMetadata catalogPropertiesMetadata() {
+      return catalogPropertiesMetadata;
+    }
+
+    Capability capability() {
+      return capability;
+    }
+
+    Set<String> hiddenPropertyNames() {
+      return hiddenPropertyNames;
+    }
+
+    /**
+     * Tests whether a catalog of the provider can share the class loader.
+     *
+     * @param config The configuration of the catalog.
+     * @return {@code false} if the catalog must use its own class loader.
+     */
+    boolean supportsSharedClassLoader(Map<String, String> config) {
+      return classLoader.withClassLoader(
+          cl -> classLoaderSharable.test(config), RuntimeException.class);
+    }
+
+    /**
+     * Retains the class loader of the provider.
+     *
+     * @return {@code false} if the class loader is already closed.
+     */
+    boolean retain() {
+      int count;
+      do {
+        count = references.get();
+        if (count == 0) {
+          return false;
+        }
+      } while (!references.compareAndSet(count, count + 1));
+      return true;
+    }
+
+    /** Releases the class loader of the provider, closes it after the last reference released. */
+    void release() {
+      if (references.decrementAndGet() == 0) {
+        classLoader.close();
+      }
+    }
+
+    @Override
+    public void close() {
+      release();
+    }
+  }
+
+  private static class Entry {
+    private final long packageFingerprint;
+    private final ProviderInfo providerInfo;
+    // The last time the package directory is found unchanged.
+    private volatile long checkTime;
+
+    private Entry(long packageFingerprint, ProviderInfo providerInfo, long checkTime) {
+      this.packageFingerprint = packageFingerprint;
+      this.providerInfo = providerInfo;
+      this.checkTime = checkTime;
+    }
+  }
+
+  private final Map<String, Entry> providers = new ConcurrentHashMap<>();
+
+  private final Function<CatalogEntity, String> packagePathResolver;
+
+  private final Function<CatalogEntity, ProviderInfo> providerLoader;
+
+  private final LongSupplier clock;
+
+  /**
+   * Creates a new CatalogProviderRegistry instance.
+   *
+   * @param packagePathResolver Resolves the directory of the provider jars of a catalog, or {@code
+   *     null} if the catalog isn't loaded from a package.
+   * @param providerLoader Loads the metadata of the provider of a catalog.
+   */
+  CatalogProviderRegistry(
+      Function<CatalogEntity, String> packagePathResolver,
+      Function<CatalogEntity, ProviderInfo> providerLoader) {
+    this(packagePathResolver, providerLoader, System::currentTimeMillis);
+  }
+
+  @VisibleForTesting
+  CatalogProviderRegistry(
+      Function<CatalogEntity, String> packagePathResolver,
+      Function<CatalogEntity, ProviderInfo> providerLoader,
+      LongSupplier clock) {
+    this.packagePathResolver = packagePathResolver;
+    this.providerLoader = providerLoader;
+    this.clock = clock;
+  }
+
+  /**
+   * Gets the metadata of the provider of the specified catalog, loads it if it isn't loaded yet or
+   * the provider jars changed since the last check.
+   *
+   * @param entity The catalog entity.
+   * @return The metadata of the catalog provider.
+   */
+  ProviderInfo providerInfo(CatalogEntity entity) {
+    String packagePath = packagePathResolver.apply(entity);
+    // Catalogs of the same provider can be loaded from different packages.
+    String key =
+        entity.getProvider().toLowerCase(Locale.ROOT)
+            + (packagePath == null ? "" : File.pathSeparator + packagePath);
+    long now = clock.getAsLong();
+    Entry entry = providers.get(key);
+    if (entry != null && now - entry.checkTime < PACKAGE_CHECK_INTERVAL_MS) {
+      return entry.providerInfo;
+    }
+
+    long packageFingerprint = packageFingerprint(packagePath);
+    if (entry != null && entry.packageFingerprint == packageFingerprint) {
+      entry.checkTime = now;
+      return entry.providerInfo;
+    }
+
+    return providers.compute(
+            key,
+            (k, oldEntry) -> {
+              if (oldEntry != null && oldEntry.packageFingerprint == packageFingerprint) {
+                return oldEntry;
+              }
+
+              Entry newEntry = new Entry(packageFingerprint, providerLoader.apply(entity), now);
+              if (oldEntry != null) {
+                LOG.info("Reloaded the provider {} as its jars changed.", k);
+                oldEntry.providerInfo.close();
+              }
+              return newEntry;
+            })
+        .providerInfo;
+  }
+
+  /**
+   * Gets and retains the metadata of the provider of the specified catalog, the caller shares its
+   * class loader until it calls {@link ProviderInfo#release()}.
+   *
+   * @param entity The catalog entity.
+   * @return The retained metadata of the catalog provider.
+   */
+  ProviderInfo retainProviderInfo(CatalogEntity entity) {
+    while (true) {
+      ProviderInfo providerInfo = providerInfo(entity);
+      // The provider may be reloaded and its class loader closed concurrently.
+      if (providerInfo.retain()) {
+        return providerInfo;
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    providers.values().forEach(entry -> entry.providerInfo.close());
+    providers.clear();
+  }
+
+  /**
+   * Computes a fingerprint of the jars in the package directory from their names, sizes and last
+   * modified times, so a replaced, added or removed jar changes it.
+   */
+  @VisibleForTesting
+  static long packageFingerprint(String packagePath) {
+    if (packagePath == null) {
+      return 0L;
+    }
+
+    File[] jars = new File(packagePath).listFiles((dir, name) -> name.endsWith(".jar"));
+    if (jars == null) {
+      return 0L;
+    }
+
+    Arrays.sort(jars, Comparator.comparing(File::getName));
+    long fingerprint = 1L;
+    for (File jar : jars) {
+      fingerprint = 31 * fingerprint + jar.getName().hashCode();
+      fingerprint = 31 * fingerprint + jar.length();
+      fingerprint = 31 * fingerprint + jar.lastModified();
+    }
+    return fingerprint;
+  }
+}
@@ -23,6 +23,7 @@ import static com.datastrato.gravitino.catalog.PropertiesMetadataHelpers.validat
 import com.datastrato.gravitino.Entity;
 import com.datastrato.gravitino.EntityStore;
 import com.datastrato.gravitino.HasIdentifier;
+import com.datastrato.gravitino.ListPage;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.SchemaChange;
@@ -39,6 +40,7 @@ import com.datastrato.gravitino.rel.TableChange;
 import com.datastrato.gravitino.storage.IdGenerator;
 import com.datastrato.gravitino.utils.ThrowableFunction;
 import com.google.common.collect.Maps;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -75,6 +77,10 @@ public abstract class OperationDispatcher {
     this.idGenerator = idGenerator;
   }
 
+  protected CatalogMetadataCache metadataCache() {
+    return catalogManager.metadataCache();
+  }
+
   protected Capability getCatalogCapability(NameIdentifier ident) {
     return doWithCatalog(
         getCatalogIdentifier(ident),
@@ -94,8 +100,12 @@ public abstract class OperationDispatcher {
       throws E {
     try {
       NameIdentifier catalogIdent = getCatalogIdentifier(tableIdent);
-      CatalogManager.CatalogWrapper c = catalogManager.loadCatalogAndWrap(catalogIdent);
-      return c.doWithPartitionOps(tableIdent, fn);
+      CatalogManager.CatalogWrapper c = catalogManager.loadCatalogAndRetain(catalogIdent);
+      try {
+        return c.doWithPartitionOps(tableIdent, fn);
+      } finally {
+        c.release();
+      }
     } catch (Throwable throwable) {
       if (ex.isInstance(throwable)) {
         throw ex.cast(throwable);
@@ -111,8 +121,12 @@ public abstract class OperationDispatcher {
       NameIdentifier ident, ThrowableFunction<CatalogManager.CatalogWrapper, R> fn, Class<E> ex)
       throws E {
     try {
-      CatalogManager.CatalogWrapper c = catalogManager.loadCatalogAndWrap(ident);
-      return fn.apply(c);
+      CatalogManager.CatalogWrapper c = catalogManager.loadCatalogAndRetain(ident);
+      try {
+        return fn.apply(c);
+      } finally {
+        c.release();
+      }
     } catch (Throwable throwable) {
       if (ex.isInstance(throwable)) {
         throw ex.cast(throwable);
@@ -131,8 +145,12 @@ public abstract class OperationDispatcher {
       Class<E2> ex2)
       throws E1, E2 {
     try {
-      CatalogManager.CatalogWrapper c = catalogManager.loadCatalogAndWrap(ident);
-      return fn.apply(c);
+      CatalogManager.CatalogWrapper c = catalogManager.loadCatalogAndRetain(ident);
+      try {
+        return fn.apply(c);
+      } finally {
+        c.release();
+      }
     } catch (Throwable throwable) {
       if (ex1.isInstance(throwable)) {
         throw ex1.cast(throwable);
@@ -147,6 +165,47 @@ public abstract class OperationDispatcher {
     }
   }
 
+  /**
+   * Lists one page of the entities managed by Gravitino under the namespace from the entity store,
+   * so that only the entities of the page are loaded. The entities created in the underlying
+   * catalog without Gravitino are not listed until they are imported.
+   *
+   * @param namespace The namespace of the entities.
+   * @param parentType The type of the parent entity identified by the namespace.
+   * @param type The class of the entities.
+   * @param entityType The type of the entities.
+   * @param pageToken The token returned by the previous page, or null to list the first page.
+   * @param pageSize The maximum number of entities in the page.
+   * @return The page of the identifiers of the entities.
+   * @throws NoSuchEntityException If the parent entity does not exist.
+   */
+  protected <E extends Entity & HasIdentifier> ListPage<NameIdentifier> listPageFromStore(
+      Namespace namespace,
+      Entity.EntityType parentType,
+      Class<E> type,
+      Entity.EntityType entityType,
+      String pageToken,
+      int pageSize)
+      throws NoSuchEntityException {
+    NameIdentifier parentIdent = NameIdentifier.of(namespace.levels());
+    try {
+      if (!store.exists(parentIdent, parentType)) {
+        throw new NoSuchEntityException(
+            NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
+            parentType.name().toLowerCase(),
+            parentIdent);
+      }
+
+      ListPage<E> page = store.list(namespace, type, entityType, pageToken, pageSize);
+      return ListPage.of(
+          page.items().stream().map(HasIdentifier::nameIdentifier).collect(Collectors.toList()),
+          page.nextPageToken());
+    } catch (IOException ioe) {
+      LOG.error("Failed to list {} under {} from the entity store", entityType, namespace, ioe);
+      throw new RuntimeException(ioe);
+    }
+  }
+
   protected Set<String> getHiddenPropertyNames(
       NameIdentifier catalogIdent,
       ThrowableFunction<HasPropertyMetadata, PropertiesMetadata> provider,
@@ -47,6 +47,20 @@ public interface PartitionDispatcher {
    */
   Partition[] listPartitions(NameIdentifier tableIdent);
 
+  /**
+   * List a page of the partitions which match a filter in the table, in the order of their names.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param filter The catalog specific partition filter, or null to list all partitions.
+   * @param startAfter The name of the last partition of the previous page, or null to start from
+   *     the first partition.
+   * @param limit The maximum number of partitions to list, non-positive for no limit.
+   * @return The list of partitions.
+   * @see SupportsPartitions#listPartitions(String, String, int)
+   */
+  Partition[] listPartitions(
+      NameIdentifier tableIdent, String filter, String startAfter, int limit);
+
   /**
    * Get a partition by name from the table.
    *
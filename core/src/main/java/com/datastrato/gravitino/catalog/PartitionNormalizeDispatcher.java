@@ -57,6 +57,21 @@ public class PartitionNormalizeDispatcher implements PartitionDispatcher {
     return applyCaseSensitive(partitions, dispatcher.getCatalogCapability(tableIdent));
   }
 
+  @Override
+  public Partition[] listPartitions(
+      NameIdentifier tableIdent, String filter, String startAfter, int limit) {
+    Capability capabilities = dispatcher.getCatalogCapability(tableIdent);
+    Partition[] partitions =
+        dispatcher.listPartitions(
+            applyCaseSensitive(tableIdent, Capability.Scope.TABLE, dispatcher),
+            filter,
+            startAfter == null
+                ? null
+                : applyCaseSensitiveOnName(Capability.Scope.PARTITION, startAfter, capabilities),
+            limit);
+    return applyCaseSensitive(partitions, capabilities);
+  }
+
   @Override
   public Partition getPartition(NameIdentifier tableIdent, String partitionName)
       throws NoSuchPartitionException {
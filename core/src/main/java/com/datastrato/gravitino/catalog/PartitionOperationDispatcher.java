@@ -53,6 +53,13 @@ public class PartitionOperationDispatcher extends OperationDispatcher
     return doWithTable(tableIdent, SupportsPartitions::listPartitions, NoSuchTableException.class);
   }
 
+  @Override
+  public Partition[] listPartitions(
+      NameIdentifier tableIdent, String filter, String startAfter, int limit) {
+    return doWithTable(
+        tableIdent, p -> p.listPartitions(filter, startAfter, limit), NoSuchTableException.class);
+  }
+
   @Override
   public Partition getPartition(NameIdentifier tableIdent, String partitionName)
       throws NoSuchPartitionException {
@@ -18,7 +18,11 @@
 
 package com.datastrato.gravitino.catalog;
 
+import com.datastrato.gravitino.ListPage;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.connector.SupportsSchemas;
+import com.datastrato.gravitino.exceptions.NoSuchCatalogException;
 
 /**
  * {@code SchemaDispatcher} interface acts as a specialization of the {@link SupportsSchemas}
@@ -26,4 +30,19 @@ import com.datastrato.gravitino.connector.SupportsSchemas;
  * to dispatching or handling schema-related events or actions that are not covered by the standard
  * {@code SupportsSchemas} operations.
  */
-public interface SchemaDispatcher extends SupportsSchemas {}
+public interface SchemaDispatcher extends SupportsSchemas {
+
+  /**
+   * Lists one page of the schemas managed by Gravitino within the specified namespace. Unlike
+   * {@link #listSchemas(Namespace)}, the page is read from the entity store, so the schemas which
+   * are not yet imported from the underlying catalog are not listed.
+   *
+   * @param namespace The namespace in which to list schemas.
+   * @param pageToken The token returned by the previous page, or null to list the first page.
+   * @param pageSize The maximum number of schemas in the page.
+   * @return The page of the identifiers of the schemas.
+   * @throws NoSuchCatalogException If the catalog namespace does not exist.
+   */
+  ListPage<NameIdentifier> listSchemas(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchCatalogException;
+}
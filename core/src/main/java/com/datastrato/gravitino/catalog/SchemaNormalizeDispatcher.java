@@ -21,6 +21,7 @@ package com.datastrato.gravitino.catalog;
 import static com.datastrato.gravitino.catalog.CapabilityHelpers.applyCapabilities;
 import static com.datastrato.gravitino.catalog.CapabilityHelpers.applyCaseSensitive;
 
+import com.datastrato.gravitino.ListPage;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.Schema;
@@ -30,6 +31,7 @@ import com.datastrato.gravitino.exceptions.NoSuchCatalogException;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
 import com.datastrato.gravitino.exceptions.NonEmptySchemaException;
 import com.datastrato.gravitino.exceptions.SchemaAlreadyExistsException;
+import java.util.Arrays;
 import java.util.Map;
 
 public class SchemaNormalizeDispatcher implements SchemaDispatcher {
@@ -48,6 +50,16 @@ public class SchemaNormalizeDispatcher implements SchemaDispatcher {
     return applyCaseSensitive(identifiers, Capability.Scope.SCHEMA, dispatcher);
   }
 
+  @Override
+  public ListPage<NameIdentifier> listSchemas(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchCatalogException {
+    ListPage<NameIdentifier> page = dispatcher.listSchemas(namespace, pageToken, pageSize);
+    NameIdentifier[] identifiers = page.items().toArray(new NameIdentifier[0]);
+    return ListPage.of(
+        Arrays.asList(applyCaseSensitive(identifiers, Capability.Scope.SCHEMA, dispatcher)),
+        page.nextPageToken());
+  }
+
   @Override
   public boolean schemaExists(NameIdentifier ident) {
     // The constraints of the name spec may be more strict than underlying catalog,
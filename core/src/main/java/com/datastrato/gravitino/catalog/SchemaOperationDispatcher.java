@@ -18,10 +18,12 @@
  */
 package com.datastrato.gravitino.catalog;
 
+import static com.datastrato.gravitino.Entity.EntityType.CATALOG;
 import static com.datastrato.gravitino.Entity.EntityType.SCHEMA;
 import static com.datastrato.gravitino.catalog.PropertiesMetadataHelpers.validatePropertyForCreate;
 
 import com.datastrato.gravitino.EntityStore;
+import com.datastrato.gravitino.ListPage;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.Schema;
@@ -77,6 +79,16 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
         NoSuchCatalogException.class);
   }
 
+  @Override
+  public ListPage<NameIdentifier> listSchemas(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchCatalogException {
+    try {
+      return listPageFromStore(namespace, CATALOG, SchemaEntity.class, SCHEMA, pageToken, pageSize);
+    } catch (NoSuchEntityException e) {
+      throw new NoSuchCatalogException(e, "Catalog %s does not exist", namespace);
+    }
+  }
+
   /**
    * Creates a new schema.
    *
@@ -91,6 +103,7 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
   @Override
   public Schema createSchema(NameIdentifier ident, String comment, Map<String, String> properties)
       throws NoSuchCatalogException, SchemaAlreadyExistsException {
+    metadataCache().invalidate(ident);
 
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
     doWithCatalog(
@@ -175,9 +188,25 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
    */
   @Override
   public Schema loadSchema(NameIdentifier ident) throws NoSuchSchemaException {
+    EntityCombinedSchema cachedSchema = metadataCache().get(ident, EntityCombinedSchema.class);
+    if (cachedSchema != null) {
+      return cachedSchema;
+    }
+
     // Load the schema and check if this schema is already imported.
     EntityCombinedSchema schema =
-        TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> internalLoadSchema(ident));
+        TreeLockUtils.doWithTreeLock(
+            ident,
+            LockType.READ,
+            () -> {
+              EntityCombinedSchema loadedSchema = internalLoadSchema(ident);
+              // Cache the schema while holding the lock, so that it will not overwrite the
+              // invalidation of a concurrent alter or drop operation.
+              if (loadedSchema.imported()) {
+                metadataCache().put(ident, loadedSchema);
+              }
+              return loadedSchema;
+            });
 
     if (!schema.imported()) {
       TreeLockUtils.doWithTreeLock(
@@ -205,6 +234,9 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
   public Schema alterSchema(NameIdentifier ident, SchemaChange... changes)
       throws NoSuchSchemaException {
     validateAlterProperties(ident, HasPropertyMetadata::schemaPropertiesMetadata, changes);
+    // The callers hold the write lock of the catalog, so no load can cache the schema again before
+    // the operation is finished.
+    metadataCache().invalidate(ident);
 
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
     Schema tempAlteredSchema =
@@ -290,6 +322,7 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
    */
   @Override
   public boolean dropSchema(NameIdentifier ident, boolean cascade) throws NonEmptySchemaException {
+    metadataCache().invalidateWithChildren(ident);
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
     boolean droppedFromCatalog =
         doWithCatalog(
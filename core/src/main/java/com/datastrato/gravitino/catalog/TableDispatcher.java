@@ -18,6 +18,10 @@
 
 package com.datastrato.gravitino.catalog;
 
+import com.datastrato.gravitino.ListPage;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.Namespace;
+import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
 import com.datastrato.gravitino.rel.TableCatalog;
 
 /**
@@ -26,4 +30,19 @@ import com.datastrato.gravitino.rel.TableCatalog;
  * dispatching or handling table-related events or actions that are not covered by the standard
  * {@code TableCatalog} operations.
  */
-public interface TableDispatcher extends TableCatalog {}
+public interface TableDispatcher extends TableCatalog {
+
+  /**
+   * Lists one page of the tables managed by Gravitino within the specified namespace. Unlike
+   * {@link #listTables(Namespace)}, the page is read from the entity store, so the tables which are
+   * not yet imported from the underlying catalog are not listed.
+   *
+   * @param namespace The namespace in which to list tables.
+   * @param pageToken The token returned by the previous page, or null to list the first page.
+   * @param pageSize The maximum number of tables in the page.
+   * @return The page of the identifiers of the tables.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  ListPage<NameIdentifier> listTables(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException;
+}
@@ -20,7 +20,9 @@ package com.datastrato.gravitino.catalog;
 
 import static com.datastrato.gravitino.catalog.CapabilityHelpers.applyCapabilities;
 import static com.datastrato.gravitino.catalog.CapabilityHelpers.applyCaseSensitive;
+import static com.datastrato.gravitino.catalog.CapabilityHelpers.applyCaseSensitiveOnName;
 
+import com.datastrato.gravitino.ListPage;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.connector.capability.Capability;
@@ -34,6 +36,7 @@ import com.datastrato.gravitino.rel.expressions.distributions.Distribution;
 import com.datastrato.gravitino.rel.expressions.sorts.SortOrder;
 import com.datastrato.gravitino.rel.expressions.transforms.Transform;
 import com.datastrato.gravitino.rel.indexes.Index;
+import java.util.Arrays;
 import java.util.Map;
 
 public class TableNormalizeDispatcher implements TableDispatcher {
@@ -53,6 +56,17 @@ public class TableNormalizeDispatcher implements TableDispatcher {
     return applyCaseSensitive(identifiers, Capability.Scope.TABLE, dispatcher);
   }
 
+  @Override
+  public ListPage<NameIdentifier> listTables(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    Namespace caseSensitiveNs = applyCaseSensitive(namespace, Capability.Scope.TABLE, dispatcher);
+    ListPage<NameIdentifier> page = dispatcher.listTables(caseSensitiveNs, pageToken, pageSize);
+    NameIdentifier[] identifiers = page.items().toArray(new NameIdentifier[0]);
+    return ListPage.of(
+        Arrays.asList(applyCaseSensitive(identifiers, Capability.Scope.TABLE, dispatcher)),
+        page.nextPageToken());
+  }
+
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     // The constraints of the name spec may be more strict than underlying catalog,
@@ -60,6 +74,18 @@ public class TableNormalizeDispatcher implements TableDispatcher {
     return dispatcher.loadTable(applyCaseSensitive(ident, Capability.Scope.TABLE, dispatcher));
   }
 
+  @Override
+  public Table[] loadTables(Namespace namespace, String... tableNames)
+      throws NoSuchSchemaException {
+    Namespace caseSensitiveNs = applyCaseSensitive(namespace, Capability.Scope.TABLE, dispatcher);
+    Capability capabilities = dispatcher.getCatalogCapability(namespace);
+    String[] caseSensitiveNames =
+        Arrays.stream(tableNames)
+            .map(name -> applyCaseSensitiveOnName(Capability.Scope.TABLE, name, capabilities))
+            .toArray(String[]::new);
+    return dispatcher.loadTables(caseSensitiveNs, caseSensitiveNames);
+  }
+
   @Override
   public Table createTable(
       NameIdentifier ident,
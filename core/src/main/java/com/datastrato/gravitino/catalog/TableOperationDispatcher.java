@@ -18,6 +18,7 @@
  */
 package com.datastrato.gravitino.catalog;
 
+import static com.datastrato.gravitino.Entity.EntityType.SCHEMA;
 import static com.datastrato.gravitino.Entity.EntityType.TABLE;
 import static com.datastrato.gravitino.catalog.CapabilityHelpers.applyCapabilities;
 import static com.datastrato.gravitino.catalog.PropertiesMetadataHelpers.validatePropertyForCreate;
@@ -25,6 +26,7 @@ import static com.datastrato.gravitino.rel.expressions.transforms.Transforms.EMP
 
 import com.datastrato.gravitino.EntityStore;
 import com.datastrato.gravitino.GravitinoEnv;
+import com.datastrato.gravitino.ListPage;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.StringIdentifier;
@@ -50,8 +52,12 @@ import com.datastrato.gravitino.rel.indexes.Indexes;
 import com.datastrato.gravitino.storage.IdGenerator;
 import com.datastrato.gravitino.utils.PrincipalUtils;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -87,6 +93,16 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         NoSuchSchemaException.class);
   }
 
+  @Override
+  public ListPage<NameIdentifier> listTables(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    try {
+      return listPageFromStore(namespace, SCHEMA, TableEntity.class, TABLE, pageToken, pageSize);
+    } catch (NoSuchEntityException e) {
+      throw new NoSuchSchemaException(e, "Schema %s does not exist", namespace);
+    }
+  }
+
   /**
    * Loads a table.
    *
@@ -96,8 +112,24 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    */
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
+    EntityCombinedTable cachedTable = metadataCache().get(ident, EntityCombinedTable.class);
+    if (cachedTable != null) {
+      return cachedTable;
+    }
+
     EntityCombinedTable table =
-        TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> internalLoadTable(ident));
+        TreeLockUtils.doWithTreeLock(
+            ident,
+            LockType.READ,
+            () -> {
+              EntityCombinedTable loadedTable = internalLoadTable(ident);
+              // Cache the table while holding the lock, so that it will not overwrite the
+              // invalidation of a concurrent alter or drop operation.
+              if (loadedTable.imported()) {
+                metadataCache().put(ident, loadedTable);
+              }
+              return loadedTable;
+            });
 
     if (!table.imported()) {
       // Load the schema to make sure the schema is imported.
@@ -118,6 +150,71 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
     return table;
   }
 
+  /**
+   * Loads many tables of a schema. The tables which are not cached are loaded from the catalog
+   * together, and the tables which don't exist are skipped.
+   *
+   * <p>Unlike {@link #loadTable(NameIdentifier)}, the tables loaded together are not put into the
+   * metadata cache, because they are not loaded under the locks of the tables.
+   *
+   * @param namespace The namespace of the schema containing the tables.
+   * @param tableNames The names of the tables to load.
+   * @return The loaded {@link Table} objects of the existing tables.
+   * @throws NoSuchSchemaException If the specified schema does not exist.
+   */
+  @Override
+  public Table[] loadTables(Namespace namespace, String... tableNames)
+      throws NoSuchSchemaException {
+    Map<String, Table> loadedTables = new HashMap<>();
+    List<String> uncachedNames = new ArrayList<>();
+    for (String tableName : tableNames) {
+      EntityCombinedTable cachedTable =
+          metadataCache().get(NameIdentifier.of(namespace, tableName), EntityCombinedTable.class);
+      if (cachedTable != null) {
+        loadedTables.put(tableName, cachedTable);
+      } else {
+        uncachedNames.add(tableName);
+      }
+    }
+
+    if (!uncachedNames.isEmpty()) {
+      NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+      NameIdentifier catalogIdentifier = getCatalogIdentifier(schemaIdent);
+      String[] uncachedNameArray = uncachedNames.toArray(new String[0]);
+      Table[] tables =
+          doWithCatalog(
+              catalogIdentifier,
+              c -> c.doWithTableOps(t -> t.loadTables(namespace, uncachedNameArray)),
+              NoSuchSchemaException.class);
+
+      boolean schemaLoaded = false;
+      for (Table table : tables) {
+        NameIdentifier ident = NameIdentifier.of(namespace, table.name());
+        EntityCombinedTable combinedTable = combineTable(ident, catalogIdentifier, table);
+        if (!combinedTable.imported()) {
+          if (!schemaLoaded) {
+            // Load the schema to make sure the schema is imported.
+            GravitinoEnv.getInstance().schemaDispatcher().loadSchema(schemaIdent);
+            schemaLoaded = true;
+          }
+          TreeLockUtils.doWithTreeLock(
+              schemaIdent,
+              LockType.WRITE,
+              () -> {
+                importTable(ident);
+                return null;
+              });
+        }
+        loadedTables.put(table.name(), combinedTable);
+      }
+    }
+
+    return Arrays.stream(tableNames)
+        .map(loadedTables::get)
+        .filter(Objects::nonNull)
+        .toArray(Table[]::new);
+  }
+
   /**
    * Creates a new table in a schema.
    *
@@ -142,6 +239,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
       SortOrder[] sortOrders,
       Index[] indexes)
       throws NoSuchSchemaException, TableAlreadyExistsException {
+    metadataCache().invalidate(ident);
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
     doWithCatalog(
         catalogIdent,
@@ -226,6 +324,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
   public Table alterTable(NameIdentifier ident, TableChange... changes)
       throws NoSuchTableException, IllegalArgumentException {
     validateAlterProperties(ident, HasPropertyMetadata::tablePropertiesMetadata, changes);
+    invalidateCachedTable(ident, changes);
 
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
     Table tempAlteredTable =
@@ -308,6 +407,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    */
   @Override
   public boolean dropTable(NameIdentifier ident) {
+    metadataCache().invalidate(ident);
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
     boolean droppedFromCatalog =
         doWithCatalog(
@@ -353,6 +453,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    */
   @Override
   public boolean purgeTable(NameIdentifier ident) throws UnsupportedOperationException {
+    metadataCache().invalidate(ident);
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
     boolean droppedFromCatalog =
         doWithCatalog(
@@ -386,6 +487,16 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         : droppedFromCatalog;
   }
 
+  private void invalidateCachedTable(NameIdentifier ident, TableChange... changes) {
+    // The callers hold the write lock of the schema, so no load can cache the table again before
+    // the operation is finished.
+    metadataCache().invalidate(ident);
+    Arrays.stream(changes)
+        .filter(c -> c instanceof TableChange.RenameTable)
+        .map(c -> NameIdentifier.of(ident.namespace(), ((TableChange.RenameTable) c).getNewName()))
+        .forEach(metadataCache()::invalidate);
+  }
+
   private void importTable(NameIdentifier identifier) {
     EntityCombinedTable table = internalLoadTable(identifier);
 
@@ -443,7 +554,11 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
             catalogIdentifier,
             c -> c.doWithTableOps(t -> t.loadTable(ident)),
             NoSuchTableException.class);
+    return combineTable(ident, catalogIdentifier, table);
+  }
 
+  private EntityCombinedTable combineTable(
+      NameIdentifier ident, NameIdentifier catalogIdentifier, Table table) {
     StringIdentifier stringId = getStringIdFromProperties(table.properties());
     // Case 1: The table is not created by Gravitino or the external system does not support storing
     // string identifier.
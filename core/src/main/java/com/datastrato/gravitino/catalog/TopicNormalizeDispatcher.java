@@ -20,6 +20,7 @@ package com.datastrato.gravitino.catalog;
 
 import static com.datastrato.gravitino.catalog.CapabilityHelpers.applyCapabilities;
 import static com.datastrato.gravitino.catalog.CapabilityHelpers.applyCaseSensitive;
+import static com.datastrato.gravitino.catalog.CapabilityHelpers.applyCaseSensitiveOnName;
 
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
@@ -30,6 +31,7 @@ import com.datastrato.gravitino.exceptions.TopicAlreadyExistsException;
 import com.datastrato.gravitino.messaging.DataLayout;
 import com.datastrato.gravitino.messaging.Topic;
 import com.datastrato.gravitino.messaging.TopicChange;
+import java.util.Arrays;
 import java.util.Map;
 
 public class TopicNormalizeDispatcher implements TopicDispatcher {
@@ -56,6 +58,18 @@ public class TopicNormalizeDispatcher implements TopicDispatcher {
     return dispatcher.loadTopic(applyCaseSensitive(ident, Capability.Scope.TOPIC, dispatcher));
   }
 
+  @Override
+  public Topic[] loadTopics(Namespace namespace, String... topicNames)
+      throws NoSuchSchemaException {
+    Namespace caseSensitiveNs = applyCaseSensitive(namespace, Capability.Scope.TOPIC, dispatcher);
+    Capability capabilities = dispatcher.getCatalogCapability(namespace);
+    String[] caseSensitiveNames =
+        Arrays.stream(topicNames)
+            .map(name -> applyCaseSensitiveOnName(Capability.Scope.TOPIC, name, capabilities))
+            .toArray(String[]::new);
+    return dispatcher.loadTopics(caseSensitiveNs, caseSensitiveNames);
+  }
+
   @Override
   public boolean topicExists(NameIdentifier ident) {
     // The constraints of the name spec may be more strict than underlying catalog,
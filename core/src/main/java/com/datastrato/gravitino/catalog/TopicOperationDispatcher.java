@@ -110,6 +110,52 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
     return topic;
   }
 
+  /**
+   * Load many topics of a schema from the catalog together, the topics which don't exist are
+   * skipped.
+   *
+   * @param namespace A schema namespace.
+   * @param topicNames The names of the topics to load.
+   * @return The metadata of the existing topics, in the order of the names.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  @Override
+  public Topic[] loadTopics(Namespace namespace, String... topicNames)
+      throws NoSuchSchemaException {
+    NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+    NameIdentifier catalogIdent = getCatalogIdentifier(schemaIdent);
+    Topic[] topics =
+        doWithCatalog(
+            catalogIdent,
+            c -> c.doWithTopicOps(t -> t.loadTopics(namespace, topicNames)),
+            NoSuchSchemaException.class);
+
+    EntityCombinedTopic[] combinedTopics = new EntityCombinedTopic[topics.length];
+    boolean schemaLoaded = false;
+    for (int i = 0; i < topics.length; i++) {
+      NameIdentifier ident = NameIdentifier.of(namespace, topics[i].name());
+      EntityCombinedTopic topic = combineTopic(ident, catalogIdent, topics[i]);
+      if (!topic.imported()) {
+        if (!schemaLoaded) {
+          // Load the schema to make sure the schema is imported.
+          GravitinoEnv.getInstance().schemaDispatcher().loadSchema(schemaIdent);
+          schemaLoaded = true;
+        }
+        TreeLockUtils.doWithTreeLock(
+            schemaIdent,
+            LockType.WRITE,
+            () -> {
+              if (!isEntityExist(ident, TOPIC)) {
+                storeImportedTopic(ident, topic);
+              }
+              return null;
+            });
+      }
+      combinedTopics[i] = topic;
+    }
+    return combinedTopics;
+  }
+
   /**
    * Create a topic in the catalog.
    *
@@ -299,6 +345,10 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
       return;
     }
 
+    storeImportedTopic(identifier, topic);
+  }
+
+  private void storeImportedTopic(NameIdentifier identifier, EntityCombinedTopic topic) {
     StringIdentifier stringId = null;
     try {
       stringId = topic.stringIdentifier();
@@ -350,7 +400,11 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
             catalogIdent,
             c -> c.doWithTopicOps(t -> t.loadTopic(ident)),
             NoSuchTopicException.class);
+    return combineTopic(ident, catalogIdent, topic);
+  }
 
+  private EntityCombinedTopic combineTopic(
+      NameIdentifier ident, NameIdentifier catalogIdent, Topic topic) {
     StringIdentifier stringId = getStringIdFromProperties(topic.properties());
     if (stringId == null) {
       return EntityCombinedTopic.of(topic)
@@ -110,6 +110,19 @@ public abstract class BaseCatalog<T extends BaseCatalog>
     return Optional.empty();
   }
 
+  /**
+   * Whether the catalog can share the class loader with the other catalogs of the same provider.
+   * A catalog changing the static state of its class loader, like the Kerberos login or the
+   * registered JDBC drivers, must not share it, since closing one catalog would break the others.
+   *
+   * @param config The configuration of the catalog.
+   * @return true if the class loader can be shared, false by default.
+   */
+  @Evolving
+  public boolean supportsSharedClassLoader(Map<String, String> config) {
+    return false;
+  }
+
   @Override
   public PropertiesMetadata tablePropertiesMetadata() throws UnsupportedOperationException {
     throw new UnsupportedOperationException(
@@ -18,15 +18,23 @@
 
 package com.datastrato.gravitino.listener;
 
+import com.codahale.metrics.Counter;
+import com.datastrato.gravitino.GravitinoEnv;
 import com.datastrato.gravitino.listener.api.EventListenerPlugin;
 import com.datastrato.gravitino.listener.api.event.Event;
+import com.datastrato.gravitino.metrics.MetricNames;
+import com.datastrato.gravitino.metrics.MetricsSystem;
+import com.datastrato.gravitino.metrics.source.MetricsSource;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
@@ -36,34 +44,71 @@ import org.slf4j.LoggerFactory;
  * AsyncQueueListener acts as event listener, and internally buffer event to a queue, start a
  * dispatcher thread to dispatch event to the real listeners. For default AsyncQueueListener it may
  * contain multi listeners share with one queue and dispatcher thread. For other
- * AsyncQueueDispatchers, contain only one listener.
+ * AsyncQueueDispatchers, contain only one listener. With {@link DispatchMode#PER_LISTENER}, the
+ * listeners of the default AsyncQueueListener get a queue and dispatcher thread each, so a slow
+ * listener doesn't stall the others, and an event waits for space in all the full queues for at
+ * most enqueueTimeoutMs in total. The dispatcher delivers the events queued up while its listeners
+ * were busy in one {@link EventListenerPlugin#onPostEvents(List)} call.
  */
 public class AsyncQueueListener implements EventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(AsyncQueueListener.class);
   private static final String NAME_PREFIX = "async-queue-listener-";
 
+  /** How the events are dispatched to multiple listeners of one AsyncQueueListener. */
+  public enum DispatchMode {
+    /** All listeners share one queue and dispatcher thread, events are delivered serially. */
+    SHARED,
+    /** Each listener has its own queue and dispatcher thread. */
+    PER_LISTENER
+  }
+
   private final List<EventListenerPlugin> eventListeners;
-  private final BlockingQueue<Event> queue;
-  private final Thread asyncProcessor;
+  private final List<Dispatcher> dispatchers;
   private final int dispatcherJoinSeconds;
+  private final int dispatchBatchSize;
+  private final long enqueueTimeoutMs;
   private final AtomicBoolean stopped = new AtomicBoolean(false);
-  private final AtomicLong dropEventCounters = new AtomicLong(0);
-  private final AtomicLong lastDropEventCounters = new AtomicLong(0);
-  private Instant lastRecordDropEventTime;
   private final String asyncQueueListenerName;
+  private final MetricsSource metricsSource;
 
   public AsyncQueueListener(
       List<EventListenerPlugin> listeners,
       String name,
       int queueCapacity,
       int dispatcherJoinSeconds) {
+    this(listeners, name, queueCapacity, dispatcherJoinSeconds, DispatchMode.SHARED, 1, 0);
+  }
+
+  public AsyncQueueListener(
+      List<EventListenerPlugin> listeners,
+      String name,
+      int queueCapacity,
+      int dispatcherJoinSeconds,
+      DispatchMode dispatchMode,
+      int dispatchBatchSize,
+      long enqueueTimeoutMs) {
+    Preconditions.checkArgument(dispatchBatchSize > 0, "dispatchBatchSize must be positive");
     this.asyncQueueListenerName = NAME_PREFIX + name;
     this.eventListeners = listeners;
-    this.queue = new LinkedBlockingQueue<>(queueCapacity);
-    this.asyncProcessor = new Thread(() -> processEvents());
     this.dispatcherJoinSeconds = dispatcherJoinSeconds;
-    asyncProcessor.setDaemon(true);
-    asyncProcessor.setName(asyncQueueListenerName);
+    this.dispatchBatchSize = dispatchBatchSize;
+    this.enqueueTimeoutMs = enqueueTimeoutMs;
+    this.metricsSource =
+        new MetricsSource(MetricsSource.ASYNC_EVENT_LISTENER_METRIC_NAME + "." + name) {};
+
+    this.dispatchers = new ArrayList<>();
+    if (dispatchMode == DispatchMode.PER_LISTENER && listeners.size() > 1) {
+      for (EventListenerPlugin listener : listeners) {
+        String dispatcherName =
+            listener instanceof EventListenerPluginWrapper
+                ? ((EventListenerPluginWrapper) listener).listenerName()
+                : String.valueOf(dispatchers.size());
+        dispatchers.add(
+            new Dispatcher(dispatcherName, ImmutableList.of(listener), queueCapacity));
+      }
+    } else {
+      dispatchers.add(new Dispatcher(name, listeners, queueCapacity));
+    }
   }
 
   @Override
@@ -76,11 +121,10 @@ public class AsyncQueueListener implements EventListenerPlugin {
       return;
     }
 
-    if (queue.offer(event)) {
-      return;
-    }
-
-    logDropEventsIfNecessary();
+    // All the queues share one deadline, so the caller waits for at most enqueueTimeoutMs no
+    // matter how many queues are full.
+    long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(enqueueTimeoutMs);
+    dispatchers.forEach(dispatcher -> dispatcher.offer(event, deadlineNanos));
   }
 
   @Override
@@ -92,20 +136,30 @@ public class AsyncQueueListener implements EventListenerPlugin {
   @Override
   public void start() {
     eventListeners.forEach(listenerPlugin -> listenerPlugin.start());
-    asyncProcessor.start();
+    dispatchers.forEach(dispatcher -> dispatcher.thread.start());
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
   }
 
   @Override
   public void stop() {
     Preconditions.checkState(!stopped.get(), asyncQueueListenerName + " had already stopped");
     stopped.compareAndSet(false, true);
-    asyncProcessor.interrupt();
-    try {
-      asyncProcessor.join(dispatcherJoinSeconds * 1000L);
-    } catch (InterruptedException e) {
-      LOG.warn("{} interrupt async processor failed.", asyncQueueListenerName, e);
+    dispatchers.forEach(dispatcher -> dispatcher.thread.interrupt());
+    for (Dispatcher dispatcher : dispatchers) {
+      try {
+        dispatcher.thread.join(dispatcherJoinSeconds * 1000L);
+      } catch (InterruptedException e) {
+        LOG.warn("{} interrupt async processor failed.", asyncQueueListenerName, e);
+      }
     }
     eventListeners.forEach(listenerPlugin -> listenerPlugin.stop());
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
   }
 
   @VisibleForTesting
@@ -113,43 +167,122 @@ public class AsyncQueueListener implements EventListenerPlugin {
     return this.eventListeners;
   }
 
-  private void processEvents() {
-    while (!Thread.currentThread().isInterrupted()) {
+  @VisibleForTesting
+  int getDispatcherCount() {
+    return dispatchers.size();
+  }
+
+  @VisibleForTesting
+  MetricsSource getMetricsSource() {
+    return metricsSource;
+  }
+
+  /** A queue and the thread dispatching its events to some listeners. */
+  private class Dispatcher {
+    private final String name;
+    private final List<EventListenerPlugin> listeners;
+    private final BlockingQueue<Event> queue;
+    private final Thread thread;
+    private final Counter droppedCounter;
+    private final Counter dispatchedCounter;
+    private final AtomicLong dropEventCounters = new AtomicLong(0);
+    private final AtomicLong lastDropEventCounters = new AtomicLong(0);
+    private volatile Instant lastRecordDropEventTime = Instant.now();
+
+    private Dispatcher(String name, List<EventListenerPlugin> listeners, int queueCapacity) {
+      this.name = name;
+      this.listeners = listeners;
+      this.queue = new LinkedBlockingQueue<>(queueCapacity);
+      this.thread = new Thread(() -> processEvents());
+      thread.setDaemon(true);
+      thread.setName(NAME_PREFIX + name);
+
+      metricsSource.registerGauge(metricName(MetricNames.EVENT_QUEUE_SIZE), queue::size);
+      metricsSource.registerGauge(metricName(MetricNames.EVENT_QUEUE_LAG_MS), this::lagMs);
+      this.droppedCounter = metricsSource.getCounter(metricName(MetricNames.EVENT_DROPPED_COUNT));
+      this.dispatchedCounter =
+          metricsSource.getCounter(metricName(MetricNames.EVENT_DISPATCHED_COUNT));
+    }
+
+    private String metricName(String metric) {
+      return name + "." + metric;
+    }
+
+    private void offer(Event event, long deadlineNanos) {
+      boolean offered;
       try {
-        Event event = queue.take();
-        this.eventListeners.forEach(listener -> listener.onPostEvent(event));
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        offered =
+            remainingNanos > 0
+                ? queue.offer(event, remainingNanos, TimeUnit.NANOSECONDS)
+                : queue.offer(event);
       } catch (InterruptedException e) {
-        LOG.warn("{} event dispatcher thread is interrupted.", asyncQueueListenerName);
-        break;
-      } catch (Exception e) {
-        LOG.warn("{} throw a exception while processing event", asyncQueueListenerName, e);
+        Thread.currentThread().interrupt();
+        offered = false;
+      }
+
+      if (!offered) {
+        droppedCounter.inc();
+        logDropEventsIfNecessary();
       }
     }
 
-    if (!queue.isEmpty()) {
-      LOG.warn(
-          "{} drop {} events since dispatch thread is interrupted",
-          asyncQueueListenerName,
-          queue.size());
+    // The time the oldest queued event has been waiting, in milliseconds.
+    private long lagMs() {
+      Event event = queue.peek();
+      return event == null ? 0 : Math.max(0, System.currentTimeMillis() - event.eventTime());
     }
-  }
 
-  private void logDropEventsIfNecessary() {
-    long currentDropEvents = dropEventCounters.incrementAndGet();
-    long lastDropEvents = lastDropEventCounters.get();
-    // dropEvents may less than zero in such conditions:
-    // 1. Thread A increment dropEventCounters
-    // 2. Thread B increment dropEventCounters and update lastDropEventCounters
-    // 3. Thread A get lastDropEventCounters
-    long dropEvents = currentDropEvents - lastDropEvents;
-    if (dropEvents > 0 && Instant.now().isAfter(lastRecordDropEventTime.plusSeconds(60))) {
-      if (lastDropEventCounters.compareAndSet(lastDropEvents, currentDropEvents)) {
+    private void processEvents() {
+      List<Event> events = new ArrayList<>(dispatchBatchSize);
+      while (!Thread.currentThread().isInterrupted()) {
+        try {
+          events.add(queue.take());
+          queue.drainTo(events, dispatchBatchSize - 1);
+          dispatch(events);
+        } catch (InterruptedException e) {
+          LOG.warn("{} event dispatcher thread is interrupted.", thread.getName());
+          break;
+        } catch (Exception e) {
+          LOG.warn("{} throw a exception while processing event", thread.getName(), e);
+        } finally {
+          events.clear();
+        }
+      }
+
+      if (!queue.isEmpty()) {
         LOG.warn(
-            "{} drop {} events since {}",
-            asyncQueueListenerName,
-            dropEvents,
-            lastRecordDropEventTime);
-        lastRecordDropEventTime = Instant.now();
+            "{} drop {} events since dispatch thread is interrupted",
+            thread.getName(),
+            queue.size());
+      }
+    }
+
+    private void dispatch(List<Event> events) {
+      if (events.size() == 1) {
+        Event event = events.get(0);
+        listeners.forEach(listener -> listener.onPostEvent(event));
+      } else {
+        List<Event> batch = ImmutableList.copyOf(events);
+        listeners.forEach(listener -> listener.onPostEvents(batch));
+      }
+      dispatchedCounter.inc(events.size());
+    }
+
+    private void logDropEventsIfNecessary() {
+      long currentDropEvents = dropEventCounters.incrementAndGet();
+      long lastDropEvents = lastDropEventCounters.get();
+      // dropEvents may less than zero in such conditions:
+      // 1. Thread A increment dropEventCounters
+      // 2. Thread B increment dropEventCounters and update lastDropEventCounters
+      // 3. Thread A get lastDropEventCounters
+      long dropEvents = currentDropEvents - lastDropEvents;
+      if (dropEvents > 0 && Instant.now().isAfter(lastRecordDropEventTime.plusSeconds(60))) {
+        if (lastDropEventCounters.compareAndSet(lastDropEvents, currentDropEvents)) {
+          LOG.warn(
+              "{} drop {} events since {}", thread.getName(), dropEvents, lastRecordDropEventTime);
+          lastRecordDropEventTime = Instant.now();
+        }
       }
     }
   }
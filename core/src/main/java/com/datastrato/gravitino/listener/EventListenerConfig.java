@@ -22,6 +22,7 @@ import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.config.ConfigBuilder;
 import com.datastrato.gravitino.config.ConfigConstants;
 import com.datastrato.gravitino.config.ConfigEntry;
+import java.util.Locale;
 import java.util.Map;
 
 class EventListenerConfig extends Config {
@@ -48,6 +49,44 @@ class EventListenerConfig extends Config {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(3);
 
+  static final ConfigEntry<String> DISPATCH_MODE =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCH_MODE)
+          .doc(
+              "How the shared async event dispatcher delivers events to its listeners, SHARED "
+                  + "for one queue and thread, PER_LISTENER for a queue and thread per listener")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .stringConf()
+          .checkValue(
+              value -> {
+                try {
+                  AsyncQueueListener.DispatchMode.valueOf(value.toUpperCase(Locale.ROOT));
+                  return true;
+                } catch (IllegalArgumentException e) {
+                  return false;
+                }
+              },
+              "The value must be one of SHARED, PER_LISTENER")
+          .createWithDefault(AsyncQueueListener.DispatchMode.SHARED.name());
+
+  static final ConfigEntry<Integer> DISPATCH_BATCH_SIZE =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCH_BATCH_SIZE)
+          .doc("The max number of queued events delivered to an async listener in one call")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
+  static final ConfigEntry<Long> ENQUEUE_TIMEOUT_MS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_ENQUEUE_TIMEOUT_MS)
+          .doc(
+              "The milliseconds to wait for space in a full async queue before dropping the "
+                  + "event, 0 means dropping the event immediately. In the PER_LISTENER dispatch "
+                  + "mode, the time is shared by all the full queues of an event")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
   EventListenerConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
@@ -27,6 +27,7 @@ import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -54,17 +55,28 @@ public class EventListenerManager {
   @VisibleForTesting static final String GRAVITINO_EVENT_LISTENER_CLASS = "class";
   static final String GRAVITINO_EVENT_LISTENER_QUEUE_CAPACITY = "queueCapacity";
   static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_JOIN_SECONDS = "dispatcherJoinSeconds";
+  static final String GRAVITINO_EVENT_LISTENER_DISPATCH_MODE = "dispatchMode";
+  static final String GRAVITINO_EVENT_LISTENER_DISPATCH_BATCH_SIZE = "dispatchBatchSize";
+  static final String GRAVITINO_EVENT_LISTENER_ENQUEUE_TIMEOUT_MS = "enqueueTimeoutMs";
   private static final Splitter splitter = Splitter.on(",");
   private static final Joiner DOT = Joiner.on(".");
 
   private int queueCapacity;
   private int dispatcherJoinSeconds;
+  private AsyncQueueListener.DispatchMode dispatchMode;
+  private int dispatchBatchSize;
+  private long enqueueTimeoutMs;
   private List<EventListenerPlugin> eventListeners;
 
   public void init(Map<String, String> properties) {
     EventListenerConfig config = new EventListenerConfig(properties);
     this.queueCapacity = config.get(EventListenerConfig.QUEUE_CAPACITY);
     this.dispatcherJoinSeconds = config.get(EventListenerConfig.DISPATCHER_JOIN_SECONDS);
+    this.dispatchMode =
+        AsyncQueueListener.DispatchMode.valueOf(
+            config.get(EventListenerConfig.DISPATCH_MODE).toUpperCase(Locale.ROOT));
+    this.dispatchBatchSize = config.get(EventListenerConfig.DISPATCH_BATCH_SIZE);
+    this.enqueueTimeoutMs = config.get(EventListenerConfig.ENQUEUE_TIMEOUT_MS);
 
     String eventListenerNames = config.get(EventListenerConfig.LISTENER_NAMES);
     Map<String, EventListenerPlugin> userEventListenerPlugins =
@@ -116,7 +128,10 @@ public class EventListenerManager {
                           ImmutableList.of(new EventListenerPluginWrapper(listenerName, listener)),
                           listenerName,
                           queueCapacity,
-                          dispatcherJoinSeconds);
+                          dispatcherJoinSeconds,
+                          dispatchMode,
+                          dispatchBatchSize,
+                          enqueueTimeoutMs);
                     case ASYNC_SHARED:
                       sharedQueueListeners.add(
                           new EventListenerPluginWrapper(listenerName, listener));
@@ -131,7 +146,13 @@ public class EventListenerManager {
     if (!sharedQueueListeners.isEmpty()) {
       listeners.add(
           new AsyncQueueListener(
-              sharedQueueListeners, "default", queueCapacity, dispatcherJoinSeconds));
+              sharedQueueListeners,
+              "default",
+              queueCapacity,
+              dispatcherJoinSeconds,
+              dispatchMode,
+              dispatchBatchSize,
+              enqueueTimeoutMs));
     }
     return listeners;
   }
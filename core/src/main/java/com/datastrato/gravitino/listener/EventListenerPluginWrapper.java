@@ -21,6 +21,7 @@ package com.datastrato.gravitino.listener;
 import com.datastrato.gravitino.listener.api.EventListenerPlugin;
 import com.datastrato.gravitino.listener.api.event.Event;
 import com.google.common.annotations.VisibleForTesting;
+import java.util.List;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,6 +75,19 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
     }
   }
 
+  @Override
+  public void onPostEvents(List<Event> events) {
+    try {
+      userEventListener.onPostEvents(events);
+    } catch (Exception e) {
+      LOG.warn("Event listener {} process {} events failed,", listenerName, events.size(), e);
+    }
+  }
+
+  String listenerName() {
+    return listenerName;
+  }
+
   @VisibleForTesting
   EventListenerPlugin getUserEventListener() {
     return userEventListener;
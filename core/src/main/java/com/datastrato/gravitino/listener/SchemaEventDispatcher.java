@@ -18,6 +18,7 @@
 
 package com.datastrato.gravitino.listener;
 
+import com.datastrato.gravitino.ListPage;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.Schema;
@@ -77,6 +78,20 @@ public class SchemaEventDispatcher implements SchemaDispatcher {
     }
   }
 
+  @Override
+  public ListPage<NameIdentifier> listSchemas(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchCatalogException {
+    try {
+      ListPage<NameIdentifier> page = dispatcher.listSchemas(namespace, pageToken, pageSize);
+      eventBus.dispatchEvent(new ListSchemaEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      return page;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+      throw e;
+    }
+  }
+
   @Override
   public boolean schemaExists(NameIdentifier ident) {
     return dispatcher.schemaExists(ident);
@@ -18,6 +18,7 @@
 
 package com.datastrato.gravitino.listener;
 
+import com.datastrato.gravitino.ListPage;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.catalog.TableDispatcher;
@@ -83,6 +84,20 @@ public class TableEventDispatcher implements TableDispatcher {
     }
   }
 
+  @Override
+  public ListPage<NameIdentifier> listTables(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    try {
+      ListPage<NameIdentifier> page = dispatcher.listTables(namespace, pageToken, pageSize);
+      eventBus.dispatchEvent(new ListTableEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      return page;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListTableFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+      throw e;
+    }
+  }
+
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     try {
@@ -97,6 +112,25 @@ public class TableEventDispatcher implements TableDispatcher {
     }
   }
 
+  @Override
+  public Table[] loadTables(Namespace namespace, String... tableNames)
+      throws NoSuchSchemaException {
+    try {
+      Table[] tables = dispatcher.loadTables(namespace, tableNames);
+      String user = PrincipalUtils.getCurrentUserName();
+      for (Table table : tables) {
+        eventBus.dispatchEvent(
+            new LoadTableEvent(
+                user, NameIdentifier.of(namespace, table.name()), new TableInfo(table)));
+      }
+      return tables;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListTableFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+      throw e;
+    }
+  }
+
   @Override
   public Table createTable(
       NameIdentifier ident,
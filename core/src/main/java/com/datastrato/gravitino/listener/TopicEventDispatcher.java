@@ -21,6 +21,7 @@ package com.datastrato.gravitino.listener;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.catalog.TopicDispatcher;
+import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
 import com.datastrato.gravitino.exceptions.NoSuchTopicException;
 import com.datastrato.gravitino.exceptions.TopicAlreadyExistsException;
 import com.datastrato.gravitino.listener.api.event.AlterTopicEvent;
@@ -119,6 +120,25 @@ public class TopicEventDispatcher implements TopicDispatcher {
     }
   }
 
+  @Override
+  public Topic[] loadTopics(Namespace namespace, String... topicNames)
+      throws NoSuchSchemaException {
+    try {
+      Topic[] topics = dispatcher.loadTopics(namespace, topicNames);
+      String user = PrincipalUtils.getCurrentUserName();
+      for (Topic topic : topics) {
+        eventBus.dispatchEvent(
+            new LoadTopicEvent(
+                user, NameIdentifier.of(namespace, topic.name()), new TopicInfo(topic)));
+      }
+      return topics;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListTopicFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+      throw e;
+    }
+  }
+
   @Override
   public boolean topicExists(NameIdentifier ident) {
     return dispatcher.topicExists(ident);
@@ -20,6 +20,7 @@ package com.datastrato.gravitino.listener.api;
 
 import com.datastrato.gravitino.annotation.DeveloperApi;
 import com.datastrato.gravitino.listener.api.event.Event;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -106,6 +107,37 @@ public interface EventListenerPlugin {
    */
   void onPostEvent(Event event) throws RuntimeException;
 
+  /**
+   * Handles a batch of events in the order they occurred. Asynchronous dispatchers deliver the
+   * events queued up while the listener was busy in one call, listeners that could process events
+   * in bulk, like writing them to an external system in one request, may override it.
+   *
+   * <p>The default implementation calls {@link #onPostEvent(Event)} for each event, an event that
+   * fails doesn't stop the others. Implementers overriding it shouldn't drop the whole batch for
+   * one failed event either.
+   *
+   * @param events The events to be processed.
+   * @throws RuntimeException Indicates issues encountered during event processing, thrown after all
+   *     the events are processed, with the failures of the later events suppressed.
+   */
+  default void onPostEvents(List<Event> events) throws RuntimeException {
+    RuntimeException failure = null;
+    for (Event event : events) {
+      try {
+        onPostEvent(event);
+      } catch (RuntimeException e) {
+        if (failure == null) {
+          failure = e;
+        } else if (failure != e) {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
   /**
    * Specifies the default operational mode for event processing by the plugin. The default
    * implementation is synchronous, but implementers can override this to utilize asynchronous
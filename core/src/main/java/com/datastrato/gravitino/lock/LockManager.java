@@ -19,6 +19,9 @@
 
 package com.datastrato.gravitino.lock;
 
+import static com.datastrato.gravitino.Configs.LOCK_MODE;
+import static com.datastrato.gravitino.Configs.LOCK_STRIPES;
+import static com.datastrato.gravitino.Configs.STRIPED_LOCK_MODE;
 import static com.datastrato.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static com.datastrato.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static com.datastrato.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
@@ -28,7 +31,10 @@ import com.datastrato.gravitino.NameIdentifier;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -45,6 +51,19 @@ import org.slf4j.LoggerFactory;
  *
  * <p>It has two main functions: 1. Create the tree lock. 2. Clean up the stale tree lock nodes
  * shared by all tree lock instances.
+ *
+ * <p>In the striped mode, the lock manager doesn't create a node for each resource path. Instead,
+ * the resource path of each level is hashed to one of a fixed number of nodes of that level, so no
+ * node needs to be created or cleaned up. The READ/WRITE semantics along the path are the same as
+ * the tree mode, except that two resource paths of the same level may share a node and block each
+ * other.
+ *
+ * <p>As the shared node is reentrant, a thread can lock two colliding resource paths at the same
+ * time with READ locks, or with a WRITE lock first. However, a thread holding a READ lock on a
+ * resource path can't acquire a WRITE lock on another resource path sharing the same node, since a
+ * read lock can't be upgraded. Instead of waiting for itself forever, {@link TreeLock#lock} fails
+ * with an {@link IllegalStateException} in this case. The more stripes are configured, the less
+ * likely two resource paths collide.
  */
 public class LockManager {
   private static final Logger LOG = LoggerFactory.getLogger(LockManager.class);
@@ -63,6 +82,16 @@ public class LockManager {
   // The interval in seconds to clean up the stale tree lock nodes.
   @VisibleForTesting long cleanTreeNodeIntervalInSecs;
 
+  // Whether to use the striped lock nodes instead of creating a node for each resource path.
+  @VisibleForTesting final boolean striped;
+
+  // The number of the striped lock nodes of each level.
+  @VisibleForTesting int lockStripes;
+
+  // The striped lock nodes of each level, the key is the depth of the level starting from 0.
+  @VisibleForTesting
+  final Map<Integer, TreeLockNode[]> stripedLockNodes = new ConcurrentHashMap<>();
+
   private void initParameters(Config config) {
     long maxNodesInMemory = config.get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     if (maxNodesInMemory <= 0) {
@@ -113,6 +142,9 @@ public class LockManager {
         () -> {
           LOG.info("Start to check the dead lock...");
           checkDeadLock(treeLockRootNode);
+          stripedLockNodes
+              .values()
+              .forEach(nodes -> Arrays.stream(nodes).forEach(this::checkDeadLock));
           LOG.info("Finish to check the dead lock...");
         },
         0,
@@ -178,12 +210,18 @@ public class LockManager {
 
   public LockManager(Config config) {
     treeLockRootNode = new TreeLockNode(ROOT.name());
+    striped = STRIPED_LOCK_MODE.equalsIgnoreCase(config.get(LOCK_MODE));
 
-    // Init the parameters.
-    initParameters(config);
+    if (striped) {
+      // The striped lock nodes are never created or evicted on demand, no cleaner is needed.
+      lockStripes = config.get(LOCK_STRIPES);
+    } else {
+      // Init the parameters.
+      initParameters(config);
 
-    // Start tree lock cleaner.
-    startNodeCleaner();
+      // Start tree lock cleaner.
+      startNodeCleaner();
+    }
 
     // Start deadlock checker.
     startDeadLockChecker();
@@ -234,6 +272,10 @@ public class LockManager {
    */
   @SuppressWarnings("ReferenceEquality")
   public TreeLock createTreeLock(NameIdentifier identifier) {
+    if (striped) {
+      return createStripedTreeLock(identifier);
+    }
+
     checkTreeNodeIsFull();
 
     List<TreeLockNode> treeLockNodes = Lists.newArrayList();
@@ -278,6 +320,49 @@ public class LockManager {
     }
   }
 
+  /**
+   * Create a tree lock with the given identifier from the striped lock nodes. The node of each
+   * level is selected by the hash of the resource path from the root to that level, so that the
+   * same resource path is always locked by the same nodes.
+   *
+   * @param identifier The identifier of the tree lock.
+   * @return The created tree lock.
+   */
+  @SuppressWarnings("ReferenceEquality")
+  private TreeLock createStripedTreeLock(NameIdentifier identifier) {
+    List<TreeLockNode> treeLockNodes = Lists.newArrayList(treeLockRootNode);
+    // Avoid to use value equality instead of reference equality here, the same as the tree mode.
+    if (identifier != ROOT) {
+      String[] levels = ArrayUtils.add(identifier.namespace().levels(), identifier.name());
+      int hash = 0;
+      for (int depth = 0; depth < levels.length; depth++) {
+        hash = 31 * hash + levels[depth].hashCode();
+        treeLockNodes.add(getStripedLockNode(depth, hash));
+      }
+    }
+
+    // The striped lock nodes are never evicted, the reference count is only kept balanced with
+    // the decrease in TreeLockNode#unlock.
+    treeLockNodes.forEach(TreeLockNode::addReference);
+    return new TreeLock(treeLockNodes, identifier);
+  }
+
+  private TreeLockNode getStripedLockNode(int depth, int hash) {
+    TreeLockNode[] nodes =
+        stripedLockNodes.computeIfAbsent(
+            depth,
+            d -> {
+              TreeLockNode[] levelNodes = new TreeLockNode[lockStripes];
+              for (int i = 0; i < lockStripes; i++) {
+                levelNodes[i] = new TreeLockNode(String.format("level-%d-stripe-%d", d, i));
+              }
+              return levelNodes;
+            });
+
+    // Mix the higher bits of the hash into the lower bits before taking the modulo.
+    return nodes[Math.floorMod(hash ^ (hash >>> 16), lockStripes)];
+  }
+
   /**
    * Check if the total node count is greater than the maxTreeNodeInMemory, if so, we should throw
    * an exception.
@@ -90,11 +90,21 @@ public class TreeLockNode {
    * #unlock(LockType)}.
    *
    * @param lockType The lock type to lock the node.
+   * @throws IllegalStateException If the current thread requests the write lock while holding the
+   *     read lock of this node.
    */
   void lock(LockType lockType) {
     if (lockType == LockType.READ) {
       readWriteLock.readLock().lock();
     } else {
+      // A read lock can't be upgraded to a write lock, the current thread would wait for itself
+      // forever. This may happen when two resource paths share the same striped lock node.
+      if (readWriteLock.getReadHoldCount() > 0) {
+        throw new IllegalStateException(
+            String.format(
+                "Thread %s can't acquire the write lock of node %s while holding its read lock",
+                Thread.currentThread(), this));
+      }
       readWriteLock.writeLock().lock();
     }
 
@@ -25,6 +25,7 @@ import com.datastrato.gravitino.MetalakeChange;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.StringIdentifier;
+import com.datastrato.gravitino.catalog.CatalogChangeTracker;
 import com.datastrato.gravitino.exceptions.AlreadyExistsException;
 import com.datastrato.gravitino.exceptions.MetalakeAlreadyExistsException;
 import com.datastrato.gravitino.exceptions.NoSuchEntityException;
@@ -52,6 +53,8 @@ public class MetalakeManager implements MetalakeDispatcher {
 
   private final IdGenerator idGenerator;
 
+  private final CatalogChangeTracker catalogChangeTracker;
+
   /**
    * Constructs a MetalakeManager instance.
    *
@@ -59,8 +62,21 @@ public class MetalakeManager implements MetalakeDispatcher {
    * @param idGenerator The IdGenerator to use for generating Metalake identifiers.
    */
   public MetalakeManager(EntityStore store, IdGenerator idGenerator) {
+    this(store, idGenerator, new CatalogChangeTracker());
+  }
+
+  /**
+   * Constructs a MetalakeManager instance.
+   *
+   * @param store The EntityStore to use for managing Metalakes.
+   * @param idGenerator The IdGenerator to use for generating Metalake identifiers.
+   * @param catalogChangeTracker The tracker to record the catalogs dropped along with a Metalake.
+   */
+  public MetalakeManager(
+      EntityStore store, IdGenerator idGenerator, CatalogChangeTracker catalogChangeTracker) {
     this.store = store;
     this.idGenerator = idGenerator;
+    this.catalogChangeTracker = catalogChangeTracker;
   }
 
   /**
@@ -158,37 +174,44 @@ public class MetalakeManager implements MetalakeDispatcher {
   public BaseMetalake alterMetalake(NameIdentifier ident, MetalakeChange... changes)
       throws NoSuchMetalakeException, IllegalArgumentException {
     try {
-      return store.update(
-          ident,
-          BaseMetalake.class,
-          EntityType.METALAKE,
-          metalake -> {
-            BaseMetalake.Builder builder =
-                BaseMetalake.builder()
-                    .withId(metalake.id())
-                    .withName(metalake.name())
-                    .withComment(metalake.comment())
-                    .withProperties(metalake.properties())
-                    .withVersion(metalake.getVersion());
+      BaseMetalake updatedMetalake =
+          store.update(
+              ident,
+              BaseMetalake.class,
+              EntityType.METALAKE,
+              metalake -> {
+                BaseMetalake.Builder builder =
+                    BaseMetalake.builder()
+                        .withId(metalake.id())
+                        .withName(metalake.name())
+                        .withComment(metalake.comment())
+                        .withProperties(metalake.properties())
+                        .withVersion(metalake.getVersion());
 
-            AuditInfo newInfo =
-                AuditInfo.builder()
-                    .withCreator(metalake.auditInfo().creator())
-                    .withCreateTime(metalake.auditInfo().createTime())
-                    .withLastModifier(
-                        metalake.auditInfo().creator()) /*TODO: Use real user later on.  */
-                    .withLastModifiedTime(Instant.now())
-                    .build();
-            builder.withAuditInfo(newInfo);
+                AuditInfo newInfo =
+                    AuditInfo.builder()
+                        .withCreator(metalake.auditInfo().creator())
+                        .withCreateTime(metalake.auditInfo().createTime())
+                        .withLastModifier(
+                            metalake.auditInfo().creator()) /*TODO: Use real user later on.  */
+                        .withLastModifiedTime(Instant.now())
+                        .build();
+                builder.withAuditInfo(newInfo);
 
-            Map<String, String> newProps =
-                metalake.properties() == null
-                    ? Maps.newHashMap()
-                    : Maps.newHashMap(metalake.properties());
-            builder = updateEntity(builder, newProps, changes);
+                Map<String, String> newProps =
+                    metalake.properties() == null
+                        ? Maps.newHashMap()
+                        : Maps.newHashMap(metalake.properties());
+                builder = updateEntity(builder, newProps, changes);
 
-            return builder.build();
-          });
+                return builder.build();
+              });
+
+      // The catalogs of the old name are gone after a rename.
+      if (!updatedMetalake.name().equals(ident.name())) {
+        catalogChangeTracker.recordMetalakeDropped(ident);
+      }
+      return updatedMetalake;
 
     } catch (NoSuchEntityException ne) {
       LOG.warn("Metalake {} does not exist", ident, ne);
@@ -214,7 +237,11 @@ public class MetalakeManager implements MetalakeDispatcher {
   @Override
   public boolean dropMetalake(NameIdentifier ident) {
     try {
-      return store.delete(ident, EntityType.METALAKE);
+      boolean dropped = store.delete(ident, EntityType.METALAKE);
+      if (dropped) {
+        catalogChangeTracker.recordMetalakeDropped(ident);
+      }
+      return dropped;
     } catch (IOException ioe) {
       LOG.error("Deleting metalake {} failed due to storage issues", ident, ioe);
       throw new RuntimeException(ioe);
@@ -22,6 +22,33 @@ package com.datastrato.gravitino.metrics;
 public class MetricNames {
   public static final String HTTP_PROCESS_DURATION = "http-request-duration-seconds";
   public static final String SERVER_IDLE_THREAD_NUM = "http-server.idle-thread.num";
+  public static final String CACHE_HIT_COUNT = "cache.hit.count";
+  public static final String CACHE_MISS_COUNT = "cache.miss.count";
+  public static final String CACHE_EVICTION_COUNT = "cache.eviction.count";
+  public static final String CACHE_EVICTION_WEIGHT = "cache.eviction.weight";
+  public static final String CACHE_SIZE = "cache.size";
+  public static final String CATALOG_LOAD_DURATION = "catalog.load.duration";
+  public static final String CATALOG_LOAD_FAILURE_COUNT = "catalog.load.failure.count";
+  public static final String EVENT_QUEUE_SIZE = "event.queue.size";
+  public static final String EVENT_QUEUE_LAG_MS = "event.queue.lag-ms";
+  public static final String EVENT_DROPPED_COUNT = "event.dropped.count";
+  public static final String EVENT_DISPATCHED_COUNT = "event.dispatched.count";
+  public static final String ROCKSDB_BLOCK_CACHE_HIT_COUNT = "rocksdb.block-cache.hit.count";
+  public static final String ROCKSDB_BLOCK_CACHE_MISS_COUNT = "rocksdb.block-cache.miss.count";
+  public static final String ROCKSDB_BLOCK_CACHE_HIT_RATIO = "rocksdb.block-cache.hit-ratio";
+  public static final String ROCKSDB_BLOCK_CACHE_USAGE = "rocksdb.block-cache.usage-bytes";
+  public static final String ROCKSDB_BLOOM_FILTER_USEFUL_COUNT =
+      "rocksdb.bloom-filter.useful.count";
+  public static final String ROCKSDB_BLOOM_FILTER_PREFIX_USEFUL_COUNT =
+      "rocksdb.bloom-filter.prefix-useful.count";
+  public static final String ROCKSDB_WRITE_STALL_MICROS = "rocksdb.write-stall.micros";
+  public static final String ROCKSDB_COMPACTION_READ_BYTES = "rocksdb.compaction.read-bytes";
+  public static final String ROCKSDB_COMPACTION_WRITE_BYTES = "rocksdb.compaction.write-bytes";
+  public static final String ROCKSDB_COMPACTION_PENDING_BYTES = "rocksdb.compaction.pending-bytes";
+  public static final String GC_LAG_MS = "gc.lag-ms";
+  public static final String GC_DELETED_KEYS_COUNT = "gc.deleted-keys.count";
+  public static final String GC_RECLAIMED_BYTES = "gc.reclaimed.bytes";
+  public static final String GC_DURATION = "gc.duration";
 
   private MetricNames() {}
 }
@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.metrics.source;
+
+import com.datastrato.gravitino.metrics.MetricNames;
+import com.github.benmanes.caffeine.cache.Cache;
+
+/** Exposes the statistics of a Caffeine cache, the cache must be built with recordStats. */
+public class CacheMetricsSource extends MetricsSource {
+  public CacheMetricsSource(String name, Cache<?, ?> cache) {
+    super(name);
+    registerGauge(MetricNames.CACHE_HIT_COUNT, () -> cache.stats().hitCount());
+    registerGauge(MetricNames.CACHE_MISS_COUNT, () -> cache.stats().missCount());
+    registerGauge(MetricNames.CACHE_EVICTION_COUNT, () -> cache.stats().evictionCount());
+    registerGauge(MetricNames.CACHE_EVICTION_WEIGHT, () -> cache.stats().evictionWeight());
+    registerGauge(MetricNames.CACHE_SIZE, cache::estimatedSize);
+  }
+}
@@ -41,6 +41,11 @@ public abstract class MetricsSource {
   public static final String ICEBERG_REST_SERVER_METRIC_NAME = "iceberg-rest-server";
   public static final String GRAVITINO_SERVER_METRIC_NAME = "gravitino-server";
   public static final String JVM_METRIC_NAME = "jvm";
+  public static final String CATALOG_METRIC_NAME = "catalog";
+  public static final String CATALOG_METADATA_CACHE_METRIC_NAME = "catalog-metadata-cache";
+  public static final String ASYNC_EVENT_LISTENER_METRIC_NAME = "async-event-listener";
+  public static final String ENTITY_STORE_ROCKSDB_METRIC_NAME = "entity-store-rocksdb";
+  public static final String ENTITY_STORE_GC_METRIC_NAME = "entity-store-gc";
   private final MetricRegistry metricRegistry;
   private final String metricsSourceName;
   private final int timeSlidingWindowSeconds;
@@ -21,163 +21,97 @@ package com.datastrato.gravitino.proto;
 import com.datastrato.gravitino.Entity;
 import com.datastrato.gravitino.EntitySerDe;
 import com.datastrato.gravitino.Namespace;
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
+import com.datastrato.gravitino.storage.StorageLayoutVersion;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.protobuf.Any;
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.Message;
 import java.io.IOException;
-import java.util.Map;
 
+/**
+ * Serializes the entities to proto messages.
+ *
+ * <p>The entities are written in one of two encodings, both of them are readable:
+ *
+ * <ul>
+ *   <li>The legacy encoding wraps the message in a {@link Any}, which embeds the type URL of the
+ *       message in every value. It's used for the storage layout {@link StorageLayoutVersion#V1},
+ *       so the values stay readable by the servers which only support V1.
+ *   <li>The compact encoding is the {@link #COMPACT_ENCODING_V1} byte, the type tag byte of the
+ *       entity in {@link ProtoSerDeRegistry} and the message. It's used since the storage layout
+ *       {@link StorageLayoutVersion#V2}. A serialized {@link Any} always starts with the tag of its
+ *       type URL field, so the two encodings can't be confused.
+ * </ul>
+ */
 public class ProtoEntitySerDe implements EntitySerDe {
 
-  // The implementation of different entities should also register its class to this map,
-  // otherwise ProtoEntitySerDe will not be able to deserialize the entity.
-  private static final Map<String, String> ENTITY_TO_SERDE =
-      ImmutableMap.<String, String>builder()
-          .put(
-              "com.datastrato.gravitino.meta.AuditInfo",
-              "com.datastrato.gravitino.proto.AuditInfoSerDe")
-          .put(
-              "com.datastrato.gravitino.meta.BaseMetalake",
-              "com.datastrato.gravitino.proto.BaseMetalakeSerDe")
-          .put(
-              "com.datastrato.gravitino.meta.CatalogEntity",
-              "com.datastrato.gravitino.proto.CatalogEntitySerDe")
-          .put(
-              "com.datastrato.gravitino.meta.SchemaEntity",
-              "com.datastrato.gravitino.proto.SchemaEntitySerDe")
-          .put(
-              "com.datastrato.gravitino.meta.TableEntity",
-              "com.datastrato.gravitino.proto.TableEntitySerDe")
-          .put(
-              "com.datastrato.gravitino.meta.FilesetEntity",
-              "com.datastrato.gravitino.proto.FilesetEntitySerDe")
-          .put(
-              "com.datastrato.gravitino.meta.TopicEntity",
-              "com.datastrato.gravitino.proto.TopicEntitySerDe")
-          .put(
-              "com.datastrato.gravitino.meta.UserEntity",
-              "com.datastrato.gravitino.proto.UserEntitySerDe")
-          .put(
-              "com.datastrato.gravitino.meta.GroupEntity",
-              "com.datastrato.gravitino.proto.GroupEntitySerDe")
-          .put(
-              "com.datastrato.gravitino.meta.RoleEntity",
-              "com.datastrato.gravitino.proto.RoleEntitySerDe")
-          .build();
+  @VisibleForTesting static final byte COMPACT_ENCODING_V1 = 0x01;
 
-  private static final Map<String, String> ENTITY_TO_PROTO =
-      ImmutableMap.of(
-          "com.datastrato.gravitino.meta.AuditInfo",
-          "com.datastrato.gravitino.proto.AuditInfo",
-          "com.datastrato.gravitino.meta.BaseMetalake",
-          "com.datastrato.gravitino.proto.Metalake",
-          "com.datastrato.gravitino.meta.CatalogEntity",
-          "com.datastrato.gravitino.proto.Catalog",
-          "com.datastrato.gravitino.meta.SchemaEntity",
-          "com.datastrato.gravitino.proto.Schema",
-          "com.datastrato.gravitino.meta.TableEntity",
-          "com.datastrato.gravitino.proto.Table",
-          "com.datastrato.gravitino.meta.FilesetEntity",
-          "com.datastrato.gravitino.proto.Fileset",
-          "com.datastrato.gravitino.meta.TopicEntity",
-          "com.datastrato.gravitino.proto.Topic",
-          "com.datastrato.gravitino.meta.UserEntity",
-          "com.datastrato.gravitino.proto.User",
-          "com.datastrato.gravitino.meta.GroupEntity",
-          "com.datastrato.gravitino.proto.Group",
-          "com.datastrato.gravitino.meta.RoleEntity",
-          "com.datastrato.gravitino.proto.Role");
+  private static final int COMPACT_HEADER_LENGTH = 2;
 
-  private final Map<Class<? extends Entity>, ProtoSerDe<? extends Entity, ? extends Message>>
-      entityToSerDe;
+  private volatile boolean compactEncoding = false;
 
-  private final Map<Class<? extends Entity>, Class<? extends Message>> entityToProto;
-
-  public ProtoEntitySerDe() {
-    this.entityToSerDe = Maps.newConcurrentMap();
-    this.entityToProto = Maps.newConcurrentMap();
+  @Override
+  public void setStorageLayoutVersion(StorageLayoutVersion version) {
+    this.compactEncoding = version.compareTo(StorageLayoutVersion.V2) >= 0;
   }
 
   @Override
   public <T extends Entity> byte[] serialize(T t) throws IOException {
-    Any any = Any.pack(toProto(t, Thread.currentThread().getContextClassLoader()));
-    return any.toByteArray();
+    @SuppressWarnings("unchecked")
+    ProtoSerDeRegistry.Registration<T, Message> registration =
+        registrationOf((Class<T>) t.getClass());
+    Message message = registration.serDe().serialize(t);
+    if (!compactEncoding) {
+      return Any.pack(message).toByteArray();
+    }
+
+    byte[] bytes = new byte[COMPACT_HEADER_LENGTH + message.getSerializedSize()];
+    bytes[0] = COMPACT_ENCODING_V1;
+    bytes[1] = registration.tag();
+    CodedOutputStream output =
+        CodedOutputStream.newInstance(bytes, COMPACT_HEADER_LENGTH, message.getSerializedSize());
+    message.writeTo(output);
+    output.checkNoSpaceLeft();
+    return bytes;
   }
 
   @Override
   public <T extends Entity> T deserialize(
       byte[] bytes, Class<T> clazz, ClassLoader classLoader, Namespace namespace)
       throws IOException {
-    Any any = Any.parseFrom(bytes);
-    Class<? extends Message> protoClass = getProtoClass(clazz, classLoader);
-
-    if (!any.is(protoClass)) {
-      throw new IOException("Invalid proto for entity " + clazz.getName());
+    ProtoSerDeRegistry.Registration<T, Message> registration = registrationOf(clazz);
+    Message message;
+    if (bytes.length > 0 && bytes[0] == COMPACT_ENCODING_V1) {
+      if (bytes.length < COMPACT_HEADER_LENGTH || bytes[1] != registration.tag()) {
+        throw new IOException("Invalid proto for entity " + clazz.getName());
+      }
+      message =
+          registration
+              .parser()
+              .parseFrom(bytes, COMPACT_HEADER_LENGTH, bytes.length - COMPACT_HEADER_LENGTH);
+    } else {
+      Any any = Any.parseFrom(bytes);
+      if (!registration.typeName().equals(typeName(any.getTypeUrl()))) {
+        throw new IOException("Invalid proto for entity " + clazz.getName());
+      }
+      message = registration.parser().parseFrom(any.getValue());
     }
 
-    Message anyMessage = any.unpack(protoClass);
-    return fromProto(anyMessage, clazz, classLoader, namespace);
+    return registration.serDe().deserialize(message, namespace);
   }
 
-  private <T extends Entity, M extends Message> ProtoSerDe<T, M> getProtoSerde(
-      Class<T> entityClass, ClassLoader classLoader) throws IOException {
-    if (!ENTITY_TO_SERDE.containsKey(entityClass.getCanonicalName())
-        || ENTITY_TO_SERDE.get(entityClass.getCanonicalName()) == null) {
+  private static <T extends Entity> ProtoSerDeRegistry.Registration<T, Message> registrationOf(
+      Class<T> entityClass) throws IOException {
+    ProtoSerDeRegistry.Registration<T, Message> registration = ProtoSerDeRegistry.get(entityClass);
+    if (registration == null) {
       throw new IOException("No serde found for entity " + entityClass.getCanonicalName());
     }
-    return (ProtoSerDe<T, M>)
-        entityToSerDe.computeIfAbsent(
-            entityClass,
-            k -> {
-              try {
-                Class<? extends ProtoSerDe<? extends Entity, ? extends Message>> serdeClazz =
-                    (Class<? extends ProtoSerDe<? extends Entity, ? extends Message>>)
-                        loadClass(ENTITY_TO_SERDE.get(k.getCanonicalName()), classLoader);
-                return serdeClazz.getDeclaredConstructor().newInstance();
-              } catch (Exception e) {
-                throw new RuntimeException(
-                    "Failed to instantiate serde class " + k.getCanonicalName(), e);
-              }
-            });
+    return registration;
   }
 
-  private Class<? extends Message> getProtoClass(
-      Class<? extends Entity> entityClass, ClassLoader classLoader) throws IOException {
-    if (!ENTITY_TO_PROTO.containsKey(entityClass.getCanonicalName())
-        || ENTITY_TO_PROTO.get(entityClass.getCanonicalName()) == null) {
-      throw new IOException("No proto class found for entity " + entityClass.getCanonicalName());
-    }
-    return entityToProto.computeIfAbsent(
-        entityClass,
-        k -> {
-          try {
-            return (Class<? extends Message>)
-                loadClass(ENTITY_TO_PROTO.get(k.getCanonicalName()), classLoader);
-          } catch (Exception e) {
-            throw new RuntimeException("Failed to create proto class " + k.getCanonicalName(), e);
-          }
-        });
-  }
-
-  private <T extends Entity, M extends Message> M toProto(T t, ClassLoader classLoader)
-      throws IOException {
-    ProtoSerDe<T, M> protoSerDe = (ProtoSerDe<T, M>) getProtoSerde(t.getClass(), classLoader);
-    return protoSerDe.serialize(t);
-  }
-
-  private <T extends Entity, M extends Message> T fromProto(
-      M m, Class<T> entityClass, ClassLoader classLoader, Namespace namespace) throws IOException {
-    ProtoSerDe<T, Message> protoSerDe = getProtoSerde(entityClass, classLoader);
-    return protoSerDe.deserialize(m, namespace);
-  }
-
-  private Class<?> loadClass(String className, ClassLoader classLoader) throws IOException {
-    try {
-      return Class.forName(className, true, classLoader);
-    } catch (Exception e) {
-      throw new IOException(
-          "Failed to load class " + className + " with classLoader " + classLoader, e);
-    }
+  private static String typeName(String typeUrl) {
+    int slash = typeUrl.lastIndexOf('/');
+    return slash == -1 ? typeUrl : typeUrl.substring(slash + 1);
   }
 }
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.proto;
+
+import com.datastrato.gravitino.Entity;
+import com.datastrato.gravitino.meta.BaseMetalake;
+import com.datastrato.gravitino.meta.CatalogEntity;
+import com.datastrato.gravitino.meta.FilesetEntity;
+import com.datastrato.gravitino.meta.GroupEntity;
+import com.datastrato.gravitino.meta.RoleEntity;
+import com.datastrato.gravitino.meta.SchemaEntity;
+import com.datastrato.gravitino.meta.TableEntity;
+import com.datastrato.gravitino.meta.TopicEntity;
+import com.datastrato.gravitino.meta.UserEntity;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The registry of the {@link ProtoSerDe}s and the proto messages of the entities. The serdes and
+ * the message parsers are created once, so looking them up doesn't involve reflection.
+ *
+ * <p>The type tag of an entity is persisted in the compact encoding of {@link ProtoEntitySerDe}, so
+ * a tag must never be changed or reused. The implementation of a new entity should also be
+ * registered here, otherwise ProtoEntitySerDe will not be able to serialize or deserialize it.
+ */
+final class ProtoSerDeRegistry {
+
+  /** The serde, the message parser and the type tag of an entity class. */
+  static final class Registration<T extends Entity, M extends Message> {
+    private final byte tag;
+    private final String typeName;
+    private final ProtoSerDe<T, M> serDe;
+    private final Parser<M> parser;
+
+    private Registration(
+        byte tag, Descriptor descriptor, ProtoSerDe<T, M> serDe, Parser<M> parser) {
+      this.tag = tag;
+      this.typeName = descriptor.getFullName();
+      this.serDe = serDe;
+      this.parser = parser;
+    }
+
+    byte tag() {
+      return tag;
+    }
+
+    /** The full name of the proto message, which is the type name of the legacy {@code Any}. */
+    String typeName() {
+      return typeName;
+    }
+
+    ProtoSerDe<T, M> serDe() {
+      return serDe;
+    }
+
+    Parser<M> parser() {
+      return parser;
+    }
+  }
+
+  private static final Map<Class<? extends Entity>, Registration<?, ?>> REGISTRATIONS;
+
+  static {
+    Builder builder = new Builder();
+    builder.register(
+        1,
+        com.datastrato.gravitino.meta.AuditInfo.class,
+        AuditInfo.getDescriptor(),
+        new AuditInfoSerDe(),
+        AuditInfo.parser());
+    builder.register(
+        2,
+        BaseMetalake.class,
+        Metalake.getDescriptor(),
+        new BaseMetalakeSerDe(),
+        Metalake.parser());
+    builder.register(
+        3,
+        CatalogEntity.class,
+        Catalog.getDescriptor(),
+        new CatalogEntitySerDe(),
+        Catalog.parser());
+    builder.register(
+        4, SchemaEntity.class, Schema.getDescriptor(), new SchemaEntitySerDe(), Schema.parser());
+    builder.register(
+        5, TableEntity.class, Table.getDescriptor(), new TableEntitySerDe(), Table.parser());
+    builder.register(
+        6,
+        FilesetEntity.class,
+        Fileset.getDescriptor(),
+        new FilesetEntitySerDe(),
+        Fileset.parser());
+    builder.register(
+        7, TopicEntity.class, Topic.getDescriptor(), new TopicEntitySerDe(), Topic.parser());
+    builder.register(
+        8, UserEntity.class, User.getDescriptor(), new UserEntitySerDe(), User.parser());
+    builder.register(
+        9, GroupEntity.class, Group.getDescriptor(), new GroupEntitySerDe(), Group.parser());
+    builder.register(
+        10, RoleEntity.class, Role.getDescriptor(), new RoleEntitySerDe(), Role.parser());
+    REGISTRATIONS = builder.registrations.build();
+  }
+
+  private ProtoSerDeRegistry() {}
+
+  /**
+   * Returns the registration of the entity class.
+   *
+   * @param entityClass The class of the entity.
+   * @return The registration, or null if the entity class isn't registered.
+   */
+  @SuppressWarnings("unchecked")
+  static <T extends Entity> Registration<T, Message> get(Class<T> entityClass) {
+    return (Registration<T, Message>) REGISTRATIONS.get(entityClass);
+  }
+
+  private static class Builder {
+    private final ImmutableMap.Builder<Class<? extends Entity>, Registration<?, ?>> registrations =
+        ImmutableMap.builder();
+    private final Set<Byte> tags = new HashSet<>();
+
+    private <T extends Entity, M extends Message> void register(
+        int tag,
+        Class<T> entityClass,
+        Descriptor descriptor,
+        ProtoSerDe<T, M> serDe,
+        Parser<M> parser) {
+      Preconditions.checkArgument(
+          tag > 0 && tag <= Byte.MAX_VALUE && tags.add((byte) tag),
+          "Invalid or duplicated type tag %s",
+          tag);
+      registrations.put(entityClass, new Registration<>((byte) tag, descriptor, serDe, parser));
+    }
+  }
+}
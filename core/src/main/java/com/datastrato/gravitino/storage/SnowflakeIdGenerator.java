@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.storage;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates time ordered ids from a millisecond timestamp, a node id and a sequence number.
+ *
+ * <p>An id has 41 bits of milliseconds since {@link #EPOCH_MS}, 10 bits of the node id and 12 bits
+ * of the sequence number within the millisecond, so it is always positive. The ids generated by
+ * the same node are increasing, and the ids generated by nodes with different node ids never
+ * collide. Compared with {@link RandomIdGenerator}, new entities are appended to the end of the
+ * key space of the entity store instead of being scattered across it, and no shared {@code
+ * SecureRandom} is involved.
+ *
+ * <p>The last timestamp and sequence number are updated together by a CAS. If the sequence number
+ * of a millisecond runs out, or the clock goes backwards, the generator keeps counting from the
+ * last timestamp, so the ids stay unique and increasing. The last timestamp isn't persisted, so it
+ * runs at most 100 milliseconds ahead of the clock, the generator waits for the clock to catch
+ * up otherwise. A server taking longer than that to restart doesn't generate the same ids again.
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+  /** 2024-01-01T00:00:00Z, the timestamp bits last about 69 years from it. */
+  public static final long EPOCH_MS = 1704067200000L;
+
+  private static final int NODE_ID_BITS = 10;
+  private static final int SEQUENCE_BITS = 12;
+
+  public static final int MAX_NODE_ID = (1 << NODE_ID_BITS) - 1;
+  private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+  /** The maximum milliseconds the timestamp of the ids runs ahead of the clock. */
+  @VisibleForTesting static final long MAX_DRIFT_MS = 100L;
+
+  private final long nodeIdBits;
+  private final LongSupplier clock;
+
+  // The timestamp relative to EPOCH_MS and the sequence number of the last id, laid out as in the
+  // id without the node id bits.
+  private final AtomicLong lastState = new AtomicLong();
+
+  public SnowflakeIdGenerator(int nodeId) {
+    this(nodeId, System::currentTimeMillis);
+  }
+
+  @VisibleForTesting
+  SnowflakeIdGenerator(int nodeId, LongSupplier clock) {
+    Preconditions.checkArgument(
+        nodeId >= 0 && nodeId <= MAX_NODE_ID,
+        "The node id must be from 0 to %s, but is %s",
+        MAX_NODE_ID,
+        nodeId);
+    this.nodeIdBits = (long) nodeId << SEQUENCE_BITS;
+    this.clock = clock;
+  }
+
+  @Override
+  public long nextId() {
+    while (true) {
+      long timestamp = clock.getAsLong() - EPOCH_MS;
+      Preconditions.checkState(timestamp >= 0, "The clock is before %s", EPOCH_MS);
+      long state = lastState.get();
+      long lastTimestamp = state >>> SEQUENCE_BITS;
+      long nextState;
+      if (timestamp > lastTimestamp) {
+        nextState = timestamp << SEQUENCE_BITS;
+      } else {
+        // The same millisecond, or the clock goes backwards. Incrementing the state moves to the
+        // next millisecond when the sequence number runs out.
+        nextState = state + 1;
+      }
+
+      if ((nextState >>> SEQUENCE_BITS) - timestamp > MAX_DRIFT_MS) {
+        // Too far ahead of the clock, wait for it to catch up.
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+      } else if (lastState.compareAndSet(state, nextState)) {
+        long sequence = nextState & MAX_SEQUENCE;
+        long timestampBits = (nextState >>> SEQUENCE_BITS) << (NODE_ID_BITS + SEQUENCE_BITS);
+        return timestampBits | nodeIdBits | sequence;
+      }
+    }
+  }
+}
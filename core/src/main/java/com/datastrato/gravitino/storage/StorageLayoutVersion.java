@@ -24,7 +24,14 @@ import lombok.Getter;
 /** The storage layer version of the entity store. */
 @Getter
 public enum StorageLayoutVersion {
-  V1("v1");
+  /** The entity values are proto messages wrapped in {@code Any}. */
+  V1("v1"),
+
+  /** The entity values may also be in the compact encoding of type tag and proto message. */
+  V2("v2");
+
+  /** The version of the newly created entity stores. */
+  public static final StorageLayoutVersion LATEST = V2;
 
   private final String version;
 
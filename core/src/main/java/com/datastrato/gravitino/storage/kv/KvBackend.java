@@ -78,9 +78,54 @@ public interface KvBackend extends Closeable {
   /**
    * Scans the specified range using the provided KvRangeScan and returns a list of key-value pairs.
    *
+   * <p>A large range can be scanned page by page: set the {@link KvRange#getLimit()} to the page
+   * size, and start the next page from the last returned key with the start exclusive.
+   *
    * @param scanRange The range to scan.
    * @return A list of key-value pairs within the specified range.
    * @throws IOException If an I/O exception occurs during scanning.
    */
   List<Pair<byte[], byte[]>> scan(KvRange scanRange) throws IOException;
+
+  /**
+   * Applies a batch of write operations in order. Backends supporting atomic batch writes, like
+   * RocksDB, apply the whole batch atomically and durably; the default implementation applies the
+   * operations one by one and is not atomic.
+   *
+   * @param batch The batch of write operations.
+   * @throws IOException If an I/O exception occurs during writing.
+   */
+  default void write(KvWriteBatch batch) throws IOException {
+    for (KvWriteBatch.Operation operation : batch.getOperations()) {
+      switch (operation.getType()) {
+        case PUT:
+          put(operation.getKey(), operation.getValue(), true);
+          break;
+        case DELETE:
+          delete(operation.getKey());
+          break;
+        case DELETE_RANGE:
+          deleteRange(
+              new KvRange.KvRangeBuilder()
+                  .start(operation.getKey())
+                  .end(operation.getValue())
+                  .startInclusive(true)
+                  .endInclusive(false)
+                  .build());
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown write operation: " + operation.getType());
+      }
+    }
+  }
+
+  /**
+   * Compacts the data in the range [start, end) to physically drop the deleted data in it. Backends
+   * that don't need compaction ignore it.
+   *
+   * @param start The start key of the range, inclusive.
+   * @param end The end key of the range, exclusive.
+   * @throws IOException If an I/O exception occurs during compaction.
+   */
+  default void compactRange(byte[] start, byte[] end) throws IOException {}
 }
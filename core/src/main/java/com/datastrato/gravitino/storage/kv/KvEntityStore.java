@@ -20,6 +20,7 @@
 package com.datastrato.gravitino.storage.kv;
 
 import static com.datastrato.gravitino.Configs.ENTITY_KV_STORE;
+import static com.datastrato.gravitino.Configs.ENTITY_KV_UPGRADE_LAYOUT_VERSION;
 import static com.datastrato.gravitino.Entity.EntityType.GROUP;
 import static com.datastrato.gravitino.Entity.EntityType.METALAKE;
 import static com.datastrato.gravitino.Entity.EntityType.ROLE;
@@ -36,6 +37,7 @@ import com.datastrato.gravitino.EntitySerDe;
 import com.datastrato.gravitino.EntitySerDeFactory;
 import com.datastrato.gravitino.EntityStore;
 import com.datastrato.gravitino.HasIdentifier;
+import com.datastrato.gravitino.ListPage;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.exceptions.NoSuchEntityException;
@@ -48,11 +50,15 @@ import com.datastrato.gravitino.storage.TransactionIdGenerator;
 import com.datastrato.gravitino.utils.Bytes;
 import com.datastrato.gravitino.utils.Executable;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -105,6 +111,11 @@ public class KvEntityStore implements EntityStore {
     txIdGenerator.start();
 
     this.transactionalKvBackend = new TransactionalKvBackendImpl(backend, txIdGenerator);
+    try {
+      transactionalKvBackend.initialize(config);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to initialize the transactional kv backend", e);
+    }
 
     this.reentrantReadWriteLock = new ReentrantReadWriteLock();
 
@@ -115,12 +126,16 @@ public class KvEntityStore implements EntityStore {
     this.kvGarbageCollector = new KvGarbageCollector(backend, config, entityKeyEncoder);
     kvGarbageCollector.start();
 
-    this.storageLayoutVersion = initStorageVersionInfo();
-    this.serDe = EntitySerDeFactory.createEntitySerDe(config);
+    this.storageLayoutVersion = initStorageVersionInfo(config);
+    setSerDe(EntitySerDeFactory.createEntitySerDe(config));
   }
 
   @Override
   public void setSerDe(EntitySerDe entitySerDe) {
+    if (entitySerDe != null) {
+      // The values must stay readable by the servers supporting the layout version of the store.
+      entitySerDe.setStorageLayoutVersion(storageLayoutVersion);
+    }
     this.serDe = entitySerDe;
   }
 
@@ -150,10 +165,64 @@ public class KvEntityStore implements EntityStore {
     for (Pair<byte[], byte[]> pairs : kvs) {
       entities.add(serDe.deserialize(pairs.getRight(), e, namespace));
     }
-    // TODO (yuqi), if the list is too large, we need to do pagination or streaming
     return entities;
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> ListPage<E> list(
+      Namespace namespace, Class<E> e, EntityType type, String pageToken, int pageSize)
+      throws IOException {
+    Preconditions.checkArgument(pageSize > 0, "The page size must be positive");
+    NameIdentifier identifier = NameIdentifier.of(namespace, BinaryEntityKeyEncoder.WILD_CARD);
+    byte[] prefix = entityKeyEncoder.encode(identifier, type, true);
+    if (prefix == null) {
+      return ListPage.of(Collections.emptyList(), null);
+    }
+
+    // The page token is the key of the last entity in the previous page, we continue the scan
+    // right after it.
+    byte[] startKey = pageToken == null ? prefix : decodePageToken(pageToken, prefix);
+    byte[] endKey = Bytes.increment(Bytes.wrap(prefix)).get();
+    List<Pair<byte[], byte[]>> kvs =
+        executeInTransaction(
+            () ->
+                transactionalKvBackend.scan(
+                    new KvRange.KvRangeBuilder()
+                        .start(startKey)
+                        .end(endKey)
+                        .startInclusive(pageToken == null)
+                        .endInclusive(false)
+                        .limit(pageSize + 1)
+                        .build()));
+
+    List<E> entities = Lists.newArrayListWithCapacity(Math.min(kvs.size(), pageSize));
+    for (int i = 0; i < kvs.size() && i < pageSize; i++) {
+      entities.add(serDe.deserialize(kvs.get(i).getRight(), e, namespace));
+    }
+
+    String nextPageToken =
+        kvs.size() > pageSize
+            ? Base64.getUrlEncoder().encodeToString(kvs.get(pageSize - 1).getLeft())
+            : null;
+    return ListPage.of(entities, nextPageToken);
+  }
+
+  private static byte[] decodePageToken(String pageToken, byte[] prefix) {
+    byte[] key;
+    try {
+      key = Base64.getUrlDecoder().decode(pageToken);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid page token: " + pageToken, e);
+    }
+
+    Preconditions.checkArgument(
+        key.length > prefix.length
+            && Arrays.equals(key, 0, prefix.length, prefix, 0, prefix.length),
+        "Invalid page token: %s",
+        pageToken);
+    return key;
+  }
+
   @Override
   public boolean exists(NameIdentifier ident, EntityType entityType) throws IOException {
     return executeInTransaction(
@@ -339,20 +408,36 @@ public class KvEntityStore implements EntityStore {
     }
   }
 
-  private StorageLayoutVersion initStorageVersionInfo() {
+  private StorageLayoutVersion initStorageVersionInfo(Config config) {
     byte[] bytes;
     try {
       bytes = backend.get(LAYOUT_VERSION_KEY);
       if (bytes == null) {
-        // If the layout version is not set, we will set it to the default version.
+        // If the layout version is not set, the store is new and uses the latest version.
         backend.put(
             LAYOUT_VERSION_KEY,
-            StorageLayoutVersion.V1.getVersion().getBytes(StandardCharsets.UTF_8),
+            StorageLayoutVersion.LATEST.getVersion().getBytes(StandardCharsets.UTF_8),
             true);
-        return StorageLayoutVersion.V1;
+        return StorageLayoutVersion.LATEST;
       }
 
-      return StorageLayoutVersion.fromString(new String(bytes, StandardCharsets.UTF_8));
+      StorageLayoutVersion version =
+          StorageLayoutVersion.fromString(new String(bytes, StandardCharsets.UTF_8));
+      // The existing values stay readable, only the values written after the upgrade use the
+      // layout of the latest version.
+      if (version != StorageLayoutVersion.LATEST
+          && config.get(ENTITY_KV_UPGRADE_LAYOUT_VERSION)) {
+        LOGGER.info(
+            "Upgrading the storage layout version from {} to {}",
+            version.getVersion(),
+            StorageLayoutVersion.LATEST.getVersion());
+        backend.put(
+            LAYOUT_VERSION_KEY,
+            StorageLayoutVersion.LATEST.getVersion().getBytes(StandardCharsets.UTF_8),
+            true);
+        return StorageLayoutVersion.LATEST;
+      }
+      return version;
     } catch (IOException e) {
       throw new IllegalStateException("Failed to get/put layout version information", e);
     }
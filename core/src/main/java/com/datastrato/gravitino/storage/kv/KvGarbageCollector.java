@@ -19,31 +19,52 @@
 
 package com.datastrato.gravitino.storage.kv;
 
+import static com.datastrato.gravitino.Configs.ENTITY_KV_GC_COMPACT_AFTER_COLLECT;
+import static com.datastrato.gravitino.Configs.ENTITY_KV_GC_THREADS;
 import static com.datastrato.gravitino.Configs.STORE_DELETE_AFTER_TIME;
 import static com.datastrato.gravitino.storage.kv.KvNameMappingService.GENERAL_NAME_MAPPING_PREFIX;
+import static com.datastrato.gravitino.storage.kv.TransactionalKvBackendImpl.decodeCommitRecord;
 import static com.datastrato.gravitino.storage.kv.TransactionalKvBackendImpl.endOfTransactionId;
 import static com.datastrato.gravitino.storage.kv.TransactionalKvBackendImpl.generateCommitKey;
 import static com.datastrato.gravitino.storage.kv.TransactionalKvBackendImpl.generateKey;
 import static com.datastrato.gravitino.storage.kv.TransactionalKvBackendImpl.getBinaryTransactionId;
 import static com.datastrato.gravitino.storage.kv.TransactionalKvBackendImpl.getTransactionId;
+import static java.math.RoundingMode.CEILING;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.Entity.EntityType;
+import com.datastrato.gravitino.GravitinoEnv;
 import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.metrics.MetricNames;
+import com.datastrato.gravitino.metrics.MetricsSystem;
+import com.datastrato.gravitino.metrics.source.MetricsSource;
 import com.datastrato.gravitino.storage.EntityKeyEncoder;
 import com.datastrato.gravitino.utils.Bytes;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.common.math.IntMath;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.ArrayUtils;
-import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.time.DateFormatUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
@@ -69,6 +90,24 @@ public final class KvGarbageCollector implements Closeable {
   byte[] commitIdHasBeenCollected;
   private long frequencyInMinutes;
 
+  // The user keys are printable characters, below 0x20 and from 0x7F are control characters.
+  private static final byte[] USER_KEY_START = new byte[] {0x20};
+  private static final byte[] USER_KEY_END = new byte[] {0x7F};
+
+  // Each thread collects several partitions, so a slow partition doesn't hold the others.
+  private static final int PARTITIONS_PER_THREAD = 4;
+  // The number of the transactions collected before the checkpoint moves forward.
+  private static final int TRANSACTIONS_PER_BATCH = 1000;
+  private final int gcThreads;
+  private final ExecutorService gcWorkerPool;
+  private final boolean compactAfterCollect;
+
+  private final MetricsSource metricsSource;
+  private final Counter deletedKeys;
+  private final Counter reclaimedBytes;
+  // The time of the newest transaction that has been collected, -1 if it is unknown.
+  private volatile long lastCollectedTimeMs = -1L;
+
   private static final String TIME_STAMP_FORMAT = "yyyy-MM-dd HH:mm:ss.SSS";
 
   @VisibleForTesting
@@ -87,9 +126,41 @@ public final class KvGarbageCollector implements Closeable {
     this.kvBackend = kvBackend;
     this.config = config;
     this.entityKeyEncoder = entityKeyEncoder;
+
+    this.gcThreads = config.get(ENTITY_KV_GC_THREADS);
+    this.gcWorkerPool =
+        gcThreads == 1
+            ? MoreExecutors.newDirectExecutorService()
+            : Executors.newFixedThreadPool(
+                gcThreads,
+                new ThreadFactoryBuilder()
+                    .setDaemon(true)
+                    .setNameFormat("KvEntityStore-Garbage-Collector-Worker-%d")
+                    .build());
+    this.compactAfterCollect = config.get(ENTITY_KV_GC_COMPACT_AFTER_COLLECT);
+
+    this.metricsSource = new MetricsSource(MetricsSource.ENTITY_STORE_GC_METRIC_NAME) {};
+    this.deletedKeys = metricsSource.getCounter(MetricNames.GC_DELETED_KEYS_COUNT);
+    this.reclaimedBytes = metricsSource.getCounter(MetricNames.GC_RECLAIMED_BYTES);
+    // How far the collected data is behind the data that is allowed to be collected.
+    metricsSource.registerGauge(
+        MetricNames.GC_LAG_MS,
+        () -> {
+          long collectedTime = lastCollectedTimeMs;
+          if (collectedTime < 0) {
+            return -1L;
+          }
+          long deleteTimeline = System.currentTimeMillis() - config.get(STORE_DELETE_AFTER_TIME);
+          return Math.max(0L, deleteTimeline - collectedTime);
+        });
   }
 
   public void start() {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+
     long dateTimelineMinute = config.get(STORE_DELETE_AFTER_TIME) / 1000 / 60;
 
     // We will collect garbage every 10 minutes at least. If the dateTimelineMinute is larger than
@@ -102,12 +173,21 @@ public final class KvGarbageCollector implements Closeable {
   @VisibleForTesting
   void collectAndClean() {
     LOG.info("Start to collect garbage...");
-    try {
+    long reclaimedBytesBefore = reclaimedBytes.getCount();
+    try (Timer.Context ignored = metricsSource.getTimer(MetricNames.GC_DURATION).time()) {
       LOG.info("Start to collect and delete uncommitted data...");
       collectAndRemoveUncommittedData();
 
       LOG.info("Start to collect and delete old version data...");
       collectAndRemoveOldVersionData();
+
+      if (compactAfterCollect && reclaimedBytes.getCount() > reclaimedBytesBefore) {
+        // Compact the user keys and the commit marks, so the deleted data is dropped from the
+        // disk right away instead of waiting for the background compactions.
+        LOG.info("Start to compact the collected data...");
+        kvBackend.compactRange(USER_KEY_START, USER_KEY_END);
+        kvBackend.compactRange(generateCommitKey(Long.MAX_VALUE), generateCommitKey(0L));
+      }
     } catch (Exception e) {
       LOG.error("Failed to collect garbage", e);
     }
@@ -117,8 +197,8 @@ public final class KvGarbageCollector implements Closeable {
     List<Pair<byte[], byte[]>> kvs =
         kvBackend.scan(
             new KvRange.KvRangeBuilder()
-                .start(new byte[] {0x20}) // below 0x20 is control character
-                .end(new byte[] {0x7F}) // above 0x7F is control character
+                .start(USER_KEY_START)
+                .end(USER_KEY_END)
                 .startInclusive(true)
                 .endInclusive(false)
                 .predicate(
@@ -140,6 +220,7 @@ public final class KvGarbageCollector implements Closeable {
                 .build());
 
     LOG.info("Start to remove {} uncommitted data", kvs.size());
+    CollectStats stats = new CollectStats();
     for (Pair<byte[], byte[]> pair : kvs) {
       // Remove is a high-risk operation, So we log every delete operation
       LogHelper logHelper = decodeKey(pair.getKey());
@@ -150,8 +231,9 @@ public final class KvGarbageCollector implements Closeable {
           logHelper.createTimeAsString,
           logHelper.createTimeInMs,
           pair.getKey());
-      kvBackend.delete(pair.getKey());
+      deleteKey(pair.getKey(), pair.getValue(), stats);
     }
+    recordStats(stats);
   }
 
   private void collectAndRemoveOldVersionData() throws IOException {
@@ -175,8 +257,7 @@ public final class KvGarbageCollector implements Closeable {
         transactionIdToDelete,
         DateFormatUtils.format(deleteTimeline, TIME_STAMP_FORMAT));
 
-    // Get all commit marks
-    // TODO(yuqi), Use multi-thread to scan the data in case of the data is too large.
+    // Get all commit marks, they are sorted from the newest transaction to the oldest one.
     List<Pair<byte[], byte[]>> kvs =
         kvBackend.scan(
             new KvRange.KvRangeBuilder()
@@ -186,92 +267,184 @@ public final class KvGarbageCollector implements Closeable {
                 .endInclusive(false)
                 .build());
 
-    for (Pair<byte[], byte[]> kv : kvs) {
-      List<byte[]> keysInTheTransaction = SerializationUtils.deserialize(kv.getValue());
+    // The commit marks are collected in batches from the oldest transaction. The keys written by
+    // the transactions of a batch are split into partitions of disjoint key ranges, which are
+    // collected in parallel, so the versions of a key are only touched by one thread. Once the
+    // batch completes, the commit marks whose keys are all removed are deleted and the checkpoint
+    // moves forward, so a failed or interrupted run is resumed from the last completed batch.
+    for (List<Pair<byte[], byte[]>> batch :
+        Lists.partition(Lists.reverse(kvs), TRANSACTIONS_PER_BATCH)) {
+      collectBatch(batch);
+      updateCheckpoint(batch.get(batch.size() - 1).getKey());
+    }
+
+    if (kvs.isEmpty()) {
+      updateCheckpoint(startKey);
+    }
+  }
+
+  private void collectBatch(List<Pair<byte[], byte[]>> commitMarks) throws IOException {
+    // The transactions that wrote each key, from the oldest one.
+    TreeMap<byte[], List<byte[]>> transactionsByKey = new TreeMap<>(Bytes.BYTES_LEXICO_COMPARATOR);
+    for (Pair<byte[], byte[]> kv : commitMarks) {
       byte[] transactionId = getBinaryTransactionId(kv.getKey());
+      for (byte[] key : decodeCommitRecord(kv.getValue())) {
+        transactionsByKey.computeIfAbsent(key, k -> Lists.newArrayList()).add(transactionId);
+      }
+    }
 
-      int keysDeletedCount = 0;
-      for (byte[] key : keysInTheTransaction) {
-        // Raw key format: {key} + {separator} + {transaction_id}
-        byte[] rawKey = generateKey(key, transactionId);
-        byte[] rawValue = kvBackend.get(rawKey);
-        if (null == rawValue) {
-          // It has been deleted
-          keysDeletedCount++;
-          continue;
-        }
-
-        // Value has deleted mark, we can remove it.
-        if (null == TransactionalKvBackendImpl.getRealValue(rawValue)) {
-          // Delete the key of all versions.
-          removeAllVersionsOfKey(rawKey, key, false);
-
-          LogHelper logHelper = decodeKey(key, transactionId);
-          kvBackend.delete(rawKey);
-          LOG.info(
-              "Physically delete key that has marked deleted: name identifier: '{}', entity type: '{}',"
-                  + " createTime: '{}({})', key: '{}'",
-              logHelper.identifier,
-              logHelper.type,
-              logHelper.createTimeAsString,
-              logHelper.createTimeInMs,
-              Bytes.wrap(key));
-          keysDeletedCount++;
-          continue;
-        }
-
-        // If the key is not marked as deleted, then we need to check whether there is a newer
-        // version of the key. If there is a newer version of the key, then we can delete it
-        // directly.
-        List<Pair<byte[], byte[]>> newVersionOfKey =
-            kvBackend.scan(
-                new KvRange.KvRangeBuilder()
-                    .start(key)
-                    .end(generateKey(key, transactionId))
-                    .startInclusive(false)
-                    .endInclusive(false)
-                    .limit(1)
-                    .build());
-        if (!newVersionOfKey.isEmpty()) {
-          // Have a new version, we can safely remove all old versions.
-          removeAllVersionsOfKey(rawKey, key, false);
-
-          // Has a newer version, we can remove it.
-          LogHelper logHelper = decodeKey(key, transactionId);
-          byte[] newVersionKey = newVersionOfKey.get(0).getKey();
-          LogHelper newVersionLogHelper = decodeKey(newVersionKey);
-          kvBackend.delete(rawKey);
-          LOG.info(
-              "Physically delete key that has newer version: name identifier: '{}', entity type: '{}',"
-                  + " createTime: '{}({})', newVersion createTime: '{}({})',"
-                  + " key: '{}', newVersion key: '{}'",
-              logHelper.identifier,
-              logHelper.type,
-              logHelper.createTimeAsString,
-              logHelper.createTimeInMs,
-              newVersionLogHelper.createTimeAsString,
-              newVersionLogHelper.createTimeInMs,
-              Bytes.wrap(rawKey),
-              Bytes.wrap(newVersionKey));
-          keysDeletedCount++;
-        }
+    List<Map.Entry<byte[], List<byte[]>>> keys = Lists.newArrayList(transactionsByKey.entrySet());
+    List<List<Map.Entry<byte[], List<byte[]>>>> partitions =
+        Lists.partition(
+            keys,
+            Math.max(1, IntMath.divide(keys.size(), gcThreads * PARTITIONS_PER_THREAD, CEILING)));
+    List<Future<CollectStats>> futures = Lists.newArrayList();
+    for (List<Map.Entry<byte[], List<byte[]>>> partition : partitions) {
+      futures.add(
+          gcWorkerPool.submit(
+              () -> {
+                CollectStats stats = new CollectStats();
+                for (Map.Entry<byte[], List<byte[]>> entry : partition) {
+                  for (byte[] transactionId : entry.getValue()) {
+                    collectVersion(entry.getKey(), transactionId, stats);
+                  }
+                }
+                return stats;
+              }));
+    }
+
+    // The counts of the partitions are merged once all of them complete.
+    CollectStats stats = new CollectStats();
+    for (Future<CollectStats> future : futures) {
+      try {
+        stats.merge(future.get());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        futures.forEach(f -> f.cancel(true));
+        recordStats(stats);
+        throw new IOException("Interrupted while collecting old version data", e);
+      } catch (ExecutionException e) {
+        futures.forEach(f -> f.cancel(true));
+        recordStats(stats);
+        throw new IOException("Failed to collect old version data", e.getCause());
       }
+    }
+
+    // The commit marks are removed by this thread only, the marks of the batch and the marks of
+    // the older transactions whose versions were removed by the partitions.
+    for (Pair<byte[], byte[]> kv : commitMarks) {
+      stats.commitKeys.add(Bytes.wrap(kv.getKey()));
+    }
+    for (Bytes commitKey : stats.commitKeys) {
+      removeCommitMarkIfAllDropped(commitKey.get(), stats);
+    }
+    recordStats(stats);
+  }
+
+  private void collectVersion(byte[] key, byte[] transactionId, CollectStats stats)
+      throws IOException {
+    // Raw key format: {key} + {separator} + {transaction_id}
+    byte[] rawKey = generateKey(key, transactionId);
+    byte[] rawValue = kvBackend.get(rawKey);
+    if (null == rawValue) {
+      // It has been deleted
+      return;
+    }
+
+    // Value has deleted mark, we can remove it.
+    if (null == TransactionalKvBackendImpl.getRealValue(rawValue)) {
+      // Delete the key of all versions.
+      removeAllVersionsOfKey(rawKey, key, false, stats);
 
-      // All keys in this transaction have been deleted, we can remove the commit mark.
-      if (keysDeletedCount == keysInTheTransaction.size()) {
-        kvBackend.delete(kv.getKey());
-        long timestamp = getTransactionId(transactionId) >> 18;
-        LOG.info(
-            "Physically delete commit mark: {}, createTime: '{}({})', key: '{}'",
-            Bytes.wrap(kv.getKey()),
-            DateFormatUtils.format(timestamp, TIME_STAMP_FORMAT),
-            timestamp,
-            Bytes.wrap(kv.getKey()));
+      LogHelper logHelper = decodeKey(key, transactionId);
+      deleteKey(rawKey, rawValue, stats);
+      LOG.info(
+          "Physically delete key that has marked deleted: name identifier: '{}', entity type: '{}',"
+              + " createTime: '{}({})', key: '{}'",
+          logHelper.identifier,
+          logHelper.type,
+          logHelper.createTimeAsString,
+          logHelper.createTimeInMs,
+          Bytes.wrap(key));
+      return;
+    }
+
+    // If the key is not marked as deleted, then we need to check whether there is a newer
+    // version of the key. If there is a newer version of the key, then we can delete it
+    // directly.
+    List<Pair<byte[], byte[]>> newVersionOfKey =
+        kvBackend.scan(
+            new KvRange.KvRangeBuilder()
+                .start(key)
+                .end(generateKey(key, transactionId))
+                .startInclusive(false)
+                .endInclusive(false)
+                .limit(1)
+                .build());
+    if (!newVersionOfKey.isEmpty()) {
+      // Have a new version, we can safely remove all old versions.
+      removeAllVersionsOfKey(rawKey, key, false, stats);
+
+      // Has a newer version, we can remove it.
+      LogHelper logHelper = decodeKey(key, transactionId);
+      byte[] newVersionKey = newVersionOfKey.get(0).getKey();
+      LogHelper newVersionLogHelper = decodeKey(newVersionKey);
+      deleteKey(rawKey, rawValue, stats);
+      LOG.info(
+          "Physically delete key that has newer version: name identifier: '{}', entity type: '{}',"
+              + " createTime: '{}({})', newVersion createTime: '{}({})',"
+              + " key: '{}', newVersion key: '{}'",
+          logHelper.identifier,
+          logHelper.type,
+          logHelper.createTimeAsString,
+          logHelper.createTimeInMs,
+          newVersionLogHelper.createTimeAsString,
+          newVersionLogHelper.createTimeInMs,
+          Bytes.wrap(rawKey),
+          Bytes.wrap(newVersionKey));
+    }
+  }
+
+  private void removeCommitMarkIfAllDropped(byte[] commitKey, CollectStats stats)
+      throws IOException {
+    byte[] commitValue = kvBackend.get(commitKey);
+    if (commitValue == null) {
+      return;
+    }
+
+    byte[] transactionId = getBinaryTransactionId(commitKey);
+    for (byte[] key : decodeCommitRecord(commitValue)) {
+      if (kvBackend.get(generateKey(key, transactionId)) != null) {
+        // There is still a key in the transaction, we cannot delete the commit mark.
+        return;
       }
     }
 
-    commitIdHasBeenCollected = kvs.isEmpty() ? startKey : kvs.get(0).getKey();
-    kvBackend.put(LAST_COLLECT_COMMIT_ID_KEY, commitIdHasBeenCollected, true);
+    deleteKey(commitKey, commitValue, stats);
+    long timestamp = getTransactionId(transactionId) >> 18;
+    LOG.info(
+        "Physically delete commit mark: {}, createTime: '{}({})', key: '{}'",
+        Bytes.wrap(commitKey),
+        DateFormatUtils.format(timestamp, TIME_STAMP_FORMAT),
+        timestamp,
+        Bytes.wrap(commitKey));
+  }
+
+  private void deleteKey(byte[] key, byte[] value, CollectStats stats) throws IOException {
+    kvBackend.delete(key);
+    stats.deletedKeys++;
+    stats.reclaimedBytes += key.length + (value == null ? 0 : value.length);
+  }
+
+  private void recordStats(CollectStats stats) {
+    deletedKeys.inc(stats.deletedKeys);
+    reclaimedBytes.inc(stats.reclaimedBytes);
+  }
+
+  private void updateCheckpoint(byte[] commitKey) throws IOException {
+    kvBackend.put(LAST_COLLECT_COMMIT_ID_KEY, commitKey, true);
+    commitIdHasBeenCollected = commitKey;
+    lastCollectedTimeMs = getTransactionId(getBinaryTransactionId(commitKey)) >> 18;
   }
 
   /**
@@ -280,10 +453,12 @@ public final class KvGarbageCollector implements Closeable {
    * @param rawKey raw key, it contains the transaction id.
    * @param key key, it's the real key and does not contain the transaction id
    * @param includeStart whether include the start key.
+   * @param stats the stats of the removal, the commit marks of the removed versions are added to
+   *     it and removed later if all the keys of their transactions have been removed.
    * @throws IOException if an I/O exception occurs during deletion.
    */
-  private void removeAllVersionsOfKey(byte[] rawKey, byte[] key, boolean includeStart)
-      throws IOException {
+  private void removeAllVersionsOfKey(
+      byte[] rawKey, byte[] key, boolean includeStart, CollectStats stats) throws IOException {
     List<Pair<byte[], byte[]>> kvs =
         kvBackend.scan(
             new KvRange.KvRangeBuilder()
@@ -295,7 +470,7 @@ public final class KvGarbageCollector implements Closeable {
 
     for (Pair<byte[], byte[]> kv : kvs) {
       // Delete real data.
-      kvBackend.delete(kv.getKey());
+      deleteKey(kv.getKey(), kv.getValue(), stats);
 
       LogHelper logHelper = decodeKey(kv.getKey());
       LOG.info(
@@ -307,33 +482,26 @@ public final class KvGarbageCollector implements Closeable {
           logHelper.createTimeInMs,
           Bytes.wrap(key));
 
-      // Try to delete commit id if the all keys in the transaction id have been dropped.
-      byte[] transactionId = getBinaryTransactionId(kv.getKey());
-      byte[] transactionKey = generateCommitKey(transactionId);
-      byte[] transactionValue = kvBackend.get(transactionKey);
-
-      List<byte[]> keysInTheTransaction = SerializationUtils.deserialize(transactionValue);
-
-      boolean allDropped = true;
-      for (byte[] keyInTheTransaction : keysInTheTransaction) {
-        if (kvBackend.get(generateKey(keyInTheTransaction, transactionId)) != null) {
-          // There is still a key in the transaction, we cannot delete the commit mark.
-          allDropped = false;
-          break;
-        }
-      }
+      stats.commitKeys.add(Bytes.wrap(generateCommitKey(getBinaryTransactionId(kv.getKey()))));
+    }
+  }
 
-      // Try to delete the commit mark.
-      if (allDropped) {
-        kvBackend.delete(transactionKey);
-        long timestamp = TransactionalKvBackendImpl.getTransactionId(transactionId) >> 18;
-        LOG.info(
-            "Physically delete commit mark: {}, createTime: '{}({})', key: '{}'",
-            Bytes.wrap(kv.getKey()),
-            DateFormatUtils.format(timestamp, TIME_STAMP_FORMAT),
-            timestamp,
-            Bytes.wrap(kv.getKey()));
-      }
+  @VisibleForTesting
+  MetricsSource getMetricsSource() {
+    return metricsSource;
+  }
+
+  /** The keys removed by a part of a garbage collection run. */
+  private static class CollectStats {
+    private long deletedKeys;
+    private long reclaimedBytes;
+    // The commit marks that may be removed after the versions are removed.
+    private final Set<Bytes> commitKeys = Sets.newHashSet();
+
+    private void merge(CollectStats other) {
+      deletedKeys += other.deletedKeys;
+      reclaimedBytes += other.reclaimedBytes;
+      commitKeys.addAll(other.commitKeys);
     }
   }
 
@@ -392,6 +560,12 @@ public final class KvGarbageCollector implements Closeable {
 
   @Override
   public void close() throws IOException {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+
+    gcWorkerPool.shutdownNow();
     garbageCollectorPool.shutdownNow();
     try {
       garbageCollectorPool.awaitTermination(5, TimeUnit.SECONDS);
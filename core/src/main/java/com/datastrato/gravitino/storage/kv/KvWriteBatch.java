@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.storage.kv;
+
+import com.google.common.collect.Lists;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A batch of write operations to be applied to a {@link KvBackend} with {@link
+ * KvBackend#write(KvWriteBatch)}. The operations are applied in the order they are added.
+ */
+public class KvWriteBatch {
+
+  /** The type of write operation. */
+  public enum Type {
+    PUT,
+    DELETE,
+    DELETE_RANGE
+  }
+
+  /**
+   * A write operation. For {@link Type#DELETE_RANGE}, the key is the start (inclusive) and the
+   * value is the end (exclusive) of the range.
+   */
+  public static class Operation {
+    private final Type type;
+    private final byte[] key;
+    private final byte[] value;
+
+    private Operation(Type type, byte[] key, byte[] value) {
+      this.type = type;
+      this.key = key;
+      this.value = value;
+    }
+
+    public Type getType() {
+      return type;
+    }
+
+    public byte[] getKey() {
+      return key;
+    }
+
+    public byte[] getValue() {
+      return value;
+    }
+  }
+
+  private final List<Operation> operations = Lists.newArrayList();
+
+  /**
+   * Adds a put operation, the existing value of the key is overwritten.
+   *
+   * @param key The key of the pair.
+   * @param value The value of the pair.
+   * @return This batch.
+   */
+  public KvWriteBatch put(byte[] key, byte[] value) {
+    operations.add(new Operation(Type.PUT, key, value));
+    return this;
+  }
+
+  /**
+   * Adds a delete operation.
+   *
+   * @param key The key to delete.
+   * @return This batch.
+   */
+  public KvWriteBatch delete(byte[] key) {
+    operations.add(new Operation(Type.DELETE, key, null));
+    return this;
+  }
+
+  /**
+   * Adds an operation deleting all keys in the range [start, end).
+   *
+   * @param start The start key of the range, inclusive.
+   * @param end The end key of the range, exclusive.
+   * @return This batch.
+   */
+  public KvWriteBatch deleteRange(byte[] start, byte[] end) {
+    operations.add(new Operation(Type.DELETE_RANGE, start, end));
+    return this;
+  }
+
+  /** @return The operations in the order they were added. */
+  public List<Operation> getOperations() {
+    return Collections.unmodifiableList(operations);
+  }
+
+  /** @return The number of operations in the batch. */
+  public int size() {
+    return operations.size();
+  }
+
+  /** @return True if the batch contains no operations. */
+  public boolean isEmpty() {
+    return operations.isEmpty();
+  }
+}
@@ -22,22 +22,40 @@ package com.datastrato.gravitino.storage.kv;
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.Configs;
 import com.datastrato.gravitino.EntityAlreadyExistsException;
+import com.datastrato.gravitino.GravitinoEnv;
+import com.datastrato.gravitino.metrics.MetricsSystem;
 import com.datastrato.gravitino.utils.ByteUtils;
 import com.datastrato.gravitino.utils.Bytes;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
+import org.rocksdb.CompressionType;
+import org.rocksdb.Filter;
+import org.rocksdb.LRUCache;
 import org.rocksdb.Options;
+import org.rocksdb.RateLimiter;
+import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.Statistics;
+import org.rocksdb.StatsLevel;
 import org.rocksdb.TransactionDB;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,8 +66,29 @@ import org.slf4j.LoggerFactory;
  */
 public class RocksDBKvBackend implements KvBackend {
   public static final Logger LOGGER = LoggerFactory.getLogger(RocksDBKvBackend.class);
+  private static final byte[] ZERO_BYTE = new byte[] {0x00};
+  private static final double MEMTABLE_PREFIX_BLOOM_SIZE_RATIO = 0.1;
+  // The names don't follow the RocksDB enum names, e.g. `bzlib` is BZLIB2_COMPRESSION.
+  private static final Map<String, CompressionType> COMPRESSION_TYPES =
+      ImmutableMap.<String, CompressionType>builder()
+          .put("none", CompressionType.NO_COMPRESSION)
+          .put("snappy", CompressionType.SNAPPY_COMPRESSION)
+          .put("zlib", CompressionType.ZLIB_COMPRESSION)
+          .put("bzlib", CompressionType.BZLIB2_COMPRESSION)
+          .put("lz4", CompressionType.LZ4_COMPRESSION)
+          .put("lz4hc", CompressionType.LZ4HC_COMPRESSION)
+          .put("zstd", CompressionType.ZSTD_COMPRESSION)
+          .build();
   private RocksDB db;
 
+  private Options options;
+  private Cache blockCache;
+  private Filter bloomFilter;
+  private RateLimiter rateLimiter;
+  private Statistics statistics;
+  private int prefixLength;
+  private RocksDBMetricsSource metricsSource;
+
   /**
    * Initialize the RocksDB backend instance. We have used the {@link TransactionDB} to support
    * transaction instead of {@link RocksDB} instance.
@@ -59,15 +98,14 @@ public class RocksDBKvBackend implements KvBackend {
 
     String dbPath = getStoragePath(config);
     File dbDir = new File(dbPath, "instance");
-    try (final Options options = new Options()) {
-      options.setCreateIfMissing(true);
+    try {
+      options = createOptions(config);
 
       if (!dbDir.exists() && !dbDir.mkdirs()) {
         throw new RocksDBException(
             String.format("Can't create RocksDB path '%s'", dbDir.getAbsolutePath()));
       }
       LOGGER.info("Rocksdb storage directory:{}", dbDir);
-      // TODO (yuqi), make options configurable
       return RocksDB.open(options, dbDir.getAbsolutePath());
     } catch (RocksDBException ex) {
       LOGGER.error(
@@ -75,10 +113,73 @@ public class RocksDBKvBackend implements KvBackend {
           ex.getCause(),
           ex.getMessage(),
           ex.getStackTrace());
+      closeOptions();
       throw ex;
     }
   }
 
+  /**
+   * Creates the options to open RocksDB with. Entity lookups are point reads and entity listings
+   * are prefix scans of the keys encoded by {@link BinaryEntityKeyEncoder}, so the table is built
+   * with a shared LRU block cache, whole key bloom filters for the point reads and prefix bloom
+   * filters on the fixed length prefix of the entity keys for the scans.
+   */
+  private Options createOptions(Config config) {
+    List<CompressionType> compressionTypes =
+        toCompressionTypes(config.get(Configs.ENTITY_KV_ROCKSDB_COMPRESSION_PER_LEVEL));
+    Options rocksDBOptions = new Options().setCreateIfMissing(true);
+
+    blockCache = new LRUCache(config.get(Configs.ENTITY_KV_ROCKSDB_BLOCK_CACHE_SIZE));
+    BlockBasedTableConfig tableConfig =
+        new BlockBasedTableConfig().setBlockCache(blockCache).setWholeKeyFiltering(true);
+    int bitsPerKey = config.get(Configs.ENTITY_KV_ROCKSDB_BLOOM_FILTER_BITS_PER_KEY);
+    if (bitsPerKey > 0) {
+      bloomFilter = new BloomFilter(bitsPerKey);
+      tableConfig.setFilterPolicy(bloomFilter);
+    }
+    rocksDBOptions.setTableFormatConfig(tableConfig);
+
+    prefixLength = config.get(Configs.ENTITY_KV_ROCKSDB_PREFIX_LENGTH);
+    if (prefixLength > 0) {
+      // Keys shorter than the prefix, like the metalake keys and the commit marks, use the whole
+      // key as the prefix.
+      rocksDBOptions.useCappedPrefixExtractor(prefixLength);
+      if (bitsPerKey > 0) {
+        rocksDBOptions.setMemtablePrefixBloomSizeRatio(MEMTABLE_PREFIX_BLOOM_SIZE_RATIO);
+      }
+    }
+
+    rocksDBOptions.setCompressionPerLevel(compressionTypes);
+
+    long rateLimit = config.get(Configs.ENTITY_KV_ROCKSDB_RATE_LIMIT);
+    if (rateLimit > 0) {
+      rateLimiter = new RateLimiter(rateLimit);
+      rocksDBOptions.setRateLimiter(rateLimiter);
+    }
+
+    if (config.get(Configs.ENTITY_KV_ROCKSDB_STATISTICS_ENABLED)) {
+      statistics = new Statistics();
+      statistics.setStatsLevel(StatsLevel.EXCEPT_DETAILED_TIMERS);
+      rocksDBOptions.setStatistics(statistics);
+    }
+
+    return rocksDBOptions;
+  }
+
+  @VisibleForTesting
+  static List<CompressionType> toCompressionTypes(List<String> compressions) {
+    List<CompressionType> compressionTypes = Lists.newArrayList();
+    for (String compression : compressions) {
+      CompressionType compressionType =
+          COMPRESSION_TYPES.get(compression.trim().toLowerCase(Locale.ROOT));
+      if (compressionType == null) {
+        throw new IllegalArgumentException("Unknown RocksDB compression type: " + compression);
+      }
+      compressionTypes.add(compressionType);
+    }
+    return compressionTypes;
+  }
+
   @VisibleForTesting
   String getStoragePath(Config config) {
     String dbPath = config.get(Configs.ENTITY_KV_ROCKSDB_BACKEND_PATH);
@@ -103,6 +204,14 @@ public class RocksDBKvBackend implements KvBackend {
     } catch (RocksDBException e) {
       throw new IOException(e);
     }
+
+    if (statistics != null) {
+      metricsSource = new RocksDBMetricsSource(db, statistics);
+      MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+      if (metricsSystem != null) {
+        metricsSystem.register(metricsSource);
+      }
+    }
   }
 
   @Override
@@ -142,8 +251,8 @@ public class RocksDBKvBackend implements KvBackend {
 
   @Override
   public List<Pair<byte[], byte[]>> scan(KvRange scanRange) throws IOException {
-    RocksIterator rocksIterator = db.newIterator();
-    try {
+    try (ReadOptions readOptions = scanReadOptions(scanRange);
+        RocksIterator rocksIterator = db.newIterator(readOptions)) {
       rocksIterator.seek(scanRange.getStart());
 
       List<Pair<byte[], byte[]>> result = Lists.newArrayList();
@@ -179,11 +288,33 @@ public class RocksDBKvBackend implements KvBackend {
         rocksIterator.next();
       }
       return result;
-    } finally {
-      rocksIterator.close();
     }
   }
 
+  /**
+   * With a prefix extractor, an iterator only sees the keys sharing the prefix of the seek key
+   * unless it is a total order iterator. A range within one prefix is scanned with the prefix bloom
+   * filters, any other range falls back to a total order scan.
+   */
+  private ReadOptions scanReadOptions(KvRange scanRange) {
+    ReadOptions readOptions = new ReadOptions();
+    if (prefixLength <= 0) {
+      return readOptions;
+    }
+
+    byte[] start = scanRange.getStart();
+    byte[] end = scanRange.getEnd();
+    boolean samePrefix =
+        start.length >= prefixLength
+            && end.length >= prefixLength
+            && Bytes.wrap(Arrays.copyOf(start, prefixLength))
+                    .compareTo(Arrays.copyOf(end, prefixLength))
+                == 0;
+    return samePrefix
+        ? readOptions.setPrefixSameAsStart(true)
+        : readOptions.setTotalOrderSeek(true);
+  }
+
   @Override
   public boolean delete(byte[] key) throws IOException {
     try {
@@ -196,42 +327,106 @@ public class RocksDBKvBackend implements KvBackend {
 
   @Override
   public boolean deleteRange(KvRange deleteRange) throws IOException {
-    RocksIterator rocksIterator = db.newIterator();
+    // A range that starts and ends at the same key only covers the key if the start is inclusive.
+    if (Bytes.wrap(deleteRange.getStart()).compareTo(deleteRange.getEnd()) == 0) {
+      return !deleteRange.isStartInclusive() || delete(deleteRange.getStart());
+    }
 
-    try {
-      rocksIterator.seek(deleteRange.getStart());
+    // RocksDB deletes the range [begin, end) with a single range tombstone. The smallest key after
+    // a key is the key followed by 0x00, which turns an exclusive start or inclusive end into the
+    // bounds RocksDB expects.
+    byte[] begin =
+        deleteRange.isStartInclusive()
+            ? deleteRange.getStart()
+            : Bytes.concat(deleteRange.getStart(), ZERO_BYTE);
+    byte[] end =
+        deleteRange.isEndInclusive()
+            ? Bytes.concat(deleteRange.getEnd(), ZERO_BYTE)
+            : deleteRange.getEnd();
+    if (Bytes.wrap(begin).compareTo(end) >= 0) {
+      return true;
+    }
 
-      while (rocksIterator.isValid()) {
-        byte[] key = rocksIterator.key();
-        // Break if the key is out of the scan range
-        if (Bytes.wrap(key).compareTo(deleteRange.getEnd()) > 0) {
-          break;
-        }
+    try (WriteOptions writeOptions = new WriteOptions()) {
+      db.deleteRange(writeOptions, begin, end);
+      return true;
+    } catch (RocksDBException e) {
+      throw new IOException(e);
+    }
+  }
 
-        if (Bytes.wrap(key).compareTo(deleteRange.getStart()) == 0) {
-          if (deleteRange.isStartInclusive()) {
-            delete(key);
-          }
-        } else if (Bytes.wrap(key).compareTo(deleteRange.getEnd()) == 0) {
-          if (deleteRange.isEndInclusive()) {
-            delete(key);
-          }
-          break;
-        } else {
-          delete(key);
-        }
+  @Override
+  public void write(KvWriteBatch batch) throws IOException {
+    if (batch.isEmpty()) {
+      return;
+    }
 
-        rocksIterator.next();
+    // The whole batch is appended to the WAL as one record and synced before returning, so
+    // either all or none of the operations survive a crash.
+    try (WriteBatch writeBatch = new WriteBatch();
+        WriteOptions writeOptions = new WriteOptions().setSync(true)) {
+      for (KvWriteBatch.Operation operation : batch.getOperations()) {
+        switch (operation.getType()) {
+          case PUT:
+            writeBatch.put(operation.getKey(), operation.getValue());
+            break;
+          case DELETE:
+            writeBatch.delete(operation.getKey());
+            break;
+          case DELETE_RANGE:
+            writeBatch.deleteRange(operation.getKey(), operation.getValue());
+            break;
+          default:
+            throw new IllegalArgumentException(
+                "Unknown write operation: " + operation.getType());
+        }
       }
-      return true;
-    } finally {
-      rocksIterator.close();
+      db.write(writeOptions, writeBatch);
+    } catch (RocksDBException e) {
+      throw new IOException(e);
+    }
+  }
+
+  @Override
+  public void compactRange(byte[] start, byte[] end) throws IOException {
+    try {
+      db.compactRange(start, end);
+    } catch (RocksDBException e) {
+      throw new IOException(e);
     }
   }
 
   @Override
   public void close() throws IOException {
+    if (metricsSource != null) {
+      MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+      if (metricsSystem != null) {
+        metricsSystem.unregister(metricsSource);
+      }
+      metricsSource = null;
+    }
+
     db.close();
+    closeOptions();
+  }
+
+  // The native objects referenced by the options must outlive the DB, so they are closed after it.
+  private void closeOptions() {
+    for (AutoCloseable closeable :
+        new AutoCloseable[] {options, statistics, rateLimiter, bloomFilter, blockCache}) {
+      if (closeable != null) {
+        try {
+          closeable.close();
+        } catch (Exception e) {
+          LOGGER.warn("Failed to close RocksDB options", e);
+        }
+      }
+    }
+    options = null;
+    statistics = null;
+    rateLimiter = null;
+    bloomFilter = null;
+    blockCache = null;
   }
 
   @VisibleForTesting
@@ -239,6 +434,11 @@ public class RocksDBKvBackend implements KvBackend {
     return db;
   }
 
+  @VisibleForTesting
+  RocksDBMetricsSource getMetricsSource() {
+    return metricsSource;
+  }
+
   @VisibleForTesting
   public void setDb(RocksDB db) {
     this.db = db;
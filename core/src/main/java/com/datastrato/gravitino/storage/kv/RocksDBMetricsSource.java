@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.datastrato.gravitino.storage.kv;
+
+import com.datastrato.gravitino.metrics.MetricNames;
+import com.datastrato.gravitino.metrics.source.MetricsSource;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.Statistics;
+import org.rocksdb.TickerType;
+
+/** Exposes the statistics of the RocksDB instance backing the KV entity store. */
+class RocksDBMetricsSource extends MetricsSource {
+
+  RocksDBMetricsSource(RocksDB db, Statistics statistics) {
+    super(MetricsSource.ENTITY_STORE_ROCKSDB_METRIC_NAME);
+    registerGauge(
+        MetricNames.ROCKSDB_BLOCK_CACHE_HIT_COUNT,
+        () -> statistics.getTickerCount(TickerType.BLOCK_CACHE_HIT));
+    registerGauge(
+        MetricNames.ROCKSDB_BLOCK_CACHE_MISS_COUNT,
+        () -> statistics.getTickerCount(TickerType.BLOCK_CACHE_MISS));
+    registerGauge(
+        MetricNames.ROCKSDB_BLOCK_CACHE_HIT_RATIO,
+        () -> {
+          long hit = statistics.getTickerCount(TickerType.BLOCK_CACHE_HIT);
+          long total = hit + statistics.getTickerCount(TickerType.BLOCK_CACHE_MISS);
+          return total == 0 ? 0.0 : (double) hit / total;
+        });
+    registerGauge(
+        MetricNames.ROCKSDB_BLOCK_CACHE_USAGE, () -> longProperty(db, "rocksdb.block-cache-usage"));
+    registerGauge(
+        MetricNames.ROCKSDB_BLOOM_FILTER_USEFUL_COUNT,
+        () -> statistics.getTickerCount(TickerType.BLOOM_FILTER_USEFUL));
+    registerGauge(
+        MetricNames.ROCKSDB_BLOOM_FILTER_PREFIX_USEFUL_COUNT,
+        () -> statistics.getTickerCount(TickerType.BLOOM_FILTER_PREFIX_USEFUL));
+    registerGauge(
+        MetricNames.ROCKSDB_WRITE_STALL_MICROS,
+        () -> statistics.getTickerCount(TickerType.STALL_MICROS));
+    registerGauge(
+        MetricNames.ROCKSDB_COMPACTION_READ_BYTES,
+        () -> statistics.getTickerCount(TickerType.COMPACT_READ_BYTES));
+    registerGauge(
+        MetricNames.ROCKSDB_COMPACTION_WRITE_BYTES,
+        () -> statistics.getTickerCount(TickerType.COMPACT_WRITE_BYTES));
+    registerGauge(
+        MetricNames.ROCKSDB_COMPACTION_PENDING_BYTES,
+        () -> longProperty(db, "rocksdb.estimate-pending-compaction-bytes"));
+  }
+
+  private static long longProperty(RocksDB db, String property) {
+    try {
+      return db.getLongProperty(property);
+    } catch (RocksDBException e) {
+      return -1L;
+    }
+  }
+}
@@ -19,6 +19,9 @@
 
 package com.datastrato.gravitino.storage.kv;
 
+import static com.datastrato.gravitino.Configs.DEFAULT_KV_COMMITTED_TRANSACTION_CACHE_SIZE;
+import static com.datastrato.gravitino.Configs.ENTITY_KV_COMMITTED_TRANSACTION_CACHE_SIZE;
+
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.EntityAlreadyExistsException;
 import com.datastrato.gravitino.storage.TransactionIdGenerator;
@@ -27,8 +30,10 @@ import com.datastrato.gravitino.utils.Bytes;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import java.io.IOException;
-import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.concurrent.ThreadSafe;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.SerializationUtils;
@@ -59,6 +64,11 @@ import org.apache.commons.lang3.tuple.Pair;
  *   0x00000000(Metrication: 0) -- NORMAL, the value is visible
  *   0x00000001(Metrication: 1) -- DELETED, the value is deleted and not visible
  * </pre>
+ *
+ * <p>To avoid reading the commit mark for every version of every key during a scan, the ids of the
+ * latest committed transactions are kept in memory. They are loaded when the backend is initialized
+ * and updated on commit, a transaction id that is not in memory falls back to reading the commit
+ * mark.
  */
 @ThreadSafe
 public class TransactionalKvBackendImpl implements TransactionalKvBackend {
@@ -88,6 +98,24 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
   private static final int LENGTH_OF_SEPARATOR = SEPARATOR.length;
   private static final int LENGTH_OF_VALUE_STATUS = Byte.BYTES;
 
+  // The first byte of a commit record, commit records written with Java serialization start with
+  // the stream magic 0xACED instead.
+  private static final byte COMMIT_RECORD_FORMAT_V1 = 0x01;
+  private static final byte[] JAVA_SERIALIZATION_MAGIC = {(byte) 0xAC, (byte) 0xED};
+
+  // The max number of raw key-value pairs, including all versions, to load in one scan batch.
+  @VisibleForTesting static final int SCAN_BATCH_SIZE = 1000;
+
+  // The ids of the latest committed transactions, the oldest ones are evicted first when the size
+  // exceeds the max size as their commit marks are the most likely to be garbage collected.
+  @VisibleForTesting
+  final ConcurrentSkipListSet<Long> committedTransactionIds = new ConcurrentSkipListSet<>();
+
+  // ConcurrentSkipListSet#size is not a constant-time operation, so we count the ids ourselves.
+  private final AtomicInteger committedTransactionCount = new AtomicInteger();
+
+  private int maxCommittedTransactionCount = DEFAULT_KV_COMMITTED_TRANSACTION_CACHE_SIZE;
+
   public TransactionalKvBackendImpl(
       KvBackend kvBackend, TransactionIdGenerator transactionIdGenerator) {
     this.kvBackend = kvBackend;
@@ -111,16 +139,16 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
         return;
       }
 
-      // Prepare
+      // The values and the commit mark are written in one batch, backends supporting atomic
+      // batches make the whole transaction visible at once, the others still write the commit
+      // mark last as the second phase.
+      KvWriteBatch batch = new KvWriteBatch();
       for (Pair<byte[], byte[]> pair : putPairs.get()) {
-        kvBackend.put(pair.getKey(), pair.getValue(), true);
+        batch.put(pair.getKey(), pair.getValue());
       }
-
-      // Commit
-      kvBackend.put(
-          generateCommitKey(txId.get()),
-          SerializationUtils.serialize((Serializable) originalKeys.get()),
-          true);
+      batch.put(generateCommitKey(txId.get()), encodeCommitRecord(originalKeys.get()));
+      kvBackend.write(batch);
+      cacheCommittedTransaction(txId.get());
     } finally {
       putPairs.get().clear();
       originalKeys.get().clear();
@@ -131,9 +159,11 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
   @Override
   public void rollback() throws IOException {
     // Delete the update value
+    KvWriteBatch batch = new KvWriteBatch();
     for (Pair<byte[], byte[]> pair : putPairs.get()) {
-      kvBackend.delete(pair.getKey());
+      batch.delete(pair.getKey());
     }
+    kvBackend.write(batch);
   }
 
   @Override
@@ -149,7 +179,10 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
   }
 
   @Override
-  public void initialize(Config config) throws IOException {}
+  public void initialize(Config config) throws IOException {
+    this.maxCommittedTransactionCount = config.get(ENTITY_KV_COMMITTED_TRANSACTION_CACHE_SIZE);
+    loadCommittedTransactions();
+  }
 
   @Override
   public void put(byte[] key, byte[] value, boolean overwrite)
@@ -191,13 +224,15 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
   public boolean deleteRange(KvRange kvRange) throws IOException {
     List<Pair<byte[], byte[]>> pairs = scan(kvRange);
     pairs.forEach(
-        p ->
-            putPairs
-                .get()
-                .add(
-                    Pair.of(
-                        generateKey(p.getKey(), txId.get()),
-                        constructValue(p.getValue(), ValueStatusEnum.DELETED))));
+        p -> {
+          putPairs
+              .get()
+              .add(
+                  Pair.of(
+                      generateKey(p.getKey(), txId.get()),
+                      constructValue(p.getValue(), ValueStatusEnum.DELETED)));
+          originalKeys.get().add(p.getKey());
+        });
     return true;
   }
 
@@ -214,57 +249,59 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
       endInclude = false;
     }
 
-    KvRange kvRange =
-        new KvRange.KvRangeBuilder()
-            .start(scanRange.getStart())
-            .end(end)
-            .startInclusive(scanRange.isStartInclusive())
-            .endInclusive(endInclude)
-            .predicate(
-                (k, v) -> {
-                  byte[] transactionId = getBinaryTransactionId(k);
-                  return kvBackend.get(generateCommitKey(transactionId)) != null;
-                })
-            .limit(Integer.MAX_VALUE)
-            .build();
-
-    List<Pair<byte[], byte[]>> rawPairs = kvBackend.scan(kvRange);
     List<Pair<byte[], byte[]>> result = Lists.newArrayList();
-    int i = 0, j = 0;
-    while (i < scanRange.getLimit() && j < rawPairs.size()) {
-      Pair<byte[], byte[]> pair = rawPairs.get(j);
-      byte[] rawKey = pair.getKey();
-      byte[] realKey = getRealKey(rawKey);
-      Bytes minNextKey = Bytes.increment(Bytes.wrap(Bytes.concat(realKey, SEPARATOR)));
-
-      // If the start key is exclusive and the key is equal to the start key, we need to skip it.
-      if (!scanRange.isStartInclusive()
-          && Bytes.wrap(realKey).compareTo(scanRange.getStart()) == 0) {
-        while (j < rawPairs.size() && minNextKey.compareTo(rawPairs.get(j).getKey()) >= 0) {
-          j++;
+    byte[] batchStart = scanRange.getStart();
+    boolean batchStartInclusive = scanRange.isStartInclusive();
+    Bytes lastRealKey = null;
+    // Scan the raw key-value pairs batch by batch, so that we only keep one batch of the raw
+    // versions in memory and can stop as soon as we have enough results.
+    while (true) {
+      KvRange kvRange =
+          new KvRange.KvRangeBuilder()
+              .start(batchStart)
+              .end(end)
+              .startInclusive(batchStartInclusive)
+              .endInclusive(endInclude)
+              .predicate((k, v) -> isCommitted(getBinaryTransactionId(k)))
+              .limit(SCAN_BATCH_SIZE)
+              .build();
+
+      List<Pair<byte[], byte[]>> rawPairs = kvBackend.scan(kvRange);
+      for (Pair<byte[], byte[]> pair : rawPairs) {
+        Bytes realKey = Bytes.wrap(getRealKey(pair.getKey()));
+        // The latest version of a key is always placed first, skip all the older versions, they
+        // may also come from the next batch.
+        if (realKey.equals(lastRealKey)) {
+          continue;
         }
-        continue;
-      }
+        lastRealKey = realKey;
 
-      // If the end key is exclusive and the key is equal to the end key, we need to skip it.
-      if (!scanRange.isEndInclusive() && Bytes.wrap(realKey).compareTo(scanRange.getEnd()) == 0) {
-        break;
-      }
+        // If the start key is exclusive and the key is equal to the start key, we need to skip it.
+        if (!scanRange.isStartInclusive() && realKey.compareTo(scanRange.getStart()) == 0) {
+          continue;
+        }
 
-      byte[] value = getRealValue(pair.getValue());
-      if (value != null) {
-        result.add(Pair.of(realKey, value));
-        i++;
+        // If the end key is exclusive and the key is equal to the end key, we need to skip it.
+        if (!scanRange.isEndInclusive() && realKey.compareTo(scanRange.getEnd()) == 0) {
+          return result;
+        }
+
+        byte[] value = getRealValue(pair.getValue());
+        if (value != null) {
+          result.add(Pair.of(realKey.get(), value));
+          if (result.size() >= scanRange.getLimit()) {
+            return result;
+          }
+        }
       }
 
-      j++;
-      // Skip all versions of the same key.
-      while (j < rawPairs.size() && minNextKey.compareTo(rawPairs.get(j).getKey()) >= 0) {
-        j++;
+      if (rawPairs.size() < SCAN_BATCH_SIZE) {
+        return result;
       }
-    }
 
-    return result;
+      batchStart = rawPairs.get(rawPairs.size() - 1).getKey();
+      batchStartInclusive = false;
+    }
   }
 
   @Override
@@ -305,11 +342,7 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
                 .startInclusive(false)
                 .end(endOfKey(key))
                 .endInclusive(false)
-                .predicate(
-                    (k, v) -> {
-                      byte[] transactionId = getBinaryTransactionId(k);
-                      return kvBackend.get(generateCommitKey(transactionId)) != null;
-                    })
+                .predicate((k, v) -> isCommitted(getBinaryTransactionId(k)))
                 .limit(1)
                 .build());
 
@@ -320,6 +353,77 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
     return pairs.get(0).getValue();
   }
 
+  /**
+   * Check whether the transaction has been committed. The ids of the latest committed transactions
+   * are checked in memory first, the commit mark is only read if the id is not found.
+   */
+  @VisibleForTesting
+  boolean isCommitted(byte[] binaryTransactionId) throws IOException {
+    long transactionId = getTransactionId(binaryTransactionId);
+    if (committedTransactionIds.contains(transactionId)) {
+      return true;
+    }
+
+    boolean committed = kvBackend.get(generateCommitKey(binaryTransactionId)) != null;
+    if (committed) {
+      cacheCommittedTransaction(transactionId);
+    }
+    return committed;
+  }
+
+  private void cacheCommittedTransaction(long transactionId) {
+    if (maxCommittedTransactionCount <= 0) {
+      return;
+    }
+
+    if (committedTransactionIds.add(transactionId)) {
+      committedTransactionCount.incrementAndGet();
+    }
+
+    while (committedTransactionCount.get() > maxCommittedTransactionCount) {
+      if (committedTransactionIds.pollFirst() == null) {
+        break;
+      }
+      committedTransactionCount.decrementAndGet();
+    }
+  }
+
+  /**
+   * Load the ids of the latest committed transactions from the commit marks. As the binary
+   * transaction id is reverted, the commit marks of the latest transactions are placed first.
+   */
+  private void loadCommittedTransactions() throws IOException {
+    if (maxCommittedTransactionCount <= 0) {
+      return;
+    }
+
+    byte[] start = Bytes.concat(TRANSACTION_PREFIX, SEPARATOR);
+    boolean startInclusive = true;
+    int loaded = 0;
+    while (loaded < maxCommittedTransactionCount) {
+      List<Pair<byte[], byte[]>> commitMarks =
+          kvBackend.scan(
+              new KvRange.KvRangeBuilder()
+                  .start(start)
+                  .end(endOfTransactionId())
+                  .startInclusive(startInclusive)
+                  .endInclusive(true)
+                  .limit(Math.min(SCAN_BATCH_SIZE, maxCommittedTransactionCount - loaded))
+                  .build());
+      for (Pair<byte[], byte[]> commitMark : commitMarks) {
+        cacheCommittedTransaction(getTransactionId(getBinaryTransactionId(commitMark.getKey())));
+      }
+
+      loaded += commitMarks.size();
+      if (commitMarks.size() < SCAN_BATCH_SIZE) {
+        return;
+      }
+
+      start = commitMarks.get(commitMarks.size() - 1).getKey();
+      startInclusive = false;
+    }
+  }
+
   /**
    * Revert the bytes, Why we need to revert the bytes? Because we use the transaction id to
    * construct a row key and need to place the latest version of the same key first. That is to say,
@@ -372,6 +476,83 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
     return Bytes.concat(TRANSACTION_PREFIX, SEPARATOR, transactionId);
   }
 
+  /**
+   * Encode the keys involved in a transaction as the value of its commit mark. The format is a
+   * format byte followed by the varint encoded number of keys, then the varint encoded length and
+   * the bytes of each key.
+   */
+  static byte[] encodeCommitRecord(List<byte[]> keys) {
+    int size = 1 + varIntSize(keys.size());
+    for (byte[] key : keys) {
+      size += varIntSize(key.length) + key.length;
+    }
+
+    ByteBuffer buffer = ByteBuffer.allocate(size);
+    buffer.put(COMMIT_RECORD_FORMAT_V1);
+    putVarInt(buffer, keys.size());
+    for (byte[] key : keys) {
+      putVarInt(buffer, key.length);
+      buffer.put(key);
+    }
+    return buffer.array();
+  }
+
+  /**
+   * Decode the keys involved in a transaction from the value of its commit mark, commit marks
+   * written by older versions with Java serialization are still supported.
+   */
+  static List<byte[]> decodeCommitRecord(byte[] value) {
+    if (value.length >= 2
+        && value[0] == JAVA_SERIALIZATION_MAGIC[0]
+        && value[1] == JAVA_SERIALIZATION_MAGIC[1]) {
+      return SerializationUtils.deserialize(value);
+    }
+
+    ByteBuffer buffer = ByteBuffer.wrap(value);
+    byte format = buffer.get();
+    if (format != COMMIT_RECORD_FORMAT_V1) {
+      throw new IllegalStateException("Unknown commit record format: " + format);
+    }
+
+    int count = getVarInt(buffer);
+    List<byte[]> keys = Lists.newArrayListWithCapacity(count);
+    for (int i = 0; i < count; i++) {
+      byte[] key = new byte[getVarInt(buffer)];
+      buffer.get(key);
+      keys.add(key);
+    }
+    return keys;
+  }
+
+  private static int varIntSize(int value) {
+    int size = 1;
+    while ((value & ~0x7F) != 0) {
+      value >>>= 7;
+      size++;
+    }
+    return size;
+  }
+
+  private static void putVarInt(ByteBuffer buffer, int value) {
+    while ((value & ~0x7F) != 0) {
+      buffer.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  private static int getVarInt(ByteBuffer buffer) {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      byte b = buffer.get();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalStateException("Malformed varint in commit record");
+  }
+
   /** Get the end of transaction id, we use this key to scan all commit marks. */
   static byte[] endOfTransactionId() {
     // Why use 1? Because we use 1 to represent the smallest transaction id. The smaller id will
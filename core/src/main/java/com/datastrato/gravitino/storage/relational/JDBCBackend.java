@@ -26,6 +26,7 @@ import com.datastrato.gravitino.Configs;
 import com.datastrato.gravitino.Entity;
 import com.datastrato.gravitino.EntityAlreadyExistsException;
 import com.datastrato.gravitino.HasIdentifier;
+import com.datastrato.gravitino.ListPage;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.UnsupportedEntityTypeException;
@@ -42,6 +43,7 @@ import com.datastrato.gravitino.meta.UserEntity;
 import com.datastrato.gravitino.storage.relational.converters.SQLExceptionConverterFactory;
 import com.datastrato.gravitino.storage.relational.database.H2Database;
 import com.datastrato.gravitino.storage.relational.service.CatalogMetaService;
+import com.datastrato.gravitino.storage.relational.service.CommonMetaService;
 import com.datastrato.gravitino.storage.relational.service.FilesetMetaService;
 import com.datastrato.gravitino.storage.relational.service.GroupMetaService;
 import com.datastrato.gravitino.storage.relational.service.MetalakeMetaService;
@@ -78,6 +80,7 @@ public class JDBCBackend implements RelationalBackend {
 
     SqlSessionFactoryHelper.getInstance().init(config);
     SQLExceptionConverterFactory.initConverter(config);
+    CommonMetaService.getInstance().initialize(config);
   }
 
   @Override
@@ -102,6 +105,23 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> ListPage<E> list(
+      Namespace namespace, Entity.EntityType entityType, String pageToken, int pageSize)
+      throws IOException {
+    switch (entityType) {
+      case SCHEMA:
+        return (ListPage<E>)
+            SchemaMetaService.getInstance()
+                .listSchemasByNamespace(namespace, pageToken, pageSize);
+      case TABLE:
+        return (ListPage<E>)
+            TableMetaService.getInstance().listTablesByNamespace(namespace, pageToken, pageSize);
+      default:
+        return ListPage.paginateByName(list(namespace, entityType), pageToken, pageSize);
+    }
+  }
+
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
     try {
@@ -307,6 +327,7 @@ public class JDBCBackend implements RelationalBackend {
   @Override
   public void close() throws IOException {
     SqlSessionFactoryHelper.getInstance().close();
+    CommonMetaService.getInstance().invalidateAllEntityIds();
 
     if (jdbcDatabase != null) {
       jdbcDatabase.close();
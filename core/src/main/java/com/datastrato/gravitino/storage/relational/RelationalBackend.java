@@ -22,6 +22,7 @@ import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.Entity;
 import com.datastrato.gravitino.EntityAlreadyExistsException;
 import com.datastrato.gravitino.HasIdentifier;
+import com.datastrato.gravitino.ListPage;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.exceptions.NoSuchEntityException;
@@ -54,6 +55,22 @@ public interface RelationalBackend extends Closeable {
   <E extends Entity & HasIdentifier> List<E> list(Namespace namespace, Entity.EntityType entityType)
       throws NoSuchEntityException, IOException;
 
+  /**
+   * Lists one page of the entities associated with the given parent namespace and entityType.
+   *
+   * @param namespace The parent namespace of these entities.
+   * @param entityType The type of these entities.
+   * @param pageToken The token returned by the previous page, or null to list the first page.
+   * @param pageSize The maximum number of entities in the page.
+   * @return The page of entities associated with the given parent namespace and entityType.
+   * @throws NoSuchEntityException If the corresponding parent entity of these list entities cannot
+   *     be found.
+   * @throws IOException If the store operation fails
+   */
+  <E extends Entity & HasIdentifier> ListPage<E> list(
+      Namespace namespace, Entity.EntityType entityType, String pageToken, int pageSize)
+      throws NoSuchEntityException, IOException;
+
   /**
    * Checks the entity associated with the given identifier and entityType whether exists.
    *
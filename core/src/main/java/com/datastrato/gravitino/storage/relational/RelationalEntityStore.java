@@ -27,6 +27,7 @@ import com.datastrato.gravitino.EntityAlreadyExistsException;
 import com.datastrato.gravitino.EntitySerDe;
 import com.datastrato.gravitino.EntityStore;
 import com.datastrato.gravitino.HasIdentifier;
+import com.datastrato.gravitino.ListPage;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.exceptions.NoSuchEntityException;
@@ -87,6 +88,17 @@ public class RelationalEntityStore implements EntityStore {
     return backend.list(namespace, entityType);
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> ListPage<E> list(
+      Namespace namespace,
+      Class<E> type,
+      Entity.EntityType entityType,
+      String pageToken,
+      int pageSize)
+      throws IOException {
+    return backend.list(namespace, entityType, pageToken, pageSize);
+  }
+
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
     return backend.exists(ident, entityType);
@@ -56,6 +56,17 @@ public interface CatalogMetaMapper {
   Long selectCatalogIdByMetalakeIdAndName(
       @Param("metalakeId") Long metalakeId, @Param("catalogName") String name);
 
+  @Select(
+      "SELECT ct.catalog_id as catalogId FROM "
+          + TABLE_NAME
+          + " ct INNER JOIN "
+          + MetalakeMetaMapper.TABLE_NAME
+          + " mm ON ct.metalake_id = mm.metalake_id"
+          + " WHERE mm.metalake_name = #{metalakeName} AND ct.catalog_name = #{catalogName}"
+          + " AND mm.deleted_at = 0 AND ct.deleted_at = 0")
+  Long selectCatalogIdByMetalakeNameAndCatalogName(
+      @Param("metalakeName") String metalakeName, @Param("catalogName") String catalogName);
+
   @Select(
       "SELECT catalog_id as catalogId, catalog_name as catalogName,"
           + " metalake_id as metalakeId, type, provider,"
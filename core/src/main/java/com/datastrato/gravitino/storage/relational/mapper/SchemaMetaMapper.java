@@ -49,6 +49,21 @@ public interface SchemaMetaMapper {
           + " WHERE catalog_id = #{catalogId} AND deleted_at = 0")
   List<SchemaPO> listSchemaPOsByCatalogId(@Param("catalogId") Long catalogId);
 
+  @Select(
+      "SELECT schema_id as schemaId, schema_name as schemaName,"
+          + " metalake_id as metalakeId, catalog_id as catalogId,"
+          + " schema_comment as schemaComment, properties, audit_info as auditInfo,"
+          + " current_version as currentVersion, last_version as lastVersion,"
+          + " deleted_at as deletedAt"
+          + " FROM "
+          + TABLE_NAME
+          + " WHERE catalog_id = #{catalogId} AND schema_name > #{lastSchemaName}"
+          + " AND deleted_at = 0 ORDER BY schema_name LIMIT #{limit}")
+  List<SchemaPO> listSchemaPOsByCatalogIdAfterName(
+      @Param("catalogId") Long catalogId,
+      @Param("lastSchemaName") String lastSchemaName,
+      @Param("limit") Integer limit);
+
   @Select(
       "SELECT schema_id as schemaId FROM "
           + TABLE_NAME
@@ -57,6 +72,22 @@ public interface SchemaMetaMapper {
   Long selectSchemaIdByCatalogIdAndName(
       @Param("catalogId") Long catalogId, @Param("schemaName") String name);
 
+  @Select(
+      "SELECT sm.schema_id as schemaId FROM "
+          + TABLE_NAME
+          + " sm INNER JOIN "
+          + CatalogMetaMapper.TABLE_NAME
+          + " ct ON sm.catalog_id = ct.catalog_id INNER JOIN "
+          + MetalakeMetaMapper.TABLE_NAME
+          + " mm ON ct.metalake_id = mm.metalake_id"
+          + " WHERE mm.metalake_name = #{metalakeName} AND ct.catalog_name = #{catalogName}"
+          + " AND sm.schema_name = #{schemaName}"
+          + " AND mm.deleted_at = 0 AND ct.deleted_at = 0 AND sm.deleted_at = 0")
+  Long selectSchemaIdByMetalakeNameAndCatalogNameAndSchemaName(
+      @Param("metalakeName") String metalakeName,
+      @Param("catalogName") String catalogName,
+      @Param("schemaName") String schemaName);
+
   @Select(
       "SELECT schema_id as schemaId, schema_name as schemaName,"
           + " metalake_id as metalakeId, catalog_id as catalogId,"
@@ -49,6 +49,21 @@ public interface TableMetaMapper {
           + " WHERE schema_id = #{schemaId} AND deleted_at = 0")
   List<TablePO> listTablePOsBySchemaId(@Param("schemaId") Long schemaId);
 
+  @Select(
+      "SELECT table_id as tableId, table_name as tableName,"
+          + " metalake_id as metalakeId, catalog_id as catalogId,"
+          + " schema_id as schemaId, audit_info as auditInfo,"
+          + " current_version as currentVersion, last_version as lastVersion,"
+          + " deleted_at as deletedAt"
+          + " FROM "
+          + TABLE_NAME
+          + " WHERE schema_id = #{schemaId} AND table_name > #{lastTableName} AND deleted_at = 0"
+          + " ORDER BY table_name LIMIT #{limit}")
+  List<TablePO> listTablePOsBySchemaIdAfterName(
+      @Param("schemaId") Long schemaId,
+      @Param("lastTableName") String lastTableName,
+      @Param("limit") Integer limit);
+
   @Select(
       "SELECT table_id as tableId FROM "
           + TABLE_NAME
@@ -138,6 +138,9 @@ public class CatalogMetaService {
               mapper.insertCatalogMeta(po);
             }
           });
+      if (overwrite) {
+        CommonMetaService.getInstance().invalidateEntityIds(catalogEntity.nameIdentifier());
+      }
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.CATALOG, catalogEntity.nameIdentifier().toString());
@@ -179,6 +182,7 @@ public class CatalogMetaService {
       throw re;
     }
 
+    CommonMetaService.getInstance().invalidateEntityIds(identifier);
     if (updateResult > 0) {
       return newEntity;
     } else {
@@ -234,6 +238,7 @@ public class CatalogMetaService {
           CatalogMetaMapper.class, mapper -> mapper.softDeleteCatalogMetasByCatalogId(catalogId));
     }
 
+    CommonMetaService.getInstance().invalidateEntityIds(identifier);
     return true;
   }
 
@@ -19,8 +19,24 @@
 
 package com.datastrato.gravitino.storage.relational.service;
 
+import static com.datastrato.gravitino.Configs.DEFAULT_RELATIONAL_ENTITY_ID_CACHE_EXPIRE_MS;
+import static com.datastrato.gravitino.Configs.DEFAULT_RELATIONAL_ENTITY_ID_CACHE_SIZE;
+import static com.datastrato.gravitino.Configs.ENTITY_RELATIONAL_ENTITY_ID_CACHE_EXPIRE_MS;
+import static com.datastrato.gravitino.Configs.ENTITY_RELATIONAL_ENTITY_ID_CACHE_SIZE;
+
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
+import com.datastrato.gravitino.storage.relational.mapper.CatalogMetaMapper;
+import com.datastrato.gravitino.storage.relational.mapper.SchemaMetaMapper;
+import com.datastrato.gravitino.storage.relational.utils.SessionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /** The service class for common metadata operations. */
 public class CommonMetaService {
@@ -30,12 +46,146 @@ public class CommonMetaService {
     return INSTANCE;
   }
 
+  // The cache of the namespace to the id of the entity it refers to, e.g. the namespace
+  // "metalake.catalog.schema" to the id of the schema, null if the cache is disabled. The entity
+  // ids are invalidated when the entities are renamed or deleted by this server, the expiration
+  // bounds the staleness when they are modified by other servers sharing the database.
+  private volatile Cache<Namespace, Long> entityIdCache =
+      newEntityIdCache(
+          DEFAULT_RELATIONAL_ENTITY_ID_CACHE_SIZE, DEFAULT_RELATIONAL_ENTITY_ID_CACHE_EXPIRE_MS);
+
+  // Incremented by every invalidation. An id resolved before an invalidation may belong to the
+  // renamed or deleted entity, so it's not cached.
+  private final AtomicLong idCacheGeneration = new AtomicLong();
+
   private CommonMetaService() {}
 
+  /**
+   * Initialize the entity id cache with the configured size and expiration, the cached ids are
+   * dropped. It should be called when the backend is (re)initialized.
+   *
+   * @param config The configuration of the relational storage.
+   */
+  public void initialize(Config config) {
+    invalidateAllEntityIds();
+    this.entityIdCache =
+        newEntityIdCache(
+            config.get(ENTITY_RELATIONAL_ENTITY_ID_CACHE_SIZE),
+            config.get(ENTITY_RELATIONAL_ENTITY_ID_CACHE_EXPIRE_MS));
+  }
+
   public Long getParentEntityIdByNamespace(Namespace namespace) {
     Preconditions.checkArgument(
         !namespace.isEmpty() && namespace.levels().length <= 3,
         "Namespace should not be empty and length should be less than or equal to 3.");
+    Cache<Namespace, Long> cache = entityIdCache;
+    Long parentEntityId = cache == null ? null : cache.getIfPresent(namespace);
+    if (parentEntityId != null) {
+      return parentEntityId;
+    }
+
+    long generation = idCacheGeneration.get();
+
+    // Resolve the whole namespace in one query, fall back to resolving it level by level to know
+    // which level does not exist if it fails.
+    parentEntityId = selectEntityIdByNamespace(namespace);
+    if (parentEntityId == null) {
+      parentEntityId = selectEntityIdByNamespaceLevels(namespace);
+    }
+    Preconditions.checkState(
+        parentEntityId != null && parentEntityId > 0,
+        "Parent entity id should not be null and should be greater than 0.");
+
+    cacheEntityId(namespace, parentEntityId, generation);
+    return parentEntityId;
+  }
+
+  @VisibleForTesting
+  void cacheEntityId(Namespace namespace, Long entityId, long generation) {
+    Cache<Namespace, Long> cache = entityIdCache;
+    if (cache == null) {
+      return;
+    }
+
+    cache.put(namespace, entityId);
+    // The invalidations increase the generation before removing the ids, so either the removal
+    // happens after the put or the changed generation is seen here.
+    if (idCacheGeneration.get() != generation) {
+      cache.invalidate(namespace);
+    }
+  }
+
+  @VisibleForTesting
+  long idCacheGeneration() {
+    return idCacheGeneration.get();
+  }
+
+  /**
+   * Invalidate the cached ids of the entity and all its children, it should be called when the
+   * entity is renamed, deleted or overwritten.
+   *
+   * @param identifier The identifier of the entity.
+   */
+  public void invalidateEntityIds(NameIdentifier identifier) {
+    String[] levels =
+        Arrays.copyOf(identifier.namespace().levels(), identifier.namespace().length() + 1);
+    levels[levels.length - 1] = identifier.name();
+    idCacheGeneration.incrementAndGet();
+    Cache<Namespace, Long> cache = entityIdCache;
+    if (cache == null) {
+      return;
+    }
+
+    cache
+        .asMap()
+        .keySet()
+        .removeIf(
+            namespace ->
+                namespace.length() >= levels.length
+                    && Arrays.equals(
+                        Arrays.copyOf(namespace.levels(), levels.length), levels));
+  }
+
+  /** Invalidate all the cached ids, it should be called when the backend is (re)initialized. */
+  public void invalidateAllEntityIds() {
+    idCacheGeneration.incrementAndGet();
+    Cache<Namespace, Long> cache = entityIdCache;
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+  }
+
+  private static Cache<Namespace, Long> newEntityIdCache(long maxSize, long expireMs) {
+    if (maxSize == 0) {
+      return null;
+    }
+
+    return Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(expireMs, TimeUnit.MILLISECONDS)
+        .build();
+  }
+
+  private Long selectEntityIdByNamespace(Namespace namespace) {
+    switch (namespace.length()) {
+      case 1:
+        return MetalakeMetaService.getInstance().getMetalakeIdByName(namespace.level(0));
+      case 2:
+        return SessionUtils.getWithoutCommit(
+            CatalogMetaMapper.class,
+            mapper ->
+                mapper.selectCatalogIdByMetalakeNameAndCatalogName(
+                    namespace.level(0), namespace.level(1)));
+      default:
+        return SessionUtils.getWithoutCommit(
+            SchemaMetaMapper.class,
+            mapper ->
+                mapper.selectSchemaIdByMetalakeNameAndCatalogNameAndSchemaName(
+                    namespace.level(0), namespace.level(1), namespace.level(2)));
+    }
+  }
+
+  private Long selectEntityIdByNamespaceLevels(Namespace namespace) {
     Long parentEntityId = null;
     for (int level = 0; level < namespace.levels().length; level++) {
       String name = namespace.level(level);
@@ -54,9 +204,6 @@ public class CommonMetaService {
           break;
       }
     }
-    Preconditions.checkState(
-        parentEntityId != null && parentEntityId > 0,
-        "Parent entity id should not be null and should be greater than 0.");
     return parentEntityId;
   }
 }
@@ -118,6 +118,9 @@ public class MetalakeMetaService {
               mapper.insertMetalakeMeta(po);
             }
           });
+      if (overwrite) {
+        CommonMetaService.getInstance().invalidateEntityIds(baseMetalake.nameIdentifier());
+      }
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.METALAKE, baseMetalake.nameIdentifier().toString());
@@ -159,6 +162,7 @@ public class MetalakeMetaService {
       throw re;
     }
 
+    CommonMetaService.getInstance().invalidateEntityIds(ident);
     if (updateResult > 0) {
       return newMetalakeEntity;
     } else {
@@ -263,6 +267,7 @@ public class MetalakeMetaService {
                     mapper -> mapper.softDeleteRoleMetasByMetalakeId(metalakeId)));
       }
     }
+    CommonMetaService.getInstance().invalidateEntityIds(ident);
     return true;
   }
 
@@ -20,6 +20,7 @@ package com.datastrato.gravitino.storage.relational.service;
 
 import com.datastrato.gravitino.Entity;
 import com.datastrato.gravitino.HasIdentifier;
+import com.datastrato.gravitino.ListPage;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.exceptions.NoSuchEntityException;
@@ -113,6 +114,32 @@ public class SchemaMetaService {
     return POConverters.fromSchemaPOs(schemaPOs, namespace);
   }
 
+  public ListPage<SchemaEntity> listSchemasByNamespace(
+      Namespace namespace, String pageToken, int pageSize) {
+    NamespaceUtil.checkSchema(namespace);
+    Preconditions.checkArgument(pageSize > 0, "The page size must be positive");
+
+    Long catalogId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+
+    // The page token is the name of the last schema in the previous page, fetch one more schema to
+    // know whether there is a next page.
+    String lastSchemaName = pageToken == null ? "" : pageToken;
+    List<SchemaPO> schemaPOs =
+        SessionUtils.getWithoutCommit(
+            SchemaMetaMapper.class,
+            mapper ->
+                mapper.listSchemaPOsByCatalogIdAfterName(catalogId, lastSchemaName, pageSize + 1));
+
+    if (schemaPOs.size() <= pageSize) {
+      return ListPage.of(POConverters.fromSchemaPOs(schemaPOs, namespace), null);
+    }
+
+    List<SchemaPO> pagePOs = schemaPOs.subList(0, pageSize);
+    return ListPage.of(
+        POConverters.fromSchemaPOs(pagePOs, namespace),
+        pagePOs.get(pageSize - 1).getSchemaName());
+  }
+
   public void insertSchema(SchemaEntity schemaEntity, boolean overwrite) throws IOException {
     try {
       NameIdentifierUtil.checkSchema(schemaEntity.nameIdentifier());
@@ -130,6 +157,9 @@ public class SchemaMetaService {
               mapper.insertSchemaMeta(po);
             }
           });
+      if (overwrite) {
+        CommonMetaService.getInstance().invalidateEntityIds(schemaEntity.nameIdentifier());
+      }
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.SCHEMA, schemaEntity.nameIdentifier().toString());
@@ -169,6 +199,7 @@ public class SchemaMetaService {
       throw re;
     }
 
+    CommonMetaService.getInstance().invalidateEntityIds(identifier);
     if (updateResult > 0) {
       return newEntity;
     } else {
@@ -234,6 +265,7 @@ public class SchemaMetaService {
             SchemaMetaMapper.class, mapper -> mapper.softDeleteSchemaMetasBySchemaId(schemaId));
       }
     }
+    CommonMetaService.getInstance().invalidateEntityIds(identifier);
     return true;
   }
 
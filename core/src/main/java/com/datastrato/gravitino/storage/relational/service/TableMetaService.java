@@ -20,6 +20,7 @@ package com.datastrato.gravitino.storage.relational.service;
 
 import com.datastrato.gravitino.Entity;
 import com.datastrato.gravitino.HasIdentifier;
+import com.datastrato.gravitino.ListPage;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.exceptions.NoSuchEntityException;
@@ -108,6 +109,32 @@ public class TableMetaService {
     return POConverters.fromTablePOs(tablePOs, namespace);
   }
 
+  public ListPage<TableEntity> listTablesByNamespace(
+      Namespace namespace, String pageToken, int pageSize) {
+    NamespaceUtil.checkTable(namespace);
+    Preconditions.checkArgument(pageSize > 0, "The page size must be positive");
+
+    Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+
+    // The page token is the name of the last table in the previous page, fetch one more table to
+    // know whether there is a next page.
+    String lastTableName = pageToken == null ? "" : pageToken;
+    List<TablePO> tablePOs =
+        SessionUtils.getWithoutCommit(
+            TableMetaMapper.class,
+            mapper ->
+                mapper.listTablePOsBySchemaIdAfterName(schemaId, lastTableName, pageSize + 1));
+
+    if (tablePOs.size() <= pageSize) {
+      return ListPage.of(POConverters.fromTablePOs(tablePOs, namespace), null);
+    }
+
+    List<TablePO> pagePOs = tablePOs.subList(0, pageSize);
+    return ListPage.of(
+        POConverters.fromTablePOs(pagePOs, namespace),
+        pagePOs.get(pageSize - 1).getTableName());
+  }
+
   public void insertTable(TableEntity tableEntity, boolean overwrite) throws IOException {
     try {
       NameIdentifierUtil.checkTable(tableEntity.nameIdentifier());
@@ -56,6 +56,11 @@ public class TestCatalog extends BaseCatalog<TestCatalog> {
     return new TestCatalogCapabilities();
   }
 
+  @Override
+  public boolean supportsSharedClassLoader(Map<String, String> config) {
+    return !"kerberos".equalsIgnoreCase(config.get("authentication.type"));
+  }
+
   @Override
   public TableCatalog asTableCatalog() {
     return (TableCatalog) ops();
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino;
+
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestListPage {
+
+  @Test
+  public void testPaginate() {
+    List<String> items = Lists.newArrayList("d", "a", "c", "b", "e");
+
+    ListPage<String> page = ListPage.paginate(items, Function.identity(), null, 2);
+    Assertions.assertEquals(Lists.newArrayList("a", "b"), page.items());
+    Assertions.assertTrue(page.hasNextPage());
+    Assertions.assertEquals("b", page.nextPageToken());
+
+    page = ListPage.paginate(items, Function.identity(), page.nextPageToken(), 2);
+    Assertions.assertEquals(Lists.newArrayList("c", "d"), page.items());
+    Assertions.assertEquals("d", page.nextPageToken());
+
+    page = ListPage.paginate(items, Function.identity(), page.nextPageToken(), 2);
+    Assertions.assertEquals(Lists.newArrayList("e"), page.items());
+    Assertions.assertFalse(page.hasNextPage());
+    Assertions.assertNull(page.nextPageToken());
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> ListPage.paginate(items, Function.identity(), null, 0));
+  }
+}
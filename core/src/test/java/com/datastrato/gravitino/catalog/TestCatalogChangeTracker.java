@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.catalog;
+
+import com.datastrato.gravitino.NameIdentifier;
+import com.google.common.collect.ImmutableList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCatalogChangeTracker {
+
+  @Test
+  public void testChangesSince() {
+    CatalogChangeTracker tracker = new CatalogChangeTracker(100L);
+
+    // A client that has never synced must do a full sync.
+    CatalogChangeTracker.Changes changes = tracker.changesSince("metalake", -1, 0);
+    Assertions.assertTrue(changes.fullSync());
+    Assertions.assertEquals(100L, changes.epoch());
+    Assertions.assertEquals(0L, changes.version());
+
+    tracker.recordChanged(NameIdentifier.of("metalake", "catalog1"));
+    tracker.recordChanged(NameIdentifier.of("metalake", "catalog2"));
+    tracker.recordChanged(NameIdentifier.of("metalake2", "catalog3"));
+
+    changes = tracker.changesSince("metalake", 100L, 0);
+    Assertions.assertFalse(changes.fullSync());
+    Assertions.assertEquals(2L, changes.version());
+    Assertions.assertEquals(
+        ImmutableList.of("catalog1", "catalog2"),
+        ImmutableList.sortedCopyOf(changes.changedCatalogs()));
+    Assertions.assertTrue(changes.droppedCatalogs().isEmpty());
+
+    changes = tracker.changesSince("metalake", 100L, 1);
+    Assertions.assertEquals(ImmutableList.of("catalog2"), changes.changedCatalogs());
+
+    // Rename catalog1 to catalog4, then drop catalog2.
+    tracker.recordDropped(NameIdentifier.of("metalake", "catalog1"));
+    tracker.recordChanged(NameIdentifier.of("metalake", "catalog4"));
+    tracker.recordDropped(NameIdentifier.of("metalake", "catalog2"));
+
+    changes = tracker.changesSince("metalake", 100L, 2);
+    Assertions.assertEquals(5L, changes.version());
+    Assertions.assertEquals(ImmutableList.of("catalog4"), changes.changedCatalogs());
+    Assertions.assertEquals(
+        ImmutableList.of("catalog1", "catalog2"),
+        ImmutableList.sortedCopyOf(changes.droppedCatalogs()));
+
+    changes = tracker.changesSince("metalake", 100L, 5);
+    Assertions.assertFalse(changes.fullSync());
+    Assertions.assertTrue(changes.changedCatalogs().isEmpty());
+    Assertions.assertTrue(changes.droppedCatalogs().isEmpty());
+
+    // Versions of another epoch, or newer than the latest one, can't be trusted.
+    Assertions.assertTrue(tracker.changesSince("metalake", 99L, 5).fullSync());
+    Assertions.assertTrue(tracker.changesSince("metalake", 100L, 6).fullSync());
+  }
+
+  @Test
+  public void testEvictDroppedCatalogs() {
+    CatalogChangeTracker tracker = new CatalogChangeTracker(100L);
+    for (int i = 0; i <= CatalogChangeTracker.MAX_DROPPED_CATALOGS; i++) {
+      tracker.recordDropped(NameIdentifier.of("metalake", "catalog" + i));
+    }
+
+    // The first drop is evicted, clients synced before it must do a full sync.
+    Assertions.assertTrue(tracker.changesSince("metalake", 100L, 0).fullSync());
+    CatalogChangeTracker.Changes changes = tracker.changesSince("metalake", 100L, 1);
+    Assertions.assertFalse(changes.fullSync());
+    Assertions.assertEquals(
+        CatalogChangeTracker.MAX_DROPPED_CATALOGS, changes.droppedCatalogs().size());
+  }
+
+  @Test
+  public void testWaitForChanges() throws Exception {
+    CatalogChangeTracker tracker = new CatalogChangeTracker(100L);
+
+    long start = System.nanoTime();
+    CatalogChangeTracker.Changes changes = tracker.waitForChanges("metalake", 100L, 0, 100);
+    Assertions.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+    Assertions.assertTrue(changes.changedCatalogs().isEmpty());
+
+    CompletableFuture<CatalogChangeTracker.Changes> future =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return tracker.waitForChanges("metalake", 100L, 0, 60_000);
+              } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+              }
+            });
+    tracker.recordChanged(NameIdentifier.of("metalake", "catalog1"));
+
+    changes = future.get(10, TimeUnit.SECONDS);
+    Assertions.assertEquals(ImmutableList.of("catalog1"), changes.changedCatalogs());
+  }
+
+  @Test
+  public void testMetalakeDropped() {
+    CatalogChangeTracker tracker = new CatalogChangeTracker(100L);
+    tracker.recordChanged(NameIdentifier.of("metalake", "catalog1"));
+    tracker.recordChanged(NameIdentifier.of("metalake2", "catalog2"));
+
+    // All the catalogs of the metalake are gone, clients synced before must do a full sync.
+    tracker.recordMetalakeDropped(NameIdentifier.of("metalake"));
+    CatalogChangeTracker.Changes changes = tracker.changesSince("metalake", 100L, 1);
+    Assertions.assertTrue(changes.fullSync());
+    Assertions.assertEquals(2L, changes.version());
+
+    // Including the clients synced before the metalake is created again.
+    tracker.recordChanged(NameIdentifier.of("metalake", "catalog3"));
+    Assertions.assertTrue(tracker.changesSince("metalake", 100L, 1).fullSync());
+    changes = tracker.changesSince("metalake", 100L, 2);
+    Assertions.assertFalse(changes.fullSync());
+    Assertions.assertEquals(ImmutableList.of("catalog3"), changes.changedCatalogs());
+
+    // Other metalakes are not affected.
+    Assertions.assertFalse(tracker.changesSince("metalake2", 100L, 0).fullSync());
+    tracker.recordMetalakeDropped(NameIdentifier.of("metalake3"));
+    Assertions.assertTrue(tracker.changesSince("metalake3", 100L, 0).changedCatalogs().isEmpty());
+  }
+
+  @Test
+  public void testMaxWaiters() throws Exception {
+    CatalogChangeTracker tracker = new CatalogChangeTracker(100L, 1);
+    CompletableFuture<CatalogChangeTracker.Changes> future =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return tracker.waitForChanges("metalake", 100L, 0, 60_000);
+              } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+              }
+            });
+    Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> tracker.availableWaiters() == 0);
+
+    // The only waiter slot is taken, the request returns without waiting.
+    long start = System.nanoTime();
+    CatalogChangeTracker.Changes changes = tracker.waitForChanges("metalake2", 100L, 0, 60_000);
+    Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(30));
+    Assertions.assertTrue(changes.changedCatalogs().isEmpty());
+    Assertions.assertFalse(future.isDone());
+
+    // A dropped metalake wakes up its waiters.
+    tracker.recordMetalakeDropped(NameIdentifier.of("metalake"));
+    Assertions.assertTrue(future.get(10, TimeUnit.SECONDS).fullSync());
+    Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> tracker.availableWaiters() == 1);
+  }
+}
@@ -41,8 +41,15 @@ import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -445,6 +452,136 @@ public class TestCatalogManager {
     Assertions.assertNull(catalogManager.catalogCache.getIfPresent(ident));
   }
 
+  @Test
+  public void testWarmUpAndRefreshCatalogs() throws Exception {
+    NameIdentifier ident = NameIdentifier.of("metalake", "test51");
+    Map<String, String> props = ImmutableMap.of("key1", "value1", "key2", "value2");
+    catalogManager.createCatalog(ident, Catalog.Type.RELATIONAL, provider, "comment", props);
+
+    Config warmUpConfig = new Config(false) {};
+    warmUpConfig.set(Configs.CATALOG_LOAD_ISOLATED, false);
+    warmUpConfig.set(Configs.CATALOG_WARM_UP_ENABLED, true);
+    warmUpConfig.set(Configs.CATALOG_CACHE_REFRESH_INTERVAL_MS, 100L);
+    try (CatalogManager warmUpManager =
+        new CatalogManager(warmUpConfig, entityStore, new RandomIdGenerator())) {
+      // The catalogs are loaded in the background before the first request.
+      warmUpManager.warmUpCatalogs();
+      Awaitility.await()
+          .atMost(10, TimeUnit.SECONDS)
+          .until(() -> warmUpManager.catalogCache.getIfPresent(ident) != null);
+
+      // The loaded catalog is served until the refreshed one is loaded.
+      CatalogManager.CatalogWrapper loaded = warmUpManager.catalogCache.getIfPresent(ident);
+      Thread.sleep(200);
+      Assertions.assertSame(loaded, warmUpManager.loadCatalogAndWrap(ident));
+      Awaitility.await()
+          .atMost(10, TimeUnit.SECONDS)
+          .until(() -> warmUpManager.catalogCache.getIfPresent(ident) != loaded);
+
+      // A dropped catalog is removed from the cache by the refresh.
+      catalogManager.dropCatalog(ident);
+      Thread.sleep(200);
+      warmUpManager.catalogCache.getIfPresent(ident);
+      Awaitility.await()
+          .atMost(10, TimeUnit.SECONDS)
+          .until(() -> warmUpManager.catalogCache.asMap().get(ident) == null);
+    }
+  }
+
+  @Test
+  public void testCloseCatalogAfterOperations() throws Exception {
+    NameIdentifier ident = NameIdentifier.of("metalake", "test52");
+    Map<String, String> props = ImmutableMap.of("key1", "value1", "key2", "value2");
+    catalogManager.createCatalog(ident, Catalog.Type.RELATIONAL, provider, "comment", props);
+    Namespace schemaNamespace = Namespace.of("metalake", "test52");
+
+    CatalogManager.CatalogWrapper wrapper = catalogManager.loadCatalogAndWrap(ident);
+    wrapper.doWithSchemaOps(
+        schemas -> {
+          // The operation in flight keeps using the removed catalog until it completes.
+          Assertions.assertTrue(catalogManager.dropCatalog(ident));
+          return schemas.listSchemas(schemaNamespace);
+        });
+    Assertions.assertThrows(
+        IllegalStateException.class,
+        () -> wrapper.doWithSchemaOps(schemas -> schemas.listSchemas(schemaNamespace)));
+  }
+
+  @Test
+  public void testOperationsDuringConcurrentRefresh() throws Exception {
+    NameIdentifier ident = NameIdentifier.of("metalake", "test53");
+    Map<String, String> props = ImmutableMap.of("key1", "value1", "key2", "value2");
+    catalogManager.createCatalog(ident, Catalog.Type.RELATIONAL, provider, "comment", props);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int j = 0; j < 200; j++) {
+                    CatalogManager.CatalogWrapper wrapper =
+                        catalogManager.loadCatalogAndRetain(ident);
+                    try {
+                      Assertions.assertNotNull(wrapper.capabilities());
+                    } finally {
+                      wrapper.release();
+                    }
+                    Assertions.assertNotNull(catalogManager.loadCatalog(ident));
+                  }
+                  return null;
+                }));
+      }
+
+      // Each refresh replaces the cached catalog and closes the old one, the operations getting
+      // the old one just before it is closed move on to the new one.
+      for (int i = 0; i < 50; i++) {
+        catalogManager.catalogCache.refresh(ident);
+      }
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testSharedClassLoader() throws Exception {
+    Config sharedConfig = new Config(false) {};
+    sharedConfig.set(Configs.CATALOG_LOAD_ISOLATED, false);
+    sharedConfig.set(Configs.CATALOG_CLASSLOADER_SHARED, true);
+    NameIdentifier ident1 = NameIdentifier.of("metalake", "test61");
+    NameIdentifier ident2 = NameIdentifier.of("metalake", "test62");
+    NameIdentifier kerberosIdent = NameIdentifier.of("metalake", "test63");
+    Map<String, String> props = ImmutableMap.of("key1", "value1", "key2", "value2");
+    Map<String, String> kerberosProps =
+        ImmutableMap.of("key1", "value1", "key2", "value2", "authentication.type", "kerberos");
+    try (CatalogManager sharedManager =
+        new CatalogManager(sharedConfig, entityStore, new RandomIdGenerator())) {
+      sharedManager.createCatalog(ident1, Catalog.Type.RELATIONAL, provider, "comment", props);
+      sharedManager.createCatalog(ident2, Catalog.Type.RELATIONAL, provider, "comment", props);
+      sharedManager.createCatalog(
+          kerberosIdent, Catalog.Type.RELATIONAL, provider, "comment", kerberosProps);
+
+      CatalogManager.CatalogWrapper catalog1 = sharedManager.loadCatalogAndWrap(ident1);
+      CatalogManager.CatalogWrapper catalog2 = sharedManager.loadCatalogAndWrap(ident2);
+      Assertions.assertSame(catalog1.classLoader(), catalog2.classLoader());
+      // The catalog changing the static state of the class loader uses its own one.
+      Assertions.assertNotSame(
+          catalog1.classLoader(), sharedManager.loadCatalogAndWrap(kerberosIdent).classLoader());
+
+      // Closing one of the catalogs sharing the class loader keeps the other one working.
+      Assertions.assertTrue(sharedManager.dropCatalog(ident1));
+      CatalogManager.CatalogWrapper loaded = sharedManager.loadCatalogAndWrap(ident2);
+      Assertions.assertSame(catalog2, loaded);
+      Namespace schemaNamespace = Namespace.of("metalake", "test62");
+      Assertions.assertNotNull(
+          loaded.doWithSchemaOps(schemas -> schemas.listSchemas(schemaNamespace)));
+    }
+  }
+
   private void testProperties(Map<String, String> expectedProps, Map<String, String> testProps) {
     expectedProps.forEach(
         (k, v) -> {
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.catalog;
+
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Configs;
+import com.datastrato.gravitino.NameIdentifier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCatalogMetadataCache {
+
+  @Test
+  public void testDisabledCache() {
+    Config config = new Config(false) {};
+    CatalogMetadataCache cache = new CatalogMetadataCache(config);
+    Assertions.assertFalse(cache.enabled());
+
+    NameIdentifier ident = NameIdentifier.of("metalake", "catalog", "schema");
+    cache.put(ident, "schema");
+    Assertions.assertNull(cache.get(ident, String.class));
+    cache.close();
+  }
+
+  @Test
+  public void testGetAndInvalidate() {
+    Config config = new Config(false) {};
+    config.set(Configs.CATALOG_METADATA_CACHE_ENABLED, true);
+    CatalogMetadataCache cache = new CatalogMetadataCache(config);
+    Assertions.assertTrue(cache.enabled());
+
+    NameIdentifier schema = NameIdentifier.of("metalake", "catalog", "schema");
+    NameIdentifier table = NameIdentifier.of("metalake", "catalog", "schema", "table");
+    NameIdentifier otherTable = NameIdentifier.of("metalake", "catalog", "schema1", "table");
+    cache.put(schema, "schema");
+    cache.put(table, "table");
+    cache.put(otherTable, "otherTable");
+
+    Assertions.assertEquals("schema", cache.get(schema, String.class));
+    // The cached value doesn't match the expected class
+    Assertions.assertNull(cache.get(schema, Integer.class));
+
+    cache.invalidate(table);
+    Assertions.assertNull(cache.get(table, String.class));
+    Assertions.assertEquals("schema", cache.get(schema, String.class));
+
+    cache.put(table, "table");
+    cache.invalidateWithChildren(schema);
+    Assertions.assertNull(cache.get(schema, String.class));
+    Assertions.assertNull(cache.get(table, String.class));
+    Assertions.assertEquals("otherTable", cache.get(otherTable, String.class));
+
+    cache.invalidateWithChildren(NameIdentifier.of("metalake", "catalog"));
+    Assertions.assertNull(cache.get(otherTable, String.class));
+    cache.close();
+  }
+
+  @Test
+  public void testIsChildOf() {
+    NameIdentifier catalog = NameIdentifier.of("metalake", "catalog");
+    NameIdentifier schema = NameIdentifier.of("metalake", "catalog", "schema");
+    NameIdentifier table = NameIdentifier.of("metalake", "catalog", "schema", "table");
+
+    Assertions.assertTrue(CatalogMetadataCache.isChildOf(schema, catalog));
+    Assertions.assertTrue(CatalogMetadataCache.isChildOf(table, catalog));
+    Assertions.assertTrue(CatalogMetadataCache.isChildOf(table, schema));
+    Assertions.assertFalse(CatalogMetadataCache.isChildOf(catalog, catalog));
+    Assertions.assertFalse(CatalogMetadataCache.isChildOf(schema, table));
+    Assertions.assertFalse(
+        CatalogMetadataCache.isChildOf(table, NameIdentifier.of("metalake", "catalog1")));
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.catalog;
+
+import com.datastrato.gravitino.Catalog;
+import com.datastrato.gravitino.Namespace;
+import com.datastrato.gravitino.connector.PropertiesMetadata;
+import com.datastrato.gravitino.connector.PropertyEntry;
+import com.datastrato.gravitino.connector.capability.Capability;
+import com.datastrato.gravitino.meta.AuditInfo;
+import com.datastrato.gravitino.meta.CatalogEntity;
+import com.datastrato.gravitino.utils.IsolatedClassLoader;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestCatalogProviderRegistry {
+
+  private static final PropertiesMetadata PROPERTIES_METADATA =
+      () ->
+          ImmutableMap.of(
+              "secret",
+              PropertyEntry.stringPropertyEntry(
+                  "secret", "secret property", false, false, null, true, false),
+              "key",
+              PropertyEntry.stringPropertyEntry(
+                  "key", "visible property", false, false, null, false, false));
+
+  @Test
+  public void testProviderInfo(@TempDir File packageDir) throws Exception {
+    File jar = new File(packageDir, "catalog-hive.jar");
+    Files.write(jar.toPath(), "v1".getBytes(StandardCharsets.UTF_8));
+
+    AtomicInteger loads = new AtomicInteger();
+    AtomicLong clock = new AtomicLong();
+    CatalogProviderRegistry registry =
+        new CatalogProviderRegistry(
+            e -> "hive".equalsIgnoreCase(e.getProvider()) ? packageDir.getPath() : null,
+            e -> {
+              loads.incrementAndGet();
+              if ("broken".equals(e.getProvider())) {
+                throw new IllegalArgumentException("No catalog provider found for: broken");
+              }
+              return new CatalogProviderRegistry.ProviderInfo(
+                  new IsolatedClassLoader(
+                      Collections.emptyList(), Collections.emptyList(), Collections.emptyList()),
+                  PROPERTIES_METADATA,
+                  Capability.DEFAULT,
+                  config -> true);
+            },
+            clock::get);
+
+    CatalogProviderRegistry.ProviderInfo providerInfo =
+        registry.providerInfo(newCatalogEntity("hive"));
+    Assertions.assertEquals(ImmutableSet.of("secret"), providerInfo.hiddenPropertyNames());
+    Assertions.assertSame(PROPERTIES_METADATA, providerInfo.catalogPropertiesMetadata());
+    Assertions.assertSame(Capability.DEFAULT, providerInfo.capability());
+
+    // The provider metadata is loaded once and shared by the catalogs of the provider.
+    Assertions.assertSame(providerInfo, registry.providerInfo(newCatalogEntity("hive")));
+    Assertions.assertSame(providerInfo, registry.providerInfo(newCatalogEntity("HIVE")));
+    Assertions.assertEquals(1, loads.get());
+
+    Assertions.assertNotSame(providerInfo, registry.providerInfo(newCatalogEntity("test")));
+    Assertions.assertEquals(2, loads.get());
+
+    // The provider jars are checked at most once per interval.
+    Files.write(jar.toPath(), "v2-updated".getBytes(StandardCharsets.UTF_8));
+    clock.addAndGet(CatalogProviderRegistry.PACKAGE_CHECK_INTERVAL_MS - 1);
+    Assertions.assertSame(providerInfo, registry.providerInfo(newCatalogEntity("hive")));
+    Assertions.assertEquals(2, loads.get());
+
+    // The provider metadata is loaded again after the provider jars change.
+    clock.addAndGet(1);
+    CatalogProviderRegistry.ProviderInfo reloadedInfo =
+        registry.providerInfo(newCatalogEntity("hive"));
+    Assertions.assertNotSame(providerInfo, reloadedInfo);
+    Assertions.assertEquals(3, loads.get());
+
+    Files.write(
+        new File(packageDir, "dependency.jar").toPath(), "v1".getBytes(StandardCharsets.UTF_8));
+    clock.addAndGet(CatalogProviderRegistry.PACKAGE_CHECK_INTERVAL_MS);
+    Assertions.assertNotSame(reloadedInfo, registry.providerInfo(newCatalogEntity("hive")));
+    Assertions.assertEquals(4, loads.get());
+
+    // The unchanged jars keep the loaded provider metadata.
+    clock.addAndGet(CatalogProviderRegistry.PACKAGE_CHECK_INTERVAL_MS);
+    CatalogProviderRegistry.ProviderInfo latestInfo =
+        registry.providerInfo(newCatalogEntity("hive"));
+    Assertions.assertSame(latestInfo, registry.providerInfo(newCatalogEntity("hive")));
+    Assertions.assertEquals(4, loads.get());
+
+    // A provider failed to load isn't registered.
+    for (int i = 0; i < 2; i++) {
+      Assertions.assertThrows(
+          IllegalArgumentException.class,
+          () -> registry.providerInfo(newCatalogEntity("broken")));
+    }
+    Assertions.assertEquals(6, loads.get());
+
+    registry.close();
+  }
+
+  @Test
+  public void testSharedClassLoader(@TempDir File packageDir) throws Exception {
+    File jar = new File(packageDir, "catalog-hive.jar");
+    Files.write(jar.toPath(), "v1".getBytes(StandardCharsets.UTF_8));
+
+    AtomicInteger closes = new AtomicInteger();
+    AtomicLong clock = new AtomicLong();
+    CatalogProviderRegistry registry =
+        new CatalogProviderRegistry(
+            e -> packageDir.getPath(),
+            e ->
+                new CatalogProviderRegistry.ProviderInfo(
+                    new IsolatedClassLoader(
+                        Collections.emptyList(), Collections.emptyList(), Collections.emptyList()) {
+                      @Override
+                      public void close() {
+                        closes.incrementAndGet();
+                      }
+                    },
+                    PROPERTIES_METADATA,
+                    Capability.DEFAULT,
+                    config -> true),
+            clock::get);
+
+    CatalogProviderRegistry.ProviderInfo catalog1 =
+        registry.retainProviderInfo(newCatalogEntity("hive"));
+    CatalogProviderRegistry.ProviderInfo catalog2 =
+        registry.retainProviderInfo(newCatalogEntity("hive"));
+    Assertions.assertSame(catalog1, catalog2);
+    Assertions.assertSame(catalog1.classLoader(), catalog2.classLoader());
+
+    // The class loader of a reloaded provider is closed after its catalogs released it.
+    Files.write(jar.toPath(), "v2-updated".getBytes(StandardCharsets.UTF_8));
+    clock.addAndGet(CatalogProviderRegistry.PACKAGE_CHECK_INTERVAL_MS);
+    CatalogProviderRegistry.ProviderInfo catalog3 =
+        registry.retainProviderInfo(newCatalogEntity("hive"));
+    Assertions.assertNotSame(catalog1, catalog3);
+    catalog1.release();
+    Assertions.assertEquals(0, closes.get());
+    catalog2.release();
+    Assertions.assertEquals(1, closes.get());
+    Assertions.assertFalse(catalog1.retain());
+
+    registry.close();
+    Assertions.assertEquals(1, closes.get());
+    catalog3.release();
+    Assertions.assertEquals(2, closes.get());
+  }
+
+  @Test
+  public void testPackageFingerprint(@TempDir File packageDir) throws Exception {
+    Assertions.assertEquals(0L, CatalogProviderRegistry.packageFingerprint(null));
+    Assertions.assertEquals(
+        0L, CatalogProviderRegistry.packageFingerprint(packageDir.getPath() + "/not-exist"));
+
+    long emptyFingerprint = CatalogProviderRegistry.packageFingerprint(packageDir.getPath());
+    Files.write(
+        new File(packageDir, "config.xml").toPath(), "v1".getBytes(StandardCharsets.UTF_8));
+    Assertions.assertEquals(
+        emptyFingerprint, CatalogProviderRegistry.packageFingerprint(packageDir.getPath()));
+
+    Files.write(
+        new File(packageDir, "catalog.jar").toPath(), "v1".getBytes(StandardCharsets.UTF_8));
+    long fingerprint = CatalogProviderRegistry.packageFingerprint(packageDir.getPath());
+    Assertions.assertNotEquals(emptyFingerprint, fingerprint);
+    Assertions.assertEquals(
+        fingerprint, CatalogProviderRegistry.packageFingerprint(packageDir.getPath()));
+  }
+
+  private static CatalogEntity newCatalogEntity(String provider) {
+    return CatalogEntity.builder()
+        .withId(1L)
+        .withName("catalog")
+        .withNamespace(Namespace.of("metalake"))
+        .withType(Catalog.Type.RELATIONAL)
+        .withProvider(provider)
+        .withAuditInfo(
+            AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build())
+        .build();
+  }
+}
@@ -21,6 +21,7 @@ package com.datastrato.gravitino.catalog;
 import static com.datastrato.gravitino.TestFilesetPropertiesMetadata.TEST_FILESET_HIDDEN_KEY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
 
@@ -126,6 +127,19 @@ public abstract class TestOperationDispatcher {
     assertEquals(dispatcher.getCatalogIdentifier(id5), NameIdentifier.of("a", "b"));
   }
 
+  /** Returns a catalog manager backed by an enabled metadata cache. */
+  static CatalogManager withMetadataCache(CatalogMetadataCache metadataCache) {
+    CatalogManager cachingCatalogManager = spy(catalogManager);
+    doReturn(metadataCache).when(cachingCatalogManager).metadataCache();
+    return cachingCatalogManager;
+  }
+
+  static CatalogMetadataCache enabledMetadataCache() {
+    Config cacheConfig = new Config(false) {};
+    cacheConfig.set(Configs.CATALOG_METADATA_CACHE_ENABLED, true);
+    return new CatalogMetadataCache(cacheConfig);
+  }
+
   void testProperties(Map<String, String> expectedProps, Map<String, String> testProps) {
     expectedProps.forEach(
         (k, v) -> {
@@ -23,10 +23,13 @@ import static com.datastrato.gravitino.StringIdentifier.ID_KEY;
 import static com.datastrato.gravitino.TestBasePropertiesMetadata.COMMENT_KEY;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.Configs;
@@ -202,6 +205,39 @@ public class TestSchemaOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertEquals("test", loadedSchema3.auditInfo().creator());
   }
 
+  @Test
+  public void testLoadSchemaFromMetadataCache() throws IOException {
+    CatalogMetadataCache metadataCache = enabledMetadataCache();
+    CatalogManager cachingCatalogManager = withMetadataCache(metadataCache);
+    SchemaOperationDispatcher cachingDispatcher =
+        new SchemaOperationDispatcher(cachingCatalogManager, entityStore, idGenerator);
+
+    NameIdentifier schemaIdent = NameIdentifier.of(metalake, catalog, "schema25");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    cachingDispatcher.createSchema(schemaIdent, "comment", props);
+    Assertions.assertNull(metadataCache.get(schemaIdent, EntityCombinedSchema.class));
+
+    Schema loadedSchema = cachingDispatcher.loadSchema(schemaIdent);
+    Assertions.assertSame(
+        loadedSchema, metadataCache.get(schemaIdent, EntityCombinedSchema.class));
+
+    // The cached schema is served without loading it from the catalog.
+    clearInvocations(cachingCatalogManager);
+    Assertions.assertSame(loadedSchema, cachingDispatcher.loadSchema(schemaIdent));
+    verify(cachingCatalogManager, never()).loadCatalogAndWrap(any());
+
+    // Altering the schema invalidates the cached one.
+    cachingDispatcher.alterSchema(schemaIdent, SchemaChange.setProperty("k3", "v3"));
+    Assertions.assertNull(metadataCache.get(schemaIdent, EntityCombinedSchema.class));
+    Assertions.assertEquals("v3", cachingDispatcher.loadSchema(schemaIdent).properties().get("k3"));
+
+    // Dropping the schema invalidates the cached one.
+    Assertions.assertNotNull(metadataCache.get(schemaIdent, EntityCombinedSchema.class));
+    Assertions.assertTrue(cachingDispatcher.dropSchema(schemaIdent, false));
+    Assertions.assertNull(metadataCache.get(schemaIdent, EntityCombinedSchema.class));
+    metadataCache.close();
+  }
+
   @Test
   public void testCreateAndAlterSchema() throws IOException {
     NameIdentifier schemaIdent = NameIdentifier.of(metalake, catalog, "schema21");
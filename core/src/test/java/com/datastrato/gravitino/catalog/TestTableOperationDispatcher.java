@@ -27,10 +27,13 @@ import static com.datastrato.gravitino.StringIdentifier.ID_KEY;
 import static com.datastrato.gravitino.TestBasePropertiesMetadata.COMMENT_KEY;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.GravitinoEnv;
@@ -227,6 +230,41 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertEquals("test", loadedTable4.auditInfo().creator());
   }
 
+  @Test
+  public void testCreateAndLoadTables() throws IOException {
+    Namespace tableNs = Namespace.of(metalake, catalog, "schema52");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder().withName("col1").withType(Types.StringType.get()).build()
+        };
+    Table table1 =
+        tableOperationDispatcher.createTable(
+            NameIdentifier.of(tableNs, "table21"), columns, "comment1", props, new Transform[0]);
+    Table table2 =
+        tableOperationDispatcher.createTable(
+            NameIdentifier.of(tableNs, "table22"), columns, "comment2", props, new Transform[0]);
+    // Cache one of the tables.
+    tableOperationDispatcher.loadTable(NameIdentifier.of(tableNs, "table22"));
+
+    // The missing tables are skipped, and the tables are returned in the order of the names.
+    Table[] tables =
+        tableOperationDispatcher.loadTables(tableNs, "table22", "table_missing", "table21");
+    Assertions.assertEquals(2, tables.length);
+    Assertions.assertEquals(table2.name(), tables[0].name());
+    Assertions.assertEquals(table2.comment(), tables[0].comment());
+    Assertions.assertEquals(table1.name(), tables[1].name());
+    Assertions.assertEquals(table1.comment(), tables[1].comment());
+    testProperties(table1.properties(), tables[1].properties());
+    Assertions.assertArrayEquals(table1.columns(), tables[1].columns());
+    // Audit info is gotten from the entity store
+    Assertions.assertEquals(AuthConstants.ANONYMOUS_USER, tables[1].auditInfo().creator());
+
+    Assertions.assertEquals(0, tableOperationDispatcher.loadTables(tableNs).length);
+  }
+
   @Test
   public void testCreateAndAlterTable() throws IOException {
     Namespace tableNs = Namespace.of(metalake, catalog, "schema61");
@@ -296,6 +334,52 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertEquals("test", alteredTable4.auditInfo().lastModifier());
   }
 
+  @Test
+  public void testLoadTableFromMetadataCache() throws IOException {
+    CatalogMetadataCache metadataCache = enabledMetadataCache();
+    CatalogManager cachingCatalogManager = withMetadataCache(metadataCache);
+    TableOperationDispatcher cachingDispatcher =
+        new TableOperationDispatcher(cachingCatalogManager, entityStore, idGenerator);
+
+    Namespace tableNs = Namespace.of(metalake, catalog, "schema81");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+    NameIdentifier tableIdent = NameIdentifier.of(tableNs, "table41");
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder().withName("col1").withType(Types.StringType.get()).build()
+        };
+    cachingDispatcher.createTable(tableIdent, columns, "comment", props, new Transform[0]);
+    Assertions.assertNull(metadataCache.get(tableIdent, EntityCombinedTable.class));
+
+    Table loadedTable = cachingDispatcher.loadTable(tableIdent);
+    Assertions.assertSame(loadedTable, metadataCache.get(tableIdent, EntityCombinedTable.class));
+
+    // The cached table is served without loading it from the catalog.
+    clearInvocations(cachingCatalogManager);
+    Assertions.assertSame(loadedTable, cachingDispatcher.loadTable(tableIdent));
+    verify(cachingCatalogManager, never()).loadCatalogAndWrap(any());
+
+    // Altering the table invalidates the cached one.
+    cachingDispatcher.alterTable(tableIdent, TableChange.setProperty("k3", "v3"));
+    Assertions.assertNull(metadataCache.get(tableIdent, EntityCombinedTable.class));
+    Assertions.assertEquals("v3", cachingDispatcher.loadTable(tableIdent).properties().get("k3"));
+
+    // Renaming the table invalidates both the old and the new names.
+    NameIdentifier renamedIdent = NameIdentifier.of(tableNs, "table42");
+    metadataCache.put(renamedIdent, loadedTable);
+    cachingDispatcher.alterTable(tableIdent, TableChange.rename("table42"));
+    Assertions.assertNull(metadataCache.get(tableIdent, EntityCombinedTable.class));
+    Assertions.assertNull(metadataCache.get(renamedIdent, EntityCombinedTable.class));
+
+    // Dropping the table invalidates the cached one.
+    cachingDispatcher.loadTable(renamedIdent);
+    Assertions.assertNotNull(metadataCache.get(renamedIdent, EntityCombinedTable.class));
+    Assertions.assertTrue(cachingDispatcher.dropTable(renamedIdent));
+    Assertions.assertNull(metadataCache.get(renamedIdent, EntityCombinedTable.class));
+    metadataCache.close();
+  }
+
   @Test
   public void testCreateAndDropTable() throws IOException {
     NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, "schema71", "table31");
@@ -166,6 +166,34 @@ public class TestTopicOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertEquals("test", loadedTopic4.auditInfo().creator());
   }
 
+  @Test
+  public void testCreateAndLoadTopics() {
+    Namespace topicNs = Namespace.of(metalake, catalog, "schema132");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(topicNs.levels()), "comment", props);
+
+    Topic topic1 =
+        topicOperationDispatcher.createTopic(
+            NameIdentifier.of(topicNs, "topic21"), "comment1", null, props);
+    Topic topic2 =
+        topicOperationDispatcher.createTopic(
+            NameIdentifier.of(topicNs, "topic22"), "comment2", null, props);
+
+    // The missing topics are skipped, and the topics are returned in the order of the names.
+    Topic[] topics =
+        topicOperationDispatcher.loadTopics(topicNs, "topic22", "topic_missing", "topic21");
+    Assertions.assertEquals(2, topics.length);
+    Assertions.assertEquals(topic2.name(), topics[0].name());
+    Assertions.assertEquals(topic2.comment(), topics[0].comment());
+    Assertions.assertEquals(topic1.name(), topics[1].name());
+    Assertions.assertEquals(topic1.comment(), topics[1].comment());
+    testProperties(props, topics[1].properties());
+    // Audit info is gotten from the entity store
+    Assertions.assertEquals(AuthConstants.ANONYMOUS_USER, topics[1].auditInfo().creator());
+
+    Assertions.assertEquals(0, topicOperationDispatcher.loadTopics(topicNs).length);
+  }
+
   @Test
   public void testCreateAndAlterTopic() throws IOException {
     Namespace topicNs = Namespace.of(metalake, catalog, "schema141");
@@ -18,17 +18,25 @@
 
 package com.datastrato.gravitino.listener;
 
+import com.codahale.metrics.MetricRegistry;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.listener.DummyEventListener.DummyAsyncEventListener;
 import com.datastrato.gravitino.listener.DummyEventListener.DummyAsyncIsolatedEventListener;
 import com.datastrato.gravitino.listener.api.EventListenerPlugin;
 import com.datastrato.gravitino.listener.api.event.Event;
+import com.datastrato.gravitino.metrics.MetricNames;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -149,6 +157,218 @@ public class TestEventListenerManager {
     eventListenerManager.stop();
   }
 
+  @Test
+  void testPerListenerDispatchMode() {
+    String async1 = "async1";
+    String async2 = "async2";
+    Map<String, String> properties = createAsyncEventListenerConfig(async1, async2);
+    properties.put(
+        EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCH_MODE,
+        AsyncQueueListener.DispatchMode.PER_LISTENER.name());
+
+    EventListenerManager eventListenerManager = new EventListenerManager();
+    eventListenerManager.init(properties);
+    eventListenerManager.start();
+
+    EventBus eventBus = eventListenerManager.createEventBus();
+    eventBus.dispatchEvent(DUMMY_EVENT_INSTANCE);
+    List<EventListenerPlugin> listeners = eventBus.getPostEventListeners();
+
+    Assertions.assertEquals(1, listeners.size());
+    AsyncQueueListener asyncQueueListener = (AsyncQueueListener) listeners.get(0);
+    Assertions.assertEquals(2, asyncQueueListener.getDispatcherCount());
+    asyncQueueListener
+        .getEventListeners()
+        .forEach(
+            listener -> {
+              EventListenerPlugin userListener =
+                  ((EventListenerPluginWrapper) listener).getUserEventListener();
+              checkEvents(((DummyAsyncEventListener) userListener).tryGetEvents());
+            });
+
+    eventListenerManager.stop();
+  }
+
+  @Test
+  void testSlowListenerDoesNotBlockOthers() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    List<List<Event>> slowListenerBatches = new CopyOnWriteArrayList<>();
+    DummyEventListener slowListener =
+        new DummyAsyncEventListener() {
+          @Override
+          public void onPostEvent(Event event) {
+            onPostEvents(ImmutableList.of(event));
+          }
+
+          @Override
+          public void onPostEvents(List<Event> events) {
+            try {
+              latch.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+              return;
+            }
+            slowListenerBatches.add(events);
+          }
+        };
+    DummyAsyncEventListener fastListener = new DummyAsyncEventListener();
+
+    AsyncQueueListener asyncQueueListener =
+        new AsyncQueueListener(
+            ImmutableList.of(
+                new EventListenerPluginWrapper("slow", slowListener),
+                new EventListenerPluginWrapper("fast", fastListener)),
+            "default",
+            100,
+            3,
+            AsyncQueueListener.DispatchMode.PER_LISTENER,
+            100,
+            0);
+    asyncQueueListener.start();
+
+    MetricRegistry metricRegistry = asyncQueueListener.getMetricsSource().getMetricRegistry();
+    int eventCount = 5;
+    // Wait until the slow listener is blocked by the first event before posting the others.
+    asyncQueueListener.onPostEvent(DUMMY_EVENT_INSTANCE);
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(
+            () ->
+                Integer.valueOf(0)
+                    .equals(
+                        metricRegistry
+                            .getGauges()
+                            .get("slow." + MetricNames.EVENT_QUEUE_SIZE)
+                            .getValue()));
+    for (int i = 1; i < eventCount; i++) {
+      asyncQueueListener.onPostEvent(DUMMY_EVENT_INSTANCE);
+    }
+
+    // The fast listener gets all events while the slow listener is still blocked.
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(() -> fastListener.getEvents().size() == eventCount);
+    Assertions.assertTrue(slowListenerBatches.isEmpty());
+    Assertions.assertEquals(
+        eventCount,
+        metricRegistry
+            .getCounters()
+            .get("fast." + MetricNames.EVENT_DISPATCHED_COUNT)
+            .getCount());
+    Assertions.assertEquals(
+        eventCount - 1,
+        metricRegistry.getGauges().get("slow." + MetricNames.EVENT_QUEUE_SIZE).getValue());
+
+    // The events queued while the slow listener was busy are delivered in one batch.
+    latch.countDown();
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(() -> slowListenerBatches.stream().mapToInt(List::size).sum() == eventCount);
+    Assertions.assertEquals(2, slowListenerBatches.size());
+
+    asyncQueueListener.stop();
+  }
+
+  @Test
+  void testFailedEventDoesNotDropBatch() {
+    DummyEvent failedEvent = new DummyEvent("user", NameIdentifier.of("a", "failed"));
+    List<Event> events =
+        ImmutableList.of(
+            DUMMY_EVENT_INSTANCE,
+            failedEvent,
+            new DummyEvent("user", NameIdentifier.of("a", "c")),
+            failedEvent);
+    DummyEventListener listener = failingListener(failedEvent);
+
+    RuntimeException exception =
+        Assertions.assertThrows(RuntimeException.class, () -> listener.onPostEvents(events));
+    Assertions.assertEquals(1, exception.getSuppressed().length);
+    Assertions.assertEquals(ImmutableList.of(events.get(0), events.get(2)), listener.getEvents());
+
+    // The wrapper logs the failure and doesn't propagate it to the dispatcher.
+    DummyEventListener wrappedListener = failingListener(failedEvent);
+    new EventListenerPluginWrapper("failed", wrappedListener).onPostEvents(events);
+    Assertions.assertEquals(
+        ImmutableList.of(events.get(0), events.get(2)), wrappedListener.getEvents());
+  }
+
+  private static DummyEventListener failingListener(Event failedEvent) {
+    return new DummyAsyncEventListener() {
+      @Override
+      public void onPostEvent(Event event) {
+        if (event == failedEvent) {
+          throw new RuntimeException("Failed to process event");
+        }
+        super.onPostEvent(event);
+      }
+    };
+  }
+
+  @Test
+  void testEnqueueTimeoutSharedByQueues() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    List<EventListenerPlugin> blockedListeners = new CopyOnWriteArrayList<>();
+    for (String name : ImmutableList.of("blocked1", "blocked2")) {
+      DummyEventListener listener =
+          new DummyAsyncEventListener() {
+            @Override
+            public void onPostEvent(Event event) {
+              try {
+                latch.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            }
+          };
+      blockedListeners.add(new EventListenerPluginWrapper(name, listener));
+    }
+
+    long enqueueTimeoutMs = 2000;
+    AsyncQueueListener asyncQueueListener =
+        new AsyncQueueListener(
+            blockedListeners,
+            "default",
+            1,
+            3,
+            AsyncQueueListener.DispatchMode.PER_LISTENER,
+            1,
+            enqueueTimeoutMs);
+    asyncQueueListener.start();
+    MetricRegistry metricRegistry = asyncQueueListener.getMetricsSource().getMetricRegistry();
+
+    // Both dispatchers are blocked by the first event, the second event fills both queues.
+    asyncQueueListener.onPostEvent(DUMMY_EVENT_INSTANCE);
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(
+            () ->
+                Stream.of("blocked1", "blocked2")
+                    .map(name -> name + "." + MetricNames.EVENT_QUEUE_SIZE)
+                    .allMatch(
+                        gauge ->
+                            Integer.valueOf(0)
+                                .equals(metricRegistry.getGauges().get(gauge).getValue())));
+    asyncQueueListener.onPostEvent(DUMMY_EVENT_INSTANCE);
+
+    // The caller waits for the full queues for at most the enqueue timeout in total.
+    long start = System.nanoTime();
+    asyncQueueListener.onPostEvent(DUMMY_EVENT_INSTANCE);
+    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    Assertions.assertTrue(elapsedMs >= enqueueTimeoutMs - 100, "Waited " + elapsedMs + "ms");
+    Assertions.assertTrue(elapsedMs < 2 * enqueueTimeoutMs, "Waited " + elapsedMs + "ms");
+    for (String name : ImmutableList.of("blocked1", "blocked2")) {
+      Assertions.assertEquals(
+          1,
+          metricRegistry
+              .getCounters()
+              .get(name + "." + MetricNames.EVENT_DROPPED_COUNT)
+              .getCount());
+    }
+
+    latch.countDown();
+    asyncQueueListener.stop();
+  }
+
   private Map<String, String> createIsolatedAsyncEventListenerConfig(String async1, String async2) {
     Map<String, String> config = new HashMap<>();
 
@@ -19,6 +19,8 @@
 
 package com.datastrato.gravitino.lock;
 
+import static com.datastrato.gravitino.Configs.LOCK_MODE;
+import static com.datastrato.gravitino.Configs.LOCK_STRIPES;
 import static com.datastrato.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static com.datastrato.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static com.datastrato.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
@@ -135,6 +137,98 @@ public class TestLockManager {
     }
   }
 
+  static Config getStripedConfig(int stripes) {
+    Config config = getConfig();
+    Mockito.when(config.get(LOCK_MODE)).thenReturn("striped");
+    Mockito.when(config.get(LOCK_STRIPES)).thenReturn(stripes);
+    return config;
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 16})
+  void multipleThreadTestStripedLockManager(int stripes)
+      throws InterruptedException, ExecutionException {
+    LockManager lockManager = new LockManager(getStripedConfig(stripes));
+    CompletionService<Integer> completionService = createCompletionService();
+    for (int i = 0; i < 10; i++) {
+      completionService.submit(() -> this.testLockManager(lockManager));
+    }
+
+    for (int i = 0; i < 10; i++) {
+      completionService.take().get();
+    }
+
+    // No node is created for the resource paths in the striped mode.
+    Assertions.assertTrue(lockManager.treeLockRootNode.getAllChildren().isEmpty());
+    Assertions.assertEquals(0, lockManager.treeLockRootNode.getReference());
+    lockManager.stripedLockNodes.forEach(
+        (depth, nodes) -> {
+          Assertions.assertEquals(stripes, nodes.length);
+          for (TreeLockNode node : nodes) {
+            Assertions.assertEquals(0, node.getReference());
+          }
+        });
+  }
+
+  @Test
+  void testStripedLockHierarchy() throws InterruptedException {
+    LockManager lockManager = new LockManager(getStripedConfig(1024));
+    TreeLock schemaLock = lockManager.createTreeLock(NameIdentifier.of("a", "b", "c"));
+    schemaLock.lock(LockType.WRITE);
+
+    // The table under the schema can't be read until the schema is unlocked.
+    CountDownLatch tableLocked = new CountDownLatch(1);
+    Thread reader =
+        new Thread(
+            () -> {
+              TreeLock tableLock =
+                  lockManager.createTreeLock(NameIdentifier.of("a", "b", "c", "d"));
+              tableLock.lock(LockType.READ);
+              tableLocked.countDown();
+              tableLock.unlock();
+            });
+    reader.start();
+    Assertions.assertFalse(tableLocked.await(500, TimeUnit.MILLISECONDS));
+
+    schemaLock.unlock();
+    Assertions.assertTrue(tableLocked.await(5, TimeUnit.SECONDS));
+    reader.join();
+  }
+
+  @Test
+  void testStripedLockCollision() {
+    // With a single stripe, all the resource paths of the same level share the same node.
+    LockManager lockManager = new LockManager(getStripedConfig(1));
+    TreeLock readLock = lockManager.createTreeLock(NameIdentifier.of("a", "b", "c"));
+    readLock.lock(LockType.READ);
+
+    // Colliding READ locks are reentrant.
+    TreeLock siblingReadLock = lockManager.createTreeLock(NameIdentifier.of("a", "b", "d"));
+    siblingReadLock.lock(LockType.READ);
+    siblingReadLock.unlock();
+
+    // A WRITE lock on a colliding sibling fails instead of waiting for the thread itself.
+    TreeLock siblingWriteLock = lockManager.createTreeLock(NameIdentifier.of("a", "b", "d"));
+    Exception e =
+        Assertions.assertThrows(
+            IllegalStateException.class, () -> siblingWriteLock.lock(LockType.WRITE));
+    Assertions.assertTrue(e.getMessage().contains("while holding its read lock"));
+    readLock.unlock();
+
+    // The nodes locked before the failure are released, so the sibling can be written now.
+    TreeLock retryWriteLock = lockManager.createTreeLock(NameIdentifier.of("a", "b", "d"));
+    retryWriteLock.lock(LockType.WRITE);
+
+    // Holding the WRITE lock first, a colliding path can be locked with any lock type.
+    TreeLock writeThenRead = lockManager.createTreeLock(NameIdentifier.of("a", "b", "c"));
+    writeThenRead.lock(LockType.READ);
+    writeThenRead.unlock();
+    TreeLock writeThenWrite = lockManager.createTreeLock(NameIdentifier.of("a", "b", "c"));
+    writeThenWrite.lock(LockType.WRITE);
+    writeThenWrite.unlock();
+    retryWriteLock.unlock();
+  }
+
   int testNormalLock() throws InterruptedException {
     ThreadLocalRandom threadLocalRandom = ThreadLocalRandom.current();
     ReentrantReadWriteLock reentrantReadWriteLock = new ReentrantReadWriteLock();
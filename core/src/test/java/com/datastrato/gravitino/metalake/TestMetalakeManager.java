@@ -23,6 +23,7 @@ import com.datastrato.gravitino.EntityStore;
 import com.datastrato.gravitino.MetalakeChange;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.StringIdentifier;
+import com.datastrato.gravitino.catalog.CatalogChangeTracker;
 import com.datastrato.gravitino.exceptions.MetalakeAlreadyExistsException;
 import com.datastrato.gravitino.exceptions.NoSuchMetalakeException;
 import com.datastrato.gravitino.meta.BaseMetalake;
@@ -182,6 +183,25 @@ public class TestMetalakeManager {
     Assertions.assertFalse(dropped1, "metalake should be non-existent");
   }
 
+  @Test
+  public void testDropMetalakeRecordsCatalogChanges() {
+    CatalogChangeTracker tracker = new CatalogChangeTracker();
+    MetalakeManager manager = new MetalakeManager(entityStore, new RandomIdGenerator(), tracker);
+    NameIdentifier ident = NameIdentifier.of("test51");
+    manager.createMetalake(ident, "comment", ImmutableMap.of());
+    tracker.recordChanged(NameIdentifier.of("test51", "catalog1"));
+    Assertions.assertFalse(tracker.changesSince("test51", tracker.epoch(), 1).fullSync());
+
+    // Renaming the metalake drops the catalogs of the old name.
+    manager.alterMetalake(ident, MetalakeChange.rename("test52"));
+    Assertions.assertTrue(tracker.changesSince("test51", tracker.epoch(), 1).fullSync());
+
+    tracker.recordChanged(NameIdentifier.of("test52", "catalog1"));
+    Assertions.assertFalse(tracker.changesSince("test52", tracker.epoch(), 1).fullSync());
+    Assertions.assertTrue(manager.dropMetalake(NameIdentifier.of("test52")));
+    Assertions.assertTrue(tracker.changesSince("test52", tracker.epoch(), 1).fullSync());
+  }
+
   private void testProperties(Map<String, String> expectedProps, Map<String, String> testProps) {
     expectedProps.forEach(
         (k, v) -> {
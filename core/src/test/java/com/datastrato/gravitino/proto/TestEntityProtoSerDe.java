@@ -29,8 +29,10 @@ import com.datastrato.gravitino.meta.GroupEntity;
 import com.datastrato.gravitino.meta.RoleEntity;
 import com.datastrato.gravitino.meta.SchemaVersion;
 import com.datastrato.gravitino.meta.UserEntity;
+import com.datastrato.gravitino.storage.StorageLayoutVersion;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.protobuf.Any;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Map;
@@ -88,6 +90,59 @@ public class TestEntityProtoSerDe {
     Assertions.assertEquals(auditInfo2, auditInfoFromBytes1);
   }
 
+  @Test
+  public void testCompactEncoding() throws IOException {
+    com.datastrato.gravitino.meta.AuditInfo auditInfo =
+        com.datastrato.gravitino.meta.AuditInfo.builder()
+            .withCreator("creator")
+            .withCreateTime(Instant.now())
+            .build();
+    com.datastrato.gravitino.meta.BaseMetalake metalake =
+        com.datastrato.gravitino.meta.BaseMetalake.builder()
+            .withId(1L)
+            .withName("metalake")
+            .withProperties(ImmutableMap.of("k1", "v1"))
+            .withAuditInfo(auditInfo)
+            .withVersion(SchemaVersion.V_0_1)
+            .build();
+
+    ProtoEntitySerDe legacySerDe = new ProtoEntitySerDe();
+    legacySerDe.setStorageLayoutVersion(StorageLayoutVersion.V1);
+    ProtoEntitySerDe compactSerDe = new ProtoEntitySerDe();
+    compactSerDe.setStorageLayoutVersion(StorageLayoutVersion.V2);
+
+    byte[] legacyBytes = legacySerDe.serialize(metalake);
+    byte[] compactBytes = compactSerDe.serialize(metalake);
+    Assertions.assertArrayEquals(
+        Any.pack(new BaseMetalakeSerDe().serialize(metalake)).toByteArray(), legacyBytes);
+    Assertions.assertEquals(ProtoEntitySerDe.COMPACT_ENCODING_V1, compactBytes[0]);
+    Assertions.assertTrue(compactBytes.length < legacyBytes.length);
+
+    // Both encodings are readable whatever the layout version is.
+    for (ProtoEntitySerDe serDe : new ProtoEntitySerDe[] {legacySerDe, compactSerDe}) {
+      for (byte[] bytes : new byte[][] {legacyBytes, compactBytes}) {
+        Assertions.assertEquals(
+            metalake,
+            serDe.deserialize(
+                bytes, com.datastrato.gravitino.meta.BaseMetalake.class, Namespace.empty()));
+      }
+    }
+
+    // The type tag of another entity is rejected.
+    Assertions.assertThrows(
+        IOException.class,
+        () ->
+            compactSerDe.deserialize(
+                compactBytes,
+                com.datastrato.gravitino.meta.CatalogEntity.class,
+                Namespace.empty()));
+    Assertions.assertThrows(
+        IOException.class,
+        () ->
+            compactSerDe.deserialize(
+                legacyBytes, com.datastrato.gravitino.meta.CatalogEntity.class, Namespace.empty()));
+  }
+
   @Test
   public void testEntitiesSerDe() throws IOException {
     Instant now = Instant.now();
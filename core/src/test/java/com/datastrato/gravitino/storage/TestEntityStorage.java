@@ -43,6 +43,8 @@ import com.datastrato.gravitino.Entity.EntityType;
 import com.datastrato.gravitino.EntityAlreadyExistsException;
 import com.datastrato.gravitino.EntityStore;
 import com.datastrato.gravitino.EntityStoreFactory;
+import com.datastrato.gravitino.HasIdentifier;
+import com.datastrato.gravitino.ListPage;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.authorization.AuthorizationUtils;
@@ -77,6 +79,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -208,7 +211,7 @@ public class TestEntityStorage {
   @ParameterizedTest
   @MethodSource("storageProvider")
   void testRestart(String type) throws IOException {
-    Config config = Mockito.mock(Config.class);
+    Config config = Mockito.spy(Config.class);
     init(type, config);
     AuditInfo auditInfo =
         AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
@@ -391,7 +394,7 @@ public class TestEntityStorage {
   @ParameterizedTest
   @MethodSource("storageProvider")
   void testEntityUpdate(String type) throws Exception {
-    Config config = Mockito.mock(Config.class);
+    Config config = Mockito.spy(Config.class);
     init(type, config);
 
     AuditInfo auditInfo =
@@ -494,7 +497,7 @@ public class TestEntityStorage {
   @ParameterizedTest
   @MethodSource("storageProvider")
   public void testAuthorizationEntityDelete(String type) throws IOException {
-    Config config = Mockito.mock(Config.class);
+    Config config = Mockito.spy(Config.class);
     init(type, config);
 
     AuditInfo auditInfo =
@@ -540,7 +543,7 @@ public class TestEntityStorage {
   @ParameterizedTest
   @MethodSource("storageProvider")
   void testEntityDelete(String type) throws IOException {
-    Config config = Mockito.mock(Config.class);
+    Config config = Mockito.spy(Config.class);
     init(type, config);
 
     AuditInfo auditInfo =
@@ -764,7 +767,7 @@ public class TestEntityStorage {
   @ParameterizedTest
   @MethodSource("storageProvider")
   void testSameNameUnderANameSpace(String type) throws IOException {
-    Config config = Mockito.mock(Config.class);
+    Config config = Mockito.spy(Config.class);
     init(type, config);
     try (EntityStore store = EntityStoreFactory.createEntityStore(config)) {
       store.initialize(config);
@@ -901,7 +904,7 @@ public class TestEntityStorage {
   @ParameterizedTest
   @MethodSource("storageProvider")
   void testDeleteAndRename(String type) throws IOException {
-    Config config = Mockito.mock(Config.class);
+    Config config = Mockito.spy(Config.class);
     init(type, config);
     try (EntityStore store = EntityStoreFactory.createEntityStore(config)) {
       store.initialize(config);
@@ -1175,6 +1178,90 @@ public class TestEntityStorage {
     }
   }
 
+  @ParameterizedTest
+  @MethodSource("storageProvider")
+  void testListWithPagination(String type) throws IOException {
+    Config config = Mockito.spy(Config.class);
+    init(type, config);
+
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+    try (EntityStore store = EntityStoreFactory.createEntityStore(config)) {
+      store.initialize(config);
+
+      BaseMetalake metalake =
+          createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo);
+      CatalogEntity catalog =
+          createCatalog(
+              RandomIdGenerator.INSTANCE.nextId(), Namespace.of("metalake"), "catalog", auditInfo);
+      store.put(metalake);
+      store.put(catalog);
+
+      Namespace schemaNs = Namespace.of("metalake", "catalog");
+      for (String name : Lists.newArrayList("schema3", "schema1", "schema5", "schema2")) {
+        store.put(
+            createSchemaEntity(RandomIdGenerator.INSTANCE.nextId(), schemaNs, name, auditInfo));
+      }
+      Namespace tableNs = Namespace.of("metalake", "catalog", "schema1");
+      for (String name : Lists.newArrayList("table2", "table3", "table1")) {
+        store.put(createTableEntity(RandomIdGenerator.INSTANCE.nextId(), tableNs, name, auditInfo));
+      }
+
+      // The dropped schema is not listed in any page.
+      SchemaEntity schema4 =
+          createSchemaEntity(RandomIdGenerator.INSTANCE.nextId(), schemaNs, "schema4", auditInfo);
+      store.put(schema4);
+      store.delete(schema4.nameIdentifier(), Entity.EntityType.SCHEMA);
+
+      List<String> schemaNames =
+          listAllPages(store, schemaNs, SchemaEntity.class, Entity.EntityType.SCHEMA, 2, 2);
+      Assertions.assertEquals(
+          Lists.newArrayList("schema1", "schema2", "schema3", "schema5"), schemaNames);
+
+      List<String> tableNames =
+          listAllPages(store, tableNs, TableEntity.class, Entity.EntityType.TABLE, 2, 2);
+      Assertions.assertEquals(Lists.newArrayList("table1", "table2", "table3"), tableNames);
+
+      // A page size larger than the number of entities returns all of them in one page.
+      ListPage<TableEntity> page =
+          store.list(tableNs, TableEntity.class, Entity.EntityType.TABLE, null, 10);
+      Assertions.assertEquals(3, page.items().size());
+      Assertions.assertFalse(page.hasNextPage());
+
+      Assertions.assertThrows(
+          IllegalArgumentException.class,
+          () -> store.list(tableNs, TableEntity.class, Entity.EntityType.TABLE, null, 0));
+
+      destroy(type);
+    }
+  }
+
+  private static <E extends Entity & HasIdentifier> List<String> listAllPages(
+      EntityStore store,
+      Namespace namespace,
+      Class<E> clazz,
+      Entity.EntityType entityType,
+      int pageSize,
+      int expectedPages)
+      throws IOException {
+    List<String> names = Lists.newArrayList();
+    String pageToken = null;
+    int pages = 0;
+    do {
+      ListPage<E> page = store.list(namespace, clazz, entityType, pageToken, pageSize);
+      Assertions.assertTrue(page.items().size() <= pageSize);
+      page.items().forEach(e -> names.add(e.name()));
+      pageToken = page.nextPageToken();
+      pages++;
+    } while (pageToken != null);
+
+    Assertions.assertEquals(expectedPages, pages);
+    // The KV store lists the entities in the order of their ids, so sort them by name here.
+    Collections.sort(names);
+    return names;
+  }
+
   public static BaseMetalake createBaseMakeLake(Long id, String name, AuditInfo auditInfo) {
     return BaseMetalake.builder()
         .withId(id)
@@ -2127,7 +2214,7 @@ public class TestEntityStorage {
       return;
     }
 
-    Config config = Mockito.mock(Config.class);
+    Config config = Mockito.spy(Config.class);
     init(type, config);
 
     AuditInfo auditInfo =
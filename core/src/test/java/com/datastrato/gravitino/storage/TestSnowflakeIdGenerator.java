@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.storage;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestSnowflakeIdGenerator {
+
+  @Test
+  public void testIdLayout() {
+    AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH_MS + 1000);
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(5, clock::get);
+
+    long id = generator.nextId();
+    Assertions.assertEquals(1000L, id >>> 22);
+    Assertions.assertEquals(5L, (id >>> 12) & SnowflakeIdGenerator.MAX_NODE_ID);
+    Assertions.assertEquals(0L, id & 0xFFF);
+    Assertions.assertEquals(id + 1, generator.nextId());
+
+    // The sequence number restarts in a new millisecond.
+    clock.addAndGet(1);
+    Assertions.assertEquals((1001L << 10 | 5) << 12, generator.nextId());
+
+    // Ids generated by another node don't collide.
+    SnowflakeIdGenerator another = new SnowflakeIdGenerator(6, clock::get);
+    Assertions.assertEquals((1001L << 10 | 6) << 12, another.nextId());
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(-1));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1));
+  }
+
+  @Test
+  public void testSequenceOverflowAndClockBackwards() {
+    AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH_MS + 1000);
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+
+    long last = generator.nextId();
+    for (int i = 0; i < 10000; i++) {
+      long id = generator.nextId();
+      Assertions.assertTrue(id > last);
+      last = id;
+    }
+    // The sequence number of the millisecond runs out, the ids borrow the next milliseconds.
+    Assertions.assertEquals(1002L, last >>> 22);
+
+    // Going backwards, the generator keeps counting from the last timestamp.
+    clock.set(SnowflakeIdGenerator.EPOCH_MS + 1002 - SnowflakeIdGenerator.MAX_DRIFT_MS);
+    long id = generator.nextId();
+    Assertions.assertEquals(last + 1, id);
+  }
+
+  @Test
+  public void testWaitForClockToCatchUp() throws Exception {
+    AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH_MS + 1000);
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+    long last = generator.nextId();
+
+    // The timestamp doesn't run too far ahead of the clock going backwards.
+    clock.set(SnowflakeIdGenerator.EPOCH_MS + 999 - SnowflakeIdGenerator.MAX_DRIFT_MS);
+    CompletableFuture<Long> id = CompletableFuture.supplyAsync(generator::nextId);
+    Thread.sleep(100);
+    Assertions.assertFalse(id.isDone());
+
+    clock.set(SnowflakeIdGenerator.EPOCH_MS + 1000 - SnowflakeIdGenerator.MAX_DRIFT_MS);
+    Assertions.assertEquals(last + 1, id.get(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testConcurrentNextId() throws Exception {
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+    Set<Long> ids = ConcurrentHashMap.newKeySet();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      Future<?>[] futures = new Future<?>[8];
+      for (int i = 0; i < futures.length; i++) {
+        futures[i] =
+            executor.submit(
+                () -> {
+                  for (int j = 0; j < 10000; j++) {
+                    long id = generator.nextId();
+                    Assertions.assertTrue(id > 0);
+                    ids.add(id);
+                  }
+                });
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Assertions.assertEquals(80000, ids.size());
+  }
+}
@@ -60,7 +60,7 @@ public class TestEntityKeyEncoding {
     File baseDir = new File(System.getProperty("java.io.tmpdir"));
     File file = java.nio.file.Files.createTempDirectory(baseDir.toPath(), "test").toFile();
     file.deleteOnExit();
-    Config config = Mockito.mock(Config.class);
+    Config config = Mockito.spy(Config.class);
     Mockito.when(config.get(Configs.ENTITY_SERDE)).thenReturn("proto");
     Mockito.when(config.get(ENTITY_KV_ROCKSDB_BACKEND_PATH)).thenReturn(file.getAbsolutePath());
     Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(3000L);
@@ -75,7 +75,7 @@ public class TestKvEntityStorage extends TestEntityStorage {
   }
 
   public Config getConfig() throws IOException {
-    Config config = Mockito.mock(Config.class);
+    Config config = Mockito.spy(Config.class);
     Mockito.when(config.get(ENTITY_STORE)).thenReturn("kv");
     Mockito.when(config.get(ENTITY_KV_STORE)).thenReturn(DEFAULT_ENTITY_KV_STORE);
     Mockito.when(config.get(Configs.ENTITY_SERDE)).thenReturn("proto");
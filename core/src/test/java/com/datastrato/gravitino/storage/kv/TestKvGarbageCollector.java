@@ -20,6 +20,8 @@
 package com.datastrato.gravitino.storage.kv;
 
 import static com.datastrato.gravitino.Configs.DEFAULT_ENTITY_KV_STORE;
+import static com.datastrato.gravitino.Configs.ENTITY_KV_GC_COMPACT_AFTER_COLLECT;
+import static com.datastrato.gravitino.Configs.ENTITY_KV_GC_THREADS;
 import static com.datastrato.gravitino.Configs.ENTITY_KV_ROCKSDB_BACKEND_PATH;
 import static com.datastrato.gravitino.Configs.ENTITY_KV_STORE;
 import static com.datastrato.gravitino.Configs.ENTITY_STORE;
@@ -33,6 +35,7 @@ import static com.datastrato.gravitino.storage.kv.TestKvEntityStorage.createTabl
 import static com.datastrato.gravitino.storage.kv.TransactionalKvBackendImpl.getBinaryTransactionId;
 import static com.datastrato.gravitino.storage.kv.TransactionalKvBackendImpl.getTransactionId;
 
+import com.codahale.metrics.Counter;
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.Configs;
 import com.datastrato.gravitino.Entity;
@@ -49,6 +52,7 @@ import com.datastrato.gravitino.meta.GroupEntity;
 import com.datastrato.gravitino.meta.SchemaEntity;
 import com.datastrato.gravitino.meta.TableEntity;
 import com.datastrato.gravitino.meta.UserEntity;
+import com.datastrato.gravitino.metrics.MetricNames;
 import com.datastrato.gravitino.storage.TransactionIdGenerator;
 import com.datastrato.gravitino.storage.kv.KvGarbageCollector.LogHelper;
 import java.io.File;
@@ -57,6 +61,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -65,7 +70,7 @@ import org.mockito.Mockito;
 @SuppressWarnings("DefaultCharset")
 class TestKvGarbageCollector {
   public Config getConfig() throws IOException {
-    Config config = Mockito.mock(Config.class);
+    Config config = Mockito.spy(Config.class);
     File baseDir = new File(System.getProperty("java.io.tmpdir"));
     File file = Files.createTempDirectory(baseDir.toPath(), "test").toFile();
     file.deleteOnExit();
@@ -517,4 +522,127 @@ class TestKvGarbageCollector {
       Assertions.assertTrue(transactionIdV2 > transactionId);
     }
   }
+
+  @Test
+  void testParallelCollectGarbage() throws IOException, InterruptedException {
+    // Each thread collects a range of the keys, the result must be the same as one thread's.
+    Pair<Long, Long> singleThreadCounts = collectGarbageWithThreads(1);
+    Pair<Long, Long> multiThreadCounts = collectGarbageWithThreads(4);
+    Assertions.assertTrue(singleThreadCounts.getLeft() > 0);
+    Assertions.assertTrue(singleThreadCounts.getRight() > 0);
+    Assertions.assertEquals(singleThreadCounts, multiThreadCounts);
+  }
+
+  private Pair<Long, Long> collectGarbageWithThreads(int threads)
+      throws IOException, InterruptedException {
+    Config config = getConfig();
+    Mockito.when(config.get(ENTITY_KV_GC_THREADS)).thenReturn(threads);
+    try (KvBackend kvBackend = getKvBackEnd(config)) {
+      TransactionIdGenerator transactionIdGenerator =
+          new TransactionIdGeneratorImpl(kvBackend, config);
+      TransactionalKvBackendImpl transactionalKvBackend =
+          new TransactionalKvBackendImpl(kvBackend, transactionIdGenerator);
+
+      // Each transaction writes a new version of the same key and deletes the key written by the
+      // previous one, so the commit marks can only be removed after the keys of several
+      // partitions are collected.
+      for (int i = 0; i < 40; i++) {
+        transactionalKvBackend.begin();
+        transactionalKvBackend.put("testA".getBytes(), ("v" + i).getBytes(), true);
+        transactionalKvBackend.put(("test" + i).getBytes(), "v".getBytes(), true);
+        if (i > 0) {
+          transactionalKvBackend.delete(("test" + (i - 1)).getBytes());
+        }
+        transactionalKvBackend.commit();
+        transactionalKvBackend.closeTransaction();
+      }
+
+      Mockito.doReturn(2000L).when(config).get(STORE_DELETE_AFTER_TIME);
+      KvGarbageCollector kvGarbageCollector = new KvGarbageCollector(kvBackend, config, null);
+      Thread.sleep(3000);
+      kvGarbageCollector.collectAndClean();
+
+      List<Pair<byte[], byte[]>> allData =
+          kvBackend.scan(
+              new KvRange.KvRangeBuilder()
+                  .start("_".getBytes())
+                  .end("z".getBytes())
+                  .startInclusive(false)
+                  .endInclusive(false)
+                  .build());
+      // Only the latest version of testA and test39 are left.
+      Assertions.assertEquals(2, allData.size());
+      transactionalKvBackend.begin();
+      Assertions.assertEquals("v39", new String(transactionalKvBackend.get("testA".getBytes())));
+      Assertions.assertEquals("v", new String(transactionalKvBackend.get("test39".getBytes())));
+      Assertions.assertNull(transactionalKvBackend.get("test38".getBytes()));
+      transactionalKvBackend.closeTransaction();
+
+      // Only the commit mark of the last transaction is left, the others are not leaked.
+      List<Pair<byte[], byte[]>> commitMarks =
+          kvBackend.scan(
+              new KvRange.KvRangeBuilder()
+                  .start(new byte[] {0x1E})
+                  .end(new byte[] {0x1F})
+                  .startInclusive(true)
+                  .endInclusive(false)
+                  .build());
+      Assertions.assertEquals(1, commitMarks.size());
+      Assertions.assertNotEquals(
+          1L,
+          getTransactionId(getBinaryTransactionId(kvGarbageCollector.commitIdHasBeenCollected)));
+
+      Map<String, Counter> counters =
+          kvGarbageCollector.getMetricsSource().getMetricRegistry().getCounters();
+      kvGarbageCollector.close();
+      return Pair.of(
+          counters.get(MetricNames.GC_DELETED_KEYS_COUNT).getCount(),
+          counters.get(MetricNames.GC_RECLAIMED_BYTES).getCount());
+    }
+  }
+
+  @Test
+  void testCompactAfterCollect() throws IOException, InterruptedException {
+    // The old version of testA is removed, so the user keys and the commit marks are compacted.
+    // Nothing is removed by the next run, so nothing is compacted.
+    Assertions.assertEquals(Pair.of(2, 0), compactionsAfterCollect(true));
+
+    // Without the option, the collected data is left to the background compactions.
+    Assertions.assertEquals(Pair.of(0, 0), compactionsAfterCollect(false));
+  }
+
+  private Pair<Integer, Integer> compactionsAfterCollect(boolean compactAfterCollect)
+      throws IOException, InterruptedException {
+    Config config = getConfig();
+    Mockito.when(config.get(ENTITY_KV_GC_COMPACT_AFTER_COLLECT)).thenReturn(compactAfterCollect);
+    try (KvBackend kvBackend = Mockito.spy(getKvBackEnd(config))) {
+      TransactionIdGenerator transactionIdGenerator =
+          new TransactionIdGeneratorImpl(kvBackend, config);
+      TransactionalKvBackendImpl transactionalKvBackend =
+          new TransactionalKvBackendImpl(kvBackend, transactionIdGenerator);
+      for (int i = 0; i < 2; i++) {
+        transactionalKvBackend.begin();
+        transactionalKvBackend.put("testA".getBytes(), ("v" + i).getBytes(), true);
+        transactionalKvBackend.commit();
+        transactionalKvBackend.closeTransaction();
+      }
+
+      Mockito.doReturn(2000L).when(config).get(STORE_DELETE_AFTER_TIME);
+      KvGarbageCollector kvGarbageCollector = new KvGarbageCollector(kvBackend, config, null);
+      Thread.sleep(3000);
+
+      int[] compactions = new int[2];
+      for (int i = 0; i < compactions.length; i++) {
+        Mockito.clearInvocations(kvBackend);
+        kvGarbageCollector.collectAndClean();
+        compactions[i] =
+            (int)
+                Mockito.mockingDetails(kvBackend).getInvocations().stream()
+                    .filter(invocation -> invocation.getMethod().getName().equals("compactRange"))
+                    .count();
+      }
+      kvGarbageCollector.close();
+      return Pair.of(compactions[0], compactions[1]);
+    }
+  }
 }
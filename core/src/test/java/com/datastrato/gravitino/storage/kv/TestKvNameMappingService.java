@@ -45,7 +45,7 @@ public class TestKvNameMappingService {
     File baseDir = new File(System.getProperty("java.io.tmpdir"));
     File file = Files.createTempDirectory(baseDir.toPath(), "test").toFile();
     file.deleteOnExit();
-    Config config = Mockito.mock(Config.class);
+    Config config = Mockito.spy(Config.class);
     Mockito.when(config.get(Configs.ENTITY_SERDE)).thenReturn("proto");
     Mockito.when(config.get(ENTITY_KV_ROCKSDB_BACKEND_PATH)).thenReturn(file.getAbsolutePath());
     Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(3000L);
@@ -166,7 +166,7 @@ public class TestKvNameMappingService {
       Mockito.doThrow(new ArithmeticException())
           .when(spyKvBackend)
           .put(Mockito.any(), Mockito.any(), Mockito.anyBoolean());
-      Config config = Mockito.mock(Config.class);
+      Config config = Mockito.spy(Config.class);
       Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(3000L);
       final NameMappingService mock =
           new KvNameMappingService(spyKvBackend, nameMappingService.lock);
@@ -20,9 +20,12 @@
 package com.datastrato.gravitino.storage.kv;
 
 import static com.datastrato.gravitino.Configs.ENTITY_KV_ROCKSDB_BACKEND_PATH;
+import static com.datastrato.gravitino.Configs.ENTITY_KV_ROCKSDB_PREFIX_LENGTH;
 
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.EntityAlreadyExistsException;
+import com.datastrato.gravitino.metrics.MetricNames;
+import com.google.common.collect.ImmutableList;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -32,13 +35,14 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.rocksdb.CompressionType;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 
 public class TestRocksDBKvBackend {
 
   private KvBackend getKvBackEnd() throws IOException {
-    Config config = Mockito.mock(Config.class);
+    Config config = Mockito.spy(Config.class);
 
     File baseDir = new File(System.getProperty("java.io.tmpdir"));
     File file = Files.createTempDirectory(baseDir.toPath(), "test").toFile();
@@ -52,7 +56,7 @@ public class TestRocksDBKvBackend {
 
   @Test
   void testStoragePath() {
-    Config config = Mockito.mock(Config.class);
+    Config config = Mockito.spy(Config.class);
     Mockito.when(config.get(ENTITY_KV_ROCKSDB_BACKEND_PATH)).thenReturn("/a/b");
     RocksDBKvBackend kvBackend = new RocksDBKvBackend();
     String path = kvBackend.getStoragePath(config);
@@ -456,4 +460,118 @@ public class TestRocksDBKvBackend {
     Mockito.when(spyDb.newIterator()).thenCallRealMethod();
     Assertions.assertDoesNotThrow(() -> kvBackend.scan(kvRange));
   }
+
+  @Test
+  void testWriteBatch() throws IOException {
+    KvBackend kvBackend = getKvBackEnd();
+    kvBackend.put(
+        "abc".getBytes(StandardCharsets.UTF_8), "abc".getBytes(StandardCharsets.UTF_8), false);
+    kvBackend.put(
+        "abd".getBytes(StandardCharsets.UTF_8), "abd".getBytes(StandardCharsets.UTF_8), false);
+    kvBackend.put(
+        "acc".getBytes(StandardCharsets.UTF_8), "acc".getBytes(StandardCharsets.UTF_8), false);
+    kvBackend.put(
+        "b".getBytes(StandardCharsets.UTF_8), "b".getBytes(StandardCharsets.UTF_8), false);
+
+    KvWriteBatch batch =
+        new KvWriteBatch()
+            .put("aaa".getBytes(StandardCharsets.UTF_8), "aaa".getBytes(StandardCharsets.UTF_8))
+            .put("b".getBytes(StandardCharsets.UTF_8), "b2".getBytes(StandardCharsets.UTF_8))
+            .delete("acc".getBytes(StandardCharsets.UTF_8))
+            .deleteRange(
+                "ab".getBytes(StandardCharsets.UTF_8), "abd".getBytes(StandardCharsets.UTF_8));
+    kvBackend.write(batch);
+
+    Assertions.assertEquals(
+        "aaa",
+        new String(kvBackend.get("aaa".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8));
+    Assertions.assertEquals(
+        "b2",
+        new String(kvBackend.get("b".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8));
+    Assertions.assertNull(kvBackend.get("acc".getBytes(StandardCharsets.UTF_8)));
+    Assertions.assertNull(kvBackend.get("abc".getBytes(StandardCharsets.UTF_8)));
+    // The end of the range is exclusive.
+    Assertions.assertNotNull(kvBackend.get("abd".getBytes(StandardCharsets.UTF_8)));
+
+    // Nothing in the batch is written if the write fails.
+    RocksDBKvBackend rocksDBKvBackend = (RocksDBKvBackend) kvBackend;
+    KvWriteBatch brokenBatch =
+        new KvWriteBatch()
+            .put("c".getBytes(StandardCharsets.UTF_8), "c".getBytes(StandardCharsets.UTF_8))
+            .put("d".getBytes(StandardCharsets.UTF_8), null);
+    Assertions.assertThrows(Exception.class, () -> rocksDBKvBackend.write(brokenBatch));
+    Assertions.assertNull(kvBackend.get("c".getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  void testCompressionTypes() {
+    Assertions.assertEquals(
+        ImmutableList.of(
+            CompressionType.NO_COMPRESSION,
+            CompressionType.SNAPPY_COMPRESSION,
+            CompressionType.ZLIB_COMPRESSION,
+            CompressionType.BZLIB2_COMPRESSION,
+            CompressionType.LZ4_COMPRESSION,
+            CompressionType.LZ4HC_COMPRESSION,
+            CompressionType.ZSTD_COMPRESSION),
+        RocksDBKvBackend.toCompressionTypes(
+            ImmutableList.of("none", "snappy", "zlib", "bzlib", "lz4", "lz4hc", "zstd")));
+    Assertions.assertEquals(
+        ImmutableList.of(CompressionType.LZ4_COMPRESSION, CompressionType.ZSTD_COMPRESSION),
+        RocksDBKvBackend.toCompressionTypes(ImmutableList.of(" lz4", "ZSTD")));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> RocksDBKvBackend.toCompressionTypes(ImmutableList.of("unknown")));
+  }
+
+  @Test
+  void testScanWithPrefixExtractor() throws IOException {
+    Config config = Mockito.spy(Config.class);
+    File baseDir = new File(System.getProperty("java.io.tmpdir"));
+    File file = Files.createTempDirectory(baseDir.toPath(), "test").toFile();
+    file.deleteOnExit();
+    Mockito.when(config.get(ENTITY_KV_ROCKSDB_BACKEND_PATH)).thenReturn(file.getAbsolutePath());
+    Mockito.when(config.get(ENTITY_KV_ROCKSDB_PREFIX_LENGTH)).thenReturn(3);
+
+    RocksDBKvBackend kvBackend = new RocksDBKvBackend();
+    kvBackend.initialize(config);
+    for (String key : new String[] {"a", "a1", "a1/1", "a1/2", "a2/1", "b1/1"}) {
+      kvBackend.put(
+          key.getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8), false);
+    }
+
+    // A range within one prefix.
+    List<Pair<byte[], byte[]>> result =
+        kvBackend.scan(
+            new KvRange.KvRangeBuilder()
+                .start("a1/".getBytes(StandardCharsets.UTF_8))
+                .end("a1/9".getBytes(StandardCharsets.UTF_8))
+                .build());
+    Assertions.assertEquals(2, result.size());
+
+    // A range across prefixes and keys shorter than the prefix.
+    result =
+        kvBackend.scan(
+            new KvRange.KvRangeBuilder()
+                .start("a".getBytes(StandardCharsets.UTF_8))
+                .end("b1/1".getBytes(StandardCharsets.UTF_8))
+                .startInclusive(true)
+                .endInclusive(true)
+                .build());
+    Assertions.assertEquals(6, result.size());
+
+    Assertions.assertArrayEquals(
+        "a2/1".getBytes(StandardCharsets.UTF_8),
+        kvBackend.get("a2/1".getBytes(StandardCharsets.UTF_8)));
+    Assertions.assertNull(kvBackend.get("a2/2".getBytes(StandardCharsets.UTF_8)));
+
+    RocksDBMetricsSource metricsSource = kvBackend.getMetricsSource();
+    Assertions.assertNotNull(metricsSource);
+    Assertions.assertTrue(
+        metricsSource
+            .getMetricRegistry()
+            .getGauges()
+            .containsKey(MetricNames.ROCKSDB_BLOCK_CACHE_HIT_RATIO));
+    kvBackend.close();
+  }
 }
@@ -22,6 +22,7 @@ package com.datastrato.gravitino.storage.kv;
 import static com.datastrato.gravitino.Configs.DEFAULT_ENTITY_KV_STORE;
 import static com.datastrato.gravitino.Configs.ENTITY_KV_ROCKSDB_BACKEND_PATH;
 import static com.datastrato.gravitino.Configs.ENTITY_KV_STORE;
+import static com.datastrato.gravitino.Configs.ENTITY_KV_UPGRADE_LAYOUT_VERSION;
 import static com.datastrato.gravitino.Configs.ENTITY_STORE;
 import static com.datastrato.gravitino.Configs.STORE_DELETE_AFTER_TIME;
 import static com.datastrato.gravitino.Configs.STORE_TRANSACTION_MAX_SKEW_TIME;
@@ -35,6 +36,7 @@ import com.datastrato.gravitino.storage.StorageLayoutException;
 import com.datastrato.gravitino.storage.StorageLayoutVersion;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -46,6 +48,7 @@ class TestStorageVersion {
   void testFromString() {
     StorageLayoutVersion version = StorageLayoutVersion.fromString("v1");
     Assertions.assertEquals(StorageLayoutVersion.V1, version);
+    Assertions.assertEquals(StorageLayoutVersion.V2, StorageLayoutVersion.fromString("v2"));
 
     Assertions.assertThrowsExactly(
         StorageLayoutException.class, () -> StorageLayoutVersion.fromString("v200000.0"));
@@ -53,7 +56,7 @@ class TestStorageVersion {
 
   @Test
   void testStorageLayoutVersion() throws IOException {
-    Config config = Mockito.mock(Config.class);
+    Config config = Mockito.spy(Config.class);
     File baseDir = new File(System.getProperty("java.io.tmpdir"));
     File file = Files.createTempDirectory(baseDir.toPath(), "test").toFile();
     file.deleteOnExit();
@@ -70,7 +73,7 @@ class TestStorageVersion {
       Assertions.assertTrue(store instanceof KvEntityStore);
       store.setSerDe(EntitySerDeFactory.createEntitySerDe(config.get(Configs.ENTITY_SERDE)));
       KvEntityStore entityStore = (KvEntityStore) store;
-      Assertions.assertEquals(StorageLayoutVersion.V1, entityStore.storageLayoutVersion);
+      Assertions.assertEquals(StorageLayoutVersion.LATEST, entityStore.storageLayoutVersion);
     }
 
     // Second time create entity store, the storage layout version should be DEFAULT_LAYOUT_VERSION
@@ -79,7 +82,27 @@ class TestStorageVersion {
       Assertions.assertTrue(store instanceof KvEntityStore);
       store.setSerDe(EntitySerDeFactory.createEntitySerDe(config.get(Configs.ENTITY_SERDE)));
       KvEntityStore entityStore = (KvEntityStore) store;
+      Assertions.assertEquals(StorageLayoutVersion.LATEST, entityStore.storageLayoutVersion);
+
+      // Pretend the store is created by an older version.
+      entityStore.backend.put(
+          KvEntityStore.LAYOUT_VERSION_KEY,
+          StorageLayoutVersion.V1.getVersion().getBytes(StandardCharsets.UTF_8),
+          true);
+    }
+
+    // The layout version of an existing store isn't upgraded by default.
+    try (EntityStore store = EntityStoreFactory.createEntityStore(config)) {
+      store.initialize(config);
+      KvEntityStore entityStore = (KvEntityStore) store;
       Assertions.assertEquals(StorageLayoutVersion.V1, entityStore.storageLayoutVersion);
     }
+
+    Mockito.when(config.get(ENTITY_KV_UPGRADE_LAYOUT_VERSION)).thenReturn(true);
+    try (EntityStore store = EntityStoreFactory.createEntityStore(config)) {
+      store.initialize(config);
+      KvEntityStore entityStore = (KvEntityStore) store;
+      Assertions.assertEquals(StorageLayoutVersion.LATEST, entityStore.storageLayoutVersion);
+    }
   }
 }
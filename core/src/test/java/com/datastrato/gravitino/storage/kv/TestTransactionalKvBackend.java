@@ -43,6 +43,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
@@ -62,7 +63,7 @@ class TestTransactionalKvBackend {
     File baseDir = new File(System.getProperty("java.io.tmpdir"));
     File file = Files.createTempDirectory(baseDir.toPath(), "test").toFile();
     file.deleteOnExit();
-    Config config = Mockito.mock(Config.class);
+    Config config = Mockito.spy(Config.class);
     Mockito.when(config.get(Configs.ENTITY_SERDE)).thenReturn("proto");
     Mockito.when(config.get(ENTITY_KV_ROCKSDB_BACKEND_PATH)).thenReturn(file.getAbsolutePath());
     Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(3000L);
@@ -238,6 +239,69 @@ class TestTransactionalKvBackend {
     transactionIdGenerator.close();
   }
 
+  @Test
+  void testScanInBatches() throws IOException {
+    Config config = getConfig();
+    KvBackend kvBackend = getKvBackEnd(config);
+    TransactionIdGenerator transactionIdGenerator =
+        new TransactionIdGeneratorImpl(kvBackend, config);
+    TransactionalKvBackend transactionalKvBackend =
+        new TransactionalKvBackendImpl(kvBackend, transactionIdGenerator);
+
+    // Write three versions of each key, so the versions of a key are split into two scan batches
+    // at the batch boundary, and delete every tenth key in the last version.
+    int keyNum = TransactionalKvBackendImpl.SCAN_BATCH_SIZE / 2;
+    for (int version = 0; version < 3; version++) {
+      transactionalKvBackend.begin();
+      for (int i = 0; i < keyNum; i++) {
+        byte[] key = String.format("key%04d", i).getBytes();
+        if (version == 2 && i % 10 == 0) {
+          transactionalKvBackend.delete(key);
+        } else {
+          transactionalKvBackend.put(key, ("value" + version).getBytes(), true);
+        }
+      }
+      transactionalKvBackend.commit();
+    }
+
+    transactionalKvBackend.begin();
+    List<Pair<byte[], byte[]>> pairs =
+        transactionalKvBackend.scan(
+            new KvRange.KvRangeBuilder()
+                .start("key".getBytes())
+                .end("kez".getBytes())
+                .startInclusive(true)
+                .endInclusive(false)
+                .build());
+    Assertions.assertEquals(keyNum - keyNum / 10, pairs.size());
+    for (int i = 0, j = 0; i < keyNum; i++) {
+      if (i % 10 == 0) {
+        continue;
+      }
+      Assertions.assertEquals(String.format("key%04d", i), new String(pairs.get(j).getKey()));
+      Assertions.assertEquals("value2", new String(pairs.get(j).getValue()));
+      j++;
+    }
+
+    // The scan stops at the limit, even if the limit is in the middle of the second batch.
+    int limit = keyNum - 100;
+    pairs =
+        transactionalKvBackend.scan(
+            new KvRange.KvRangeBuilder()
+                .start("key0001".getBytes())
+                .end("kez".getBytes())
+                .startInclusive(false)
+                .endInclusive(false)
+                .limit(limit)
+                .build());
+    Assertions.assertEquals(limit, pairs.size());
+    Assertions.assertEquals("key0002", new String(pairs.get(0).getKey()));
+
+    transactionalKvBackend.closeTransaction();
+    transactionIdGenerator.close();
+    kvBackend.close();
+  }
+
   @Test
   void testDeleteRange() throws IOException {
     Config config = getConfig();
@@ -844,4 +908,92 @@ class TestTransactionalKvBackend {
     revertBytes = TransactionalKvBackendImpl.revertByteArray(revertBytes);
     Assertions.assertArrayEquals(bytes, revertBytes);
   }
+
+  @Test
+  void testCommittedTransactionCache() throws IOException {
+    Config config = getConfig();
+    Mockito.when(config.get(Configs.ENTITY_KV_COMMITTED_TRANSACTION_CACHE_SIZE)).thenReturn(2);
+    KvBackend kvBackend = getKvBackEnd(config);
+    TransactionIdGenerator transactionIdGenerator =
+        new TransactionIdGeneratorImpl(kvBackend, config);
+    TransactionalKvBackendImpl transactionalKvBackend =
+        new TransactionalKvBackendImpl(kvBackend, transactionIdGenerator);
+    transactionalKvBackend.initialize(config);
+
+    List<Long> committedIds = Lists.newArrayList();
+    for (int i = 0; i < 3; i++) {
+      transactionalKvBackend.begin();
+      committedIds.add(transactionalKvBackend.txId.get());
+      transactionalKvBackend.put(("key" + i).getBytes(), ("value" + i).getBytes(), true);
+      transactionalKvBackend.commit();
+    }
+
+    // Only the latest two transactions are kept in memory.
+    Assertions.assertEquals(
+        committedIds.subList(1, 3),
+        Lists.newArrayList(transactionalKvBackend.committedTransactionIds));
+
+    // The evicted transaction is still visible by reading the commit mark.
+    transactionalKvBackend.begin();
+    Assertions.assertEquals("value0", new String(transactionalKvBackend.get("key0".getBytes())));
+    Assertions.assertEquals(
+        3,
+        transactionalKvBackend
+            .scan(
+                new KvRange.KvRangeBuilder()
+                    .start("key".getBytes())
+                    .end("kez".getBytes())
+                    .startInclusive(true)
+                    .endInclusive(false)
+                    .build())
+            .size());
+
+    // A new instance loads the latest committed transactions from the commit marks.
+    TransactionalKvBackendImpl reloaded =
+        new TransactionalKvBackendImpl(kvBackend, transactionIdGenerator);
+    reloaded.initialize(config);
+    Assertions.assertEquals(
+        committedIds.subList(1, 3), Lists.newArrayList(reloaded.committedTransactionIds));
+
+    // The data of uncommitted transactions is invisible.
+    transactionalKvBackend.begin();
+    long uncommittedId = transactionalKvBackend.txId.get();
+    kvBackend.put(
+        TransactionalKvBackendImpl.generateKey("key3".getBytes(), uncommittedId),
+        transactionalKvBackend.constructValue("value3".getBytes(), ValueStatusEnum.NORMAL),
+        true);
+    Assertions.assertNull(transactionalKvBackend.get("key3".getBytes()));
+    Assertions.assertFalse(transactionalKvBackend.committedTransactionIds.contains(uncommittedId));
+
+    transactionalKvBackend.closeTransaction();
+    transactionIdGenerator.close();
+    kvBackend.close();
+  }
+
+  @Test
+  void testCommitRecordEncoding() {
+    byte[] longKey = new byte[300];
+    Arrays.fill(longKey, (byte) 0x7F);
+    List<byte[]> keys = Lists.newArrayList("key1".getBytes(), new byte[0], longKey);
+
+    byte[] encoded = TransactionalKvBackendImpl.encodeCommitRecord(keys);
+    // 1 format byte, 1 byte count, 1 + 4 + 1 + 0 + 2 + 300 bytes of keys
+    Assertions.assertEquals(310, encoded.length);
+    List<byte[]> decoded = TransactionalKvBackendImpl.decodeCommitRecord(encoded);
+    Assertions.assertEquals(keys.size(), decoded.size());
+    for (int i = 0; i < keys.size(); i++) {
+      Assertions.assertArrayEquals(keys.get(i), decoded.get(i));
+    }
+
+    Assertions.assertTrue(
+        TransactionalKvBackendImpl.decodeCommitRecord(
+                TransactionalKvBackendImpl.encodeCommitRecord(Lists.newArrayList()))
+            .isEmpty());
+
+    // Commit records written with Java serialization by older versions are still readable.
+    byte[] legacy = SerializationUtils.serialize(Lists.newArrayList(keys));
+    decoded = TransactionalKvBackendImpl.decodeCommitRecord(legacy);
+    Assertions.assertEquals(keys.size(), decoded.size());
+    Assertions.assertArrayEquals(longKey, decoded.get(2));
+  }
 }
@@ -36,11 +36,13 @@ import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.Configs;
 import com.datastrato.gravitino.Entity;
 import com.datastrato.gravitino.EntityAlreadyExistsException;
+import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.authorization.AuthorizationUtils;
 import com.datastrato.gravitino.authorization.Privileges;
 import com.datastrato.gravitino.authorization.SecurableObject;
 import com.datastrato.gravitino.authorization.SecurableObjects;
+import com.datastrato.gravitino.exceptions.NoSuchEntityException;
 import com.datastrato.gravitino.file.Fileset;
 import com.datastrato.gravitino.meta.AuditInfo;
 import com.datastrato.gravitino.meta.BaseMetalake;
@@ -56,6 +58,7 @@ import com.datastrato.gravitino.meta.UserEntity;
 import com.datastrato.gravitino.storage.RandomIdGenerator;
 import com.datastrato.gravitino.storage.relational.mapper.GroupMetaMapper;
 import com.datastrato.gravitino.storage.relational.mapper.UserMetaMapper;
+import com.datastrato.gravitino.storage.relational.service.CommonMetaService;
 import com.datastrato.gravitino.storage.relational.service.RoleMetaService;
 import com.datastrato.gravitino.storage.relational.session.SqlSessionFactoryHelper;
 import com.datastrato.gravitino.storage.relational.utils.SessionUtils;
@@ -88,7 +91,7 @@ public class TestJDBCBackend {
   private static final String JDBC_STORE_PATH =
       "/tmp/gravitino_jdbc_entityStore_" + UUID.randomUUID().toString().replace("-", "");
   private static final String DB_DIR = JDBC_STORE_PATH + "/testdb";
-  private static final Config config = Mockito.mock(Config.class);
+  private static final Config config = Mockito.spy(Config.class);
   public static final ImmutableMap<String, String> RELATIONAL_BACKENDS =
       ImmutableMap.of(
           Configs.DEFAULT_ENTITY_RELATIONAL_STORE, JDBCBackend.class.getCanonicalName());
@@ -173,6 +176,7 @@ public class TestJDBCBackend {
           }
         }
       }
+      CommonMetaService.getInstance().invalidateAllEntityIds();
     } catch (SQLException e) {
       throw new RuntimeException("Truncate table failed", e);
     }
@@ -424,6 +428,73 @@ public class TestJDBCBackend {
                 e -> createTopicEntity(topicCopy.id(), topicCopy.namespace(), "topic", auditInfo)));
   }
 
+  @Test
+  public void testResolveParentEntityIdAfterRenameAndDelete() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofCatalog("metalake"),
+            "catalog",
+            auditInfo);
+    backend.insert(catalog, false);
+    SchemaEntity schema =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofSchema("metalake", "catalog"),
+            "schema",
+            auditInfo);
+    backend.insert(schema, false);
+    TableEntity table =
+        createTableEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofTable("metalake", "catalog", "schema"),
+            "table",
+            auditInfo);
+    backend.insert(table, false);
+
+    assertEquals(
+        schema.id(),
+        CommonMetaService.getInstance()
+            .getParentEntityIdByNamespace(NamespaceUtil.ofTable("metalake", "catalog", "schema")));
+    assertEquals(table, backend.get(table.nameIdentifier(), Entity.EntityType.TABLE));
+
+    // The cached ids under the old catalog name are invalidated after renaming the catalog.
+    backend.update(
+        catalog.nameIdentifier(),
+        Entity.EntityType.CATALOG,
+        e -> createCatalog(catalog.id(), catalog.namespace(), "catalog1", auditInfo));
+    assertThrows(
+        NoSuchEntityException.class,
+        () -> backend.get(table.nameIdentifier(), Entity.EntityType.TABLE));
+    TableEntity renamedTable =
+        backend.get(
+            NameIdentifier.of("metalake", "catalog1", "schema", "table"),
+            Entity.EntityType.TABLE);
+    assertEquals(table.id(), renamedTable.id());
+
+    // The cached id of a dropped schema is invalidated, so the recreated schema is resolved.
+    backend.delete(
+        NameIdentifier.of("metalake", "catalog1", "schema"), Entity.EntityType.SCHEMA, true);
+    SchemaEntity newSchema =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofSchema("metalake", "catalog1"),
+            "schema",
+            auditInfo);
+    backend.insert(newSchema, false);
+    assertEquals(
+        newSchema.id(),
+        CommonMetaService.getInstance()
+            .getParentEntityIdByNamespace(
+                NamespaceUtil.ofTable("metalake", "catalog1", "schema")));
+  }
+
   @Test
   public void testMetaLifeCycleFromCreationToDeletion() throws IOException {
     AuditInfo auditInfo =
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.storage.relational.service;
+
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Configs;
+import com.datastrato.gravitino.Entity;
+import com.datastrato.gravitino.Namespace;
+import com.datastrato.gravitino.meta.AuditInfo;
+import com.datastrato.gravitino.meta.BaseMetalake;
+import com.datastrato.gravitino.meta.CatalogEntity;
+import com.datastrato.gravitino.meta.SchemaEntity;
+import com.datastrato.gravitino.storage.RandomIdGenerator;
+import com.datastrato.gravitino.storage.relational.TestJDBCBackend;
+import com.datastrato.gravitino.storage.relational.mapper.SchemaMetaMapper;
+import com.datastrato.gravitino.storage.relational.utils.SessionUtils;
+import com.datastrato.gravitino.utils.NamespaceUtil;
+import java.io.IOException;
+import java.time.Instant;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TestCommonMetaService extends TestJDBCBackend {
+
+  private final AuditInfo auditInfo =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  private final Namespace tableNs = NamespaceUtil.ofTable("metalake", "catalog", "schema");
+
+  @Test
+  void testDropAndRecreateSchemaWhileResolvingId() throws IOException {
+    SchemaEntity schema = createSchemaWithParents();
+    CommonMetaService commonMetaService = CommonMetaService.getInstance();
+    Assertions.assertEquals(schema.id(), commonMetaService.getParentEntityIdByNamespace(tableNs));
+
+    // A lookup resolves the id of the schema, then the schema is dropped and recreated before the
+    // lookup caches the resolved id.
+    long generation = commonMetaService.idCacheGeneration();
+    backend.delete(schema.nameIdentifier(), Entity.EntityType.SCHEMA, true);
+    SchemaEntity newSchema = createSchema();
+    commonMetaService.cacheEntityId(tableNs, schema.id(), generation);
+
+    // The id of the dropped schema is not cached, so the recreated schema is resolved.
+    Assertions.assertEquals(
+        newSchema.id(), commonMetaService.getParentEntityIdByNamespace(tableNs));
+  }
+
+  @Test
+  void testEntityIdCacheSize() throws IOException {
+    SchemaEntity schema = createSchemaWithParents();
+    CommonMetaService commonMetaService = CommonMetaService.getInstance();
+    Assertions.assertEquals(schema.id(), commonMetaService.getParentEntityIdByNamespace(tableNs));
+
+    // Another server sharing the database drops and recreates the schema, the cached id is stale
+    // until it expires.
+    SchemaEntity newSchema = recreateSchemaByAnotherServer(schema);
+    Assertions.assertEquals(schema.id(), commonMetaService.getParentEntityIdByNamespace(tableNs));
+
+    Config config = new Config(false) {};
+    config.set(Configs.ENTITY_RELATIONAL_ENTITY_ID_CACHE_SIZE, 0L);
+    try {
+      // The changes of other servers are seen right away if the cache is disabled.
+      commonMetaService.initialize(config);
+      Assertions.assertEquals(
+          newSchema.id(), commonMetaService.getParentEntityIdByNamespace(tableNs));
+      SchemaEntity recreatedSchema = recreateSchemaByAnotherServer(newSchema);
+      Assertions.assertEquals(
+          recreatedSchema.id(), commonMetaService.getParentEntityIdByNamespace(tableNs));
+    } finally {
+      commonMetaService.initialize(new Config(false) {});
+    }
+  }
+
+  private SchemaEntity createSchemaWithParents() throws IOException {
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofCatalog("metalake"),
+            "catalog",
+            auditInfo);
+    backend.insert(catalog, false);
+    return createSchema();
+  }
+
+  private SchemaEntity createSchema() throws IOException {
+    SchemaEntity schema =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofSchema("metalake", "catalog"),
+            "schema",
+            auditInfo);
+    backend.insert(schema, false);
+    return schema;
+  }
+
+  private SchemaEntity recreateSchemaByAnotherServer(SchemaEntity schema) throws IOException {
+    // Drop the schema in the database directly, so the entity id cache of this server isn't
+    // invalidated.
+    SessionUtils.doWithCommit(
+        SchemaMetaMapper.class, mapper -> mapper.softDeleteSchemaMetasBySchemaId(schema.id()));
+    return createSchema();
+  }
+}
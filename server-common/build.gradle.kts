@@ -22,6 +22,7 @@ plugins {
   id("java")
   id("idea")
   id("com.diffplug.spotless")
+  alias(libs.plugins.jmh)
 }
 
 dependencies {
@@ -37,10 +38,12 @@ dependencies {
   implementation(libs.bundles.kerby)
   implementation(libs.bundles.log4j)
   implementation(libs.bundles.metrics)
+  implementation(libs.caffeine)
   implementation(libs.commons.lang3)
   implementation(libs.guava)
   implementation(libs.prometheus.servlet)
 
+  testImplementation(libs.awaitility)
   testImplementation(libs.commons.io)
   testImplementation(libs.junit.jupiter.api)
   testImplementation(libs.junit.jupiter.params)
@@ -51,3 +54,7 @@ dependencies {
   }
   testRuntimeOnly(libs.junit.jupiter.engine)
 }
+
+jmh {
+  jmhVersion.set(libs.versions.jmh.get())
+}
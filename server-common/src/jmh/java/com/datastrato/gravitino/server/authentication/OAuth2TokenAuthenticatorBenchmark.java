@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.server.authentication;
+
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.auth.AuthConstants;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of {@link OAuth2TokenAuthenticator} authenticating requests which reuse a few bearer
+ * tokens, with and without the verified token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class OAuth2TokenAuthenticatorBenchmark {
+
+  @Param({"0", "10000"})
+  private long tokenCacheMaxSize;
+
+  @Param({"16"})
+  private int tokenCount;
+
+  private final AtomicInteger requestCount = new AtomicInteger();
+  private OAuth2TokenAuthenticator authenticator;
+  private byte[][] tokens;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+    Config config = new Config(false) {};
+    config.set(OAuthConfig.SERVICE_AUDIENCE, "service1");
+    config.set(
+        OAuthConfig.DEFAULT_SIGN_KEY,
+        Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+    config.set(OAuthConfig.DEFAULT_TOKEN_PATH, "test");
+    config.set(OAuthConfig.DEFAULT_SERVER_URI, "test");
+    config.set(OAuthConfig.TOKEN_CACHE_MAX_SIZE, tokenCacheMaxSize);
+    authenticator = new OAuth2TokenAuthenticator();
+    authenticator.initialize(config);
+
+    tokens = new byte[tokenCount][];
+    for (int i = 0; i < tokenCount; i++) {
+      String token =
+          Jwts.builder()
+              .setSubject("user" + i)
+              .setAudience("service1")
+              .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+              .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+              .compact();
+      tokens[i] =
+          (AuthConstants.AUTHORIZATION_BEARER_HEADER + token).getBytes(StandardCharsets.UTF_8);
+    }
+  }
+
+  @Benchmark
+  public void authenticateToken(Blackhole blackhole) {
+    int index = (requestCount.getAndIncrement() & Integer.MAX_VALUE) % tokenCount;
+    blackhole.consume(authenticator.authenticateToken(tokens[index]));
+  }
+}
@@ -20,10 +20,11 @@
 package com.datastrato.gravitino.server.authentication;
 
 import com.datastrato.gravitino.Config;
+import java.io.Closeable;
 import java.security.Principal;
 
 /** The interface provides authentication mechanism. */
-public interface Authenticator {
+public interface Authenticator extends Closeable {
 
   /**
    * Judge whether the data used to authenticate is from the token.
@@ -55,4 +56,8 @@ public interface Authenticator {
    * @throws RuntimeException if the initialization fails
    */
   void initialize(Config config) throws RuntimeException;
+
+  /** Release the resources of the authenticator, like the threads refreshing the keys. */
+  @Override
+  default void close() {}
 }
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.server.authentication;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.gson.io.GsonDeserializer;
+import io.jsonwebtoken.io.Deserializer;
+import io.jsonwebtoken.security.SignatureException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLConnection;
+import java.security.AlgorithmParameters;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.KeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resolves the key verifying a JWT from a JWK set by the key id in the token header.
+ *
+ * <p>The JWK set is refreshed in the background periodically, and when a token is signed by an
+ * unknown key, at most once per {@link #MIN_REFRESH_INTERVAL_MS}, so keys rotated by the OAuth
+ * server are picked up without a restart. The token signed by the unknown key is rejected rather
+ * than waiting for the OAuth server. Only the RSA and EC public keys for signatures are used.
+ */
+class JwksSigningKeyResolver extends SigningKeyResolverAdapter implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JwksSigningKeyResolver.class);
+
+  @VisibleForTesting static final long MIN_REFRESH_INTERVAL_MS = 60 * 1000L;
+
+  private static final int TIMEOUT_MS = 10 * 1000;
+
+  private static final Map<String, String> EC_CURVES =
+      ImmutableMap.of("P-256", "secp256r1", "P-384", "secp384r1", "P-521", "secp521r1");
+
+  private final String jwksUri;
+  private final Runnable keysChangedListener;
+  private final LongSupplier clock;
+  private final ScheduledExecutorService refreshExecutor;
+  private final Deserializer<Map<String, ?>> deserializer = new GsonDeserializer<>();
+  private final AtomicLong lastRefreshTime = new AtomicLong();
+
+  private volatile Map<String, Key> keys = ImmutableMap.of();
+
+  /**
+   * Creates the resolver and loads the JWK set.
+   *
+   * @param jwksUri The uri of the JWK set.
+   * @param refreshIntervalMs The interval in milliseconds to refresh the JWK set.
+   * @param keysChangedListener Called after a refresh changed or removed a known key.
+   */
+  JwksSigningKeyResolver(String jwksUri, long refreshIntervalMs, Runnable keysChangedListener) {
+    this(jwksUri, refreshIntervalMs, keysChangedListener, System::currentTimeMillis);
+  }
+
+  @VisibleForTesting
+  JwksSigningKeyResolver(
+      String jwksUri, long refreshIntervalMs, Runnable keysChangedListener, LongSupplier clock) {
+    this.jwksUri = jwksUri;
+    this.keysChangedListener = keysChangedListener;
+    this.clock = clock;
+    // An unavailable OAuth server shouldn't fail the startup, the keys are loaded again on demand.
+    refresh();
+    this.refreshExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("jwks-refresh-%d").build());
+    refreshExecutor.scheduleWithFixedDelay(
+        this::refresh, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public Key resolveSigningKey(JwsHeader header, Claims claims) {
+    String keyId = header.getKeyId();
+    Key key = findKey(keys, keyId);
+    if (key == null) {
+      refreshInBackground();
+      throw new SignatureException(
+          String.format("No key with id %s found in the JWK set %s", keyId, jwksUri));
+    }
+    return key;
+  }
+
+  @Override
+  public void close() {
+    refreshExecutor.shutdownNow();
+  }
+
+  @VisibleForTesting
+  Map<String, Key> keys() {
+    return keys;
+  }
+
+  @VisibleForTesting
+  long lastRefreshTime() {
+    return lastRefreshTime.get();
+  }
+
+  private static Key findKey(Map<String, Key> keys, String keyId) {
+    if (keyId == null) {
+      // A token without the key id can only be verified by the only key of the set.
+      return keys.size() == 1 ? keys.values().iterator().next() : null;
+    }
+    return keys.get(keyId);
+  }
+
+  private void refreshInBackground() {
+    long now = clock.getAsLong();
+    long last = lastRefreshTime.get();
+    // Only the first of the concurrent requests in the interval schedules the refresh.
+    if (now - last >= MIN_REFRESH_INTERVAL_MS
+        && lastRefreshTime.compareAndSet(last, now)
+        && !refreshExecutor.isShutdown()) {
+      refreshExecutor.execute(this::refresh);
+    }
+  }
+
+  @VisibleForTesting
+  synchronized void refresh() {
+    lastRefreshTime.set(clock.getAsLong());
+    Map<String, Key> newKeys;
+    try {
+      newKeys = parseKeys(fetch());
+    } catch (Exception e) {
+      LOG.warn("Failed to refresh the JWK set from {}", jwksUri, e);
+      return;
+    }
+
+    Map<String, Key> oldKeys = keys;
+    keys = newKeys;
+    LOG.debug("Refreshed {} keys from the JWK set {}", newKeys.size(), jwksUri);
+    boolean keysChanged =
+        oldKeys.entrySet().stream()
+            .anyMatch(entry -> !entry.getValue().equals(newKeys.get(entry.getKey())));
+    if (keysChanged) {
+      keysChangedListener.run();
+    }
+  }
+
+  private byte[] fetch() throws IOException {
+    URLConnection connection = new URL(jwksUri).openConnection();
+    connection.setConnectTimeout(TIMEOUT_MS);
+    connection.setReadTimeout(TIMEOUT_MS);
+    try (InputStream inputStream = connection.getInputStream()) {
+      return ByteStreams.toByteArray(inputStream);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Key> parseKeys(byte[] jwks) {
+    Object jwkList = deserializer.deserialize(jwks).get("keys");
+    if (!(jwkList instanceof List)) {
+      throw new IllegalArgumentException("The JWK set doesn't contain the keys");
+    }
+
+    ImmutableMap.Builder<String, Key> builder = ImmutableMap.builder();
+    for (Object jwk : (List<Object>) jwkList) {
+      Map<String, Object> jwkMap = (Map<String, Object>) jwk;
+      String keyId = (String) jwkMap.get("kid");
+      String use = (String) jwkMap.get("use");
+      if (keyId == null || (use != null && !"sig".equals(use))) {
+        continue;
+      }
+
+      try {
+        Key key = parseKey(jwkMap);
+        if (key != null) {
+          builder.put(keyId, key);
+        }
+      } catch (Exception e) {
+        LOG.warn("Skip the invalid key {} in the JWK set {}", keyId, jwksUri, e);
+      }
+    }
+    return builder.build();
+  }
+
+  private static Key parseKey(Map<String, Object> jwk) throws Exception {
+    String keyType = (String) jwk.get("kty");
+    KeySpec keySpec;
+    if ("RSA".equals(keyType)) {
+      keySpec = new RSAPublicKeySpec(decode(jwk, "n"), decode(jwk, "e"));
+    } else if ("EC".equals(keyType)) {
+      String curve = EC_CURVES.get((String) jwk.get("crv"));
+      if (curve == null) {
+        LOG.debug("Skip the key {} of the unsupported curve {}", jwk.get("kid"), jwk.get("crv"));
+        return null;
+      }
+      AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+      parameters.init(new ECGenParameterSpec(curve));
+      keySpec =
+          new ECPublicKeySpec(
+              new ECPoint(decode(jwk, "x"), decode(jwk, "y")),
+              parameters.getParameterSpec(ECParameterSpec.class));
+    } else {
+      LOG.debug("Skip the key {} of the unsupported type {}", jwk.get("kid"), keyType);
+      return null;
+    }
+    return KeyFactory.getInstance(keyType).generatePublic(keySpec);
+  }
+
+  private static BigInteger decode(Map<String, Object> jwk, String name) {
+    return new BigInteger(1, Base64.getUrlDecoder().decode((String) jwk.get(name)));
+  }
+}
@@ -23,11 +23,16 @@ import com.datastrato.gravitino.UserPrincipal;
 import com.datastrato.gravitino.auth.AuthConstants;
 import com.datastrato.gravitino.auth.SignatureAlgorithmFamilyType;
 import com.datastrato.gravitino.exceptions.UnauthorizedException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwt;
 import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.JwtParserBuilder;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -37,21 +42,43 @@ import io.jsonwebtoken.security.SignatureException;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.Principal;
 import java.security.spec.X509EncodedKeySpec;
 import java.util.Base64;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 import org.apache.commons.lang3.StringUtils;
 
 /**
  * OAuth2TokenAuthenticator provides the OAuth 2.0 authentication mechanism.
  * OAuth2TokenAuthenticator only supports to validate the format of JWT's Bearer Token.
+ *
+ * <p>The JWT parser is built once. Verified tokens are cached by their SHA-256 hash until they
+ * expire, so the signature of a token reused by many requests is verified only once.
  */
 class OAuth2TokenAuthenticator implements Authenticator {
 
-  private long allowSkewSeconds;
-  private Key defaultSigningKey;
+  // Tokens without the expiration are verified again after this duration.
+  private static final long MAX_TOKEN_CACHE_DURATION_MS = TimeUnit.HOURS.toMillis(1);
+
+  private final LongSupplier clock;
   private String serviceAudience;
+  private JwtParser parser;
+  private Cache<String, VerifiedToken> tokenCache;
+  private JwksSigningKeyResolver jwksSigningKeyResolver;
+
+  OAuth2TokenAuthenticator() {
+    this(System::currentTimeMillis);
+  }
+
+  @VisibleForTesting
+  OAuth2TokenAuthenticator(LongSupplier clock) {
+    this.clock = clock;
+  }
 
   @Override
   public boolean isDataFromToken() {
@@ -72,14 +99,88 @@ class OAuth2TokenAuthenticator implements Authenticator {
     if (StringUtils.isBlank(token)) {
       throw new UnauthorizedException("Blank token found");
     }
+
+    if (tokenCache == null) {
+      return verifyToken(token).principal;
+    }
+    String tokenHash = hashToken(token);
+    VerifiedToken verifiedToken = tokenCache.getIfPresent(tokenHash);
+    if (verifiedToken == null) {
+      verifiedToken = verifyToken(token);
+      tokenCache.put(tokenHash, verifiedToken);
+    }
+    return verifiedToken.principal;
+  }
+
+  @Override
+  public void initialize(Config config) throws RuntimeException {
+    this.serviceAudience = config.get(OAuthConfig.SERVICE_AUDIENCE);
+    long allowSkewSeconds = config.get(OAuthConfig.ALLOW_SKEW_SECONDS);
+    String configuredSignKey = config.get(OAuthConfig.DEFAULT_SIGN_KEY);
+    String jwksUri = config.get(OAuthConfig.JWKS_URI);
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(configuredSignKey) || StringUtils.isNotBlank(jwksUri),
+        "The signing key or the JWK set uri of the default OAuth server can't be blank");
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(config.get(OAuthConfig.DEFAULT_TOKEN_PATH)),
+        "The path for token of the default OAuth server can't be blank");
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(config.get(OAuthConfig.DEFAULT_SERVER_URI)),
+        "The uri of the default OAuth server can't be blank");
+
+    long tokenCacheMaxSize = config.get(OAuthConfig.TOKEN_CACHE_MAX_SIZE);
+    if (tokenCacheMaxSize > 0) {
+      this.tokenCache =
+          Caffeine.newBuilder()
+              .maximumSize(tokenCacheMaxSize)
+              .expireAfter(new VerifiedTokenExpiry())
+              .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.getAsLong()))
+              .build();
+    }
+
     // TODO: If we support multiple OAuth 2.0 servers, we should use multiple
     // signing keys.
+    JwtParserBuilder parserBuilder =
+        Jwts.parserBuilder()
+            .setAllowedClockSkewSeconds(allowSkewSeconds)
+            .setClock(() -> new Date(clock.getAsLong()));
+    if (StringUtils.isNotBlank(jwksUri)) {
+      // Tokens verified by a rotated key must be verified again.
+      this.jwksSigningKeyResolver =
+          new JwksSigningKeyResolver(
+              jwksUri,
+              config.get(OAuthConfig.JWKS_REFRESH_INTERVAL_MS),
+              this::invalidateTokens,
+              clock);
+      parserBuilder.setSigningKeyResolver(jwksSigningKeyResolver);
+    } else {
+      String algType = config.get(OAuthConfig.SIGNATURE_ALGORITHM_TYPE);
+      parserBuilder.setSigningKey(
+          decodeSignKey(Base64.getDecoder().decode(configuredSignKey), algType));
+    }
+    this.parser = parserBuilder.build();
+  }
+
+  @Override
+  public void close() {
+    if (jwksSigningKeyResolver != null) {
+      jwksSigningKeyResolver.close();
+    }
+  }
+
+  @VisibleForTesting
+  Cache<String, VerifiedToken> tokenCache() {
+    return tokenCache;
+  }
+
+  private void invalidateTokens() {
+    if (tokenCache != null) {
+      tokenCache.invalidateAll();
+    }
+  }
+
+  private VerifiedToken verifyToken(String token) {
     try {
-      JwtParser parser =
-          Jwts.parserBuilder()
-              .setAllowedClockSkewSeconds(allowSkewSeconds)
-              .setSigningKey(defaultSigningKey)
-              .build();
       Jwt<?, Claims> jwt = parser.parseClaimsJws(token);
       Object audienceObject = jwt.getBody().get(Claims.AUDIENCE);
       if (audienceObject == null) {
@@ -101,7 +202,13 @@ class OAuth2TokenAuthenticator implements Authenticator {
         throw new UnauthorizedException(
             "Audiences in token is not in expected format: %s", audienceObject);
       }
-      return new UserPrincipal(jwt.getBody().getSubject());
+
+      Date expiration = jwt.getBody().getExpiration();
+      long cacheExpireTime = clock.getAsLong() + MAX_TOKEN_CACHE_DURATION_MS;
+      if (expiration != null) {
+        cacheExpireTime = Math.min(cacheExpireTime, expiration.getTime());
+      }
+      return new VerifiedToken(new UserPrincipal(jwt.getBody().getSubject()), cacheExpireTime);
     } catch (ExpiredJwtException
         | UnsupportedJwtException
         | MalformedJwtException
@@ -111,19 +218,14 @@ class OAuth2TokenAuthenticator implements Authenticator {
     }
   }
 
-  @Override
-  public void initialize(Config config) throws RuntimeException {
-    this.serviceAudience = config.get(OAuthConfig.SERVICE_AUDIENCE);
-    this.allowSkewSeconds = config.get(OAuthConfig.ALLOW_SKEW_SECONDS);
-    String configuredSignKey = config.get(OAuthConfig.DEFAULT_SIGN_KEY);
-    Preconditions.checkArgument(
-        StringUtils.isNotBlank(config.get(OAuthConfig.DEFAULT_TOKEN_PATH)),
-        "The path for token of the default OAuth server can't be blank");
-    Preconditions.checkArgument(
-        StringUtils.isNotBlank(config.get(OAuthConfig.DEFAULT_SERVER_URI)),
-        "The uri of the default OAuth server can't be blank");
-    String algType = config.get(OAuthConfig.SIGNATURE_ALGORITHM_TYPE);
-    this.defaultSigningKey = decodeSignKey(Base64.getDecoder().decode(configuredSignKey), algType);
+  private static String hashToken(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return Base64.getEncoder()
+          .encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 isn't supported", e);
+    }
   }
 
   private static Key decodeSignKey(byte[] key, String algType) {
@@ -144,4 +246,37 @@ class OAuth2TokenAuthenticator implements Authenticator {
     }
     throw new IllegalArgumentException("Unsupported signature algorithm type: " + algType);
   }
+
+  @VisibleForTesting
+  static class VerifiedToken {
+    private final Principal principal;
+    private final long expireTime;
+
+    private VerifiedToken(Principal principal, long expireTime) {
+      this.principal = principal;
+      this.expireTime = expireTime;
+    }
+  }
+
+  // The ticker of the cache reads the clock of the authenticator, so the current time is the time
+  // in milliseconds converted to nanoseconds.
+  private static class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+    @Override
+    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+      return TimeUnit.MILLISECONDS.toNanos(
+          Math.max(0, value.expireTime - TimeUnit.NANOSECONDS.toMillis(currentTime)));
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
 }
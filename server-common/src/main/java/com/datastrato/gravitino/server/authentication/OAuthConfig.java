@@ -48,7 +48,6 @@ public interface OAuthConfig {
           .doc("The signing key of JWT when Gravitino uses OAuth as the authenticator")
           .version(ConfigConstants.VERSION_0_3_0)
           .stringConf()
-          .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
           .create();
 
   ConfigEntry<String> SIGNATURE_ALGORITHM_TYPE =
@@ -73,4 +72,31 @@ public interface OAuthConfig {
           .stringConf()
           .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
           .create();
+
+  ConfigEntry<String> JWKS_URI =
+      new ConfigBuilder(OAUTH_CONFIG_PREFIX + "jwksUri")
+          .doc(
+              "The uri of the JWK set whose keys verify the JWT by the key id, instead of the "
+                  + "default signing key")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .stringConf()
+          .create();
+
+  ConfigEntry<Long> JWKS_REFRESH_INTERVAL_MS =
+      new ConfigBuilder(OAUTH_CONFIG_PREFIX + "jwksRefreshIntervalMs")
+          .doc("The interval in milliseconds to refresh the JWK set in the background")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60 * 60 * 1000L);
+
+  ConfigEntry<Long> TOKEN_CACHE_MAX_SIZE =
+      new ConfigBuilder(OAUTH_CONFIG_PREFIX + "tokenCacheMaxSize")
+          .doc(
+              "The max number of verified tokens cached until they expire, 0 disables the cache "
+                  + "and verifies the signature of every request")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000L);
 }
@@ -54,4 +54,11 @@ public class ServerAuthenticator {
   public Authenticator authenticator() {
     return authenticator;
   }
+
+  /** Close the server authenticator. */
+  public void close() {
+    if (authenticator != null) {
+      authenticator.close();
+    }
+  }
 }
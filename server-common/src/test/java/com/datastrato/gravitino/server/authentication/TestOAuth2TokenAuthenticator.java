@@ -23,18 +23,34 @@ import com.datastrato.gravitino.auth.AuthConstants;
 import com.datastrato.gravitino.exceptions.UnauthorizedException;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.impl.DefaultClaims;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import java.io.File;
+import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.security.KeyPair;
+import java.security.Principal;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
 import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 @SuppressWarnings("JavaUtilDate")
 public class TestOAuth2TokenAuthenticator {
@@ -156,4 +172,185 @@ public class TestOAuth2TokenAuthenticator {
                     .getBytes(StandardCharsets.UTF_8))
             .getName());
   }
+
+  @Test
+  public void testTokenCache() throws Exception {
+    KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+    Config config = newConfig();
+    config.set(
+        OAuthConfig.DEFAULT_SIGN_KEY,
+        Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+    AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+    OAuth2TokenAuthenticator authenticator = new OAuth2TokenAuthenticator(clock::get);
+    authenticator.initialize(config);
+
+    byte[] tokenData = bearer(newToken(keyPair, "service1", 100_000L));
+    Principal principal = authenticator.authenticateToken(tokenData);
+    Assertions.assertEquals("gravitino", principal.getName());
+    Assertions.assertSame(principal, authenticator.authenticateToken(tokenData));
+    Assertions.assertEquals(1, authenticator.tokenCache().estimatedSize());
+
+    // Tokens failed to verify aren't cached.
+    byte[] invalidTokenData = bearer(newToken(keyPair, "service2", 100_000L));
+    for (int i = 0; i < 2; i++) {
+      Assertions.assertThrows(
+          UnauthorizedException.class, () -> authenticator.authenticateToken(invalidTokenData));
+    }
+    Assertions.assertEquals(1, authenticator.tokenCache().estimatedSize());
+
+    // A cached token expires with the token.
+    byte[] expiringTokenData = bearer(newToken(keyPair, "service1", 2_000L));
+    authenticator.authenticateToken(expiringTokenData);
+    clock.addAndGet(2_100L);
+    Assertions.assertThrows(
+        UnauthorizedException.class, () -> authenticator.authenticateToken(expiringTokenData));
+
+    config.set(OAuthConfig.TOKEN_CACHE_MAX_SIZE, 0L);
+    OAuth2TokenAuthenticator uncachedAuthenticator = new OAuth2TokenAuthenticator();
+    uncachedAuthenticator.initialize(config);
+    Assertions.assertNull(uncachedAuthenticator.tokenCache());
+    Assertions.assertNotSame(
+        uncachedAuthenticator.authenticateToken(tokenData),
+        uncachedAuthenticator.authenticateToken(tokenData));
+  }
+
+  @Test
+  public void testJwks(@TempDir File tempDir) throws Exception {
+    KeyPair rsaKeyPair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+    KeyPair ecKeyPair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+    File jwksFile = new File(tempDir, "jwks.json");
+    writeJwks(jwksFile, rsaJwk("rsa", rsaKeyPair), ecJwk("ec", ecKeyPair));
+
+    Config config = newConfig();
+    config.set(OAuthConfig.JWKS_URI, jwksFile.toURI().toString());
+    OAuth2TokenAuthenticator authenticator = new OAuth2TokenAuthenticator();
+    authenticator.initialize(config);
+
+    Assertions.assertEquals(
+        "gravitino",
+        authenticator
+            .authenticateToken(bearer(newToken(rsaKeyPair, "rsa", SignatureAlgorithm.RS256)))
+            .getName());
+    Assertions.assertEquals(
+        "gravitino",
+        authenticator
+            .authenticateToken(bearer(newToken(ecKeyPair, "ec", SignatureAlgorithm.ES256)))
+            .getName());
+    byte[] unknownKeyTokenData = bearer(newToken(rsaKeyPair, "unknown", SignatureAlgorithm.RS256));
+    Assertions.assertThrows(
+        UnauthorizedException.class, () -> authenticator.authenticateToken(unknownKeyTokenData));
+
+    // The removed key is dropped by the refresh and notifies the listener.
+    AtomicInteger keysChanged = new AtomicInteger();
+    JwksSigningKeyResolver resolver =
+        new JwksSigningKeyResolver(
+            jwksFile.toURI().toString(), 3_600_000L, keysChanged::incrementAndGet);
+    Assertions.assertEquals(2, resolver.keys().size());
+    writeJwks(jwksFile, ecJwk("ec", ecKeyPair));
+    resolver.refresh();
+    Assertions.assertEquals(1, resolver.keys().size());
+    Assertions.assertTrue(resolver.keys().containsKey("ec"));
+    Assertions.assertEquals(1, keysChanged.get());
+
+    // A failed refresh keeps the loaded keys.
+    Files.write(jwksFile.toPath(), "invalid".getBytes(StandardCharsets.UTF_8));
+    resolver.refresh();
+    Assertions.assertEquals(1, resolver.keys().size());
+    resolver.close();
+    authenticator.close();
+  }
+
+  @Test
+  public void testJwksRefreshOnUnknownKey(@TempDir File tempDir) throws Exception {
+    KeyPair rsaKeyPair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+    File jwksFile = new File(tempDir, "jwks.json");
+    writeJwks(jwksFile, rsaJwk("rsa", rsaKeyPair));
+    AtomicLong clock = new AtomicLong(1_000_000L);
+    JwksSigningKeyResolver resolver =
+        new JwksSigningKeyResolver(jwksFile.toURI().toString(), 3_600_000L, () -> {}, clock::get);
+    Assertions.assertEquals(1_000_000L, resolver.lastRefreshTime());
+
+    // The key rotated within the minimum refresh interval isn't loaded, the token is rejected
+    // without waiting for the OAuth server.
+    writeJwks(jwksFile, rsaJwk("rsa", rsaKeyPair), rsaJwk("rotated", rsaKeyPair));
+    JwsHeader header = mock(JwsHeader.class);
+    when(header.getKeyId()).thenReturn("rotated");
+    clock.addAndGet(JwksSigningKeyResolver.MIN_REFRESH_INTERVAL_MS - 1);
+    Assertions.assertThrows(
+        SignatureException.class, () -> resolver.resolveSigningKey(header, null));
+    Assertions.assertEquals(1_000_000L, resolver.lastRefreshTime());
+
+    // After the interval, the unknown key refreshes the JWK set in the background once.
+    clock.addAndGet(1);
+    long refreshTime = clock.get();
+    Assertions.assertThrows(
+        SignatureException.class, () -> resolver.resolveSigningKey(header, null));
+    Assertions.assertEquals(refreshTime, resolver.lastRefreshTime());
+    Awaitility.await()
+        .atMost(10, TimeUnit.SECONDS)
+        .until(() -> resolver.keys().containsKey("rotated"));
+    Assertions.assertNotNull(resolver.resolveSigningKey(header, null));
+
+    // The refresh isn't scheduled after the resolver is closed.
+    resolver.close();
+    JwsHeader unknownHeader = mock(JwsHeader.class);
+    when(unknownHeader.getKeyId()).thenReturn("unknown");
+    clock.addAndGet(JwksSigningKeyResolver.MIN_REFRESH_INTERVAL_MS);
+    Assertions.assertThrows(
+        SignatureException.class, () -> resolver.resolveSigningKey(unknownHeader, null));
+  }
+
+  private static Config newConfig() {
+    Config config = new Config(false) {};
+    config.set(OAuthConfig.SERVICE_AUDIENCE, "service1");
+    config.set(OAuthConfig.DEFAULT_TOKEN_PATH, "test");
+    config.set(OAuthConfig.DEFAULT_SERVER_URI, "test");
+    return config;
+  }
+
+  private static String newToken(KeyPair keyPair, String audience, long expireInMs) {
+    return Jwts.builder()
+        .setSubject("gravitino")
+        .setAudience(audience)
+        .setExpiration(new Date(System.currentTimeMillis() + expireInMs))
+        .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+        .compact();
+  }
+
+  private static String newToken(KeyPair keyPair, String keyId, SignatureAlgorithm algorithm) {
+    return Jwts.builder()
+        .setHeaderParam("kid", keyId)
+        .setSubject("gravitino")
+        .setAudience("service1")
+        .setExpiration(new Date(System.currentTimeMillis() + 100_000L))
+        .signWith(keyPair.getPrivate(), algorithm)
+        .compact();
+  }
+
+  private static byte[] bearer(String token) {
+    return (AuthConstants.AUTHORIZATION_BEARER_HEADER + token).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String rsaJwk(String keyId, KeyPair keyPair) {
+    RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+    return String.format(
+        "{\"kty\":\"RSA\",\"kid\":\"%s\",\"use\":\"sig\",\"n\":\"%s\",\"e\":\"%s\"}",
+        keyId, encode(publicKey.getModulus()), encode(publicKey.getPublicExponent()));
+  }
+
+  private static String ecJwk(String keyId, KeyPair keyPair) {
+    ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+    return String.format(
+        "{\"kty\":\"EC\",\"kid\":\"%s\",\"crv\":\"P-256\",\"x\":\"%s\",\"y\":\"%s\"}",
+        keyId, encode(publicKey.getW().getAffineX()), encode(publicKey.getW().getAffineY()));
+  }
+
+  private static String encode(BigInteger value) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(value.toByteArray());
+  }
+
+  private static void writeJwks(File file, String... jwks) throws Exception {
+    String content = "{\"keys\":[" + String.join(",", jwks) + "]}";
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+  }
 }
@@ -20,6 +20,7 @@ package com.datastrato.gravitino.server;
 
 import com.datastrato.gravitino.Configs;
 import com.datastrato.gravitino.GravitinoEnv;
+import com.datastrato.gravitino.catalog.CatalogChangeTracker;
 import com.datastrato.gravitino.catalog.CatalogDispatcher;
 import com.datastrato.gravitino.catalog.FilesetDispatcher;
 import com.datastrato.gravitino.catalog.PartitionDispatcher;
@@ -97,6 +98,7 @@ public class GravitinoServer extends ResourceConfig {
           protected void configure() {
             bind(gravitinoEnv.metalakeDispatcher()).to(MetalakeDispatcher.class).ranked(1);
             bind(gravitinoEnv.catalogDispatcher()).to(CatalogDispatcher.class).ranked(1);
+            bind(gravitinoEnv.catalogChangeTracker()).to(CatalogChangeTracker.class).ranked(1);
 
             bind(gravitinoEnv.schemaDispatcher()).to(SchemaDispatcher.class).ranked(1);
             bind(gravitinoEnv.tableDispatcher()).to(TableDispatcher.class).ranked(1);
@@ -142,6 +144,7 @@ public class GravitinoServer extends ResourceConfig {
 
   public void stop() {
     server.stop();
+    ServerAuthenticator.getInstance().close();
     gravitinoEnv.shutdown();
   }
 
@@ -18,8 +18,11 @@
  */
 package com.datastrato.gravitino.server.web;
 
+import com.datastrato.gravitino.ListPage;
+import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.UserPrincipal;
 import com.datastrato.gravitino.auth.AuthConstants;
+import com.datastrato.gravitino.dto.responses.EntityListResponse;
 import com.datastrato.gravitino.dto.responses.ErrorResponse;
 import com.datastrato.gravitino.utils.PrincipalUtils;
 import java.security.PrivilegedExceptionAction;
@@ -42,6 +45,18 @@ public class Utils {
     return Response.status(Response.Status.OK).entity(t).type(MediaType.APPLICATION_JSON).build();
   }
 
+  /**
+   * Builds the response of a page of the listed entities, along with the token of the next page.
+   *
+   * @param page The page of the identifiers of the listed entities.
+   * @return The response of the list.
+   */
+  public static Response okEntityList(ListPage<NameIdentifier> page) {
+    return ok(
+        new EntityListResponse(
+            page.items().toArray(new NameIdentifier[0]), page.nextPageToken()));
+  }
+
   public static Response ok() {
     return Response.status(Response.Status.NO_CONTENT).type(MediaType.APPLICATION_JSON).build();
   }
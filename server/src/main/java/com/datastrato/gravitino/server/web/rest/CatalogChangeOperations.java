@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.server.web.rest;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.catalog.CatalogChangeTracker;
+import com.datastrato.gravitino.dto.responses.CatalogChangesResponse;
+import com.datastrato.gravitino.exceptions.NoSuchMetalakeException;
+import com.datastrato.gravitino.metalake.MetalakeDispatcher;
+import com.datastrato.gravitino.metrics.MetricNames;
+import com.datastrato.gravitino.server.web.Utils;
+import com.datastrato.gravitino.utils.NameIdentifierUtil;
+import javax.inject.Inject;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves the catalogs of a metalake changed after a version, clients poll it with the version of
+ * the previous response to sync only the changed catalogs.
+ */
+@Path("/metalakes/{metalake}/catalog-changes")
+@Consumes(MediaType.APPLICATION_JSON)
+@Produces(MediaType.APPLICATION_JSON)
+public class CatalogChangeOperations {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CatalogChangeOperations.class);
+
+  // The request holds a server thread while waiting, so the wait time is bounded, and the number
+  // of waiting requests is bounded by the tracker.
+  private static final long MAX_WAIT_MS = 30_000L;
+
+  private final CatalogChangeTracker changeTracker;
+
+  private final MetalakeDispatcher metalakeDispatcher;
+
+  @Context private HttpServletRequest httpRequest;
+
+  @Inject
+  public CatalogChangeOperations(
+      CatalogChangeTracker changeTracker, MetalakeDispatcher metalakeDispatcher) {
+    this.changeTracker = changeTracker;
+    this.metalakeDispatcher = metalakeDispatcher;
+  }
+
+  @GET
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "list-catalog-changes." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "list-catalog-changes", absolute = true)
+  public Response listCatalogChanges(
+      @PathParam("metalake") String metalake,
+      @QueryParam("epoch") @DefaultValue("-1") long epoch,
+      @QueryParam("sinceVersion") @DefaultValue("0") long sinceVersion,
+      @QueryParam("timeoutMs") @DefaultValue("0") long timeoutMs) {
+    LOG.debug(
+        "Received list catalog changes request for metalake: {}, since version: {}",
+        metalake,
+        sinceVersion);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            NameIdentifier metalakeIdent = NameIdentifierUtil.ofMetalake(metalake);
+            if (!metalakeDispatcher.metalakeExists(metalakeIdent)) {
+              throw new NoSuchMetalakeException("Metalake %s does not exist", metalakeIdent);
+            }
+
+            CatalogChangeTracker.Changes changes =
+                changeTracker.waitForChanges(
+                    metalake, epoch, sinceVersion, Math.min(timeoutMs, MAX_WAIT_MS));
+            return Utils.ok(
+                new CatalogChangesResponse(
+                    changes.epoch(),
+                    changes.version(),
+                    changes.fullSync(),
+                    changes.changedCatalogs().toArray(new String[0]),
+                    changes.droppedCatalogs().toArray(new String[0])));
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handleCatalogException(OperationType.LIST, "", metalake, e);
+    }
+  }
+}
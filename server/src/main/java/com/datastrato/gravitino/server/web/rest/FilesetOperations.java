@@ -28,6 +28,7 @@ import com.datastrato.gravitino.dto.requests.FilesetUpdateRequest;
 import com.datastrato.gravitino.dto.requests.FilesetUpdatesRequest;
 import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
+import com.datastrato.gravitino.dto.responses.FilesetListResponse;
 import com.datastrato.gravitino.dto.responses.FilesetResponse;
 import com.datastrato.gravitino.dto.util.DTOConverters;
 import com.datastrato.gravitino.file.Fileset;
@@ -42,12 +43,14 @@ import java.util.Optional;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import org.slf4j.Logger;
@@ -74,26 +77,46 @@ public class FilesetOperations {
   public Response listFilesets(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
+      @PathParam("schema") String schema,
+      @QueryParam("details") @DefaultValue("false") boolean verbose) {
     try {
-      LOG.info("Received list filesets request for schema: {}.{}.{}", metalake, catalog, schema);
+      LOG.info(
+          "Received list fileset {} request for schema: {}.{}.{}",
+          verbose ? "infos" : "names",
+          metalake,
+          catalog,
+          schema);
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace filesetNS = NamespaceUtil.ofFileset(metalake, catalog, schema);
-            NameIdentifier[] idents =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifier.of(metalake, catalog, schema),
-                    LockType.READ,
-                    () -> dispatcher.listFilesets(filesetNS));
-            Response response = Utils.ok(new EntityListResponse(idents));
-            LOG.info(
-                "List {} filesets under schema: {}.{}.{}",
-                idents.length,
-                metalake,
-                catalog,
-                schema);
-            return response;
+            return TreeLockUtils.doWithTreeLock(
+                NameIdentifier.of(metalake, catalog, schema),
+                LockType.READ,
+                () -> {
+                  if (verbose) {
+                    Fileset[] filesets = dispatcher.listFilesetsInfo(filesetNS);
+                    Response response =
+                        Utils.ok(new FilesetListResponse(DTOConverters.toDTOs(filesets)));
+                    LOG.info(
+                        "List {} filesets info under schema: {}.{}.{}",
+                        filesets.length,
+                        metalake,
+                        catalog,
+                        schema);
+                    return response;
+                  } else {
+                    NameIdentifier[] idents = dispatcher.listFilesets(filesetNS);
+                    Response response = Utils.ok(new EntityListResponse(idents));
+                    LOG.info(
+                        "List {} filesets under schema: {}.{}.{}",
+                        idents.length,
+                        metalake,
+                        catalog,
+                        schema);
+                    return response;
+                  }
+                });
           });
 
     } catch (Exception e) {
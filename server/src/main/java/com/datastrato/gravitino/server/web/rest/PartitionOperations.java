@@ -23,6 +23,7 @@ import static com.datastrato.gravitino.dto.util.DTOConverters.toDTOs;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import com.datastrato.gravitino.ListPage;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.catalog.PartitionDispatcher;
 import com.datastrato.gravitino.dto.rel.partitions.PartitionDTO;
@@ -38,6 +39,8 @@ import com.datastrato.gravitino.metrics.MetricNames;
 import com.datastrato.gravitino.rel.partitions.Partition;
 import com.datastrato.gravitino.server.web.Utils;
 import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.function.Function;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
@@ -74,7 +77,10 @@ public class PartitionOperations {
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("table") String table,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("filter") String filter,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") @DefaultValue("0") int pageSize) {
     LOG.info(
         "Received list partition {} request for table: {}.{}.{}.{}",
         verbose ? "infos" : "names",
@@ -91,6 +97,10 @@ public class PartitionOperations {
                 tableIdent,
                 LockType.READ,
                 () -> {
+                  if (filter != null || pageToken != null || pageSize > 0) {
+                    return listPartitionPage(tableIdent, verbose, filter, pageToken, pageSize);
+                  }
+
                   if (verbose) {
                     Partition[] partitions = dispatcher.listPartitions(tableIdent);
                     Response response = Utils.ok(new PartitionListResponse(toDTOs(partitions)));
@@ -121,6 +131,40 @@ public class PartitionOperations {
     }
   }
 
+  private Response listPartitionPage(
+      NameIdentifier tableIdent, boolean verbose, String filter, String pageToken, int pageSize) {
+    if (!verbose && filter == null && pageSize > 0) {
+      // Partition names are cheap to list as a whole, only the page of them is returned.
+      ListPage<String> page =
+          ListPage.paginate(
+              Arrays.asList(dispatcher.listPartitionNames(tableIdent)),
+              Function.identity(),
+              pageToken,
+              pageSize);
+      LOG.info("List {} partition names in table {}", page.items().size(), tableIdent);
+      return Utils.ok(
+          new PartitionNameListResponse(page.items().toArray(new String[0]), page.nextPageToken()));
+    }
+
+    // One more partition than the page size is listed to tell whether there are more pages.
+    Partition[] partitions =
+        dispatcher.listPartitions(tableIdent, filter, pageToken, pageSize > 0 ? pageSize + 1 : 0);
+    String nextPageToken = null;
+    if (pageSize > 0 && partitions.length > pageSize) {
+      partitions = Arrays.copyOf(partitions, pageSize);
+      nextPageToken = partitions[pageSize - 1].name();
+    }
+    LOG.info(
+        "List {} partitions in table {} with filter {}", partitions.length, tableIdent, filter);
+    if (verbose) {
+      return Utils.ok(new PartitionListResponse(toDTOs(partitions), nextPageToken));
+    }
+    return Utils.ok(
+        new PartitionNameListResponse(
+            Arrays.stream(partitions).map(Partition::name).toArray(String[]::new),
+            nextPageToken));
+  }
+
   @GET
   @Path("{partition}")
   @Produces("application/vnd.gravitino.v1+json")
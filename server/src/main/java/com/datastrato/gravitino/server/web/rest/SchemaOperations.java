@@ -20,6 +20,7 @@ package com.datastrato.gravitino.server.web.rest;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import com.datastrato.gravitino.ListPage;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.Schema;
@@ -77,13 +78,30 @@ public class SchemaOperations {
   @Timed(name = "list-schema." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "list-schema", absolute = true)
   public Response listSchemas(
-      @PathParam("metalake") String metalake, @PathParam("catalog") String catalog) {
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") @DefaultValue("0") int pageSize) {
     LOG.info("Received list schema request for catalog: {}.{}", metalake, catalog);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace schemaNS = NamespaceUtil.ofSchema(metalake, catalog);
+            if (pageSize > 0) {
+              ListPage<NameIdentifier> page =
+                  TreeLockUtils.doWithTreeLock(
+                      NameIdentifier.of(metalake, catalog),
+                      LockType.READ,
+                      () -> dispatcher.listSchemas(schemaNS, pageToken, pageSize));
+              LOG.info(
+                  "List {} schemas of a page in catalog {}.{}",
+                  page.items().size(),
+                  metalake,
+                  catalog);
+              return Utils.okEntityList(page);
+            }
+
             NameIdentifier[] idents =
                 TreeLockUtils.doWithTreeLock(
                     NameIdentifier.of(metalake, catalog),
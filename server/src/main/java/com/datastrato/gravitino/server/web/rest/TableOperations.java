@@ -23,6 +23,7 @@ import static com.datastrato.gravitino.dto.util.DTOConverters.fromDTOs;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import com.datastrato.gravitino.ListPage;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.catalog.TableDispatcher;
@@ -31,6 +32,7 @@ import com.datastrato.gravitino.dto.requests.TableUpdateRequest;
 import com.datastrato.gravitino.dto.requests.TableUpdatesRequest;
 import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
+import com.datastrato.gravitino.dto.responses.TableListResponse;
 import com.datastrato.gravitino.dto.responses.TableResponse;
 import com.datastrato.gravitino.dto.util.DTOConverters;
 import com.datastrato.gravitino.lock.LockType;
@@ -41,6 +43,8 @@ import com.datastrato.gravitino.rel.TableChange;
 import com.datastrato.gravitino.server.web.Utils;
 import com.datastrato.gravitino.utils.NameIdentifierUtil;
 import com.datastrato.gravitino.utils.NamespaceUtil;
+import java.util.Arrays;
+import java.util.List;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
@@ -78,18 +82,49 @@ public class TableOperations {
   public Response listTables(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
-    LOG.info("Received list tables request for schema: {}.{}.{}", metalake, catalog, schema);
+      @PathParam("schema") String schema,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") @DefaultValue("0") int pageSize,
+      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+    LOG.info(
+        "Received list table {} request for schema: {}.{}.{}",
+        verbose ? "infos" : "names",
+        metalake,
+        catalog,
+        schema);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace tableNS = NamespaceUtil.ofTable(metalake, catalog, schema);
+            if (pageSize > 0) {
+              ListPage<NameIdentifier> page =
+                  TreeLockUtils.doWithTreeLock(
+                      NameIdentifier.of(metalake, catalog, schema),
+                      LockType.READ,
+                      () -> dispatcher.listTables(tableNS, pageToken, pageSize));
+              if (verbose) {
+                return loadTables(tableNS, page.items(), page.nextPageToken());
+              }
+
+              LOG.info(
+                  "List {} tables of a page under schema: {}.{}.{}",
+                  page.items().size(),
+                  metalake,
+                  catalog,
+                  schema);
+              return Utils.okEntityList(page);
+            }
+
             NameIdentifier[] idents =
                 TreeLockUtils.doWithTreeLock(
                     NameIdentifier.of(metalake, catalog, schema),
                     LockType.READ,
                     () -> dispatcher.listTables(tableNS));
+            if (verbose) {
+              return loadTables(tableNS, Arrays.asList(idents), null);
+            }
+
             Response response = Utils.ok(new EntityListResponse(idents));
             LOG.info(
                 "List {} tables under schema: {}.{}.{}", idents.length, metalake, catalog, schema);
@@ -101,6 +136,16 @@ public class TableOperations {
     }
   }
 
+  private Response loadTables(
+      Namespace tableNS, List<NameIdentifier> idents, String nextPageToken) {
+    String[] tableNames = idents.stream().map(NameIdentifier::name).toArray(String[]::new);
+    // The tables are loaded together without holding the lock of the schema, the dispatcher
+    // may need to import them.
+    Table[] tables = dispatcher.loadTables(tableNS, tableNames);
+    LOG.info("Loaded {} tables under schema: {}", tables.length, tableNS);
+    return Utils.ok(new TableListResponse(DTOConverters.toDTOs(tables), nextPageToken));
+  }
+
   @POST
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "create-table." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
@@ -28,6 +28,7 @@ import com.datastrato.gravitino.dto.requests.TopicUpdateRequest;
 import com.datastrato.gravitino.dto.requests.TopicUpdatesRequest;
 import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
+import com.datastrato.gravitino.dto.responses.TopicListResponse;
 import com.datastrato.gravitino.dto.responses.TopicResponse;
 import com.datastrato.gravitino.dto.util.DTOConverters;
 import com.datastrato.gravitino.lock.LockType;
@@ -38,15 +39,18 @@ import com.datastrato.gravitino.metrics.MetricNames;
 import com.datastrato.gravitino.server.web.Utils;
 import com.datastrato.gravitino.utils.NameIdentifierUtil;
 import com.datastrato.gravitino.utils.NamespaceUtil;
+import java.util.Arrays;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import org.slf4j.Logger;
@@ -71,9 +75,15 @@ public class TopicOperations {
   public Response listTopics(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
+      @PathParam("schema") String schema,
+      @QueryParam("details") @DefaultValue("false") boolean verbose) {
     try {
-      LOG.info("Received list topics request for schema: {}.{}.{}", metalake, catalog, schema);
+      LOG.info(
+          "Received list topic {} request for schema: {}.{}.{}",
+          verbose ? "infos" : "names",
+          metalake,
+          catalog,
+          schema);
       return Utils.doAs(
           httpRequest,
           () -> {
@@ -84,6 +94,21 @@ public class TopicOperations {
                     NameIdentifier.of(metalake, catalog, schema),
                     LockType.READ,
                     () -> dispatcher.listTopics(topicNS));
+            if (verbose) {
+              // The topics are loaded together without holding the lock of the schema, the
+              // dispatcher may need to import them.
+              String[] topicNames =
+                  Arrays.stream(topics).map(NameIdentifier::name).toArray(String[]::new);
+              Topic[] loadedTopics = dispatcher.loadTopics(topicNS, topicNames);
+              LOG.info(
+                  "Loaded {} topics under schema: {}.{}.{}",
+                  loadedTopics.length,
+                  metalake,
+                  catalog,
+                  schema);
+              return Utils.ok(new TopicListResponse(DTOConverters.toDTOs(loadedTopics)));
+            }
+
             Response response = Utils.ok(new EntityListResponse(topics));
             LOG.info(
                 "List {} topics under schema: {}.{}.{}", topics.length, metalake, catalog, schema);
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.server.web.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.catalog.CatalogChangeTracker;
+import com.datastrato.gravitino.dto.responses.CatalogChangesResponse;
+import com.datastrato.gravitino.dto.responses.ErrorConstants;
+import com.datastrato.gravitino.dto.responses.ErrorResponse;
+import com.datastrato.gravitino.exceptions.NoSuchMetalakeException;
+import com.datastrato.gravitino.metalake.MetalakeDispatcher;
+import com.datastrato.gravitino.rest.RESTUtils;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCatalogChangeOperations extends JerseyTest {
+
+  private static class MockServletRequestFactory extends ServletRequestFactoryBase {
+    @Override
+    public HttpServletRequest get() {
+      HttpServletRequest request = mock(HttpServletRequest.class);
+      when(request.getRemoteUser()).thenReturn(null);
+      return request;
+    }
+  }
+
+  private final CatalogChangeTracker tracker = new CatalogChangeTracker();
+
+  private final MetalakeDispatcher metalakeDispatcher = mock(MetalakeDispatcher.class);
+
+  @Override
+  protected Application configure() {
+    try {
+      forceSet(
+          TestProperties.CONTAINER_PORT, String.valueOf(RESTUtils.findAvailablePort(2000, 3000)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    resourceConfig.register(CatalogChangeOperations.class);
+    resourceConfig.register(
+        new AbstractBinder() {
+          @Override
+          protected void configure() {
+            bind(tracker).to(CatalogChangeTracker.class).ranked(2);
+            bind(metalakeDispatcher).to(MetalakeDispatcher.class).ranked(2);
+            bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
+          }
+        });
+
+    return resourceConfig;
+  }
+
+  @Test
+  public void testListCatalogChanges() {
+    when(metalakeDispatcher.metalakeExists(any())).thenReturn(true);
+
+    // A client that has never synced must do a full sync.
+    CatalogChangesResponse changes = listCatalogChanges(-1, 0, 0);
+    Assertions.assertTrue(changes.fullSync());
+    Assertions.assertEquals(tracker.epoch(), changes.epoch());
+    Assertions.assertEquals(0L, changes.version());
+
+    tracker.recordChanged(NameIdentifier.of("metalake1", "catalog1"));
+    tracker.recordChanged(NameIdentifier.of("metalake1", "catalog2"));
+    tracker.recordDropped(NameIdentifier.of("metalake1", "catalog1"));
+
+    changes = listCatalogChanges(tracker.epoch(), 0, 0);
+    Assertions.assertFalse(changes.fullSync());
+    Assertions.assertEquals(3L, changes.version());
+    Assertions.assertArrayEquals(new String[] {"catalog2"}, changes.changedCatalogs());
+    Assertions.assertArrayEquals(new String[] {"catalog1"}, changes.droppedCatalogs());
+
+    changes = listCatalogChanges(tracker.epoch(), 3, 0);
+    Assertions.assertFalse(changes.fullSync());
+    Assertions.assertEquals(0, changes.changedCatalogs().length);
+    Assertions.assertEquals(0, changes.droppedCatalogs().length);
+
+    // The catalogs of a dropped metalake are gone, the client must do a full sync.
+    tracker.recordMetalakeDropped(NameIdentifier.of("metalake1"));
+    Assertions.assertTrue(listCatalogChanges(tracker.epoch(), 3, 0).fullSync());
+
+    // A version of another server lifetime can't be trusted.
+    Assertions.assertTrue(listCatalogChanges(tracker.epoch() - 1, 4, 0).fullSync());
+  }
+
+  @Test
+  public void testWaitForCatalogChanges() throws Exception {
+    when(metalakeDispatcher.metalakeExists(any())).thenReturn(true);
+    long version = listCatalogChanges(tracker.epoch(), 0, 0).version();
+
+    CompletableFuture<CatalogChangesResponse> future =
+        CompletableFuture.supplyAsync(() -> listCatalogChanges(tracker.epoch(), version, 60_000));
+    tracker.recordChanged(NameIdentifier.of("metalake1", "catalog3"));
+
+    // The wait is capped on the server, the change is returned as soon as it is recorded.
+    CatalogChangesResponse changes = future.get(20, TimeUnit.SECONDS);
+    Assertions.assertFalse(changes.fullSync());
+    Assertions.assertArrayEquals(new String[] {"catalog3"}, changes.changedCatalogs());
+  }
+
+  @Test
+  public void testListCatalogChangesOfNonExistentMetalake() {
+    when(metalakeDispatcher.metalakeExists(any())).thenReturn(false);
+
+    Response resp =
+        target("/metalakes/metalake1/catalog-changes")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp.getStatus());
+
+    ErrorResponse errorResponse = resp.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResponse.getCode());
+    Assertions.assertEquals(NoSuchMetalakeException.class.getSimpleName(), errorResponse.getType());
+  }
+
+  private CatalogChangesResponse listCatalogChanges(long epoch, long sinceVersion, long timeoutMs) {
+    Response resp =
+        target("/metalakes/metalake1/catalog-changes")
+            .queryParam("epoch", epoch)
+            .queryParam("sinceVersion", sinceVersion)
+            .queryParam("timeoutMs", timeoutMs)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    CatalogChangesResponse changesResponse = resp.readEntity(CatalogChangesResponse.class);
+    Assertions.assertEquals(0, changesResponse.getCode());
+    return changesResponse;
+  }
+}
@@ -40,6 +40,7 @@ import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
 import com.datastrato.gravitino.dto.responses.ErrorConstants;
 import com.datastrato.gravitino.dto.responses.ErrorResponse;
+import com.datastrato.gravitino.dto.responses.FilesetListResponse;
 import com.datastrato.gravitino.dto.responses.FilesetResponse;
 import com.datastrato.gravitino.exceptions.FilesetAlreadyExistsException;
 import com.datastrato.gravitino.exceptions.NoSuchFilesetException;
@@ -171,6 +172,44 @@ public class TestFilesetOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testListFilesetInfos() {
+    Fileset fileset1 =
+        mockFileset("fileset1", Fileset.Type.MANAGED, "comment1", "location1", ImmutableMap.of());
+    Fileset fileset2 =
+        mockFileset("fileset2", Fileset.Type.EXTERNAL, "comment2", "location2", ImmutableMap.of());
+    when(dispatcher.listFilesetsInfo(any())).thenReturn(new Fileset[] {fileset1, fileset2});
+
+    Response resp =
+        target(filesetPath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    FilesetListResponse listResp = resp.readEntity(FilesetListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+    Assertions.assertEquals(2, listResp.getFilesets().length);
+    Assertions.assertEquals("fileset1", listResp.getFilesets()[0].name());
+    Assertions.assertEquals("location1", listResp.getFilesets()[0].storageLocation());
+    Assertions.assertEquals(Fileset.Type.EXTERNAL, listResp.getFilesets()[1].type());
+    Assertions.assertEquals("location2", listResp.getFilesets()[1].storageLocation());
+
+    // Test throw NoSuchSchemaException
+    doThrow(new NoSuchSchemaException("mock error")).when(dispatcher).listFilesetsInfo(any());
+    Response resp1 =
+        target(filesetPath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp1.getStatus());
+
+    ErrorResponse errorResp = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(NoSuchSchemaException.class.getSimpleName(), errorResp.getType());
+  }
+
   @Test
   public void loadFileset() {
     Fileset fileset =
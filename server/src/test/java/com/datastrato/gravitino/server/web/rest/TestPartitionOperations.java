@@ -22,6 +22,8 @@ import static com.datastrato.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static com.datastrato.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static com.datastrato.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -214,6 +216,77 @@ public class TestPartitionOperations extends JerseyTest {
     Assertions.assertTrue(errorResp2.getMessage().contains("test exception"));
   }
 
+  @Test
+  public void testListPartitionsWithFilterAndPaging() {
+    // Partition names are paginated after being listed as a whole.
+    when(dispatcher.listPartitionNames(any())).thenReturn(partitionNames);
+    Response resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("pageSize", "1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    PartitionNameListResponse nameListResp = resp.readEntity(PartitionNameListResponse.class);
+    Assertions.assertArrayEquals(new String[] {"p1"}, nameListResp.partitionNames());
+    Assertions.assertEquals("p1", nameListResp.nextPageToken());
+
+    resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("pageSize", "1")
+            .queryParam("pageToken", "p1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    nameListResp = resp.readEntity(PartitionNameListResponse.class);
+    Assertions.assertArrayEquals(new String[] {"p2"}, nameListResp.partitionNames());
+    Assertions.assertNull(nameListResp.nextPageToken());
+
+    // The filter and the page are pushed down to the catalog, with one more partition than the
+    // page size to tell whether there are more pages.
+    when(dispatcher.listPartitions(any(), eq("col1 = \"v1\""), isNull(), eq(2)))
+        .thenReturn(partitions);
+    resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("details", "true")
+            .queryParam("filter", "col1 = \"v1\"")
+            .queryParam("pageSize", "1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    PartitionListResponse listResp = resp.readEntity(PartitionListResponse.class);
+    Assertions.assertEquals(1, listResp.getPartitions().length);
+    Assertions.assertEquals(DTOConverters.toDTO(partition1), listResp.getPartitions()[0]);
+    Assertions.assertEquals("p1", listResp.getNextPageToken());
+
+    when(dispatcher.listPartitions(any(), eq("col1 = \"v2\""), isNull(), eq(0)))
+        .thenReturn(new Partition[] {partition2});
+    resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("filter", "col1 = \"v2\"")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    nameListResp = resp.readEntity(PartitionNameListResponse.class);
+    Assertions.assertArrayEquals(new String[] {"p2"}, nameListResp.partitionNames());
+    Assertions.assertNull(nameListResp.nextPageToken());
+
+    // Test invalid filter
+    doThrow(new IllegalArgumentException("invalid filter"))
+        .when(dispatcher)
+        .listPartitions(any(), eq("col1 >"), isNull(), eq(0));
+    resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("filter", "col1 >")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp.getStatus());
+    Assertions.assertEquals(
+        ErrorConstants.ILLEGAL_ARGUMENTS_CODE, resp.readEntity(ErrorResponse.class).getCode());
+  }
+
   @Test
   public void testGetPartition() {
     when(dispatcher.getPartition(any(), any())).thenReturn(partition1);
@@ -22,14 +22,19 @@ import static com.datastrato.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static com.datastrato.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static com.datastrato.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.datastrato.gravitino.Audit;
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.GravitinoEnv;
+import com.datastrato.gravitino.ListPage;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Schema;
 import com.datastrato.gravitino.catalog.SchemaDispatcher;
@@ -173,6 +178,58 @@ public class TestSchemaOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testListSchemasWithPagination() {
+    NameIdentifier ident1 = NameIdentifier.of(metalake, catalog, "schema1");
+    NameIdentifier ident2 = NameIdentifier.of(metalake, catalog, "schema2");
+    NameIdentifier ident3 = NameIdentifier.of(metalake, catalog, "schema3");
+
+    when(dispatcher.listSchemas(any(), isNull(), eq(2)))
+        .thenReturn(ListPage.of(ImmutableList.of(ident1, ident2), "schema2"));
+    when(dispatcher.listSchemas(any(), eq("schema2"), eq(2)))
+        .thenReturn(ListPage.of(ImmutableList.of(ident3), null));
+
+    Response resp =
+        target("/metalakes/" + metalake + "/catalogs/" + catalog + "/schemas")
+            .queryParam("pageSize", "2")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    EntityListResponse listResp = resp.readEntity(EntityListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+    Assertions.assertArrayEquals(new NameIdentifier[] {ident1, ident2}, listResp.identifiers());
+    Assertions.assertEquals("schema2", listResp.nextPageToken());
+
+    // The token of the previous page fetches the next page.
+    resp =
+        target("/metalakes/" + metalake + "/catalogs/" + catalog + "/schemas")
+            .queryParam("pageToken", listResp.nextPageToken())
+            .queryParam("pageSize", "2")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    listResp = resp.readEntity(EntityListResponse.class);
+    Assertions.assertArrayEquals(new NameIdentifier[] {ident3}, listResp.identifiers());
+    Assertions.assertNull(listResp.nextPageToken());
+
+    // The paged list doesn't list all the schemas of the catalog.
+    verify(dispatcher, never()).listSchemas(any());
+
+    // Test throw NoSuchCatalogException
+    doThrow(new NoSuchCatalogException("mock error"))
+        .when(dispatcher)
+        .listSchemas(any(), any(), anyInt());
+    resp =
+        target("/metalakes/" + metalake + "/catalogs/" + catalog + "/schemas")
+            .queryParam("pageSize", "2")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp.getStatus());
+  }
+
   @Test
   public void testCreateSchema() {
     SchemaCreateRequest req =
@@ -22,14 +22,19 @@ import static com.datastrato.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static com.datastrato.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static com.datastrato.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.datastrato.gravitino.Audit;
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.GravitinoEnv;
+import com.datastrato.gravitino.ListPage;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.catalog.TableDispatcher;
 import com.datastrato.gravitino.catalog.TableOperationDispatcher;
@@ -51,6 +56,7 @@ import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
 import com.datastrato.gravitino.dto.responses.ErrorConstants;
 import com.datastrato.gravitino.dto.responses.ErrorResponse;
+import com.datastrato.gravitino.dto.responses.TableListResponse;
 import com.datastrato.gravitino.dto.responses.TableResponse;
 import com.datastrato.gravitino.dto.util.DTOConverters;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
@@ -200,6 +206,111 @@ public class TestTableOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testListTablesWithPagination() {
+    NameIdentifier table1 = NameIdentifier.of(metalake, catalog, schema, "table1");
+    NameIdentifier table2 = NameIdentifier.of(metalake, catalog, schema, "table2");
+    NameIdentifier table3 = NameIdentifier.of(metalake, catalog, schema, "table3");
+
+    when(dispatcher.listTables(any(), isNull(), eq(2)))
+        .thenReturn(ListPage.of(ImmutableList.of(table1, table2), "table2"));
+    when(dispatcher.listTables(any(), eq("table2"), eq(2)))
+        .thenReturn(ListPage.of(ImmutableList.of(table3), null));
+
+    Response resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("pageSize", "2")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    EntityListResponse listResp = resp.readEntity(EntityListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+    Assertions.assertArrayEquals(new NameIdentifier[] {table1, table2}, listResp.identifiers());
+    Assertions.assertEquals("table2", listResp.nextPageToken());
+
+    // The token of the previous page fetches the next page.
+    resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("pageToken", listResp.nextPageToken())
+            .queryParam("pageSize", "2")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    listResp = resp.readEntity(EntityListResponse.class);
+    Assertions.assertArrayEquals(new NameIdentifier[] {table3}, listResp.identifiers());
+    Assertions.assertNull(listResp.nextPageToken());
+
+    // The paged list doesn't list all the tables of the schema.
+    verify(dispatcher, never()).listTables(any());
+
+    // Test throw NoSuchSchemaException
+    doThrow(new NoSuchSchemaException("mock error"))
+        .when(dispatcher)
+        .listTables(any(), any(), anyInt());
+    resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("pageSize", "2")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp.getStatus());
+  }
+
+  @Test
+  public void testListTablesWithDetails() {
+    NameIdentifier table1 = NameIdentifier.of(metalake, catalog, schema, "table1");
+    NameIdentifier table2 = NameIdentifier.of(metalake, catalog, schema, "table2");
+    when(dispatcher.listTables(any())).thenReturn(new NameIdentifier[] {table1, table2});
+
+    Column[] columns = new Column[] {mockColumn("col1", Types.StringType.get())};
+    Table mockTable1 = mockTable("table1", columns, "mock comment", ImmutableMap.of("k1", "v1"));
+    Table mockTable2 = mockTable("table2", columns, "mock comment", ImmutableMap.of("k1", "v1"));
+    when(dispatcher.loadTables(any(), eq("table1"), eq("table2")))
+        .thenReturn(new Table[] {mockTable1, mockTable2});
+    when(dispatcher.loadTables(any(), eq("table1"))).thenReturn(new Table[] {mockTable1});
+
+    Response resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    TableListResponse listResp = resp.readEntity(TableListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+    Assertions.assertEquals(2, listResp.getTables().length);
+    Assertions.assertEquals("table1", listResp.getTables()[0].name());
+    Assertions.assertEquals("table2", listResp.getTables()[1].name());
+    Assertions.assertNull(listResp.getNextPageToken());
+
+    // Only the tables in the page are loaded.
+    when(dispatcher.listTables(any(), isNull(), eq(1)))
+        .thenReturn(ListPage.of(ImmutableList.of(table1), "table1"));
+    resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .queryParam("pageSize", "1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    listResp = resp.readEntity(TableListResponse.class);
+    Assertions.assertEquals(1, listResp.getTables().length);
+    Assertions.assertEquals("table1", listResp.getTables()[0].name());
+    Assertions.assertEquals("table1", listResp.getNextPageToken());
+
+    // Test throw NoSuchSchemaException
+    doThrow(new NoSuchSchemaException("mock error")).when(dispatcher).listTables(any());
+    resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp.getStatus());
+  }
+
   private DistributionDTO createMockDistributionDTO(String columnName, int bucketNum) {
     return DistributionDTO.builder()
         .withStrategy(Strategy.HASH)
@@ -22,6 +22,7 @@ import static com.datastrato.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static com.datastrato.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static com.datastrato.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -40,6 +41,7 @@ import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
 import com.datastrato.gravitino.dto.responses.ErrorConstants;
 import com.datastrato.gravitino.dto.responses.ErrorResponse;
+import com.datastrato.gravitino.dto.responses.TopicListResponse;
 import com.datastrato.gravitino.dto.responses.TopicResponse;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
 import com.datastrato.gravitino.exceptions.TopicAlreadyExistsException;
@@ -170,6 +172,45 @@ public class TestTopicOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testListTopicsWithDetails() {
+    NameIdentifier topic1 = NameIdentifier.of(metalake, catalog, schema, "topic1");
+    NameIdentifier topic2 = NameIdentifier.of(metalake, catalog, schema, "topic2");
+    when(dispatcher.listTopics(any())).thenReturn(new NameIdentifier[] {topic1, topic2});
+
+    Topic mockTopic1 = mockTopic("topic1", "comment1", ImmutableMap.of("key1", "value1"));
+    Topic mockTopic2 = mockTopic("topic2", "comment2", ImmutableMap.of("key1", "value1"));
+    when(dispatcher.loadTopics(any(), eq("topic1"), eq("topic2")))
+        .thenReturn(new Topic[] {mockTopic1, mockTopic2});
+
+    Response resp =
+        target(topicPath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    TopicListResponse listResp = resp.readEntity(TopicListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+    TopicDTO[] topics = listResp.getTopics();
+    Assertions.assertEquals(2, topics.length);
+    Assertions.assertEquals("topic1", topics[0].name());
+    Assertions.assertEquals("comment1", topics[0].comment());
+    Assertions.assertEquals("topic2", topics[1].name());
+    Assertions.assertEquals(ImmutableMap.of("key1", "value1"), topics[1].properties());
+
+    // Test throw NoSuchSchemaException
+    doThrow(new NoSuchSchemaException("mock error")).when(dispatcher).listTopics(any());
+    Response resp1 =
+        target(topicPath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp1.getStatus());
+  }
+
   @Test
   public void testLoadTopic() {
     Topic topic = mockTopic("topic1", "comment", ImmutableMap.of("key1", "value1"));
@@ -25,6 +25,9 @@ public class GravitinoSparkConfig {
   public static final String GRAVITINO_METALAKE = GRAVITINO_PREFIX + "metalake";
   public static final String GRAVITINO_ENABLE_ICEBERG_SUPPORT =
       GRAVITINO_PREFIX + "enableIcebergSupport";
+  public static final String GRAVITINO_TABLE_CACHE_TTL_MS = GRAVITINO_PREFIX + "tableCacheTtlMs";
+  public static final String GRAVITINO_TABLE_LOAD_THREADS = GRAVITINO_PREFIX + "tableLoadThreads";
+  public static final int GRAVITINO_TABLE_LOAD_THREADS_DEFAULT = 8;
   public static final String GRAVITINO_HIVE_METASTORE_URI = "metastore.uris";
   public static final String SPARK_HIVE_METASTORE_URI = "hive.metastore.uris";
 
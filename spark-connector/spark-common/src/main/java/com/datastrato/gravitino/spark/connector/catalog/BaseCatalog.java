@@ -18,6 +18,7 @@
 
 package com.datastrato.gravitino.spark.connector.catalog;
 
+import com.codahale.metrics.Timer;
 import com.datastrato.gravitino.Catalog;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
@@ -32,11 +33,15 @@ import com.datastrato.gravitino.spark.connector.SparkTableChangeConverter;
 import com.datastrato.gravitino.spark.connector.SparkTransformConverter;
 import com.datastrato.gravitino.spark.connector.SparkTransformConverter.DistributionAndSortOrdersInfo;
 import com.datastrato.gravitino.spark.connector.SparkTypeConverter;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.spark.sql.catalyst.analysis.NamespaceAlreadyExistsException;
 import org.apache.spark.sql.catalyst.analysis.NoSuchNamespaceException;
@@ -84,7 +89,12 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
   private final GravitinoCatalogManager gravitinoCatalogManager;
 
   protected BaseCatalog() {
-    gravitinoCatalogManager = GravitinoCatalogManager.get();
+    this(GravitinoCatalogManager.get());
+  }
+
+  @VisibleForTesting
+  protected BaseCatalog(GravitinoCatalogManager gravitinoCatalogManager) {
+    this.gravitinoCatalogManager = gravitinoCatalogManager;
   }
 
   /**
@@ -236,21 +246,7 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
 
   @Override
   public Table loadTable(Identifier ident) throws NoSuchTableException {
-    try {
-      com.datastrato.gravitino.rel.Table gravitinoTable = loadGravitinoTable(ident);
-      org.apache.spark.sql.connector.catalog.Table sparkTable = loadSparkTable(ident);
-      // Will create a catalog specific table
-      return createSparkTable(
-          ident,
-          gravitinoTable,
-          sparkTable,
-          sparkCatalog,
-          propertiesConverter,
-          sparkTransformConverter,
-          sparkTypeConverter);
-    } catch (com.datastrato.gravitino.exceptions.NoSuchTableException e) {
-      throw new NoSuchTableException(ident);
-    }
+    return loadTable(ident, () -> sparkCatalog.loadTable(ident));
   }
 
   @Override
@@ -261,11 +257,12 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
             .toArray(com.datastrato.gravitino.rel.TableChange[]::new);
     try {
       sparkCatalog.invalidateTable(ident);
+      NameIdentifier gravitinoIdentifier = NameIdentifier.of(getDatabase(ident), ident.name());
       com.datastrato.gravitino.rel.Table gravitinoTable =
           gravitinoCatalogClient
               .asTableCatalog()
-              .alterTable(
-                  NameIdentifier.of(getDatabase(ident), ident.name()), gravitinoTableChanges);
+              .alterTable(gravitinoIdentifier, gravitinoTableChanges);
+      gravitinoCatalogManager.invalidateTable(catalogName, gravitinoIdentifier);
       org.apache.spark.sql.connector.catalog.Table sparkTable = loadSparkTable(ident);
       return createSparkTable(
           ident,
@@ -283,17 +280,19 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
   @Override
   public boolean dropTable(Identifier ident) {
     sparkCatalog.invalidateTable(ident);
-    return gravitinoCatalogClient
-        .asTableCatalog()
-        .dropTable(NameIdentifier.of(getDatabase(ident), ident.name()));
+    NameIdentifier gravitinoIdentifier = NameIdentifier.of(getDatabase(ident), ident.name());
+    boolean dropped = gravitinoCatalogClient.asTableCatalog().dropTable(gravitinoIdentifier);
+    gravitinoCatalogManager.invalidateTable(catalogName, gravitinoIdentifier);
+    return dropped;
   }
 
   @Override
   public boolean purgeTable(Identifier ident) {
     sparkCatalog.invalidateTable(ident);
-    return gravitinoCatalogClient
-        .asTableCatalog()
-        .purgeTable(NameIdentifier.of(getDatabase(ident), ident.name()));
+    NameIdentifier gravitinoIdentifier = NameIdentifier.of(getDatabase(ident), ident.name());
+    boolean purged = gravitinoCatalogClient.asTableCatalog().purgeTable(gravitinoIdentifier);
+    gravitinoCatalogManager.invalidateTable(catalogName, gravitinoIdentifier);
+    return purged;
   }
 
   @Override
@@ -307,9 +306,9 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
         com.datastrato.gravitino.rel.TableChange.rename(newIdent.name());
     try {
       sparkCatalog.invalidateTable(oldIdent);
-      gravitinoCatalogClient
-          .asTableCatalog()
-          .alterTable(NameIdentifier.of(getDatabase(oldIdent), oldIdent.name()), rename);
+      NameIdentifier gravitinoIdentifier = NameIdentifier.of(oldDatabase, oldIdent.name());
+      gravitinoCatalogClient.asTableCatalog().alterTable(gravitinoIdentifier, rename);
+      gravitinoCatalogManager.invalidateTable(catalogName, gravitinoIdentifier);
     } catch (com.datastrato.gravitino.exceptions.NoSuchTableException e) {
       throw new NoSuchTableException(oldIdent);
     }
@@ -402,14 +401,71 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
       throws NoSuchTableException {
     try {
       String database = getDatabase(ident);
-      return gravitinoCatalogClient
-          .asTableCatalog()
-          .loadTable(NameIdentifier.of(database, ident.name()));
+      return gravitinoCatalogManager.loadTable(
+          this, gravitinoCatalogClient, NameIdentifier.of(database, ident.name()));
     } catch (com.datastrato.gravitino.exceptions.NoSuchTableException e) {
       throw new NoSuchTableException(ident);
     }
   }
 
+  /**
+   * Load a table from Gravitino and from the specific Spark catalog concurrently, and create the
+   * catalog specific table with them. The Spark table is loaded in the calling thread, since the
+   * Spark catalog may depend on the state of the thread, while the Gravitino table is loaded in a
+   * background thread or got from the cache.
+   *
+   * @param ident Spark's table identifier
+   * @param sparkTableLoader loads the table from the specific Spark catalog
+   * @return a specific Spark table
+   * @throws NoSuchTableException If the table does not exist in Gravitino.
+   */
+  protected Table loadTable(Identifier ident, SparkTableLoader sparkTableLoader)
+      throws NoSuchTableException {
+    CompletableFuture<com.datastrato.gravitino.rel.Table> gravitinoTableFuture =
+        gravitinoCatalogManager.loadTableAsync(
+            this, gravitinoCatalogClient, NameIdentifier.of(getDatabase(ident), ident.name()));
+
+    Table sparkTable = null;
+    RuntimeException sparkTableException = null;
+    try (Timer.Context ignored = gravitinoCatalogManager.sparkLoadTableTimer().time()) {
+      sparkTable = sparkTableLoader.load();
+    } catch (NoSuchTableException e) {
+      sparkTableException =
+          new RuntimeException(
+              String.format(
+                  "Failed to load the real sparkTable: %s",
+                  String.join(".", getDatabase(ident), ident.name())),
+              e);
+    } catch (RuntimeException e) {
+      sparkTableException = e;
+    }
+
+    com.datastrato.gravitino.rel.Table gravitinoTable;
+    try {
+      gravitinoTable = gravitinoTableFuture.join();
+    } catch (CompletionException e) {
+      // The table missing in Gravitino is reported first, like loading the tables one by one.
+      if (e.getCause() instanceof com.datastrato.gravitino.exceptions.NoSuchTableException) {
+        throw new NoSuchTableException(ident);
+      }
+      Throwables.throwIfUnchecked(e.getCause());
+      throw e;
+    }
+    if (sparkTableException != null) {
+      throw sparkTableException;
+    }
+
+    // Will create a catalog specific table
+    return createSparkTable(
+        ident,
+        gravitinoTable,
+        sparkTable,
+        sparkCatalog,
+        propertiesConverter,
+        sparkTransformConverter,
+        sparkTypeConverter);
+  }
+
   protected String getDatabase(Identifier sparkIdentifier) {
     if (sparkIdentifier.namespace().length > 0) {
       return sparkIdentifier.namespace()[0];
@@ -451,7 +507,7 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
   }
 
   private Table loadSparkTable(Identifier ident) {
-    try {
+    try (Timer.Context ignored = gravitinoCatalogManager.sparkLoadTableTimer().time()) {
       return sparkCatalog.loadTable(ident);
     } catch (NoSuchTableException e) {
       throw new RuntimeException(
@@ -461,4 +517,10 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
           e);
     }
   }
+
+  /** Loads a table from the specific Spark catalog. */
+  @FunctionalInterface
+  protected interface SparkTableLoader {
+    Table load() throws NoSuchTableException;
+  }
 }
@@ -18,41 +18,107 @@
  */
 package com.datastrato.gravitino.spark.connector.catalog;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.datastrato.gravitino.Catalog;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.client.GravitinoAdminClient;
 import com.datastrato.gravitino.client.GravitinoMetalake;
+import com.datastrato.gravitino.rel.Table;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** GravitinoCatalogManager is used to retrieve catalogs from Apache Gravitino server. */
+/**
+ * GravitinoCatalogManager is used to retrieve catalogs from Apache Gravitino server.
+ *
+ * <p>It also loads the Gravitino tables for the catalogs of the Spark sessions, the tables may be
+ * cached for a while so that a query plan referencing a table many times loads it once. Spark
+ * creates the catalogs of each session separately, so the tables are cached per catalog instance,
+ * which keeps a session from seeing the tables cached by another one.
+ */
 public class GravitinoCatalogManager {
   private static final Logger LOG = LoggerFactory.getLogger(GravitinoCatalogManager.class);
   private static GravitinoCatalogManager gravitinoCatalogManager;
 
+  static final String GRAVITINO_LOAD_TABLE_METRIC = "gravitinoLoadTable";
+  static final String SPARK_LOAD_TABLE_METRIC = "sparkLoadTable";
+  static final String TABLE_CACHE_HITS_METRIC = "gravitinoTableCacheHits";
+
   private volatile boolean isClosed = false;
   private final Cache<String, Catalog> gravitinoCatalogs;
+  // The Gravitino tables of each catalog instance keyed by catalog.schema.table, null if the cache
+  // is disabled. The catalog instances are weakly referenced, so a closed session drops its tables.
+  private final Cache<BaseCatalog, Cache<NameIdentifier, Table>> gravitinoTables;
+  private final long tableCacheTtlMs;
+  private final ThreadPoolExecutor tableLoadExecutor;
+  private final Timer gravitinoLoadTableTimer = new Timer();
+  private final Timer sparkLoadTableTimer = new Timer();
+  private final Counter tableCacheHits = new Counter();
   private final String metalakeName;
   private final GravitinoMetalake metalake;
   private final GravitinoAdminClient gravitinoClient;
 
-  private GravitinoCatalogManager(String gravitinoUri, String metalakeName) {
+  private GravitinoCatalogManager(
+      String gravitinoUri, String metalakeName, long tableCacheTtlMs, int tableLoadThreads) {
+    this(
+        GravitinoAdminClient.builder(gravitinoUri).build(),
+        metalakeName,
+        tableCacheTtlMs,
+        tableLoadThreads);
+  }
+
+  @VisibleForTesting
+  GravitinoCatalogManager(
+      GravitinoAdminClient gravitinoClient,
+      String metalakeName,
+      long tableCacheTtlMs,
+      int tableLoadThreads) {
+    Preconditions.checkArgument(tableCacheTtlMs >= 0, "Table cache TTL must not be negative");
+    Preconditions.checkArgument(tableLoadThreads > 0, "Table load threads must be positive");
     this.metalakeName = metalakeName;
-    this.gravitinoClient = GravitinoAdminClient.builder(gravitinoUri).build();
+    this.gravitinoClient = gravitinoClient;
     // Will not evict catalog by default
     this.gravitinoCatalogs = CacheBuilder.newBuilder().build();
+    this.tableCacheTtlMs = tableCacheTtlMs;
+    this.gravitinoTables =
+        tableCacheTtlMs > 0 ? CacheBuilder.newBuilder().weakKeys().build() : null;
+    // At most tableLoadThreads tables are loaded concurrently, the others wait in the queue. The
+    // idle threads exit so that an idle driver keeps no loader threads.
+    this.tableLoadExecutor =
+        new ThreadPoolExecutor(
+            tableLoadThreads,
+            tableLoadThreads,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("gravitino-table-loader-%d")
+                .build());
+    tableLoadExecutor.allowCoreThreadTimeOut(true);
     this.metalake = gravitinoClient.loadMetalake(metalakeName);
   }
 
-  public static GravitinoCatalogManager create(String gravitinoUrl, String metalakeName) {
+  public static GravitinoCatalogManager create(
+      String gravitinoUrl, String metalakeName, long tableCacheTtlMs, int tableLoadThreads) {
     Preconditions.checkState(
         gravitinoCatalogManager == null, "Should not create duplicate GravitinoCatalogManager");
-    gravitinoCatalogManager = new GravitinoCatalogManager(gravitinoUrl, metalakeName);
+    gravitinoCatalogManager =
+        new GravitinoCatalogManager(gravitinoUrl, metalakeName, tableCacheTtlMs, tableLoadThreads);
     return gravitinoCatalogManager;
   }
 
@@ -67,6 +133,7 @@ public class GravitinoCatalogManager {
   public void close() {
     Preconditions.checkState(!isClosed, "Gravitino Catalog is already closed");
     isClosed = true;
+    tableLoadExecutor.shutdownNow();
     gravitinoClient.close();
     gravitinoCatalogManager = null;
   }
@@ -95,6 +162,82 @@ public class GravitinoCatalogManager {
     return gravitinoCatalogs.asMap();
   }
 
+  /**
+   * Load a table of a catalog from Gravitino, the table cached by a previous load of the same
+   * Spark catalog is returned if present.
+   *
+   * @param sparkCatalog The Spark catalog loading the table, the cache is scoped to it.
+   * @param catalog The Gravitino catalog of the table.
+   * @param ident The identifier of the table in the catalog.
+   * @return The Gravitino table.
+   * @throws com.datastrato.gravitino.exceptions.NoSuchTableException If the table does not exist.
+   */
+  public Table loadTable(BaseCatalog sparkCatalog, Catalog catalog, NameIdentifier ident) {
+    NameIdentifier cacheKey = tableCacheKey(catalog.name(), ident);
+    Table table = getCachedTable(sparkCatalog, cacheKey);
+    if (table != null) {
+      return table;
+    }
+
+    try (Timer.Context ignored = gravitinoLoadTableTimer.time()) {
+      table = catalog.asTableCatalog().loadTable(ident);
+    }
+    if (gravitinoTables != null) {
+      tableCache(sparkCatalog).put(cacheKey, table);
+    }
+    return table;
+  }
+
+  /**
+   * Load a table of a catalog from Gravitino in a background thread, so that the caller can load
+   * the table from the underlying catalog meanwhile.
+   *
+   * @param sparkCatalog The Spark catalog loading the table, the cache is scoped to it.
+   * @param catalog The Gravitino catalog of the table.
+   * @param ident The identifier of the table in the catalog.
+   * @return The future of the Gravitino table.
+   */
+  public CompletableFuture<Table> loadTableAsync(
+      BaseCatalog sparkCatalog, Catalog catalog, NameIdentifier ident) {
+    Table cachedTable = getCachedTable(sparkCatalog, tableCacheKey(catalog.name(), ident));
+    if (cachedTable != null) {
+      return CompletableFuture.completedFuture(cachedTable);
+    }
+    return CompletableFuture.supplyAsync(
+        () -> loadTable(sparkCatalog, catalog, ident), tableLoadExecutor);
+  }
+
+  /**
+   * Remove a table from the caches of all the Spark sessions, it must be called after the table is
+   * changed or dropped.
+   *
+   * @param catalogName The name of the catalog of the table.
+   * @param ident The identifier of the table in the catalog.
+   */
+  public void invalidateTable(String catalogName, NameIdentifier ident) {
+    if (gravitinoTables != null) {
+      NameIdentifier cacheKey = tableCacheKey(catalogName, ident);
+      gravitinoTables.asMap().values().forEach(tables -> tables.invalidate(cacheKey));
+    }
+  }
+
+  /** @return The timer of loading tables from the underlying catalogs of Spark. */
+  public Timer sparkLoadTableTimer() {
+    return sparkLoadTableTimer;
+  }
+
+  /**
+   * Register the metrics of loading tables, the time spent loading tables from Gravitino and from
+   * the underlying catalogs, and the number of tables served from the cache.
+   *
+   * @param metricRegistry The metric registry of the Spark plugin.
+   */
+  public void registerMetrics(MetricRegistry metricRegistry) {
+    metricRegistry.register(GRAVITINO_LOAD_TABLE_METRIC, gravitinoLoadTableTimer);
+    metricRegistry.register(SPARK_LOAD_TABLE_METRIC, sparkLoadTableTimer);
+    metricRegistry.register(TABLE_CACHE_HITS_METRIC, tableCacheHits);
+  }
+
   private Catalog loadCatalog(String catalogName) {
     Catalog catalog = metalake.loadCatalog(catalogName);
     Preconditions.checkArgument(
@@ -102,4 +245,36 @@ public class GravitinoCatalogManager {
     LOG.info("Load catalog {} from Gravitino successfully.", catalogName);
     return catalog;
   }
+
+  private Table getCachedTable(BaseCatalog sparkCatalog, NameIdentifier cacheKey) {
+    if (gravitinoTables == null) {
+      return null;
+    }
+    Cache<NameIdentifier, Table> tables = gravitinoTables.getIfPresent(sparkCatalog);
+    Table table = tables == null ? null : tables.getIfPresent(cacheKey);
+    if (table != null) {
+      tableCacheHits.inc();
+    }
+    return table;
+  }
+
+  private Cache<NameIdentifier, Table> tableCache(BaseCatalog sparkCatalog) {
+    try {
+      return gravitinoTables.get(
+          sparkCatalog,
+          () ->
+              CacheBuilder.newBuilder()
+                  .expireAfterWrite(tableCacheTtlMs, TimeUnit.MILLISECONDS)
+                  .build());
+    } catch (ExecutionException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static NameIdentifier tableCacheKey(String catalogName, NameIdentifier ident) {
+    String[] levels = new String[ident.namespace().length() + 1];
+    levels[0] = catalogName;
+    System.arraycopy(ident.namespace().levels(), 0, levels, 1, ident.namespace().length());
+    return NameIdentifier.of(Namespace.of(levels), ident.name());
+  }
 }
@@ -23,6 +23,8 @@ import com.datastrato.gravitino.spark.connector.PropertiesConverter;
 import com.datastrato.gravitino.spark.connector.SparkTransformConverter;
 import com.datastrato.gravitino.spark.connector.SparkTypeConverter;
 import com.datastrato.gravitino.spark.connector.catalog.BaseCatalog;
+import com.datastrato.gravitino.spark.connector.catalog.GravitinoCatalogManager;
+import com.google.common.annotations.VisibleForTesting;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Map;
@@ -54,6 +56,13 @@ import org.apache.spark.sql.util.CaseInsensitiveStringMap;
 public class GravitinoIcebergCatalog extends BaseCatalog
     implements FunctionCatalog, ProcedureCatalog, HasIcebergCatalog {
 
+  public GravitinoIcebergCatalog() {}
+
+  @VisibleForTesting
+  GravitinoIcebergCatalog(GravitinoCatalogManager gravitinoCatalogManager) {
+    super(gravitinoCatalogManager);
+  }
+
   @Override
   protected TableCatalog createAndInitSparkCatalog(
       String name, CaseInsensitiveStringMap options, Map<String, String> properties) {
@@ -143,41 +152,13 @@ public class GravitinoIcebergCatalog extends BaseCatalog
   @Override
   public org.apache.spark.sql.connector.catalog.Table loadTable(Identifier ident, String version)
       throws NoSuchTableException {
-    try {
-      com.datastrato.gravitino.rel.Table gravitinoTable = loadGravitinoTable(ident);
-      org.apache.spark.sql.connector.catalog.Table sparkTable = loadSparkTable(ident, version);
-      // Will create a catalog specific table
-      return createSparkTable(
-          ident,
-          gravitinoTable,
-          sparkTable,
-          sparkCatalog,
-          propertiesConverter,
-          sparkTransformConverter,
-          getSparkTypeConverter());
-    } catch (com.datastrato.gravitino.exceptions.NoSuchTableException e) {
-      throw new NoSuchTableException(ident);
-    }
+    return loadTable(ident, () -> sparkCatalog.loadTable(ident, version));
   }
 
   @Override
   public org.apache.spark.sql.connector.catalog.Table loadTable(Identifier ident, long timestamp)
       throws NoSuchTableException {
-    try {
-      com.datastrato.gravitino.rel.Table gravitinoTable = loadGravitinoTable(ident);
-      org.apache.spark.sql.connector.catalog.Table sparkTable = loadSparkTable(ident, timestamp);
-      // Will create a catalog specific table
-      return createSparkTable(
-          ident,
-          gravitinoTable,
-          sparkTable,
-          sparkCatalog,
-          propertiesConverter,
-          sparkTransformConverter,
-          getSparkTypeConverter());
-    } catch (com.datastrato.gravitino.exceptions.NoSuchTableException e) {
-      throw new NoSuchTableException(ident);
-    }
+    return loadTable(ident, () -> sparkCatalog.loadTable(ident, timestamp));
   }
 
   private boolean isSystemNamespace(String[] namespace)
@@ -188,30 +169,4 @@ public class GravitinoIcebergCatalog extends BaseCatalog
     isSystemNamespace.setAccessible(true);
     return (Boolean) isSystemNamespace.invoke(baseCatalog, (Object) namespace);
   }
-
-  private org.apache.spark.sql.connector.catalog.Table loadSparkTable(
-      Identifier ident, String version) {
-    try {
-      return sparkCatalog.loadTable(ident, version);
-    } catch (NoSuchTableException e) {
-      throw new RuntimeException(
-          String.format(
-              "Failed to load the real sparkTable: %s",
-              String.join(".", getDatabase(ident), ident.name())),
-          e);
-    }
-  }
-
-  private org.apache.spark.sql.connector.catalog.Table loadSparkTable(
-      Identifier ident, long timestamp) {
-    try {
-      return sparkCatalog.loadTable(ident, timestamp);
-    } catch (NoSuchTableException e) {
-      throw new RuntimeException(
-          String.format(
-              "Failed to load the real sparkTable: %s",
-              String.join(".", getDatabase(ident), ident.name())),
-          e);
-    }
-  }
 }
@@ -62,6 +62,13 @@ public class GravitinoDriverPlugin implements DriverPlugin {
   private final List<String> gravitinoDriverExtensions = new ArrayList<>();
   private boolean enableIcebergSupport = false;
 
+  public GravitinoDriverPlugin() {}
+
+  @VisibleForTesting
+  GravitinoDriverPlugin(GravitinoCatalogManager catalogManager) {
+    this.catalogManager = catalogManager;
+  }
+
   @Override
   public Map<String, String> init(SparkContext sc, PluginContext pluginContext) {
     SparkConf conf = sc.conf();
@@ -82,13 +89,26 @@ public class GravitinoDriverPlugin implements DriverPlugin {
       gravitinoDriverExtensions.addAll(gravitinoIcebergExtensions);
     }
 
-    this.catalogManager = GravitinoCatalogManager.create(gravitinoUri, metalake);
+    long tableCacheTtlMs = conf.getLong(GravitinoSparkConfig.GRAVITINO_TABLE_CACHE_TTL_MS, 0L);
+    int tableLoadThreads =
+        conf.getInt(
+            GravitinoSparkConfig.GRAVITINO_TABLE_LOAD_THREADS,
+            GravitinoSparkConfig.GRAVITINO_TABLE_LOAD_THREADS_DEFAULT);
+    this.catalogManager =
+        GravitinoCatalogManager.create(gravitinoUri, metalake, tableCacheTtlMs, tableLoadThreads);
     catalogManager.loadRelationalCatalogs();
     registerGravitinoCatalogs(conf, catalogManager.getCatalogs());
     registerSqlExtensions(conf);
     return Collections.emptyMap();
   }
 
+  @Override
+  public void registerMetrics(String appId, PluginContext pluginContext) {
+    if (catalogManager != null) {
+      catalogManager.registerMetrics(pluginContext.metricRegistry());
+    }
+  }
+
   @Override
   public void shutdown() {
     if (catalogManager != null) {
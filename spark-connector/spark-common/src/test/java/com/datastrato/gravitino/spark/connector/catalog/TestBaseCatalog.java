@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.datastrato.gravitino.spark.connector.catalog;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastrato.gravitino.Catalog;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.client.GravitinoAdminClient;
+import com.datastrato.gravitino.client.GravitinoMetalake;
+import com.datastrato.gravitino.spark.connector.PropertiesConverter;
+import com.datastrato.gravitino.spark.connector.SparkTransformConverter;
+import com.datastrato.gravitino.spark.connector.SparkTypeConverter;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.spark.sql.catalyst.analysis.NoSuchTableException;
+import org.apache.spark.sql.connector.catalog.Identifier;
+import org.apache.spark.sql.connector.catalog.Table;
+import org.apache.spark.sql.connector.catalog.TableCapability;
+import org.apache.spark.sql.connector.catalog.TableCatalog;
+import org.apache.spark.sql.types.StructType;
+import org.apache.spark.sql.util.CaseInsensitiveStringMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestBaseCatalog {
+
+  private static final String CATALOG_NAME = "hive_catalog";
+  private static final Identifier IDENT = Identifier.of(new String[] {"db"}, "t");
+  private static final NameIdentifier GRAVITINO_IDENT = NameIdentifier.of("db", "t");
+
+  private final com.datastrato.gravitino.rel.TableCatalog gravitinoTableCatalog =
+      mock(com.datastrato.gravitino.rel.TableCatalog.class);
+  private final TableCatalog sparkTableCatalog = mock(TableCatalog.class);
+  private GravitinoCatalogManager catalogManager;
+  private TestCatalog catalog;
+
+  @BeforeEach
+  void init() {
+    Catalog gravitinoCatalog = mock(Catalog.class);
+    when(gravitinoCatalog.name()).thenReturn(CATALOG_NAME);
+    when(gravitinoCatalog.type()).thenReturn(Catalog.Type.RELATIONAL);
+    when(gravitinoCatalog.provider()).thenReturn("hive");
+    when(gravitinoCatalog.properties()).thenReturn(Collections.emptyMap());
+    when(gravitinoCatalog.asTableCatalog()).thenReturn(gravitinoTableCatalog);
+    GravitinoMetalake metalake = mock(GravitinoMetalake.class);
+    when(metalake.loadCatalog(CATALOG_NAME)).thenReturn(gravitinoCatalog);
+    GravitinoAdminClient gravitinoClient = mock(GravitinoAdminClient.class);
+    when(gravitinoClient.loadMetalake("metalake")).thenReturn(metalake);
+
+    catalogManager = new GravitinoCatalogManager(gravitinoClient, "metalake", 60_000, 2);
+    catalog = new TestCatalog(catalogManager, sparkTableCatalog);
+    catalog.initialize(CATALOG_NAME, CaseInsensitiveStringMap.empty());
+  }
+
+  @AfterEach
+  void close() {
+    catalogManager.close();
+  }
+
+  @Test
+  void testLoadTableConcurrently() throws Exception {
+    // Each load waits for the other one to start, so the table is loaded only if Gravitino and
+    // the Spark catalog are requested at the same time.
+    CountDownLatch gravitinoStarted = new CountDownLatch(1);
+    CountDownLatch sparkStarted = new CountDownLatch(1);
+    AtomicBoolean concurrent = new AtomicBoolean(true);
+    com.datastrato.gravitino.rel.Table gravitinoTable =
+        mock(com.datastrato.gravitino.rel.Table.class);
+    Table sparkTable = mock(Table.class);
+    when(gravitinoTableCatalog.loadTable(GRAVITINO_IDENT))
+        .thenAnswer(
+            invocation -> {
+              gravitinoStarted.countDown();
+              concurrent.compareAndSet(true, sparkStarted.await(10, TimeUnit.SECONDS));
+              return gravitinoTable;
+            });
+    when(sparkTableCatalog.loadTable(IDENT))
+        .thenAnswer(
+            invocation -> {
+              sparkStarted.countDown();
+              concurrent.compareAndSet(true, gravitinoStarted.await(10, TimeUnit.SECONDS));
+              return sparkTable;
+            });
+
+    Assertions.assertSame(gravitinoTable, ((LoadedTable) catalog.loadTable(IDENT)).gravitinoTable);
+    Assertions.assertTrue(concurrent.get());
+  }
+
+  @Test
+  void testLoadTableFromCache() throws Exception {
+    when(gravitinoTableCatalog.loadTable(GRAVITINO_IDENT))
+        .thenReturn(mock(com.datastrato.gravitino.rel.Table.class));
+    when(sparkTableCatalog.loadTable(IDENT)).thenReturn(mock(Table.class));
+
+    catalog.loadTable(IDENT);
+    catalog.loadTable(IDENT);
+
+    verify(gravitinoTableCatalog, times(1)).loadTable(GRAVITINO_IDENT);
+    // The Spark catalog is always asked, it has its own cache.
+    verify(sparkTableCatalog, times(2)).loadTable(IDENT);
+  }
+
+  @Test
+  void testLoadMissingTable() throws Exception {
+    when(gravitinoTableCatalog.loadTable(GRAVITINO_IDENT))
+        .thenThrow(new com.datastrato.gravitino.exceptions.NoSuchTableException("missing"));
+    when(sparkTableCatalog.loadTable(IDENT)).thenThrow(new NoSuchTableException(IDENT));
+
+    Assertions.assertThrows(NoSuchTableException.class, () -> catalog.loadTable(IDENT));
+  }
+
+  @Test
+  void testAlterTableInvalidatesCache() throws Exception {
+    com.datastrato.gravitino.rel.Table alteredTable =
+        mock(com.datastrato.gravitino.rel.Table.class);
+    when(gravitinoTableCatalog.loadTable(GRAVITINO_IDENT))
+        .thenReturn(mock(com.datastrato.gravitino.rel.Table.class), alteredTable);
+    when(gravitinoTableCatalog.alterTable(GRAVITINO_IDENT)).thenReturn(alteredTable);
+    when(sparkTableCatalog.loadTable(IDENT)).thenReturn(mock(Table.class));
+
+    catalog.loadTable(IDENT);
+    catalog.alterTable(IDENT);
+
+    Assertions.assertSame(alteredTable, ((LoadedTable) catalog.loadTable(IDENT)).gravitinoTable);
+    verify(gravitinoTableCatalog, times(2)).loadTable(GRAVITINO_IDENT);
+  }
+
+  @Test
+  void testDropTableInvalidatesCache() throws Exception {
+    when(gravitinoTableCatalog.loadTable(GRAVITINO_IDENT))
+        .thenReturn(mock(com.datastrato.gravitino.rel.Table.class))
+        .thenThrow(new com.datastrato.gravitino.exceptions.NoSuchTableException("dropped"));
+    when(gravitinoTableCatalog.dropTable(GRAVITINO_IDENT)).thenReturn(true);
+    when(sparkTableCatalog.loadTable(IDENT)).thenReturn(mock(Table.class));
+
+    catalog.loadTable(IDENT);
+    Assertions.assertTrue(catalog.dropTable(IDENT));
+
+    Assertions.assertThrows(NoSuchTableException.class, () -> catalog.loadTable(IDENT));
+  }
+
+  private static class LoadedTable implements Table {
+    private final com.datastrato.gravitino.rel.Table gravitinoTable;
+
+    private LoadedTable(com.datastrato.gravitino.rel.Table gravitinoTable) {
+      this.gravitinoTable = gravitinoTable;
+    }
+
+    @Override
+    public String name() {
+      return "t";
+    }
+
+    @Override
+    public StructType schema() {
+      return new StructType();
+    }
+
+    @Override
+    public Set<TableCapability> capabilities() {
+      return Collections.emptySet();
+    }
+  }
+
+  private static class TestCatalog extends BaseCatalog {
+    private final TableCatalog sparkTableCatalog;
+
+    private TestCatalog(GravitinoCatalogManager catalogManager, TableCatalog sparkTableCatalog) {
+      super(catalogManager);
+      this.sparkTableCatalog = sparkTableCatalog;
+    }
+
+    @Override
+    protected TableCatalog createAndInitSparkCatalog(
+        String name, CaseInsensitiveStringMap options, Map<String, String> properties) {
+      return sparkTableCatalog;
+    }
+
+    @Override
+    protected Table createSparkTable(
+        Identifier identifier,
+        com.datastrato.gravitino.rel.Table gravitinoTable,
+        Table sparkTable,
+        TableCatalog sparkCatalog,
+        PropertiesConverter propertiesConverter,
+        SparkTransformConverter sparkTransformConverter,
+        SparkTypeConverter sparkTypeConverter) {
+      return new LoadedTable(gravitinoTable);
+    }
+
+    @Override
+    protected PropertiesConverter getPropertiesConverter() {
+      return null;
+    }
+
+    @Override
+    protected SparkTransformConverter getSparkTransformConverter() {
+      return new SparkTransformConverter(false);
+    }
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.datastrato.gravitino.spark.connector.catalog;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.datastrato.gravitino.Catalog;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.client.GravitinoAdminClient;
+import com.datastrato.gravitino.client.GravitinoMetalake;
+import com.datastrato.gravitino.rel.Table;
+import com.datastrato.gravitino.rel.TableCatalog;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestGravitinoCatalogManager {
+
+  private static final NameIdentifier TABLE = NameIdentifier.of("db", "t");
+
+  private final Catalog catalog = mock(Catalog.class);
+  private final TableCatalog tableCatalog = mock(TableCatalog.class);
+
+  public TestGravitinoCatalogManager() {
+    when(catalog.name()).thenReturn("hive_catalog");
+    when(catalog.asTableCatalog()).thenReturn(tableCatalog);
+  }
+
+  @Test
+  void testTableCacheDisabled() {
+    GravitinoCatalogManager catalogManager = createCatalogManager(0, 1);
+    BaseCatalog sparkCatalog = mock(BaseCatalog.class);
+    when(tableCatalog.loadTable(TABLE)).thenReturn(mock(Table.class));
+
+    catalogManager.loadTable(sparkCatalog, catalog, TABLE);
+    catalogManager.loadTable(sparkCatalog, catalog, TABLE);
+
+    verify(tableCatalog, times(2)).loadTable(TABLE);
+    catalogManager.close();
+  }
+
+  @Test
+  void testTableCache() {
+    GravitinoCatalogManager catalogManager = createCatalogManager(60_000, 1);
+    BaseCatalog sparkCatalog = mock(BaseCatalog.class);
+    Table table = mock(Table.class);
+    when(tableCatalog.loadTable(TABLE)).thenReturn(table);
+
+    Assertions.assertSame(table, catalogManager.loadTable(sparkCatalog, catalog, TABLE));
+    Assertions.assertSame(table, catalogManager.loadTable(sparkCatalog, catalog, TABLE));
+    Assertions.assertSame(
+        table, catalogManager.loadTableAsync(sparkCatalog, catalog, TABLE).join());
+    verify(tableCatalog, times(1)).loadTable(TABLE);
+
+    // The catalog of another Spark session doesn't see the cached table.
+    BaseCatalog otherSparkCatalog = mock(BaseCatalog.class);
+    Assertions.assertSame(table, catalogManager.loadTable(otherSparkCatalog, catalog, TABLE));
+    verify(tableCatalog, times(2)).loadTable(TABLE);
+    catalogManager.close();
+  }
+
+  @Test
+  void testInvalidateTable() {
+    GravitinoCatalogManager catalogManager = createCatalogManager(60_000, 1);
+    BaseCatalog sparkCatalog = mock(BaseCatalog.class);
+    BaseCatalog otherSparkCatalog = mock(BaseCatalog.class);
+    when(tableCatalog.loadTable(TABLE)).thenReturn(mock(Table.class));
+    catalogManager.loadTable(sparkCatalog, catalog, TABLE);
+    catalogManager.loadTable(otherSparkCatalog, catalog, TABLE);
+    verify(tableCatalog, times(2)).loadTable(TABLE);
+
+    // A table changed in one session is reloaded by all the sessions.
+    catalogManager.invalidateTable("hive_catalog", TABLE);
+    catalogManager.loadTable(sparkCatalog, catalog, TABLE);
+    catalogManager.loadTable(otherSparkCatalog, catalog, TABLE);
+    verify(tableCatalog, times(4)).loadTable(TABLE);
+
+    // The same table name of another catalog is not affected.
+    catalogManager.invalidateTable("other_catalog", TABLE);
+    catalogManager.loadTable(sparkCatalog, catalog, TABLE);
+    verify(tableCatalog, times(4)).loadTable(TABLE);
+    catalogManager.close();
+  }
+
+  @Test
+  void testLoadTablesConcurrently() throws Exception {
+    GravitinoCatalogManager catalogManager = createCatalogManager(0, 2);
+    BaseCatalog sparkCatalog = mock(BaseCatalog.class);
+    AtomicInteger loading = new AtomicInteger();
+    AtomicInteger maxLoading = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(2);
+    CountDownLatch release = new CountDownLatch(1);
+    when(tableCatalog.loadTable(any()))
+        .thenAnswer(
+            invocation -> {
+              maxLoading.accumulateAndGet(loading.incrementAndGet(), Math::max);
+              started.countDown();
+              release.await();
+              loading.decrementAndGet();
+              return mock(Table.class);
+            });
+
+    List<CompletableFuture<Table>> futures = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      futures.add(
+          catalogManager.loadTableAsync(sparkCatalog, catalog, NameIdentifier.of("db", "t" + i)));
+    }
+    // Two tables are loaded at the same time, the third one waits for a free loader thread.
+    Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+    release.countDown();
+    for (CompletableFuture<Table> future : futures) {
+      Assertions.assertNotNull(future.get(10, TimeUnit.SECONDS));
+    }
+    Assertions.assertEquals(2, maxLoading.get());
+    catalogManager.close();
+  }
+
+  @Test
+  void testMetrics() {
+    GravitinoCatalogManager catalogManager = createCatalogManager(60_000, 1);
+    MetricRegistry metricRegistry = new MetricRegistry();
+    catalogManager.registerMetrics(metricRegistry);
+    BaseCatalog sparkCatalog = mock(BaseCatalog.class);
+    when(tableCatalog.loadTable(TABLE)).thenReturn(mock(Table.class));
+
+    catalogManager.loadTable(sparkCatalog, catalog, TABLE);
+    catalogManager.loadTable(sparkCatalog, catalog, TABLE);
+    catalogManager.sparkLoadTableTimer().time().stop();
+
+    Timer gravitinoLoadTableTimer =
+        metricRegistry.getTimers().get(GravitinoCatalogManager.GRAVITINO_LOAD_TABLE_METRIC);
+    Timer sparkLoadTableTimer =
+        metricRegistry.getTimers().get(GravitinoCatalogManager.SPARK_LOAD_TABLE_METRIC);
+    Counter tableCacheHits =
+        metricRegistry.getCounters().get(GravitinoCatalogManager.TABLE_CACHE_HITS_METRIC);
+    Assertions.assertEquals(1, gravitinoLoadTableTimer.getCount());
+    Assertions.assertEquals(1, sparkLoadTableTimer.getCount());
+    Assertions.assertEquals(1, tableCacheHits.getCount());
+    catalogManager.close();
+  }
+
+  @Test
+  void testInvalidTableLoadThreads() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> createCatalogManager(0, 0));
+  }
+
+  private GravitinoCatalogManager createCatalogManager(long tableCacheTtlMs, int tableLoadThreads) {
+    GravitinoAdminClient gravitinoClient = mock(GravitinoAdminClient.class);
+    when(gravitinoClient.loadMetalake("metalake")).thenReturn(mock(GravitinoMetalake.class));
+    return new GravitinoCatalogManager(
+        gravitinoClient, "metalake", tableCacheTtlMs, tableLoadThreads);
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.datastrato.gravitino.spark.connector.iceberg;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.codahale.metrics.Timer;
+import com.datastrato.gravitino.Catalog;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.spark.connector.PropertiesConverter;
+import com.datastrato.gravitino.spark.connector.SparkTransformConverter;
+import com.datastrato.gravitino.spark.connector.SparkTypeConverter;
+import com.datastrato.gravitino.spark.connector.catalog.GravitinoCatalogManager;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.apache.iceberg.spark.SparkCatalog;
+import org.apache.spark.sql.connector.catalog.Identifier;
+import org.apache.spark.sql.connector.catalog.Table;
+import org.apache.spark.sql.connector.catalog.TableCatalog;
+import org.apache.spark.sql.util.CaseInsensitiveStringMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestGravitinoIcebergCatalog {
+
+  private static final String CATALOG_NAME = "iceberg_catalog";
+  private static final Identifier IDENT = Identifier.of(new String[] {"db"}, "t");
+
+  private final SparkCatalog sparkCatalog = mock(SparkCatalog.class);
+  private TestIcebergCatalog catalog;
+
+  @BeforeEach
+  void init() {
+    Catalog gravitinoCatalog = mock(Catalog.class);
+    when(gravitinoCatalog.name()).thenReturn(CATALOG_NAME);
+    when(gravitinoCatalog.provider()).thenReturn("lakehouse-iceberg");
+    when(gravitinoCatalog.properties()).thenReturn(Collections.emptyMap());
+    GravitinoCatalogManager catalogManager = mock(GravitinoCatalogManager.class);
+    when(catalogManager.getGravitinoCatalogInfo(CATALOG_NAME)).thenReturn(gravitinoCatalog);
+    when(catalogManager.sparkLoadTableTimer()).thenReturn(new Timer());
+    NameIdentifier gravitinoIdent = NameIdentifier.of("db", "t");
+    when(catalogManager.loadTableAsync(any(), eq(gravitinoCatalog), eq(gravitinoIdent)))
+        .thenReturn(
+            CompletableFuture.completedFuture(mock(com.datastrato.gravitino.rel.Table.class)));
+
+    catalog = new TestIcebergCatalog(catalogManager, sparkCatalog);
+    catalog.initialize(CATALOG_NAME, CaseInsensitiveStringMap.empty());
+  }
+
+  @Test
+  void testLoadTableWithVersion() throws Exception {
+    Table sparkTable = mock(Table.class);
+    when(sparkCatalog.loadTable(IDENT, "v1")).thenReturn(sparkTable);
+
+    Assertions.assertSame(sparkTable, catalog.loadTable(IDENT, "v1"));
+  }
+
+  @Test
+  void testLoadTableWithTimestamp() throws Exception {
+    Table sparkTable = mock(Table.class);
+    when(sparkCatalog.loadTable(IDENT, 100L)).thenReturn(sparkTable);
+
+    Assertions.assertSame(sparkTable, catalog.loadTable(IDENT, 100L));
+  }
+
+  private static class TestIcebergCatalog extends GravitinoIcebergCatalog {
+    private final SparkCatalog sparkCatalog;
+
+    private TestIcebergCatalog(GravitinoCatalogManager catalogManager, SparkCatalog sparkCatalog) {
+      super(catalogManager);
+      this.sparkCatalog = sparkCatalog;
+    }
+
+    @Override
+    protected TableCatalog createAndInitSparkCatalog(
+        String name, CaseInsensitiveStringMap options, Map<String, String> properties) {
+      return sparkCatalog;
+    }
+
+    // Returns the Spark table as is, SparkIcebergTable requires a real Iceberg table.
+    @Override
+    protected Table createSparkTable(
+        Identifier identifier,
+        com.datastrato.gravitino.rel.Table gravitinoTable,
+        Table sparkTable,
+        TableCatalog sparkIcebergCatalog,
+        PropertiesConverter propertiesConverter,
+        SparkTransformConverter sparkTransformConverter,
+        SparkTypeConverter sparkTypeConverter) {
+      return sparkTable;
+    }
+  }
+}
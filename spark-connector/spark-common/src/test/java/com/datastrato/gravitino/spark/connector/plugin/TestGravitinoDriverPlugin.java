@@ -19,7 +19,14 @@
 
 package com.datastrato.gravitino.spark.connector.plugin;
 
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codahale.metrics.MetricRegistry;
+import com.datastrato.gravitino.spark.connector.catalog.GravitinoCatalogManager;
 import org.apache.iceberg.spark.extensions.IcebergSparkSessionExtensions;
+import org.apache.spark.api.plugin.PluginContext;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -31,4 +38,16 @@ public class TestGravitinoDriverPlugin {
         IcebergSparkSessionExtensions.class.getName(),
         GravitinoDriverPlugin.ICEBERG_SPARK_EXTENSIONS);
   }
+
+  @Test
+  void testRegisterMetrics() {
+    GravitinoCatalogManager catalogManager = mock(GravitinoCatalogManager.class);
+    MetricRegistry metricRegistry = new MetricRegistry();
+    PluginContext pluginContext = mock(PluginContext.class);
+    when(pluginContext.metricRegistry()).thenReturn(metricRegistry);
+
+    new GravitinoDriverPlugin(catalogManager).registerMetrics("app", pluginContext);
+
+    verify(catalogManager).registerMetrics(metricRegistry);
+  }
 }
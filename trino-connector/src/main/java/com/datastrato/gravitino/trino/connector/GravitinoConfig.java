@@ -71,6 +71,13 @@ public class GravitinoConfig {
           "true",
           false);
 
+  private static final ConfigEntry GRAVITINO_CATALOG_FULL_SYNC_INTERVAL_SECONDS =
+      new ConfigEntry(
+          "gravitino.catalog-full-sync-interval-seconds",
+          "The interval to list and load all catalogs when the server provides the catalog changes",
+          "300",
+          false);
+
   private static final ConfigEntry TRINO_JDBC_USER =
       new ConfigEntry("trino.jdbc.user", "The jdbc user name of Trino", "admin", false);
 
@@ -107,6 +114,13 @@ public class GravitinoConfig {
             GRAVITINO_SIMPLIFY_CATALOG_NAMES.key, GRAVITINO_SIMPLIFY_CATALOG_NAMES.defaultValue));
   }
 
+  public long getCatalogFullSyncIntervalSeconds() {
+    return Long.parseLong(
+        config.getOrDefault(
+            GRAVITINO_CATALOG_FULL_SYNC_INTERVAL_SECONDS.key,
+            GRAVITINO_CATALOG_FULL_SYNC_INTERVAL_SECONDS.defaultValue));
+  }
+
   boolean isDynamicConnector() {
     // 'isDynamicConnector' indicates whether the connector is user-configured within Trino or
     // loaded from the Gravitino server.
@@ -210,6 +210,7 @@ public class GravitinoMetadata implements ConnectorMetadata {
 
   @Override
   public void cleanupQuery(ConnectorSession session) {
+    catalogConnectorMetadata.cleanupQuery();
     internalMetadata.cleanupQuery(session);
   }
 
@@ -26,9 +26,11 @@ import static com.datastrato.gravitino.trino.connector.GravitinoErrorCode.GRAVIT
 import com.datastrato.gravitino.Catalog;
 import com.datastrato.gravitino.client.GravitinoAdminClient;
 import com.datastrato.gravitino.client.GravitinoMetalake;
+import com.datastrato.gravitino.dto.responses.CatalogChangesResponse;
 import com.datastrato.gravitino.exceptions.NoSuchMetalakeException;
 import com.datastrato.gravitino.trino.connector.GravitinoConfig;
 import com.datastrato.gravitino.trino.connector.metadata.GravitinoCatalog;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.trino.spi.TrinoException;
@@ -36,16 +38,19 @@ import io.trino.spi.connector.Connector;
 import io.trino.spi.connector.ConnectorContext;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
-import org.apache.commons.lang3.NotImplementedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -66,7 +71,13 @@ public class CatalogConnectorManager {
   private static final int NUMBER_EXECUTOR_THREAD = 1;
   private static final int LOAD_METALAKE_TIMEOUT = 30;
 
+  // The delay between two rounds of waiting for catalog changes.
+  private static final int CATALOG_CHANGE_POLL_DELAY_MS = 500;
+  private static final int NUMBER_CATALOG_LOAD_THREAD = 8;
+
   private final ScheduledExecutorService executorService;
+  private final ExecutorService catalogChangeListener;
+  private final ExecutorService catalogLoadExecutor;
   private final CatalogRegister catalogRegister;
   private final CatalogConnectorFactory catalogConnectorFactory;
 
@@ -75,6 +86,7 @@ public class CatalogConnectorManager {
 
   private final Set<String> usedMetalakes = new HashSet<>();
   private final Map<String, GravitinoMetalake> metalakes = new ConcurrentHashMap<>();
+  private final Map<String, CatalogSyncState> catalogSyncStates = new ConcurrentHashMap<>();
 
   private GravitinoAdminClient gravitinoClient;
   private GravitinoConfig config;
@@ -84,6 +96,19 @@ public class CatalogConnectorManager {
     this.catalogRegister = catalogRegister;
     this.catalogConnectorFactory = catalogFactory;
     this.executorService = createScheduledThreadPoolExecutor();
+    this.catalogChangeListener =
+        Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("gravitino-connector-catalog-change-listener-%d")
+                .build());
+    this.catalogLoadExecutor =
+        Executors.newFixedThreadPool(
+            NUMBER_CATALOG_LOAD_THREAD,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("gravitino-connector-catalog-loader-%d")
+                .build());
   }
 
   private static ScheduledThreadPoolExecutor createScheduledThreadPoolExecutor() {
@@ -111,7 +136,7 @@ public class CatalogConnectorManager {
     catalogRegister.init(context, config);
     if (catalogRegister.isCoordinator()) {
       executorService.scheduleWithFixedDelay(
-          this::loadMetalake,
+          () -> loadMetalake(false),
           CATALOG_LOAD_FREQUENCY_SECOND,
           CATALOG_LOAD_FREQUENCY_SECOND,
           TimeUnit.SECONDS);
@@ -120,7 +145,20 @@ public class CatalogConnectorManager {
     LOG.info("Gravitino CatalogConnectorManager started.");
   }
 
-  private void loadMetalake() {
+  /**
+   * Syncs the catalogs of the used metalakes, runs on the schedule thread.
+   *
+   * <p>When the server provides the catalog change feed, a listener thread per metalake waits for
+   * the changes and only the changed catalogs are loaded. The change feed is kept in the memory of
+   * the server the connector talks to, a restarted server is detected by its epoch, but the changes
+   * made through other servers are not in it. So all the catalogs are still listed and loaded every
+   * {@link GravitinoConfig#getCatalogFullSyncIntervalSeconds()} seconds. Without the change feed,
+   * all the catalogs are listed and loaded every {@link #CATALOG_LOAD_FREQUENCY_SECOND} seconds.
+   *
+   * @param force Whether to sync the catalogs now, instead of waiting for the change listener or
+   *     the next full sync.
+   */
+  private void loadMetalake(boolean force) {
     try {
       if (!catalogRegister.isTrinoStarted()) {
         LOG.info("Waiting for the Trino started.");
@@ -131,8 +169,7 @@ public class CatalogConnectorManager {
         try {
           GravitinoMetalake metalake =
               metalakes.computeIfAbsent(usedMetalake, this::retrieveMetalake);
-          LOG.info("Load metalake: {}", usedMetalake);
-          loadCatalogs(metalake);
+          syncCatalogs(metalake, force);
         } catch (Exception e) {
           LOG.error("Load Metalake {} failed.", usedMetalake, e);
         }
@@ -152,10 +189,146 @@ public class CatalogConnectorManager {
     }
   }
 
+  private void syncCatalogs(GravitinoMetalake metalake, boolean force) {
+    CatalogSyncState state =
+        catalogSyncStates.computeIfAbsent(metalake.name(), k -> new CatalogSyncState());
+    try {
+      long now = System.currentTimeMillis();
+      boolean fullSyncDue = now - state.lastFullSyncTime >= fullSyncIntervalMs(state);
+
+      CatalogChangesResponse changes = null;
+      // The change listener keeps the catalogs up to date in between, ask the change feed only to
+      // get its position or to sync now. Ask again at a full sync in case the server is upgraded.
+      if ((state.changeFeedSupported || fullSyncDue) && (force || !state.listening)) {
+        changes = listCatalogChanges(metalake, state, 0);
+      }
+
+      if (changes != null) {
+        applyCatalogChanges(state, metalake, changes, fullSyncDue);
+      } else if (force || fullSyncDue) {
+        LOG.info("Load metalake: {}", metalake.name());
+        loadCatalogs(metalake);
+        state.lastFullSyncTime = now;
+      }
+
+      if (!force && state.changeFeedSupported && !state.listening) {
+        state.listening = true;
+        catalogChangeListener.execute(() -> listenCatalogChanges(metalake, state));
+      }
+    } catch (NoSuchMetalakeException e) {
+      LOG.warn("Metalake {} has been dropped, remove its catalogs.", metalake.name());
+      unloadMetalake(metalake.name());
+    }
+  }
+
+  private long fullSyncIntervalMs(CatalogSyncState state) {
+    return TimeUnit.SECONDS.toMillis(
+        state.changeFeedSupported
+            ? config.getCatalogFullSyncIntervalSeconds()
+            : CATALOG_LOAD_FREQUENCY_SECOND);
+  }
+
+  /**
+   * Waits for the catalog changes of a metalake on the listener thread, so that a long wait does
+   * not hold the schedule thread, and applies the changes on the schedule thread. Stops when the
+   * server doesn't provide the change feed or the metalake is unloaded.
+   */
+  private void listenCatalogChanges(GravitinoMetalake metalake, CatalogSyncState state) {
+    try {
+      while (catalogSyncStates.get(metalake.name()) == state) {
+        CatalogChangesResponse changes =
+            listCatalogChanges(
+                metalake, state, TimeUnit.SECONDS.toMillis(CATALOG_LOAD_FREQUENCY_SECOND));
+        if (changes == null) {
+          return;
+        }
+
+        executorService.submit(() -> applyCatalogChanges(state, metalake, changes, false)).get();
+        Thread.sleep(CATALOG_CHANGE_POLL_DELAY_MS);
+      }
+    } catch (NoSuchMetalakeException e) {
+      executorService.execute(() -> syncCatalogs(metalake, true));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      LOG.error("Failed to listen catalog changes of metalake {}.", metalake.name(), e);
+    } finally {
+      state.listening = false;
+    }
+  }
+
+  private void applyCatalogChanges(
+      CatalogSyncState state,
+      GravitinoMetalake metalake,
+      CatalogChangesResponse changes,
+      boolean fullSyncDue) {
+    if (catalogSyncStates.get(metalake.name()) != state) {
+      // The metalake has been unloaded.
+      return;
+    }
+
+    boolean sameEpoch = changes.epoch() == state.epoch;
+    if (sameEpoch && changes.version() <= state.version && !fullSyncDue) {
+      // The changes have been applied by a forced sync.
+      return;
+    }
+
+    if (changes.fullSync() || fullSyncDue) {
+      LOG.info("Load metalake: {}", metalake.name());
+      loadCatalogs(metalake);
+      state.lastFullSyncTime = System.currentTimeMillis();
+    } else if (changes.changedCatalogs().length > 0 || changes.droppedCatalogs().length > 0) {
+      LOG.info(
+          "Load metalake {}'s changed catalogs: {}, dropped catalogs: {}.",
+          metalake.name(),
+          Arrays.toString(changes.changedCatalogs()),
+          Arrays.toString(changes.droppedCatalogs()));
+      for (String catalogName : changes.droppedCatalogs()) {
+        CatalogConnectorContext context =
+            catalogConnectors.get(getTrinoCatalogName(metalake.name(), catalogName));
+        if (context != null) {
+          try {
+            unloadCatalog(context.getCatalog());
+          } catch (Exception e) {
+            LOG.error("Failed to remove catalog {}.", catalogName, e);
+          }
+        }
+      }
+      loadCatalogsInParallel(metalake, Arrays.asList(changes.changedCatalogs()));
+    }
+
+    state.version = sameEpoch ? Math.max(state.version, changes.version()) : changes.version();
+    state.epoch = changes.epoch();
+  }
+
+  private CatalogChangesResponse listCatalogChanges(
+      GravitinoMetalake metalake, CatalogSyncState state, long waitMs) {
+    try {
+      CatalogChangesResponse changes =
+          metalake.listCatalogChanges(state.epoch, state.version, waitMs);
+      state.changeFeedSupported = changes != null;
+      return changes;
+    } catch (NoSuchMetalakeException e) {
+      throw e;
+    } catch (Exception e) {
+      // The server may not support the catalog change feed.
+      if (state.changeFeedSupported) {
+        LOG.warn(
+            "Failed to list catalog changes of metalake {}, fall back to full sync.",
+            metalake.name(),
+            e);
+      }
+      state.changeFeedSupported = false;
+      return null;
+    }
+  }
+
   private void loadCatalogs(GravitinoMetalake metalake) {
     String[] catalogNames;
     try {
       catalogNames = metalake.listCatalogs();
+    } catch (NoSuchMetalakeException e) {
+      throw e;
     } catch (Exception e) {
       LOG.error("Failed to list catalogs in metalake {}.", metalake.name(), e);
       return;
@@ -187,25 +360,55 @@ public class CatalogConnectorManager {
     }
 
     // Load new catalogs belows to the metalake.
-    Arrays.stream(catalogNames)
-        .forEach(
-            (String catalogName) -> {
-              try {
-                Catalog catalog = metalake.loadCatalog(catalogName);
-                GravitinoCatalog gravitinoCatalog = new GravitinoCatalog(metalake.name(), catalog);
-                if (catalogConnectors.containsKey(getTrinoCatalogName(gravitinoCatalog))) {
-                  // Reload catalogs that have been updated in Gravitino server.
-                  reloadCatalog(gravitinoCatalog);
-                } else {
-                  if (catalog.type() == Catalog.Type.RELATIONAL) {
-                    loadCatalog(gravitinoCatalog);
-                  }
-                }
-              } catch (Exception e) {
-                LOG.error(
-                    "Failed to load metalake {}'s catalog {}.", metalake.name(), catalogName, e);
-              }
-            });
+    loadCatalogsInParallel(metalake, Arrays.asList(catalogNames));
+  }
+
+  private void loadCatalogsInParallel(GravitinoMetalake metalake, List<String> catalogNames) {
+    // Catalogs are fetched from the server in parallel, but registered to Trino one by one.
+    Map<String, Future<Catalog>> catalogs = new LinkedHashMap<>();
+    for (String catalogName : catalogNames) {
+      catalogs.put(
+          catalogName, catalogLoadExecutor.submit(() -> metalake.loadCatalog(catalogName)));
+    }
+
+    for (Map.Entry<String, Future<Catalog>> entry : catalogs.entrySet()) {
+      try {
+        Catalog catalog = entry.getValue().get();
+        GravitinoCatalog gravitinoCatalog = new GravitinoCatalog(metalake.name(), catalog);
+        if (catalogConnectors.containsKey(getTrinoCatalogName(gravitinoCatalog))) {
+          // Reload catalogs that have been updated in Gravitino server.
+          reloadCatalog(gravitinoCatalog);
+        } else {
+          if (catalog.type() == Catalog.Type.RELATIONAL) {
+            loadCatalog(gravitinoCatalog);
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        catalogs.values().forEach(f -> f.cancel(true));
+        return;
+      } catch (Exception e) {
+        Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+        LOG.error(
+            "Failed to load metalake {}'s catalog {}.", metalake.name(), entry.getKey(), cause);
+      }
+    }
+  }
+
+  private void unloadMetalake(String metalakeName) {
+    for (CatalogConnectorContext context : catalogConnectors.values()) {
+      if (context.getMetalake().name().equals(metalakeName)) {
+        try {
+          unloadCatalog(context.getCatalog());
+        } catch (Exception e) {
+          LOG.error("Failed to remove catalog {}.", context.getCatalog().getName(), e);
+        }
+      }
+    }
+
+    // Retrieve the metalake again and do a full sync once it is created again.
+    metalakes.remove(metalakeName);
+    catalogSyncStates.remove(metalakeName);
   }
 
   private void reloadCatalog(GravitinoCatalog catalog) {
@@ -261,8 +464,10 @@ public class CatalogConnectorManager {
   }
 
   public void shutdown() {
+    executorService.shutdownNow();
+    catalogChangeListener.shutdownNow();
+    catalogLoadExecutor.shutdownNow();
     LOG.info("Gravitino CatalogConnectorManager shutdown.");
-    throw new NotImplementedException();
   }
 
   public String getTrinoCatalogName(String metalake, String catalog) {
@@ -309,7 +514,12 @@ public class CatalogConnectorManager {
   }
 
   public void loadMetalakeSync() throws Exception {
-    Future<?> future = executorService.submit(this::loadMetalake);
+    loadMetalakeSync(true);
+  }
+
+  @VisibleForTesting
+  void loadMetalakeSync(boolean force) throws Exception {
+    Future<?> future = executorService.submit(() -> loadMetalake(force));
     future.get(LOAD_METALAKE_TIMEOUT, TimeUnit.SECONDS);
   }
 
@@ -321,4 +531,16 @@ public class CatalogConnectorManager {
     }
     return metalakes.computeIfAbsent(metalake, this::retrieveMetalake);
   }
+
+  /**
+   * The catalog change feed position of a metalake, shared by the schedule thread and the change
+   * listener thread of the metalake.
+   */
+  private static class CatalogSyncState {
+    private volatile long epoch = -1;
+    private volatile long version = 0;
+    private volatile long lastFullSyncTime = 0;
+    private volatile boolean changeFeedSupported = true;
+    private volatile boolean listening = false;
+  }
 }
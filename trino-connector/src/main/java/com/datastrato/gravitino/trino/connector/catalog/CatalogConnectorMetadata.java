@@ -52,18 +52,33 @@ import io.trino.spi.connector.SchemaTableName;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.NotImplementedException;
 
-/** This class implements Apache Gravitino metadata operators. */
+/**
+ * This class implements Apache Gravitino metadata operators.
+ *
+ * <p>An instance is created for each Trino transaction, the schemas and tables loaded from the
+ * Gravitino server are memoized until the query is cleaned up, so that planning a query doesn't
+ * load the same table from the server again and again. The memoized objects are invalidated when
+ * they are changed through this instance.
+ */
 public class CatalogConnectorMetadata {
 
   private static final String CATALOG_DOES_NOT_EXIST_MSG = "Catalog does not exist";
   private static final String SCHEMA_DOES_NOT_EXIST_MSG = "Schema does not exist";
+  private static final String TABLE_DOES_NOT_EXIST_MSG = "Table does not exist";
 
   private final String catalogName;
   private final SupportsSchemas schemaCatalog;
   private final TableCatalog tableCatalog;
 
+  // An empty value means the schema or table doesn't exist.
+  private final Map<String, Optional<GravitinoSchema>> schemaMemo = new ConcurrentHashMap<>();
+  private final Map<SchemaTableName, Optional<GravitinoTable>> tableMemo =
+      new ConcurrentHashMap<>();
+
   public CatalogConnectorMetadata(GravitinoMetalake metalake, NameIdentifier catalogIdentifier) {
     try {
       this.catalogName = catalogIdentifier.name();
@@ -90,23 +105,55 @@ public class CatalogConnectorMetadata {
   }
 
   public GravitinoSchema getSchema(String schemaName) {
+    return schemaMemo
+        .computeIfAbsent(schemaName, this::loadSchema)
+        .orElseThrow(
+            () -> new TrinoException(GRAVITINO_SCHEMA_NOT_EXISTS, SCHEMA_DOES_NOT_EXIST_MSG));
+  }
+
+  private Optional<GravitinoSchema> loadSchema(String schemaName) {
     try {
       Schema schema = schemaCatalog.loadSchema(schemaName);
-      return new GravitinoSchema(schema);
+      return Optional.of(new GravitinoSchema(schema));
     } catch (NoSuchSchemaException e) {
-      throw new TrinoException(GRAVITINO_SCHEMA_NOT_EXISTS, SCHEMA_DOES_NOT_EXIST_MSG, e);
+      return Optional.empty();
     }
   }
 
   public GravitinoTable getTable(String schemaName, String tableName) {
+    return tableMemo
+        .computeIfAbsent(new SchemaTableName(schemaName, tableName), this::loadTable)
+        .orElseThrow(
+            () -> new TrinoException(GRAVITINO_TABLE_NOT_EXISTS, TABLE_DOES_NOT_EXIST_MSG));
+  }
+
+  private Optional<GravitinoTable> loadTable(SchemaTableName tableName) {
     try {
-      Table table = tableCatalog.loadTable(NameIdentifier.of(schemaName, tableName));
-      return new GravitinoTable(schemaName, tableName, table);
+      Table table =
+          tableCatalog.loadTable(
+              NameIdentifier.of(tableName.getSchemaName(), tableName.getTableName()));
+      return Optional.of(
+          new GravitinoTable(tableName.getSchemaName(), tableName.getTableName(), table));
     } catch (NoSuchTableException e) {
-      throw new TrinoException(GRAVITINO_TABLE_NOT_EXISTS, "Table does not exist", e);
+      return Optional.empty();
     }
   }
 
+  /** Releases the schemas and tables memoized for the query. */
+  public void cleanupQuery() {
+    schemaMemo.clear();
+    tableMemo.clear();
+  }
+
+  private void invalidateTable(SchemaTableName tableName) {
+    tableMemo.remove(tableName);
+  }
+
+  private void invalidateSchema(String schemaName) {
+    schemaMemo.remove(schemaName);
+    tableMemo.keySet().removeIf(t -> t.getSchemaName().equals(schemaName));
+  }
+
   public List<String> listTables(String schemaName) {
     try {
       NameIdentifier[] tables = tableCatalog.listTables(Namespace.of(schemaName));
@@ -117,7 +164,10 @@ public class CatalogConnectorMetadata {
   }
 
   public boolean tableExists(String schemaName, String tableName) {
-    return tableCatalog.tableExists(NameIdentifier.of(schemaName, tableName));
+    // Checking the existence loads the table anyway, keep it for the following lookups.
+    return tableMemo
+        .computeIfAbsent(new SchemaTableName(schemaName, tableName), this::loadTable)
+        .isPresent();
   }
 
   public void createTable(GravitinoTable table, boolean ignoreExisting) {
@@ -137,6 +187,8 @@ public class CatalogConnectorMetadata {
       if (!ignoreExisting) {
         throw new TrinoException(GRAVITINO_TABLE_ALREADY_EXISTS, "Table already exists", e);
       }
+    } finally {
+      invalidateTable(new SchemaTableName(table.getSchemaName(), table.getName()));
     }
   }
 
@@ -147,6 +199,8 @@ public class CatalogConnectorMetadata {
       throw new TrinoException(GRAVITINO_CATALOG_NOT_EXISTS, CATALOG_DOES_NOT_EXIST_MSG, e);
     } catch (TableAlreadyExistsException e) {
       throw new TrinoException(GRAVITINO_SCHEMA_ALREADY_EXISTS, "Schema already exists", e);
+    } finally {
+      invalidateSchema(schema.getName());
     }
   }
 
@@ -160,6 +214,8 @@ public class CatalogConnectorMetadata {
 
     } catch (NonEmptySchemaException e) {
       throw new TrinoException(GRAVITINO_SCHEMA_NOT_EMPTY, "Schema does not empty", e);
+    } finally {
+      invalidateSchema(schemaName);
     }
   }
 
@@ -167,6 +223,7 @@ public class CatalogConnectorMetadata {
     boolean dropped =
         tableCatalog.dropTable(
             NameIdentifier.of(tableName.getSchemaName(), tableName.getTableName()));
+    invalidateTable(tableName);
     if (!dropped) {
       throw new TrinoException(GRAVITINO_OPERATION_FAILED, "Failed to drop table " + tableName);
     }
@@ -189,6 +246,8 @@ public class CatalogConnectorMetadata {
       String message =
           e.getMessage().lines().toList().get(0) + e.getMessage().lines().toList().get(1);
       throw new TrinoException(GRAVITINO_ILLEGAL_ARGUMENT, message, e);
+    } finally {
+      invalidateTable(tableName);
     }
   }
 
@@ -201,6 +260,7 @@ public class CatalogConnectorMetadata {
       return;
     }
     applyAlter(oldTableName, TableChange.rename(newTableName.getTableName()));
+    invalidateTable(newTableName);
   }
 
   public void setTableComment(SchemaTableName schemaTableName, String comment) {
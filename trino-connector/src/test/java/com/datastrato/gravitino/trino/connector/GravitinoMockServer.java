@@ -38,6 +38,7 @@ import com.datastrato.gravitino.client.GravitinoAdminClient;
 import com.datastrato.gravitino.client.GravitinoMetalake;
 import com.datastrato.gravitino.exceptions.NoSuchCatalogException;
 import com.datastrato.gravitino.exceptions.NoSuchMetalakeException;
+import com.datastrato.gravitino.exceptions.NoSuchTableException;
 import com.datastrato.gravitino.rel.Column;
 import com.datastrato.gravitino.rel.Table;
 import com.datastrato.gravitino.rel.TableCatalog;
@@ -469,6 +470,9 @@ public class GravitinoMockServer implements AutoCloseable {
                         new SchemaTableName(tableName.schema(), tableName.table()),
                         Optional.empty(),
                         Optional.empty());
+                if (tableHandle == null) {
+                  throw new NoSuchTableException("Table %s does not exist", nameIdentifier);
+                }
                 ConnectorTableMetadata tableMetadata = metadata.getTableMetadata(null, tableHandle);
 
                 CatalogConnectorMetadataAdapter metadataAdapter =
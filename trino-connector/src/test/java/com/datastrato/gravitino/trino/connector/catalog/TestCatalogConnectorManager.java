@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.trino.connector.catalog;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastrato.gravitino.Audit;
+import com.datastrato.gravitino.Catalog;
+import com.datastrato.gravitino.client.GravitinoAdminClient;
+import com.datastrato.gravitino.client.GravitinoMetalake;
+import com.datastrato.gravitino.dto.responses.CatalogChangesResponse;
+import com.datastrato.gravitino.exceptions.NoSuchCatalogException;
+import com.datastrato.gravitino.exceptions.NoSuchMetalakeException;
+import com.datastrato.gravitino.trino.connector.GravitinoConfig;
+import com.datastrato.gravitino.trino.connector.metadata.GravitinoCatalog;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestCatalogConnectorManager {
+
+  private static final String METALAKE = "test";
+
+  private final Map<String, Catalog> serverCatalogs = new ConcurrentHashMap<>();
+
+  private CatalogConnectorManager manager;
+
+  private GravitinoAdminClient client;
+
+  private GravitinoMetalake metalake;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    CatalogRegister catalogRegister = mock(CatalogRegister.class);
+    when(catalogRegister.isTrinoStarted()).thenReturn(true);
+    CatalogConnectorFactory catalogFactory = mock(CatalogConnectorFactory.class);
+    when(catalogFactory.createCatalogConnectorContextBuilder(any()))
+        .thenAnswer(invocation -> mockContextBuilder(invocation.getArgument(0)));
+    manager = new CatalogConnectorManager(catalogRegister, catalogFactory);
+
+    // Like Trino, registering a catalog creates the connector of the catalog.
+    doAnswer(
+            invocation -> {
+              GravitinoCatalog catalog = invocation.getArgument(1);
+              GravitinoConfig config =
+                  new GravitinoConfig(
+                      ImmutableMap.of(
+                          "gravitino.metalake",
+                          METALAKE,
+                          GravitinoConfig.GRAVITINO_DYNAMIC_CONNECTOR,
+                          "true",
+                          GravitinoConfig.GRAVITINO_DYNAMIC_CONNECTOR_CATALOG_CONFIG,
+                          GravitinoCatalog.toJson(catalog)));
+              manager.createConnector(invocation.getArgument(0), config, null);
+              return null;
+            })
+        .when(catalogRegister)
+        .registerCatalog(anyString(), any());
+
+    metalake = mock(GravitinoMetalake.class);
+    when(metalake.name()).thenReturn(METALAKE);
+    when(metalake.listCatalogs())
+        .thenAnswer(invocation -> serverCatalogs.keySet().toArray(new String[0]));
+    when(metalake.loadCatalog(anyString()))
+        .thenAnswer(
+            invocation -> {
+              String catalogName = invocation.getArgument(0);
+              Catalog catalog = serverCatalogs.get(catalogName);
+              if (catalog == null) {
+                throw new NoSuchCatalogException("Catalog %s does not exist", catalogName);
+              }
+              return catalog;
+            });
+
+    client = mock(GravitinoAdminClient.class);
+    when(client.loadMetalake(METALAKE)).thenReturn(metalake);
+    manager.config(new GravitinoConfig(ImmutableMap.of("gravitino.metalake", METALAKE)), client);
+    manager.addMetalake(METALAKE);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    manager.shutdown();
+  }
+
+  @Test
+  public void testSyncCatalogChanges() throws Exception {
+    serverCatalogs.put("catalog1", mockCatalog("catalog1"));
+    when(metalake.listCatalogChanges(eq(-1L), eq(0L), anyLong()))
+        .thenReturn(new CatalogChangesResponse(1L, 1L, true, new String[0], new String[0]));
+
+    // The first sync lists and loads all the catalogs.
+    manager.loadMetalakeSync();
+    Assertions.assertEquals(ImmutableSet.of("catalog1"), loadedCatalogs());
+    verify(metalake, times(1)).listCatalogs();
+
+    // Then only the changed catalogs are loaded, and the dropped ones are removed.
+    serverCatalogs.remove("catalog1");
+    serverCatalogs.put("catalog2", mockCatalog("catalog2"));
+    when(metalake.listCatalogChanges(eq(1L), eq(1L), anyLong()))
+        .thenReturn(
+            new CatalogChangesResponse(
+                1L, 3L, false, new String[] {"catalog2"}, new String[] {"catalog1"}));
+    manager.loadMetalakeSync();
+    Assertions.assertEquals(ImmutableSet.of("catalog2"), loadedCatalogs());
+    verify(metalake, times(1)).listCatalogs();
+    verify(metalake, times(1)).loadCatalog("catalog1");
+
+    // The catalogs of a dropped metalake are removed.
+    when(metalake.listCatalogChanges(eq(1L), eq(3L), anyLong()))
+        .thenThrow(new NoSuchMetalakeException("Metalake %s does not exist", METALAKE));
+    manager.loadMetalakeSync();
+    Assertions.assertTrue(loadedCatalogs().isEmpty());
+
+    // The metalake is retrieved again in the next round.
+    when(client.loadMetalake(METALAKE))
+        .thenThrow(new NoSuchMetalakeException("Metalake %s does not exist", METALAKE));
+    manager.loadMetalakeSync();
+    verify(client, times(2)).loadMetalake(METALAKE);
+  }
+
+  @Test
+  public void testFallBackWithoutChangeFeed() throws Exception {
+    serverCatalogs.put("catalog1", mockCatalog("catalog1"));
+    when(metalake.listCatalogChanges(anyLong(), anyLong(), anyLong()))
+        .thenThrow(new RuntimeException("Not found"));
+
+    manager.loadMetalakeSync();
+    Assertions.assertEquals(ImmutableSet.of("catalog1"), loadedCatalogs());
+    verify(metalake, times(1)).listCatalogs();
+
+    // The change feed is not asked again before the next periodic sync, a forced sync lists all
+    // the catalogs.
+    serverCatalogs.remove("catalog1");
+    manager.loadMetalakeSync();
+    Assertions.assertTrue(loadedCatalogs().isEmpty());
+    verify(metalake, times(2)).listCatalogs();
+    verify(metalake, times(1)).listCatalogChanges(anyLong(), anyLong(), anyLong());
+  }
+
+  @Test
+  public void testListenCatalogChanges() throws Exception {
+    serverCatalogs.put("catalog1", mockCatalog("catalog1"));
+    AtomicReference<CatalogChangesResponse> feed =
+        new AtomicReference<>(
+            new CatalogChangesResponse(1L, 1L, true, new String[0], new String[0]));
+    when(metalake.listCatalogChanges(anyLong(), anyLong(), anyLong()))
+        .thenAnswer(invocation -> feed.get());
+
+    // The periodic sync lists all the catalogs and starts the change listener.
+    manager.loadMetalakeSync(false);
+    Assertions.assertEquals(ImmutableSet.of("catalog1"), loadedCatalogs());
+
+    // The change listener loads the changed catalogs without listing all the catalogs.
+    serverCatalogs.put("catalog2", mockCatalog("catalog2"));
+    feed.set(
+        new CatalogChangesResponse(1L, 2L, false, new String[] {"catalog2"}, new String[0]));
+    Awaitility.await()
+        .atMost(30, TimeUnit.SECONDS)
+        .pollInterval(100, TimeUnit.MILLISECONDS)
+        .untilAsserted(
+            () ->
+                Assertions.assertEquals(
+                    ImmutableSet.of("catalog1", "catalog2"), loadedCatalogs()));
+
+    // The next periodic sync doesn't list all the catalogs before the full sync interval.
+    manager.loadMetalakeSync(false);
+    verify(metalake, times(1)).listCatalogs();
+    verify(metalake, times(1)).loadCatalog("catalog2");
+  }
+
+  private Set<String> loadedCatalogs() {
+    return manager.getCatalogs().stream()
+        .map(GravitinoCatalog::getName)
+        .collect(Collectors.toSet());
+  }
+
+  private CatalogConnectorContext.Builder mockContextBuilder(GravitinoCatalog catalog)
+      throws Exception {
+    CatalogConnectorContext context = mock(CatalogConnectorContext.class);
+    when(context.getCatalog()).thenReturn(catalog);
+    when(context.getMetalake()).thenReturn(metalake);
+
+    CatalogConnectorContext.Builder builder = mock(CatalogConnectorContext.Builder.class);
+    when(builder.withMetalake(any())).thenReturn(builder);
+    when(builder.withContext(any())).thenReturn(builder);
+    when(builder.build()).thenReturn(context);
+    return builder;
+  }
+
+  private static Catalog mockCatalog(String name) {
+    Audit audit = mock(Audit.class);
+    when(audit.createTime()).thenReturn(Instant.now());
+
+    Catalog catalog = mock(Catalog.class);
+    when(catalog.name()).thenReturn(name);
+    when(catalog.provider()).thenReturn("memory");
+    when(catalog.type()).thenReturn(Catalog.Type.RELATIONAL);
+    when(catalog.properties()).thenReturn(ImmutableMap.of());
+    when(catalog.auditInfo()).thenReturn(audit);
+    return catalog;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.datastrato.gravitino.trino.connector.catalog;
+
+import static com.datastrato.gravitino.trino.connector.metadata.TestGravitinoTable.mockTable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastrato.gravitino.Catalog;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.SupportsSchemas;
+import com.datastrato.gravitino.client.GravitinoMetalake;
+import com.datastrato.gravitino.exceptions.NoSuchTableException;
+import com.datastrato.gravitino.rel.Column;
+import com.datastrato.gravitino.rel.Table;
+import com.datastrato.gravitino.rel.TableCatalog;
+import com.datastrato.gravitino.rel.TableChange;
+import com.datastrato.gravitino.rel.types.Types;
+import io.trino.spi.TrinoException;
+import io.trino.spi.connector.SchemaTableName;
+import java.util.HashMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCatalogConnectorMetadata {
+
+  @Test
+  public void testTableMemoizedWithinQuery() {
+    NameIdentifier tableIdent = NameIdentifier.of("db1", "table1");
+    NameIdentifier missingIdent = NameIdentifier.of("db1", "table2");
+    Column[] columns = {Column.of("f1", Types.StringType.get(), "f1 column")};
+    Table table = mockTable("table1", columns, "test table", new HashMap<>());
+
+    TableCatalog tableCatalog = mock(TableCatalog.class);
+    when(tableCatalog.loadTable(tableIdent)).thenReturn(table);
+    when(tableCatalog.loadTable(missingIdent))
+        .thenThrow(new NoSuchTableException("Table %s does not exist", missingIdent));
+
+    Catalog catalog = mock(Catalog.class);
+    when(catalog.asSchemas()).thenReturn(mock(SupportsSchemas.class));
+    when(catalog.asTableCatalog()).thenReturn(tableCatalog);
+    GravitinoMetalake metalake = mock(GravitinoMetalake.class);
+    when(metalake.loadCatalog("catalog1")).thenReturn(catalog);
+
+    CatalogConnectorMetadata metadata =
+        new CatalogConnectorMetadata(metalake, NameIdentifier.of("metalake", "catalog1"));
+
+    // The existence check and the following lookups load the table only once.
+    Assertions.assertTrue(metadata.tableExists("db1", "table1"));
+    Assertions.assertEquals("table1", metadata.getTable("db1", "table1").getName());
+    Assertions.assertEquals("table1", metadata.getTable("db1", "table1").getName());
+    verify(tableCatalog, times(1)).loadTable(tableIdent);
+
+    Assertions.assertFalse(metadata.tableExists("db1", "table2"));
+    Assertions.assertThrows(TrinoException.class, () -> metadata.getTable("db1", "table2"));
+    verify(tableCatalog, times(1)).loadTable(missingIdent);
+
+    // Altering the table invalidates the memoized table.
+    metadata.setTableComment(new SchemaTableName("db1", "table1"), "new comment");
+    verify(tableCatalog).alterTable(any(NameIdentifier.class), any(TableChange[].class));
+    metadata.getTable("db1", "table1");
+    verify(tableCatalog, times(2)).loadTable(tableIdent);
+
+    // The memoized tables are released when the query is cleaned up.
+    metadata.cleanupQuery();
+    metadata.getTable("db1", "table1");
+    Assertions.assertFalse(metadata.tableExists("db1", "table2"));
+    verify(tableCatalog, times(3)).loadTable(tableIdent);
+    verify(tableCatalog, times(2)).loadTable(missingIdent);
+  }
+}